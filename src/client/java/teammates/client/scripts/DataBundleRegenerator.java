@@ -51,7 +51,7 @@ public final class DataBundleRegenerator {
             DataBundle db = JsonUtils.fromJson(jsonString, DataBundle.class);
             db.feedbackResponses.forEach((key, feedbackResponseAttributes) -> fixResponse(feedbackResponseAttributes));
             db.feedbackQuestions.forEach((key, feedbackQuestionAttributes) -> fixQuestion(feedbackQuestionAttributes));
-            String regeneratedJsonString = JsonUtils.toJson(db).replace("+0000", "UTC");
+            String regeneratedJsonString = JsonUtils.toPrettyJson(db).replace("+0000", "UTC");
             saveFile(file.getCanonicalPath(), regeneratedJsonString + System.lineSeparator());
         }
     }
@@ -105,13 +105,13 @@ public final class DataBundleRegenerator {
         for (FeedbackQuestionAttributes question : template) {
             fixQuestion(question);
         }
-        String regeneratedJsonString = JsonUtils.toJson(template).replace("+0000", "UTC");
+        String regeneratedJsonString = JsonUtils.toPrettyJson(template).replace("+0000", "UTC");
         saveFile(file.getCanonicalPath(), regeneratedJsonString + System.lineSeparator());
     }
 
     private static void regenerateGenericJson(File file) throws IOException {
         String jsonString = FileHelper.readFile(file.getCanonicalPath());
-        String regeneratedJsonString = JsonUtils.toJson(JsonUtils.parse(jsonString));
+        String regeneratedJsonString = JsonUtils.toPrettyJson(JsonUtils.parse(jsonString));
         saveFile(file.getCanonicalPath(), regeneratedJsonString + System.lineSeparator());
     }
 
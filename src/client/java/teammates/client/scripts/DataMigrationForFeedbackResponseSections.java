@@ -0,0 +1,78 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+
+import teammates.storage.entity.FeedbackResponse;
+
+/**
+ * Script to load/save all {@link FeedbackResponse} entities whose sections list does not match
+ * their giver and recipient sections.
+ *
+ * <p>As a result of loading and saving entities, the sections list used to query the responses
+ * in a section is populated from the giver and recipient sections of the response.
+ */
+public class DataMigrationForFeedbackResponseSections extends DataMigrationBaseScript<Key<FeedbackResponse>> {
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackResponseSections().doOperationRemotely();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<Key<FeedbackResponse>> getEntities() {
+        return ofy().load().type(FeedbackResponse.class).keys().list();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isMigrationNeeded(Key<FeedbackResponse> responseKey) {
+        FeedbackResponse response = ofy().load().key(responseKey).now();
+        List<String> sections = response.getSections();
+        return sections == null
+                || !sections.contains(response.getGiverSection())
+                || !sections.contains(response.getRecipientSection());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void printPreviewInformation(Key<FeedbackResponse> responseKey) {
+        // nothing to do
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void migrate(Key<FeedbackResponse> responseKey) {
+        ofy().transact(() -> {
+            FeedbackResponse response = ofy().load().key(responseKey).now();
+            response.keepUpdateTimestamp = true;
+            ofy().save().entity(response).now();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postAction() {
+        // nothing to do
+    }
+}
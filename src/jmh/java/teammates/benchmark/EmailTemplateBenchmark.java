@@ -0,0 +1,59 @@
+package teammates.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.util.CompiledTemplate;
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+
+/**
+ * Compares populating the feedback session email template by replacing the placeholders one after another
+ * with populating its compiled form in one pass.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailTemplateBenchmark {
+
+    private static final String[] KEY_VALUE_PAIRS = {
+            "${userName}", "Alice Betsy",
+            "${instructorFragment}", "",
+            "${status}", "is now open",
+            "${courseName}", "Software Engineering",
+            "${courseId}", "CS2103",
+            "${feedbackSessionName}", "First Team Feedback Session",
+            "${deadline}", "Sun, 01 Apr 2018, 11:59 PM SGT",
+            "${sessionInstructions}", "Please answer all the questions. Your responses are confidential.",
+            "${submitUrl}", "https://teammatesv4.appspot.com/page/studentFeedbackSubmissionEditPage?courseid=CS2103",
+            "${feedbackAction}", "submit, edit or view",
+            "${additionalContactInformation}", "If you encounter any problems, contact the instructors.",
+    };
+
+    private final CompiledTemplate template = EmailTemplates.USER_FEEDBACK_SESSION;
+
+    private final String templateSource = template.getTemplate();
+
+    @Benchmark
+    public String populateBySequentialReplacement() {
+        return Templates.populateTemplate(templateSource, KEY_VALUE_PAIRS);
+    }
+
+    @Benchmark
+    public String populateCompiledTemplate() {
+        return template.populate(KEY_VALUE_PAIRS);
+    }
+
+}
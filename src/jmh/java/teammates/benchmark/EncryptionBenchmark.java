@@ -0,0 +1,94 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Config;
+import teammates.common.util.StringHelper;
+
+/**
+ * Measures the per-call cost of encrypting and decrypting registration keys with the cipher kept by the thread,
+ * against creating and initializing a cipher for every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncryptionBenchmark {
+
+    private static final int NUM_OF_KEYS = 100;
+
+    private List<String> keys;
+
+    private String encryptedKey;
+
+    @Setup
+    public void setUp() {
+        keys = new ArrayList<>();
+        for (int i = 0; i < NUM_OF_KEYS; i++) {
+            keys.add(Long.toHexString(Double.doubleToLongBits(Math.random())) + i);
+        }
+        encryptedKey = StringHelper.encrypt(keys.get(0));
+    }
+
+    @Benchmark
+    public String encryptWithNewCipher() throws Exception {
+        SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
+        return StringHelper.byteArrayToHexString(cipher.doFinal(keys.get(0).getBytes()));
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return StringHelper.encrypt(keys.get(0));
+    }
+
+    @Benchmark
+    public String decryptWithNewCipher() throws Exception {
+        SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, sks);
+        return new String(cipher.doFinal(StringHelper.hexStringToByteArray(encryptedKey)));
+    }
+
+    @Benchmark
+    public String decrypt() throws InvalidParametersException {
+        return StringHelper.decrypt(encryptedKey);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<String> encryptKeysOfCourseOneByOne() {
+        List<String> encryptedKeys = new ArrayList<>();
+        for (String key : keys) {
+            encryptedKeys.add(StringHelper.encrypt(key));
+        }
+        return encryptedKeys;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<String> encryptKeysOfCourseInBatch() {
+        return StringHelper.encrypt(keys);
+    }
+
+}
@@ -0,0 +1,128 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackResultsVisibilityFilter;
+
+/**
+ * Measures the filtering of the responses of a session, and of the names in them, for the user viewing the results.
+ *
+ * <p>Every student has responded to two questions for each of their four team members, so the session
+ * has 10000 responses with the default number of students.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedbackResultsVisibilityBenchmark {
+
+    private static final double RESPONSE_RATE = 1.0;
+
+    @Param({"1250"})
+    public int numOfStudents;
+
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    private Map<String, FeedbackQuestionAttributes> questions;
+    private List<FeedbackResponseAttributes> responses;
+    private CourseRoster roster;
+    private InstructorAttributes instructor;
+    private StudentAttributes student;
+    private Set<String> studentsEmailInTeam;
+
+    @Setup
+    public void setUp() {
+        DataBundle dataBundle = SyntheticDataBundleGenerator.generate(numOfStudents, RESPONSE_RATE,
+                FeedbackQuestionType.NUMSCALE, FeedbackQuestionType.RUBRIC);
+        questions = dataBundle.feedbackQuestions;
+        responses = new ArrayList<>(dataBundle.feedbackResponses.values());
+        roster = new CourseRoster(new ArrayList<>(dataBundle.students.values()),
+                new ArrayList<>(dataBundle.instructors.values()));
+        instructor = dataBundle.instructors.get("instructor");
+        student = dataBundle.students.get("student0");
+        studentsEmailInTeam = new HashSet<>();
+        for (StudentAttributes teamMember : dataBundle.students.values()) {
+            if (teamMember.team.equals(student.team)) {
+                studentsEmailInTeam.add(teamMember.email);
+            }
+        }
+    }
+
+    @Benchmark
+    public int filterForInstructor() {
+        return filter(new FeedbackResultsVisibilityFilter(
+                instructor.email, UserRole.INSTRUCTOR, null, null, instructor, roster));
+    }
+
+    @Benchmark
+    public int filterForStudent() {
+        return filter(new FeedbackResultsVisibilityFilter(
+                student.email, UserRole.STUDENT, student, studentsEmailInTeam, null, roster));
+    }
+
+    /**
+     * Checks the visibility of the names in every response for the instructor,
+     * by evaluating the visibility settings of the question for each response.
+     */
+    @Benchmark
+    public int checkNameVisibilityPerResponseForInstructor() {
+        int numOfVisibleNames = 0;
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
+            if (frLogic.isNameVisibleToUser(question, response, instructor.email, UserRole.INSTRUCTOR, true, roster)) {
+                numOfVisibleNames++;
+            }
+            if (frLogic.isNameVisibleToUser(question, response, instructor.email, UserRole.INSTRUCTOR, false, roster)) {
+                numOfVisibleNames++;
+            }
+        }
+        return numOfVisibleNames;
+    }
+
+    private int filter(FeedbackResultsVisibilityFilter visibilityFilter) {
+        int numOfVisibleResponsesAndNames = 0;
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
+            if (!visibilityFilter.isResponseVisible(question, response)) {
+                continue;
+            }
+            numOfVisibleResponsesAndNames++;
+            if (visibilityFilter.isNameVisible(question, response, true)) {
+                numOfVisibleResponsesAndNames++;
+            }
+            if (visibilityFilter.isNameVisible(question, response, false)) {
+                numOfVisibleResponsesAndNames++;
+            }
+        }
+        return numOfVisibleResponsesAndNames;
+    }
+
+}
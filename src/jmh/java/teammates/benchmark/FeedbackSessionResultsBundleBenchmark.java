@@ -0,0 +1,78 @@
+package teammates.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.logic.core.FeedbackSessionsLogic;
+
+/**
+ * Measures the assembly of the results of a session with one question of each commonly used type,
+ * and the operations performed on the assembled results by the instructor results page and the CSV download.
+ *
+ * <p>Eight out of ten students have responded to every question.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedbackSessionResultsBundleBenchmark {
+
+    private static final double RESPONSE_RATE = 0.8;
+
+    @Param({"100", "500", "2000"})
+    public int numOfStudents;
+
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    private DataBundle dataBundle;
+    private FeedbackSessionResultsBundle results;
+
+    @Setup
+    public void setUp() {
+        dataBundle = SyntheticDataBundleGenerator.generate(numOfStudents, RESPONSE_RATE,
+                FeedbackQuestionType.TEXT, FeedbackQuestionType.RUBRIC,
+                FeedbackQuestionType.NUMSCALE, FeedbackQuestionType.CONTRIB);
+        results = SyntheticDataBundleGenerator.buildResultsBundle(dataBundle);
+    }
+
+    @Benchmark
+    public FeedbackSessionResultsBundle constructResultsBundle() {
+        return SyntheticDataBundleGenerator.buildResultsBundle(dataBundle);
+    }
+
+    @Benchmark
+    public Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> getQuestionResponseMap() {
+        return results.getQuestionResponseMap();
+    }
+
+    /**
+     * Exports the results with the missing responses and the statistics of every question.
+     * The results are assembled in each invocation as the export sorts the responses in them.
+     */
+    @Benchmark
+    public String exportResultsAsCsv() {
+        FeedbackSessionResultsBundle freshResults = SyntheticDataBundleGenerator.buildResultsBundle(dataBundle);
+        return fsLogic.getFeedbackSessionResultsInCsvFormat(freshResults, null, true, true);
+    }
+
+}
@@ -0,0 +1,57 @@
+package teammates.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.logic.core.FeedbackSessionsLogic;
+
+/**
+ * Measures how the CSV export of a question, including the rows of missing responses,
+ * scales with the number of students in the course.
+ *
+ * <p>The question is answered by every student for each of their team members and half of the students
+ * have responded, so each team contributes both response rows and missing response rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MissingResponsesCsvBenchmark {
+
+    private static final double RESPONSE_RATE = 0.5;
+
+    @Param({"100", "500", "1000", "2000", "5000"})
+    public int numOfStudents;
+
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    private DataBundle dataBundle;
+
+    @Setup
+    public void setUp() {
+        dataBundle = SyntheticDataBundleGenerator.generate(numOfStudents, RESPONSE_RATE, FeedbackQuestionType.TEXT);
+    }
+
+    @Benchmark
+    public String exportQuestionWithMissingResponses() {
+        FeedbackSessionResultsBundle results = SyntheticDataBundleGenerator.buildResultsBundle(dataBundle);
+        return fsLogic.getFeedbackSessionResultsInCsvFormat(results, null, true, false);
+    }
+
+}
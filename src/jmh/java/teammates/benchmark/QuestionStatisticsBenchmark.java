@@ -0,0 +1,101 @@
+package teammates.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+
+/**
+ * Measures the computation of the statistics shown in the CSV export for rubric, numerical scale
+ * and contribution questions.
+ *
+ * <p>Each invocation gets a fresh results bundle, as the bundle memoizes the statistics of some question types
+ * and reusing it would only measure cache hits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionStatisticsBenchmark {
+
+    private static final double RESPONSE_RATE = 0.8;
+
+    @Param({"100", "500", "2000"})
+    public int numOfStudents;
+
+    private DataBundle dataBundle;
+    private FeedbackSessionResultsBundle results;
+    private Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> questionResponseMap;
+    private FeedbackQuestionAttributes rubricQuestion;
+    private FeedbackQuestionAttributes numericalScaleQuestion;
+    private FeedbackQuestionAttributes contributionQuestion;
+
+    @Setup(Level.Trial)
+    public void generateData() {
+        dataBundle = SyntheticDataBundleGenerator.generate(numOfStudents, RESPONSE_RATE, FeedbackQuestionType.RUBRIC,
+                FeedbackQuestionType.NUMSCALE, FeedbackQuestionType.CONTRIB);
+    }
+
+    @Setup(Level.Invocation)
+    public void buildResultsBundle() {
+        results = SyntheticDataBundleGenerator.buildResultsBundle(dataBundle);
+        questionResponseMap = results.getQuestionResponseMap();
+
+        for (FeedbackQuestionAttributes question : questionResponseMap.keySet()) {
+            switch (question.questionType) {
+            case RUBRIC:
+                rubricQuestion = question;
+                break;
+            case NUMSCALE:
+                numericalScaleQuestion = question;
+                break;
+            case CONTRIB:
+                contributionQuestion = question;
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public String getRubricStatisticsCsv() {
+        return getStatisticsCsv(rubricQuestion);
+    }
+
+    @Benchmark
+    public String getNumericalScaleStatisticsCsv() {
+        return getStatisticsCsv(numericalScaleQuestion);
+    }
+
+    @Benchmark
+    public String getContributionStatisticsCsv() {
+        return getStatisticsCsv(contributionQuestion);
+    }
+
+    private String getStatisticsCsv(FeedbackQuestionAttributes question) {
+        return question.getQuestionDetails()
+                .getQuestionResultStatisticsCsv(questionResponseMap.get(question), question, results);
+    }
+
+}
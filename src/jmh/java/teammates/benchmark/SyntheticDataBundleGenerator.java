@@ -0,0 +1,211 @@
+package teammates.benchmark;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import com.google.appengine.api.datastore.Text;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResponseStatus;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
+
+/**
+ * Generates synthetic {@link DataBundle}s of a single course with one feedback session,
+ * used as the input data of the benchmarks.
+ *
+ * <p>Students are placed in teams of {@value #TEAM_SIZE} and sections of {@value #TEAMS_PER_SECTION} teams.
+ * Every question is answered by students for their team members, and the same students respond to
+ * every question. The generated data is deterministic for the same parameters so that benchmark results
+ * can be compared across commits.
+ */
+public final class SyntheticDataBundleGenerator {
+
+    public static final String COURSE_ID = "benchmark.course";
+    public static final String SESSION_NAME = "Benchmark session";
+    public static final String INSTRUCTOR_EMAIL = "instructor@benchmark.tmt";
+
+    private static final int TEAM_SIZE = 4;
+    private static final int TEAMS_PER_SECTION = 25;
+    private static final long RANDOM_SEED = 20180801L;
+
+    private static final String RUBRIC_QUESTION_METADATA = "{\"questionText\":\"Rate the work of your team member.\","
+            + "\"questionType\":\"RUBRIC\",\"hasAssignedWeights\":true,"
+            + "\"numOfRubricChoices\":4,\"rubricChoices\":[\"Excellent\",\"Good\",\"Fair\",\"Poor\"],"
+            + "\"numOfRubricSubQuestions\":3,"
+            + "\"rubricSubQuestions\":[\"Quality of work\",\"Punctuality\",\"Teamwork\"],"
+            + "\"rubricDescriptions\":[[\"\",\"\",\"\",\"\"],[\"\",\"\",\"\",\"\"],[\"\",\"\",\"\",\"\"]],"
+            + "\"rubricWeightsForEachCell\":[[4,3,2,1],[4,3,2,1],[4,3,2,1]]}";
+    private static final String NUMSCALE_QUESTION_METADATA = "{\"questionText\":\"Rate the effort of your team member.\","
+            + "\"questionType\":\"NUMSCALE\",\"minScale\":1,\"maxScale\":5,\"step\":0.5}";
+    private static final String CONTRIB_QUESTION_METADATA = "{\"questionText\":\"Estimate the contribution of each"
+            + " team member.\",\"questionType\":\"CONTRIB\",\"isNotSureAllowed\":false}";
+
+    private SyntheticDataBundleGenerator() {
+        // utility class
+    }
+
+    /**
+     * Generates a course of {@code numOfStudents} students with one question of each of the {@code questionTypes}.
+     *
+     * @param responseRate the fraction of students who have responded, between 0 and 1
+     */
+    public static DataBundle generate(int numOfStudents, double responseRate, FeedbackQuestionType... questionTypes) {
+        DataBundle dataBundle = new DataBundle();
+
+        dataBundle.courses.put("course", CourseAttributes.builder(COURSE_ID, "Benchmark Course", ZoneId.of("UTC"))
+                .build());
+        dataBundle.instructors.put("instructor", InstructorAttributes.builder(
+                "benchmark.instructor", COURSE_ID, "Instructor", INSTRUCTOR_EMAIL).build());
+        dataBundle.feedbackSessions.put("session", FeedbackSessionAttributes.builder(
+                SESSION_NAME, COURSE_ID, INSTRUCTOR_EMAIL).build());
+
+        for (int i = 0; i < numOfStudents; i++) {
+            dataBundle.students.put("student" + i, StudentAttributes.builder(COURSE_ID, "Student " + i, getStudentEmail(i))
+                    .withLastName(String.valueOf(i))
+                    .withTeam(getTeam(i))
+                    .withSection(getSection(i))
+                    .build());
+        }
+
+        Random random = new Random(RANDOM_SEED);
+        for (int questionIndex = 0; questionIndex < questionTypes.length; questionIndex++) {
+            FeedbackQuestionAttributes question = generateQuestion(questionIndex + 1, questionTypes[questionIndex]);
+            dataBundle.feedbackQuestions.put(question.getId(), question);
+
+            for (int giver = 0; giver < numOfStudents; giver++) {
+                if (giver % 10 >= responseRate * 10) {
+                    continue;
+                }
+                int firstTeamMember = giver / TEAM_SIZE * TEAM_SIZE;
+                for (int recipient = firstTeamMember;
+                        recipient < Math.min(firstTeamMember + TEAM_SIZE, numOfStudents); recipient++) {
+                    if (recipient == giver && question.recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS) {
+                        continue;
+                    }
+                    FeedbackResponseAttributes response = new FeedbackResponseAttributes(
+                            SESSION_NAME, COURSE_ID, question.getId(), question.questionType,
+                            getStudentEmail(giver), getSection(giver), getStudentEmail(recipient), getSection(recipient),
+                            generateResponseMetaData(question.questionType, random));
+                    response.setId(question.getId() + "%" + response.giver + "%" + response.recipient);
+                    dataBundle.feedbackResponses.put(response.getId(), response);
+                }
+            }
+        }
+
+        return dataBundle;
+    }
+
+    /**
+     * Builds the results of the session in {@code dataBundle} as seen by an instructor
+     * who can see all responses and all names.
+     */
+    public static FeedbackSessionResultsBundle buildResultsBundle(DataBundle dataBundle) {
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailLastNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        for (StudentAttributes student : dataBundle.students.values()) {
+            emailNameTable.put(student.email, student.name);
+            emailLastNameTable.put(student.email, student.lastName);
+            emailTeamNameTable.put(student.email, student.team);
+        }
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        for (FeedbackResponseAttributes response : dataBundle.feedbackResponses.values()) {
+            responses.add(new FeedbackResponseAttributes(response));
+            visibilityTable.put(response.getId(), new boolean[] {true, true});
+        }
+
+        CourseRoster roster = new CourseRoster(new ArrayList<>(dataBundle.students.values()),
+                new ArrayList<>(dataBundle.instructors.values()));
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
+
+        return new FeedbackSessionResultsBundle(
+                dataBundle.feedbackSessions.values().iterator().next(), responses,
+                new HashMap<>(dataBundle.feedbackQuestions), emailNameTable, emailLastNameTable, emailTeamNameTable,
+                sectionTeamNameTable, visibilityTable, new FeedbackSessionResponseStatus(), roster, responseComments);
+    }
+
+    private static FeedbackQuestionAttributes generateQuestion(int questionNumber, FeedbackQuestionType questionType) {
+        FeedbackParticipantType recipientType = questionType == FeedbackQuestionType.TEXT
+                ? FeedbackParticipantType.OWN_TEAM_MEMBERS
+                : FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
+
+        return FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName(SESSION_NAME)
+                .withCourseId(COURSE_ID)
+                .withCreatorEmail(INSTRUCTOR_EMAIL)
+                .withQuestionMetaData(new Text(getQuestionMetaData(questionType)))
+                .withQuestionNumber(questionNumber)
+                .withQuestionType(questionType)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(recipientType)
+                .withNumOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                .withShowResponseTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>())
+                .withShowRecipientNameTo(new ArrayList<>())
+                .withFeedbackQuestionId("benchmark.question" + questionNumber)
+                .build();
+    }
+
+    private static String getQuestionMetaData(FeedbackQuestionType questionType) {
+        switch (questionType) {
+        case TEXT:
+            return "How well did your team member contribute?";
+        case RUBRIC:
+            return RUBRIC_QUESTION_METADATA;
+        case NUMSCALE:
+            return NUMSCALE_QUESTION_METADATA;
+        case CONTRIB:
+            return CONTRIB_QUESTION_METADATA;
+        default:
+            throw new IllegalArgumentException("Unsupported question type: " + questionType);
+        }
+    }
+
+    private static Text generateResponseMetaData(FeedbackQuestionType questionType, Random random) {
+        switch (questionType) {
+        case TEXT:
+            return new Text("Contributed well");
+        case RUBRIC:
+            return new Text("{\"answer\":[" + random.nextInt(4) + "," + random.nextInt(4) + "," + random.nextInt(4)
+                    + "],\"questionType\":\"RUBRIC\"}");
+        case NUMSCALE:
+            return new Text("{\"answer\":" + (1 + random.nextInt(9) * 0.5) + ",\"questionType\":\"NUMSCALE\"}");
+        case CONTRIB:
+            return new Text("{\"answer\":" + (70 + random.nextInt(7) * 10) + ",\"questionType\":\"CONTRIB\"}");
+        default:
+            throw new IllegalArgumentException("Unsupported question type: " + questionType);
+        }
+    }
+
+    private static String getStudentEmail(int index) {
+        return "student" + index + "@benchmark.tmt";
+    }
+
+    private static String getTeam(int index) {
+        return "Team " + index / TEAM_SIZE;
+    }
+
+    private static String getSection(int index) {
+        return "Section " + index / (TEAM_SIZE * TEAMS_PER_SECTION);
+    }
+
+}
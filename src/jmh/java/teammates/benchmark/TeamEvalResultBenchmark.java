@@ -0,0 +1,89 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+
+/**
+ * Measures the computation of the contribution question results of every team in the course.
+ *
+ * <p>The submission values of each team are extracted from the responses once, outside of the measurement,
+ * the same way as {@code FeedbackContributionQuestionDetails} does before computing the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeamEvalResultBenchmark {
+
+    private static final double RESPONSE_RATE = 0.8;
+
+    @Param({"100", "500", "2000"})
+    public int numOfStudents;
+
+    private List<int[][]> submissionValuesOfTeams;
+
+    @Setup
+    public void setUp() {
+        DataBundle dataBundle = SyntheticDataBundleGenerator.generate(
+                numOfStudents, RESPONSE_RATE, FeedbackQuestionType.CONTRIB);
+
+        Map<String, List<String>> teamMembersEmails = new LinkedHashMap<>();
+        Map<String, String> emailTeamTable = new LinkedHashMap<>();
+        for (StudentAttributes student : dataBundle.students.values()) {
+            teamMembersEmails.computeIfAbsent(student.team, team -> new ArrayList<>()).add(student.email);
+            emailTeamTable.put(student.email, student.team);
+        }
+
+        Map<String, int[][]> submissionValuesByTeam = new LinkedHashMap<>();
+        teamMembersEmails.forEach((team, emails) -> {
+            int[][] submissionValues = new int[emails.size()][emails.size()];
+            for (int[] row : submissionValues) {
+                Arrays.fill(row, TeamEvalResult.NSB);
+            }
+            submissionValuesByTeam.put(team, submissionValues);
+        });
+
+        for (FeedbackResponseAttributes response : dataBundle.feedbackResponses.values()) {
+            String team = emailTeamTable.get(response.giver);
+            List<String> emails = teamMembersEmails.get(team);
+            submissionValuesByTeam.get(team)[emails.indexOf(response.giver)][emails.indexOf(response.recipient)] =
+                    ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
+        }
+
+        submissionValuesOfTeams = new ArrayList<>(submissionValuesByTeam.values());
+    }
+
+    @Benchmark
+    public void computeResultsOfAllTeams(Blackhole blackhole) {
+        for (int[][] submissionValues : submissionValuesOfTeams) {
+            blackhole.consume(new TeamEvalResult(submissionValues));
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.TeamEvalResult;
+
+/**
+ * Measures the computation of the contribution question results of 500 teams of the same size,
+ * for each team size from 3 to 10.
+ *
+ * <p>Unlike {@link TeamEvalResultBenchmark}, the submission values are generated directly, so that the cost
+ * can be compared across team sizes. One in five values is 'did not submit'.
+ *
+ * <p>Run with {@code ./gradlew jmh -PjmhInclude=TeamEvalResultTeamSizeBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeamEvalResultTeamSizeBenchmark {
+
+    private static final int NUM_OF_TEAMS = 500;
+
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    public int teamSize;
+
+    private List<int[][]> submissionValuesOfTeams;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(teamSize);
+        submissionValuesOfTeams = new ArrayList<>();
+        for (int t = 0; t < NUM_OF_TEAMS; t++) {
+            int[][] submissionValues = new int[teamSize][teamSize];
+            for (int[] row : submissionValues) {
+                for (int j = 0; j < teamSize; j++) {
+                    row[j] = random.nextInt(5) == 0 ? TeamEvalResult.NSB : 50 + random.nextInt(101);
+                }
+            }
+            submissionValuesOfTeams.add(submissionValues);
+        }
+    }
+
+    @Benchmark
+    public void computeResultsOfAllTeams(Blackhole blackhole) {
+        for (int[][] submissionValues : submissionValuesOfTeams) {
+            blackhole.consume(new TeamEvalResult(submissionValues));
+        }
+    }
+
+}
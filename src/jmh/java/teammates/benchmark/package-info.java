@@ -0,0 +1,4 @@
+/**
+ * Contains JMH micro-benchmarks of the back-end, run with {@code ./gradlew jmh}.
+ */
+package teammates.benchmark;
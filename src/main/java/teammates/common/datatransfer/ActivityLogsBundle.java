@@ -0,0 +1,33 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+
+/**
+ * A page of activity log entries retrieved from the Datastore, from the latest to the earliest,
+ * together with the cursor to retrieve the next page.
+ */
+public class ActivityLogsBundle {
+
+    private final List<ActivityLogAttributes> logs;
+    private final String nextCursor;
+
+    public ActivityLogsBundle(List<ActivityLogAttributes> logs, String nextCursor) {
+        this.logs = logs;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ActivityLogAttributes> getLogs() {
+        return logs;
+    }
+
+    /**
+     * Returns the web-safe cursor pointing after the last entry of this page,
+     * or null if there are no more entries matching the query.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+}
@@ -0,0 +1,188 @@
+package teammates.common.datatransfer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.CacheStats;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Immutable form of {@link InstructorPrivileges} in which the privileges of each level are stored as a bit mask,
+ * so that checking a privilege takes at most two map lookups and a bitwise operation.
+ *
+ * <p>Instances are interned by the text form of the privileges they are compiled from: all instructors
+ * with identical privileges share the same instance.
+ *
+ * @see InstructorPrivileges#getCompiledPrivileges()
+ */
+public final class CompiledInstructorPrivileges {
+
+    private static final String[] PRIVILEGE_NAMES = new String[] {
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS
+    };
+
+    private static final Map<String, Integer> PRIVILEGE_MASKS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < PRIVILEGE_NAMES.length; i++) {
+            PRIVILEGE_MASKS.put(PRIVILEGE_NAMES[i], 1 << i);
+        }
+    }
+
+    private static final int MAX_INTERNED_ENTRIES = 1000;
+
+    private static final CacheStats cacheStats = new CacheStats("Compiled instructor privileges");
+
+    private static final Map<String, CompiledInstructorPrivileges> interned =
+            new LinkedHashMap<String, CompiledInstructorPrivileges>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompiledInstructorPrivileges> eldest) {
+                    return size() > MAX_INTERNED_ENTRIES;
+                }
+            };
+
+    private final int courseLevel;
+    private final Map<String, Integer> sectionLevel;
+    private final Map<String, Map<String, Integer>> sessionLevel;
+
+    private CompiledInstructorPrivileges(InstructorPrivileges privileges) {
+        this.courseLevel = toMask(privileges.getCourseLevelPrivileges());
+
+        Map<String, Integer> sectionMasks = new HashMap<>();
+        privileges.getSectionLevelPrivileges().forEach((section, sectionPrivileges) ->
+                sectionMasks.put(section, toMask(sectionPrivileges)));
+        this.sectionLevel = Collections.unmodifiableMap(sectionMasks);
+
+        Map<String, Map<String, Integer>> sessionMasks = new HashMap<>();
+        privileges.getSessionLevelPrivileges().forEach((section, sessions) -> {
+            Map<String, Integer> sessionMasksInSection = new HashMap<>();
+            sessions.forEach((session, sessionPrivileges) ->
+                    sessionMasksInSection.put(session, toMask(sessionPrivileges)));
+            sessionMasks.put(section, Collections.unmodifiableMap(sessionMasksInSection));
+        });
+        this.sessionLevel = Collections.unmodifiableMap(sessionMasks);
+    }
+
+    /**
+     * Returns the compiled form of {@code privileges}, shared with all privileges having the same text form.
+     */
+    public static CompiledInstructorPrivileges compile(InstructorPrivileges privileges) {
+        String privilegesText = JsonUtils.toJson(privileges, InstructorPrivileges.class);
+        synchronized (interned) {
+            CompiledInstructorPrivileges compiledPrivileges = interned.get(privilegesText);
+            if (compiledPrivileges != null) {
+                cacheStats.recordHit();
+                return compiledPrivileges;
+            }
+        }
+
+        cacheStats.recordMiss();
+        CompiledInstructorPrivileges compiledPrivileges = new CompiledInstructorPrivileges(privileges);
+        synchronized (interned) {
+            CompiledInstructorPrivileges existing = interned.putIfAbsent(privilegesText, compiledPrivileges);
+            return existing == null ? compiledPrivileges : existing;
+        }
+    }
+
+    /**
+     * Returns the hit/miss counters of the interned instances. Each miss corresponds to one compilation.
+     */
+    public static CacheStats getCacheStats() {
+        return cacheStats;
+    }
+
+    /**
+     * Returns the bit mask of the privilege specified by privilegeName,
+     * to be used with {@link #isAllowedForPrivilege(String, String, int)}.
+     */
+    public static int getPrivilegeMask(String privilegeName) {
+        Integer mask = PRIVILEGE_MASKS.get(privilegeName);
+        Assumption.assertNotNull(mask);
+        return mask;
+    }
+
+    private static int toMask(Map<String, Boolean> privileges) {
+        int mask = 0;
+        for (Map.Entry<String, Boolean> privilege : privileges.entrySet()) {
+            Integer privilegeMask = PRIVILEGE_MASKS.get(privilege.getKey());
+            if (privilegeMask != null && privilege.getValue()) {
+                mask |= privilegeMask;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns true if it is allowed for the privilege specified by privilegeName.
+     */
+    public boolean isAllowedForPrivilege(String privilegeName) {
+        return (courseLevel & getPrivilegeMask(privilegeName)) != 0;
+    }
+
+    /**
+     * Returns true if it is allowed for the privilege specified by privilegeName in sectionName.
+     */
+    public boolean isAllowedForPrivilege(String sectionName, String privilegeName) {
+        return (getSectionMask(sectionName) & getPrivilegeMask(privilegeName)) != 0;
+    }
+
+    /**
+     * Returns true if it is allowed for the privilege specified by privilegeName for sessionName in sectionName.
+     */
+    public boolean isAllowedForPrivilege(String sectionName, String sessionName, String privilegeName) {
+        return isAllowedForPrivilege(sectionName, sessionName, getPrivilegeMask(privilegeName));
+    }
+
+    /**
+     * Returns true if it is allowed for the privilege with the bit mask {@code privilegeMask}
+     * for sessionName in sectionName.
+     *
+     * @see #getPrivilegeMask(String)
+     */
+    public boolean isAllowedForPrivilege(String sectionName, String sessionName, int privilegeMask) {
+        Map<String, Integer> sessionsInSection = sessionLevel.get(sectionName);
+        if (sessionsInSection != null) {
+            Integer sessionMask = sessionsInSection.get(sessionName);
+            if (sessionMask != null) {
+                return (sessionMask & privilegeMask) != 0;
+            }
+        }
+        return (getSectionMask(sectionName) & privilegeMask) != 0;
+    }
+
+    /**
+     * Returns true if privilege for session is present for any section.
+     */
+    public boolean isAllowedForPrivilegeAnySection(String sessionName, String privilegeName) {
+        int privilegeMask = getPrivilegeMask(privilegeName);
+        Set<String> sections = new LinkedHashSet<>(sessionLevel.keySet());
+        sections.addAll(sectionLevel.keySet());
+        for (String sectionName : sections) {
+            if (isAllowedForPrivilege(sectionName, sessionName, privilegeMask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int getSectionMask(String sectionName) {
+        Integer sectionMask = sectionLevel.get(sectionName);
+        return sectionMask == null ? courseLevel : sectionMask;
+    }
+
+}
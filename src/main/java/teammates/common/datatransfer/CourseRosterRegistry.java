@@ -0,0 +1,152 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.CacheStats;
+
+/**
+ * Request-scoped registry of the students and instructors of courses, keyed by course ID.
+ *
+ * <p>Within a request scope (see {@link #startRequestScope()}), the students and instructors of a course
+ * are read from the storage at most once; subsequent reads are served with copies of the cached attributes,
+ * so callers are free to modify what they get. Write paths must call {@link #invalidate(String)} for the
+ * affected course. Outside of a request scope, every read goes straight to the storage.
+ *
+ * @see CourseRoster
+ */
+public final class CourseRosterRegistry {
+
+    private static final ThreadLocal<RequestScope> CURRENT_REQUEST_SCOPE = new ThreadLocal<>();
+
+    private static final CacheStats cacheStats = new CacheStats("Course roster");
+
+    private CourseRosterRegistry() {
+        // utility class
+    }
+
+    /**
+     * Starts a request scope for the current thread, discarding any roster cached by an earlier scope.
+     */
+    public static void startRequestScope() {
+        CURRENT_REQUEST_SCOPE.set(new RequestScope());
+    }
+
+    /**
+     * Ends the request scope of the current thread, if any.
+     */
+    public static void endRequestScope() {
+        CURRENT_REQUEST_SCOPE.remove();
+    }
+
+    public static boolean isInRequestScope() {
+        return CURRENT_REQUEST_SCOPE.get() != null;
+    }
+
+    /**
+     * Gets the students of the course, loading them with {@code studentsLoader}
+     * only if they are not yet cached in the current request scope.
+     */
+    public static List<StudentAttributes> getStudentsForCourse(
+            String courseId, Function<String, List<StudentAttributes>> studentsLoader) {
+        RequestScope scope = CURRENT_REQUEST_SCOPE.get();
+        if (scope == null) {
+            return studentsLoader.apply(courseId);
+        }
+        return getCopies(scope.studentsByCourseId, courseId, studentsLoader, CourseRosterRegistry::copyStudent);
+    }
+
+    /**
+     * Gets the instructors of the course, loading them with {@code instructorsLoader}
+     * only if they are not yet cached in the current request scope.
+     */
+    public static List<InstructorAttributes> getInstructorsForCourse(
+            String courseId, Function<String, List<InstructorAttributes>> instructorsLoader) {
+        RequestScope scope = CURRENT_REQUEST_SCOPE.get();
+        if (scope == null) {
+            return instructorsLoader.apply(courseId);
+        }
+        return getCopies(scope.instructorsByCourseId, courseId, instructorsLoader, InstructorAttributes::getCopy);
+    }
+
+    /**
+     * Discards the students and instructors cached for the course in the current request scope.
+     */
+    public static void invalidate(String courseId) {
+        RequestScope scope = CURRENT_REQUEST_SCOPE.get();
+        if (scope == null) {
+            return;
+        }
+        scope.studentsByCourseId.remove(courseId);
+        scope.instructorsByCourseId.remove(courseId);
+    }
+
+    /**
+     * Discards everything cached in the current request scope.
+     * Used by write paths that may affect more than one course.
+     */
+    public static void invalidateAll() {
+        RequestScope scope = CURRENT_REQUEST_SCOPE.get();
+        if (scope == null) {
+            return;
+        }
+        scope.studentsByCourseId.clear();
+        scope.instructorsByCourseId.clear();
+    }
+
+    /**
+     * Returns the hit/miss counters of the registry. Each miss corresponds to one read from the storage.
+     */
+    public static CacheStats getCacheStats() {
+        return cacheStats;
+    }
+
+    private static <T> List<T> getCopies(Map<String, List<T>> cache, String courseId,
+            Function<String, List<T>> loader, UnaryOperator<T> copier) {
+        List<T> cached = cache.get(courseId);
+        if (cached == null) {
+            cacheStats.recordMiss();
+            cached = loader.apply(courseId);
+            cache.put(courseId, cached);
+        } else {
+            cacheStats.recordHit();
+        }
+
+        List<T> copies = new ArrayList<>(cached.size());
+        for (T attributes : cached) {
+            copies.add(copier.apply(attributes));
+        }
+        return copies;
+    }
+
+    /**
+     * Copies the student field by field. {@link StudentAttributes#getCopy()} is not used as it
+     * goes through the entity, generating a registration key and re-sanitizing the fields.
+     */
+    private static StudentAttributes copyStudent(StudentAttributes student) {
+        StudentAttributes copy = StudentAttributes.builder(student.course, student.name, student.email).build();
+        copy.name = student.name;
+        copy.googleId = student.googleId;
+        copy.lastName = student.lastName;
+        copy.comments = student.comments;
+        copy.team = student.team;
+        copy.section = student.section;
+        copy.key = student.key;
+        copy.updateStatus = student.updateStatus;
+        copy.setCreatedAt(student.getCreatedAt());
+        copy.setUpdatedAt(student.getUpdatedAt());
+        return copy;
+    }
+
+    private static class RequestScope {
+        final Map<String, List<StudentAttributes>> studentsByCourseId = new HashMap<>();
+        final Map<String, List<InstructorAttributes>> instructorsByCourseId = new HashMap<>();
+    }
+
+}
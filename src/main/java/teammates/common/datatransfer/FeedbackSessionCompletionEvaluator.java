@@ -0,0 +1,164 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Evaluates whether the students and instructors of a course have completed a feedback session,
+ * using the questions of the session and the roster of the course loaded only once.
+ *
+ * <p>Responses are only needed to check if a session is fully completed. They are loaded
+ * on the first such check and indexed by question and giver.
+ */
+public class FeedbackSessionCompletionEvaluator {
+
+    private final FeedbackSessionAttributes session;
+    private final List<FeedbackQuestionAttributes> studentQuestions = new ArrayList<>();
+    private final List<FeedbackQuestionAttributes> instructorQuestions = new ArrayList<>();
+    private final List<FeedbackQuestionAttributes> creatorQuestions = new ArrayList<>();
+    private final CourseRoster roster;
+    private final int numOfStudents;
+    private final int numOfInstructors;
+    private final Map<String, Integer> teamSizes = new HashMap<>();
+    private final Supplier<List<FeedbackResponseAttributes>> responsesLoader;
+
+    /** Maps question ID to the number of responses given for the question by each giver. */
+    private Map<String, Map<String, Integer>> numOfResponsesByQuestionAndGiver;
+
+    public FeedbackSessionCompletionEvaluator(FeedbackSessionAttributes session,
+            List<FeedbackQuestionAttributes> questions, CourseRoster roster,
+            Supplier<List<FeedbackResponseAttributes>> responsesLoader) {
+        this.session = session;
+        this.roster = roster;
+        this.responsesLoader = responsesLoader;
+
+        for (FeedbackQuestionAttributes question : questions) {
+            switch (question.giverType) {
+            case STUDENTS:
+            case TEAMS:
+                studentQuestions.add(question);
+                break;
+            case INSTRUCTORS:
+                instructorQuestions.add(question);
+                creatorQuestions.add(question);
+                break;
+            case SELF:
+                creatorQuestions.add(question);
+                break;
+            default:
+                break;
+            }
+        }
+
+        List<StudentAttributes> students = roster.getStudents();
+        for (StudentAttributes student : students) {
+            teamSizes.merge(student.team, 1, Integer::sum);
+        }
+        this.numOfStudents = students.size();
+        this.numOfInstructors = roster.getInstructors().size();
+    }
+
+    /**
+     * Returns true if the student has submitted the session, or if the session has no question for students.
+     */
+    public boolean isCompletedByStudent(String studentEmail) {
+        return session.getRespondingStudentList().contains(studentEmail) || studentQuestions.isEmpty();
+    }
+
+    /**
+     * Returns true if the instructor has submitted the session, or if the session has no question
+     * for the instructor.
+     */
+    public boolean isCompletedByInstructor(String instructorEmail) {
+        if (session.getRespondingInstructorList().contains(instructorEmail)) {
+            return true;
+        }
+        if (session.getCreatorEmail().equals(instructorEmail)) {
+            return creatorQuestions.isEmpty();
+        }
+        return !roster.isInstructorOfCourse(instructorEmail) || instructorQuestions.isEmpty();
+    }
+
+    /**
+     * Returns true if the student has given all the responses needed for every question for students.
+     */
+    public boolean isFullyCompletedByStudent(String studentEmail) {
+        for (FeedbackQuestionAttributes question : studentQuestions) {
+            if (!isQuestionFullyAnsweredByUser(question, studentEmail)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email) {
+        int numOfResponsesGiven = getNumOfResponsesByQuestionAndGiver()
+                .getOrDefault(question.getId(), Collections.emptyMap())
+                .getOrDefault(email, 0);
+        int numOfResponsesNeeded = question.numberOfEntitiesToGiveFeedbackTo;
+
+        if (numOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
+            numOfResponsesNeeded = getNumOfPossibleRecipients(question, email);
+        }
+
+        return numOfResponsesGiven >= numOfResponsesNeeded;
+    }
+
+    private Map<String, Map<String, Integer>> getNumOfResponsesByQuestionAndGiver() {
+        if (numOfResponsesByQuestionAndGiver == null) {
+            numOfResponsesByQuestionAndGiver = new HashMap<>();
+            for (FeedbackResponseAttributes response : responsesLoader.get()) {
+                numOfResponsesByQuestionAndGiver
+                        .computeIfAbsent(response.feedbackQuestionId, questionId -> new HashMap<>())
+                        .merge(response.giver, 1, Integer::sum);
+            }
+        }
+        return numOfResponsesByQuestionAndGiver;
+    }
+
+    /**
+     * Counts the recipients that the giver can give feedback to for the question,
+     * the same way as {@code FeedbackQuestionsLogic#getRecipientsForQuestion} lists them.
+     */
+    private int getNumOfPossibleRecipients(FeedbackQuestionAttributes question, String giver) {
+        StudentAttributes studentGiver = roster.getStudentForEmail(giver);
+        InstructorAttributes instructorGiver = roster.getInstructorForEmail(giver);
+        String giverTeam = giver;
+        if (studentGiver != null) {
+            giverTeam = studentGiver.team;
+        } else if (instructorGiver != null) {
+            giverTeam = Const.USER_TEAM_FOR_INSTRUCTOR;
+        }
+
+        switch (question.recipientType) {
+        case SELF:
+        case OWN_TEAM:
+        case NONE:
+            return 1;
+        case STUDENTS:
+            return numOfStudents - (studentGiver == null ? 0 : 1);
+        case INSTRUCTORS:
+            return numOfInstructors - (instructorGiver == null ? 0 : 1);
+        case TEAMS:
+            return teamSizes.size() - (teamSizes.containsKey(giverTeam) ? 1 : 0);
+        case OWN_TEAM_MEMBERS:
+            return teamSizes.getOrDefault(giverTeam, 0) - (roster.isStudentInTeam(giver, giverTeam) ? 1 : 0);
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            return teamSizes.getOrDefault(giverTeam, 0);
+        default:
+            return 0;
+        }
+    }
+
+}
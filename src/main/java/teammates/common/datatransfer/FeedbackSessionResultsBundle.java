@@ -2,6 +2,7 @@ package teammates.common.datatransfer;
 
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -10,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -18,6 +20,7 @@ import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttribute
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails.RubricStatistics;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
@@ -56,10 +59,19 @@ public class FeedbackSessionResultsBundle {
     public List<FeedbackResponseAttributes> actualResponses;
 
     // For contribution questions.
-    // Key is questionId, value is a map of student email to StudentResultSumary
-    public Map<String, Map<String, StudentResultSummary>> contributionQuestionStudentResultSummary = new HashMap<>();
+    // Key is questionId, value is a map of student email to StudentResultSumary,
+    // which only has the students of the teams summarised so far
+    private final Map<String, Map<String, StudentResultSummary>> contributionQuestionStudentResultSummary =
+            new HashMap<>();
     // Key is questionId, value is a map of team name to TeamEvalResult
-    public Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamEvalResults = new HashMap<>();
+    private final Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamEvalResults = new HashMap<>();
+    // Key is questionId, value is a map of team name to the responses given by members of the team
+    private final Map<String, Map<String, List<FeedbackResponseAttributes>>> contributionQuestionTeamResponses =
+            new HashMap<>();
+
+    // For rubric questions.
+    // Key is questionId, value is the statistics of the responses to the question last summarised
+    private final Map<String, RubricStatistics> rubricQuestionStatistics = new HashMap<>();
 
     /*
      * sectionTeamNameTable takes into account the section viewing privileges of the logged-in instructor
@@ -250,6 +262,13 @@ public class FeedbackSessionResultsBundle {
                     .thenComparing(compareByResponseString)
                     .thenComparing(compareByFeedbackResponseAttributeId);
 
+    // Participant lists derived from the roster, built once on first use instead of once per giver or recipient.
+    // They are unmodifiable, so the getSortedListOf... methods can return them without copying.
+    private List<String> sortedStudentEmails;
+    private List<String> sortedInstructorEmails;
+    private List<String> sortedTeams;
+    private Map<String, List<String>> sortedTeamMembersEmailsByTeam = new HashMap<>();
+
     public FeedbackSessionResultsBundle(FeedbackSessionAttributes feedbackSession,
                                         Map<String, FeedbackQuestionAttributes> questions, CourseRoster roster) {
         this(feedbackSession, new ArrayList<FeedbackResponseAttributes>(), questions, new HashMap<String, String>(),
@@ -593,17 +612,17 @@ public class FeedbackSessionResultsBundle {
      * Get the possible givers for a recipient specified by its participant identifier for
      * a question.
      *
-     * @return a list of participant identifiers that can give a response to the recipient specified
+     * @return an unmodifiable list of participant identifiers that can give a response to the recipient specified
      */
     public List<String> getPossibleGivers(FeedbackQuestionAttributes fqa,
                                           String recipientParticipantIdentifier) {
         if (recipientParticipantIdentifier.contains("@@")) {
-            return new ArrayList<>();
+            return Collections.emptyList();
         }
 
         if (isParticipantIdentifierStudent(recipientParticipantIdentifier)) {
             StudentAttributes student = roster.getStudentForEmail(recipientParticipantIdentifier);
-            return getPossibleGivers(fqa, student);
+            return Collections.unmodifiableList(getPossibleGivers(fqa, student));
         } else if (isParticipantIdentifierInstructor(recipientParticipantIdentifier)) {
             return getPossibleGivers(fqa);
         } else if (recipientParticipantIdentifier.equals(Const.GENERAL_QUESTION)) {
@@ -615,15 +634,13 @@ public class FeedbackSessionResultsBundle {
             case INSTRUCTORS:
                 return getSortedListOfInstructorEmails();
             case SELF:
-                List<String> creatorEmail = new ArrayList<>();
-                creatorEmail.add(fqa.creatorEmail);
-                return creatorEmail;
+                return Collections.singletonList(fqa.creatorEmail);
             default:
                 log.severe("Invalid giver type specified");
-                return new ArrayList<>();
+                return Collections.emptyList();
             }
         } else {
-            return getPossibleGiversForTeam(fqa, recipientParticipantIdentifier);
+            return Collections.unmodifiableList(getPossibleGiversForTeam(fqa, recipientParticipantIdentifier));
         }
     }
 
@@ -705,9 +722,11 @@ public class FeedbackSessionResultsBundle {
             possibleGivers.add(studentRecipient.email);
             break;
         case OWN_TEAM_MEMBERS:
+            possibleGivers = new ArrayList<>(possibleGivers);
             possibleGivers.retainAll(getSortedListOfTeamMembersEmailsExcludingSelf(studentRecipient));
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            possibleGivers = new ArrayList<>(possibleGivers);
             possibleGivers.retainAll(getSortedListOfTeamMembersEmails(studentRecipient));
             break;
         default:
@@ -719,7 +738,7 @@ public class FeedbackSessionResultsBundle {
 
     /**
      * Get the possible givers for the question specified within specified section.
-     * @return a list of possible givers within given section
+     * @return an unmodifiable list of possible givers within given section
      */
     public List<String> getPossibleGiversInSection(FeedbackQuestionAttributes fqa, String section) {
         List<String> allPossibleGivers = getPossibleGivers(fqa);
@@ -736,12 +755,12 @@ public class FeedbackSessionResultsBundle {
             }
         }
 
-        return giversInSection;
+        return Collections.unmodifiableList(giversInSection);
     }
 
     public List<String> getPossibleGivers(FeedbackQuestionAttributes fqa) {
         FeedbackParticipantType giverType = fqa.giverType;
-        List<String> possibleGivers = new ArrayList<>();
+        List<String> possibleGivers = Collections.emptyList();
 
         switch (giverType) {
         case STUDENTS:
@@ -754,8 +773,7 @@ public class FeedbackSessionResultsBundle {
             possibleGivers = getSortedListOfTeams();
             break;
         case SELF:
-            possibleGivers = new ArrayList<>();
-            possibleGivers.add(fqa.creatorEmail);
+            possibleGivers = Collections.singletonList(fqa.creatorEmail);
             break;
         default:
             log.severe("Invalid giver type specified");
@@ -767,7 +785,7 @@ public class FeedbackSessionResultsBundle {
 
     public List<String> getPossibleRecipients(FeedbackQuestionAttributes fqa) {
         FeedbackParticipantType recipientType = fqa.recipientType;
-        List<String> possibleRecipients = null;
+        List<String> possibleRecipients = Collections.emptyList();
 
         // use giver type to determine recipients if recipient is "self"
         if (fqa.recipientType == FeedbackParticipantType.SELF) {
@@ -788,8 +806,7 @@ public class FeedbackSessionResultsBundle {
             possibleRecipients = getSortedListOfTeams();
             break;
         case NONE:
-            possibleRecipients = new ArrayList<>();
-            possibleRecipients.add(Const.USER_NOBODY_TEXT);
+            possibleRecipients = Collections.singletonList(Const.USER_NOBODY_TEXT);
             break;
         default:
             log.severe("Invalid recipient type specified");
@@ -802,23 +819,23 @@ public class FeedbackSessionResultsBundle {
     // TODO code duplication between this function and in FeedbackQuestionsLogic getRecipientsForQuestion
     /**
      * Get the possible recipients for a giver for the question specified.
-     * @return a list of possible recipients that can receive a response from giver specified by
+     * @return an unmodifiable list of possible recipients that can receive a response from giver specified by
      *         the participantIdentifier
      */
     public List<String> getPossibleRecipients(FeedbackQuestionAttributes fqa,
                                               String giverParticipantIdentifier) {
         if (giverParticipantIdentifier.contains("@@")) {
-            return new ArrayList<>();
+            return Collections.emptyList();
         }
 
         if (isParticipantIdentifierStudent(giverParticipantIdentifier)) {
             StudentAttributes student = roster.getStudentForEmail(giverParticipantIdentifier);
-            return getPossibleRecipients(fqa, student);
+            return Collections.unmodifiableList(getPossibleRecipients(fqa, student));
         } else if (isParticipantIdentifierInstructor(giverParticipantIdentifier)) {
             InstructorAttributes instructor = roster.getInstructorForEmail(giverParticipantIdentifier);
-            return getPossibleRecipients(fqa, instructor);
+            return Collections.unmodifiableList(getPossibleRecipients(fqa, instructor));
         } else {
-            return getPossibleRecipientsForTeam(fqa, giverParticipantIdentifier);
+            return Collections.unmodifiableList(getPossibleRecipientsForTeam(fqa, giverParticipantIdentifier));
         }
     }
 
@@ -837,7 +854,7 @@ public class FeedbackSessionResultsBundle {
             possibleRecipients = getSortedListOfStudentEmails();
             break;
         case INSTRUCTORS:
-            possibleRecipients = getSortedListOfInstructorEmails();
+            possibleRecipients = new ArrayList<>(getSortedListOfInstructorEmails());
             possibleRecipients.remove(instructorGiver.email);
             break;
         case TEAMS:
@@ -872,7 +889,7 @@ public class FeedbackSessionResultsBundle {
 
         switch (recipientType) {
         case STUDENTS:
-            possibleRecipients = getSortedListOfStudentEmails();
+            possibleRecipients = new ArrayList<>(getSortedListOfStudentEmails());
             possibleRecipients.remove(studentGiver.email);
             break;
         case OWN_TEAM_MEMBERS:
@@ -916,7 +933,7 @@ public class FeedbackSessionResultsBundle {
 
         switch (recipientType) {
         case TEAMS:
-            possibleRecipients = getSortedListOfTeams();
+            possibleRecipients = new ArrayList<>(getSortedListOfTeams());
             possibleRecipients.remove(givingTeam);
             break;
         case SELF:
@@ -949,7 +966,7 @@ public class FeedbackSessionResultsBundle {
 
     private List<String> getSortedListOfTeamsExcludingOwnTeam(StudentAttributes student) {
         String studentTeam = student.team;
-        List<String> listOfTeams = getSortedListOfTeams();
+        List<String> listOfTeams = new ArrayList<>(getSortedListOfTeams());
         listOfTeams.remove(studentTeam);
         return listOfTeams;
     }
@@ -959,24 +976,28 @@ public class FeedbackSessionResultsBundle {
      * Instructors are not present as a team.
      */
     private List<String> getSortedListOfTeams() {
-        List<String> teams = new ArrayList<>(rosterTeamNameMembersTable.keySet());
-        teams.remove(Const.USER_TEAM_FOR_INSTRUCTOR);
-        teams.sort(null);
-        return teams;
+        if (sortedTeams == null) {
+            List<String> teams = new ArrayList<>(rosterTeamNameMembersTable.keySet());
+            teams.remove(Const.USER_TEAM_FOR_INSTRUCTOR);
+            teams.sort(null);
+            sortedTeams = Collections.unmodifiableList(teams);
+        }
+        return sortedTeams;
     }
 
     /**
      * Get a sorted list of team members, who are in the same team as the student.<br>
      * This list includes the student.
      *
-     * @return a list of team members, including the original student
+     * @return an unmodifiable list of team members, including the original student
      * @see #getSortedListOfTeamMembersEmailsExcludingSelf
      */
     public List<String> getSortedListOfTeamMembersEmails(StudentAttributes student) {
-        String teamName = student.team;
-        Set<String> teamMembersEmailsToNames = rosterTeamNameMembersTable.get(teamName);
-        List<String> teamMembers = new ArrayList<>(teamMembersEmailsToNames);
-        teamMembers.sort(null);
+        List<String> teamMembers = sortedTeamMembersEmailsByTeam.computeIfAbsent(student.team, teamName -> {
+            List<String> sortedTeamMembers = new ArrayList<>(rosterTeamNameMembersTable.get(teamName));
+            sortedTeamMembers.sort(null);
+            return Collections.unmodifiableList(sortedTeamMembers);
+        });
         return teamMembers;
     }
 
@@ -988,7 +1009,7 @@ public class FeedbackSessionResultsBundle {
      * @see #getSortedListOfTeamMembersEmails
      */
     private List<String> getSortedListOfTeamMembersEmailsExcludingSelf(StudentAttributes student) {
-        List<String> teamMembers = getSortedListOfTeamMembersEmails(student);
+        List<String> teamMembers = new ArrayList<>(getSortedListOfTeamMembersEmails(student));
         String currentStudentEmail = student.email;
         teamMembers.remove(currentStudentEmail);
         return teamMembers;
@@ -998,26 +1019,32 @@ public class FeedbackSessionResultsBundle {
      * Returns a list of student emails, sorted by section name.
      */
     private List<String> getSortedListOfStudentEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<StudentAttributes> students = roster.getStudents();
-        StudentAttributes.sortBySectionName(students);
-        for (StudentAttributes student : students) {
-            emailList.add(student.email);
+        if (sortedStudentEmails == null) {
+            List<String> emailList = new ArrayList<>();
+            List<StudentAttributes> students = roster.getStudents();
+            StudentAttributes.sortBySectionName(students);
+            for (StudentAttributes student : students) {
+                emailList.add(student.email);
+            }
+            sortedStudentEmails = Collections.unmodifiableList(emailList);
         }
-        return emailList;
+        return sortedStudentEmails;
     }
 
     /**
      * Returns a list of instructor emails, sorted alphabetically.
      */
     private List<String> getSortedListOfInstructorEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<InstructorAttributes> instructors = roster.getInstructors();
-        for (InstructorAttributes instructor : instructors) {
-            emailList.add(instructor.email);
+        if (sortedInstructorEmails == null) {
+            List<String> emailList = new ArrayList<>();
+            List<InstructorAttributes> instructors = roster.getInstructors();
+            for (InstructorAttributes instructor : instructors) {
+                emailList.add(instructor.email);
+            }
+            emailList.sort(null);
+            sortedInstructorEmails = Collections.unmodifiableList(emailList);
         }
-        emailList.sort(null);
-        return emailList;
+        return sortedInstructorEmails;
     }
 
     /**
@@ -1762,4 +1789,59 @@ public class FeedbackSessionResultsBundle {
                             .filter(response -> response.feedbackQuestionId.equals(question.getId()))
                             .collect(Collectors.toList());
     }
+
+    /**
+     * Returns the statistics of {@code responses} to the rubric question with the given ID.
+     * The statistics last computed for the question are reused if they are of the same responses;
+     * otherwise, they are replaced by the statistics given by {@code statisticsSupplier}.
+     */
+    public RubricStatistics getRubricQuestionStatistics(String questionId, List<FeedbackResponseAttributes> responses,
+                                                        Supplier<RubricStatistics> statisticsSupplier) {
+        RubricStatistics statistics = rubricQuestionStatistics.get(questionId);
+        // some views of the results page summarise a different subset of the responses for each question table
+        if (statistics == null || !statistics.isOfResponses(responses)) {
+            statistics = statisticsSupplier.get();
+            rubricQuestionStatistics.put(questionId, statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the responses to the contribution question with the given ID, grouped by the team of their givers.
+     * The responses are grouped by {@code teamResponsesSupplier} the first time they are needed.
+     */
+    public Map<String, List<FeedbackResponseAttributes>> getContributionQuestionTeamResponses(
+            String questionId, Supplier<Map<String, List<FeedbackResponseAttributes>>> teamResponsesSupplier) {
+        return contributionQuestionTeamResponses.computeIfAbsent(questionId,
+                key -> Collections.unmodifiableMap(teamResponsesSupplier.get()));
+    }
+
+    /**
+     * Returns the contribution results of {@code team} for the contribution question with the given ID.
+     * The results are computed by {@code teamEvalResultSupplier} the first time they are needed.
+     */
+    public TeamEvalResult getContributionQuestionTeamEvalResult(String questionId, String team,
+                                                                Supplier<TeamEvalResult> teamEvalResultSupplier) {
+        return contributionQuestionTeamEvalResults.computeIfAbsent(questionId, key -> new HashMap<>())
+                .computeIfAbsent(team, key -> teamEvalResultSupplier.get());
+    }
+
+    /**
+     * Returns the result summary of the student with {@code email} for the contribution question with the given ID,
+     * or null if the student's team has not been summarised yet.
+     */
+    public StudentResultSummary getContributionQuestionStudentResultSummary(String questionId, String email) {
+        return contributionQuestionStudentResultSummary.getOrDefault(questionId, Collections.emptyMap()).get(email);
+    }
+
+    /**
+     * Adds the result summary of the student with {@code email} for the contribution question with the given ID,
+     * unless the student already has one.
+     */
+    public void addContributionQuestionStudentResultSummary(String questionId, String email,
+                                                            StudentResultSummary summary) {
+        Assumption.assertNotNull(summary);
+        contributionQuestionStudentResultSummary.computeIfAbsent(questionId, key -> new HashMap<>())
+                .putIfAbsent(email, summary);
+    }
 }
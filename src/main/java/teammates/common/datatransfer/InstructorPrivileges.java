@@ -95,6 +95,8 @@ public final class InstructorPrivileges {
     private Map<String, Map<String, Boolean>> sectionLevel;
     private Map<String, Map<String, Map<String, Boolean>>> sessionLevel;
 
+    private transient CompiledInstructorPrivileges compiledPrivileges;
+
     public InstructorPrivileges() {
         this.courseLevel = new LinkedHashMap<>();
         this.sectionLevel = new LinkedHashMap<>();
@@ -161,6 +163,7 @@ public final class InstructorPrivileges {
     }
 
     private void setDefaultPrivileges(Map<String, Boolean> defaultPrivileges) {
+        compiledPrivileges = null;
         defaultPrivileges.forEach((key, value) -> courseLevel.put(key, value));
     }
 
@@ -216,6 +219,7 @@ public final class InstructorPrivileges {
     }
 
     private void updatePrivilegeInCourseLevel(String privilegeName, boolean isAllowed) {
+        compiledPrivileges = null;
         if (!isPrivilegeNameValid(privilegeName)) {
             return;
         }
@@ -223,6 +227,7 @@ public final class InstructorPrivileges {
     }
 
     private void updatePrivilegeInSectionLevel(String sectionName, String privilegeName, boolean isAllowed) {
+        compiledPrivileges = null;
         if (!isPrivilegeNameValidForSectionLevel(privilegeName)) {
             return;
         }
@@ -232,6 +237,7 @@ public final class InstructorPrivileges {
 
     private void updatePrivilegeInSessionLevel(String sectionName, String sessionName,
                                                String privilegeName, boolean isAllowed) {
+        compiledPrivileges = null;
         if (!isPrivilegeNameValidForSessionLevel(privilegeName)) {
             return;
         }
@@ -249,6 +255,7 @@ public final class InstructorPrivileges {
     }
 
     private void updatePrivilegesInSectionLevel(String sectionName, Map<String, Boolean> privileges) {
+        compiledPrivileges = null;
         for (String privilegeName : privileges.keySet()) {
             if (!isPrivilegeNameValidForSectionLevel(privilegeName)) {
                 return;
@@ -259,6 +266,7 @@ public final class InstructorPrivileges {
 
     private void updatePrivilegesInSessionLevel(String sectionName, String sessionName,
                                                 Map<String, Boolean> privileges) {
+        compiledPrivileges = null;
         for (String privilegeName : privileges.keySet()) {
             if (!isPrivilegeNameValidForSessionLevel(privilegeName)) {
                 return;
@@ -269,6 +277,7 @@ public final class InstructorPrivileges {
     }
 
     private void verifyExistenceOfsectionName(String sectionName) {
+        compiledPrivileges = null;
         this.sessionLevel.computeIfAbsent(sectionName, key -> {
             addSectionWithDefaultPrivileges(sectionName);
             return new LinkedHashMap<>();
@@ -276,10 +285,12 @@ public final class InstructorPrivileges {
     }
 
     public void addSectionWithDefaultPrivileges(String sectionName) {
+        compiledPrivileges = null;
         this.sectionLevel.putIfAbsent(sectionName, getOverallPrivilegesForSections());
     }
 
     public void addSessionWithDefaultPrivileges(String sectionName, String sessionName) {
+        compiledPrivileges = null;
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName)
                 .putIfAbsent(sessionName, getOverallPrivilegesForSessionsInSection(sectionName));
@@ -313,6 +324,16 @@ public final class InstructorPrivileges {
         return isAllowedInSessionLevelAnySection(sessionName, privilegeName);
     }
 
+    /**
+     * Returns the compiled form of the privileges, which is kept until the privileges are next modified.
+     */
+    public CompiledInstructorPrivileges getCompiledPrivileges() {
+        if (compiledPrivileges == null) {
+            compiledPrivileges = CompiledInstructorPrivileges.compile(this);
+        }
+        return compiledPrivileges;
+    }
+
     public boolean hasCoownerPrivileges() {
         return hasSamePrivileges(PRIVILEGES_COOWNER);
     }
@@ -367,6 +388,7 @@ public final class InstructorPrivileges {
      * Removes special settings for sectionName.
      */
     public void removeSectionLevelPrivileges(String sectionName) {
+        compiledPrivileges = null;
         if (this.sectionLevel.containsKey(sectionName)) {
             this.sectionLevel.remove(sectionName);
         }
@@ -377,6 +399,7 @@ public final class InstructorPrivileges {
      * Removes special settings for all sessionNames in sectionName.
      */
     public void removeSessionsPrivilegesForSection(String sectionName) {
+        compiledPrivileges = null;
         if (this.sessionLevel.containsKey(sectionName)) {
             this.sessionLevel.remove(sectionName);
         }
@@ -386,6 +409,7 @@ public final class InstructorPrivileges {
      * Removes special settings for sessionName in sectionName.
      */
     public void removeSessionPrivileges(String sectionName, String sessionName) {
+        compiledPrivileges = null;
         if (this.sessionLevel.containsKey(sectionName) && this.sessionLevel.get(sectionName).containsKey(sessionName)) {
             this.sessionLevel.get(sectionName).remove(sessionName);
         }
@@ -442,6 +466,7 @@ public final class InstructorPrivileges {
      * prerequisite privileges if they have not been granted yet.
      */
     public void validatePrivileges() {
+        compiledPrivileges = null;
         if (this.courseLevel.getOrDefault(
                 Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS, false)) {
             this.courseLevel.put(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
@@ -0,0 +1,107 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.google.appengine.api.log.AppLogLine;
+
+/**
+ * Groups severe logs by their fingerprint, so that each kind of error is reported once
+ * together with the number of times it occurred.
+ *
+ * <p>The fingerprint of a log is its level and the first line of its message with all numbers masked,
+ * which typically identifies the exception and where it is thrown from, but not e.g. the IDs involved.
+ */
+public class SevereLogsDigest {
+
+    private static final Pattern NUMBERS = Pattern.compile("\\d+");
+    private static final int MAX_FINGERPRINT_LENGTH = 300;
+
+    private final Map<String, LogGroup> groupsByFingerprint = new LinkedHashMap<>();
+    private int numberOfLogs;
+
+    /**
+     * Adds {@code logLine} to the group of logs with the same fingerprint.
+     */
+    public void add(AppLogLine logLine) {
+        LogGroup group = groupsByFingerprint.computeIfAbsent(getFingerprint(logLine), k -> new LogGroup(logLine));
+        group.add(logLine);
+        numberOfLogs++;
+    }
+
+    public boolean isEmpty() {
+        return numberOfLogs == 0;
+    }
+
+    public int getNumberOfLogs() {
+        return numberOfLogs;
+    }
+
+    /**
+     * Returns the groups of logs, the most frequent first. Groups which are equally frequent
+     * are in the order they were first added in.
+     */
+    public List<LogGroup> getGroups() {
+        List<LogGroup> groups = new ArrayList<>(groupsByFingerprint.values());
+        groups.sort(Comparator.comparingInt(LogGroup::getCount).reversed());
+        return groups;
+    }
+
+    static String getFingerprint(AppLogLine logLine) {
+        String message = logLine.getLogMessage() == null ? "" : logLine.getLogMessage().trim();
+        int endOfFirstLine = message.indexOf('\n');
+        String firstLine = endOfFirstLine == -1 ? message : message.substring(0, endOfFirstLine);
+        String fingerprint = logLine.getLogLevel() + ":" + NUMBERS.matcher(firstLine.trim()).replaceAll("#");
+        return fingerprint.length() > MAX_FINGERPRINT_LENGTH
+                ? fingerprint.substring(0, MAX_FINGERPRINT_LENGTH)
+                : fingerprint;
+    }
+
+    /**
+     * Represents the logs with the same fingerprint.
+     */
+    public static class LogGroup {
+
+        private final AppLogLine sampleLog;
+        private long earliestTimeUsec;
+        private long latestTimeUsec;
+        private int count;
+
+        LogGroup(AppLogLine sampleLog) {
+            this.sampleLog = sampleLog;
+            this.earliestTimeUsec = sampleLog.getTimeUsec();
+            this.latestTimeUsec = sampleLog.getTimeUsec();
+        }
+
+        void add(AppLogLine logLine) {
+            earliestTimeUsec = Math.min(earliestTimeUsec, logLine.getTimeUsec());
+            latestTimeUsec = Math.max(latestTimeUsec, logLine.getTimeUsec());
+            count++;
+        }
+
+        /**
+         * Returns the first log added to the group, which is reported on behalf of the group.
+         */
+        public AppLogLine getSampleLog() {
+            return sampleLog;
+        }
+
+        public long getEarliestTimeUsec() {
+            return earliestTimeUsec;
+        }
+
+        public long getLatestTimeUsec() {
+            return latestTimeUsec;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+    }
+
+}
@@ -40,122 +40,115 @@ public class TeamEvalResult {
     public List<String> studentEmails;
 
     public TeamEvalResult(int[][] submissionValues) {
-        /*This is the only method that should be public. However, many of the
-         * other methods are set as public for the ease of testing.
-         */
-
-        log.fine("==================\n" + "starting result calculation for\n"
-                + pointsToString(submissionValues));
-
         claimed = submissionValues;
 
-        normalizedClaimed = normalizeValues(claimed);
-
-        int[][] claimedSanitized = sanitizeInput(submissionValues);
-        log.fine("claimed values sanitized :\n"
-                + pointsToString(claimedSanitized));
-
-        double[][] claimedSanitizedNormalized = normalizeValues(intToDouble(claimedSanitized));
-        log.fine("claimed values sanitized and normalized :\n"
-                + pointsToString(claimedSanitizedNormalized));
+        int teamSize = submissionValues.length;
+        normalizedClaimed = new int[teamSize][teamSize];
+        normalizedPeerContributionRatio = new int[teamSize][teamSize];
+        normalizedAveragePerceived = new int[teamSize];
+        denormalizedAveragePerceived = new int[teamSize][teamSize];
 
-        double[][] peerContributionRatioAsDouble = calculatePeerContributionRatio(claimedSanitizedNormalized);
-        log.fine("peerContributionRatio as double :\n"
-                + pointsToString(peerContributionRatioAsDouble));
+        // All intermediate values are computed in place in these arrays, so that
+        // nothing else is allocated no matter how large the team is.
+        int[][] claimedSanitized = new int[teamSize][teamSize];
+        double[][] peerContributionRatio = new double[teamSize][teamSize];
+        double[] normalizedAveragePerceivedAsDouble = new double[teamSize];
 
-        double[] averagePerceivedAsDouble = averageColumns(peerContributionRatioAsDouble);
-        log.fine("averagePerceived as double:\n"
-                + replaceMagicNumbers(Arrays.toString(averagePerceivedAsDouble)));
-
-        double[] normalizedAveragePerceivedAsDouble = normalizeValues(averagePerceivedAsDouble);
-        log.fine("normalizedAveragePerceivedAsDouble as double:\n"
-                + replaceMagicNumbers(Arrays
-                        .toString(normalizedAveragePerceivedAsDouble)));
-
-        double[][] normalizedPeerContributionRatioAsDouble =
-                adjustPeerContributionRatioToTallyNormalizedAveragePerceived(peerContributionRatioAsDouble);
-        log.fine("normalizedPeerContributionRatio as double :\n"
-                + pointsToString(peerContributionRatioAsDouble));
+        for (int i = 0; i < teamSize; i++) {
+            sanitizeInput(submissionValues[i], claimedSanitized[i]);
+            calculatePeerContributionRatio(submissionValues[i], i, normalizedClaimed[i], peerContributionRatio[i]);
+        }
 
-        normalizedPeerContributionRatio = doubleToInt(normalizedPeerContributionRatioAsDouble);
-        log.fine("normalizedUnbiasedClaimed as int :\n"
-                + pointsToString(normalizedPeerContributionRatio));
+        averageColumns(peerContributionRatio, normalizedAveragePerceivedAsDouble);
 
-        denormalizedAveragePerceived = calculatePerceivedForStudents(
-                claimedSanitized, normalizedAveragePerceivedAsDouble);
-        log.fine("perceived to students :\n"
-                + pointsToString(denormalizedAveragePerceived));
+        // the peer contribution ratios are adjusted by the same factor as the average perceived contributions,
+        // so that they tally with each other
+        double factor = calculateFactor(normalizedAveragePerceivedAsDouble);
+        multiplyByFactor(factor, normalizedAveragePerceivedAsDouble, normalizedAveragePerceivedAsDouble);
+        for (int i = 0; i < teamSize; i++) {
+            multiplyByFactor(factor, peerContributionRatio[i], peerContributionRatio[i]);
+            doubleToInt(peerContributionRatio[i], normalizedPeerContributionRatio[i]);
+        }
 
-        normalizedAveragePerceived = doubleToInt(normalizedAveragePerceivedAsDouble);
+        for (int k = 0; k < teamSize; k++) {
+            calculatePerceivedForStudent(claimedSanitized[k], normalizedAveragePerceivedAsDouble,
+                    denormalizedAveragePerceived[k]);
+        }
 
-        log.fine("Final result:\n" + this.toString());
+        doubleToInt(normalizedAveragePerceivedAsDouble, normalizedAveragePerceived);
 
-        log.fine("==================");
+        if (log.isFineLoggable()) {
+            log.fine("Contribution results calculated:\n" + this.toString());
+        }
     }
 
     /**
      * Replaces all missing points ('not sure' with NSU and 'did not submit' with NA).
      */
-    private int[][] sanitizeInput(int[][] input) {
-        int teamSize = input.length;
-        int[][] output = new int[teamSize][teamSize];
-        for (int i = 0; i < teamSize; i++) {
-            for (int j = 0; j < teamSize; j++) {
-                int points = input[i][j];
-                boolean pointsNotGiven = points == Const.POINTS_NOT_SUBMITTED;
-                output[i][j] = pointsNotGiven ? NA : points;
-            }
+    private static void sanitizeInput(int[] input, int[] output) {
+        for (int j = 0; j < input.length; j++) {
+            int points = input[j];
+            boolean pointsNotGiven = points == Const.POINTS_NOT_SUBMITTED;
+            output[j] = pointsNotGiven ? NA : points;
         }
-        return output;
     }
 
-    private static double[][] calculatePeerContributionRatio(double[][] input) {
-
-        int teamSize = input.length;
-
-        double[][] selfRatingsRemoved = removeSelfRatings(input);
-
-        double[][] selfRatingRemovedAndNormalized = new double[teamSize][teamSize];
-        for (int i = 0; i < teamSize; i++) {
-            selfRatingRemovedAndNormalized[i] = normalizeValues(selfRatingsRemoved[i]);
+    /**
+     * Normalizes the points given by the student at {@code giverIndex} into {@code normalizedClaimedOutput},
+     * and the points given by the student to others, normalized again without the self rating,
+     * into {@code peerContributionRatioOutput}.
+     */
+    private static void calculatePeerContributionRatio(int[] claimedRow, int giverIndex,
+            int[] normalizedClaimedOutput, double[] peerContributionRatioOutput) {
+        // not submitted values are special values as well, so sanitizing the input does not change the factor
+        double factor = calculateFactor(claimedRow);
+        for (int j = 0; j < claimedRow.length; j++) {
+            double normalizedValue = multiplyByFactor(factor, claimedRow[j]);
+            normalizedClaimedOutput[j] = (int) Math.round(normalizedValue);
+
+            boolean isSelfRatingOrNotSubmitted = j == giverIndex || claimedRow[j] == NSB;
+            peerContributionRatioOutput[j] = isSelfRatingOrNotSubmitted ? NA : normalizedValue;
         }
-
-        return selfRatingRemovedAndNormalized;
-    }
-
-    private static double[][] adjustPeerContributionRatioToTallyNormalizedAveragePerceived(
-            double[][] peerContributionRatio) {
-        double[] columnsAveraged = averageColumns(peerContributionRatio);
-        double factor = calculateFactor(columnsAveraged);
-        return multiplyByFactor(factor, peerContributionRatio);
+        normalizeValues(peerContributionRatioOutput, peerContributionRatioOutput);
     }
 
-    private int[][] calculatePerceivedForStudents(int[][] claimedSanitized,
+    public static int[] calculatePerceivedForStudent(int[] claimedSanitizedRow,
             double[] normalizedAveragePerceivedAsDouble) {
-        int teamSize = claimedSanitized.length;
-        int[][] output = new int[teamSize][teamSize];
-        for (int k = 0; k < teamSize; k++) {
-            output[k] = calculatePerceivedForStudent(claimedSanitized[k],
-                    normalizedAveragePerceivedAsDouble);
-        }
+
+        verify("Unsanitized value received ", isSanitized(claimedSanitizedRow));
+
+        int[] output = new int[claimedSanitizedRow.length];
+        calculatePerceivedForStudent(claimedSanitizedRow, normalizedAveragePerceivedAsDouble, output);
         return output;
     }
 
-    public static int[] calculatePerceivedForStudent(int[] claimedSanitizedRow,
-            double[] normalizedAveragePerceivedAsDouble) {
+    private static void calculatePerceivedForStudent(int[] claimedSanitizedRow,
+            double[] normalizedAveragePerceivedAsDouble, int[] output) {
 
-        verify("Unsanitized value received ", isSanitized(claimedSanitizedRow));
+        // sum the values of each array, leaving out values matching special values in the other
+        double sumOfPerceived = NA;
+        double sumOfActual = NA;
+        for (int i = 0; i < claimedSanitizedRow.length; i++) {
+            double filteredPerceived = purgeValueCorrespondingToSpecialValueInFilter(
+                    claimedSanitizedRow[i], normalizedAveragePerceivedAsDouble[i]);
+            int filteredSanitizedActual = (int) Math.round(purgeValueCorrespondingToSpecialValueInFilter(
+                    normalizedAveragePerceivedAsDouble[i], claimedSanitizedRow[i]));
 
-        // remove from each array values matching special values in the other
-        double[] filteredPerceived = purgeValuesCorrespondingToSpecialValuesInFilter(
-                intToDouble(claimedSanitizedRow),
-                normalizedAveragePerceivedAsDouble);
-        int[] filteredSanitizedActual = doubleToInt(purgeValuesCorrespondingToSpecialValuesInFilter(
-                normalizedAveragePerceivedAsDouble,
-                intToDouble(claimedSanitizedRow)));
+            if (!isSanitized((int) Math.round(filteredPerceived))) {
+                verify("Unsanitized value in perceived " + Arrays.toString(normalizedAveragePerceivedAsDouble), false);
+            }
+            if (!isSanitized(filteredSanitizedActual)) {
+                verify("Unsanitized value in " + Arrays.toString(claimedSanitizedRow), false);
+            }
 
-        double sumOfPerceived = sum(filteredPerceived);
-        double sumOfActual = sum(filteredSanitizedActual);
+            sumOfPerceived = addToSum(sumOfPerceived, filteredPerceived);
+            sumOfActual = addToSum(sumOfActual, filteredSanitizedActual);
+        }
+        if (claimedSanitizedRow.length == 0) {
+            sumOfPerceived = 0;
+            sumOfActual = 0;
+        }
+        sumOfActual = (int) sumOfActual;
 
         // if the student did not submit
         if (sumOfActual == NA) {
@@ -164,8 +157,9 @@ public class TeamEvalResult {
 
         double factor = sumOfActual / sumOfPerceived;
 
-        return doubleToInt(multiplyByFactor(factor,
-                normalizedAveragePerceivedAsDouble));
+        for (int j = 0; j < output.length; j++) {
+            output[j] = (int) Math.round(multiplyByFactor(factor, normalizedAveragePerceivedAsDouble[j]));
+        }
     }
 
     public static boolean isSanitized(int[] array) {
@@ -189,63 +183,75 @@ public class TeamEvalResult {
         return value == NA || value == NSU;
     }
 
-    private static double[][] multiplyByFactor(double factor, double[][] input) {
-        int teamSize = input.length;
-        double[][] output = new double[teamSize][teamSize];
-        for (int i = 0; i < teamSize; i++) {
-            output[i] = multiplyByFactor(factor, input[i]);
+    private static void multiplyByFactor(double factor, double[] input, double[] output) {
+        for (int j = 0; j < input.length; j++) {
+            output[j] = multiplyByFactor(factor, input[j]);
         }
-        return output;
     }
 
-    private static double[] multiplyByFactor(double factor, double[] input) {
-        int teamSize = input.length;
-        double[] output = new double[teamSize];
-        for (int j = 0; j < teamSize; j++) {
-            double value = input[j];
-            if (isSpecialValue((int) value)) {
-                output[j] = value;
-            } else {
-                output[j] = factor == 0 ? value : value * factor;
-            }
+    private static double multiplyByFactor(double factor, double value) {
+        if (isSpecialValue((int) value)) {
+            return value;
         }
-        return output;
+        return factor == 0 ? value : value * factor;
     }
 
     public static double[] purgeValuesCorrespondingToSpecialValuesInFilter(
             double[] filterArray, double[] valueArray) {
         double[] returnValue = new double[filterArray.length];
         for (int i = 0; i < filterArray.length; i++) {
-            int filterValue = (int) filterArray[i];
-            if (filterValue == NA || filterValue == NSU || !isSanitized(filterValue)) {
-                returnValue[i] = filterValue == NSU ? NSU : NA;
-            } else {
-                returnValue[i] = valueArray[i];
-            }
+            returnValue[i] = purgeValueCorrespondingToSpecialValueInFilter(filterArray[i], valueArray[i]);
         }
         return returnValue;
     }
 
+    private static double purgeValueCorrespondingToSpecialValueInFilter(double filter, double value) {
+        int filterValue = (int) filter;
+        if (filterValue == NA || filterValue == NSU || !isSanitized(filterValue)) {
+            return filterValue == NSU ? NSU : NA;
+        }
+        return value;
+    }
+
     public static double sum(double[] input) {
         if (input.length == 0) {
             return 0;
         }
 
-        verify("Unsanitized value in " + Arrays.toString(input),
-                isSanitized(doubleToInt(input)));
-
         double sum = NA;
         for (double value : input) {
-
-            if (!isValidSpecialValue(value)) {
-                sum = sum == NA ? value : sum + value;
+            if (!isSanitized((int) Math.round(value))) {
+                verify("Unsanitized value in " + Arrays.toString(input), false);
             }
+            sum = addToSum(sum, value);
         }
         return sum;
     }
 
     public static int sum(int[] input) {
-        return (int) sum(intToDouble(input));
+        if (input.length == 0) {
+            return 0;
+        }
+
+        double sum = NA;
+        for (int value : input) {
+            if (!isSanitized(value)) {
+                verify("Unsanitized value in " + Arrays.toString(input), false);
+            }
+            sum = addToSum(sum, value);
+        }
+        return (int) sum;
+    }
+
+    /**
+     * Adds {@code value} to {@code sum} unless it is a special value.
+     * A sum of NA means nothing has been added yet.
+     */
+    private static double addToSum(double sum, double value) {
+        if (isValidSpecialValue(value)) {
+            return sum;
+        }
+        return sum == NA ? value : sum + value;
     }
 
     // TODO: methods like these private and use reflection to test
@@ -259,26 +265,33 @@ public class TeamEvalResult {
         return output;
     }
 
-    private static double[][] normalizeValues(double[][] input) {
-        double[][] output = new double[input.length][input.length];
-        for (int i = 0; i < input.length; i++) {
-            output[i] = normalizeValues(input[i]);
-        }
-        return output;
-    }
-
     // TODO: make this private and use reflection to test
     public static double[] normalizeValues(double[] input) {
-        double factor = calculateFactor(input);
-        return multiplyByFactor(factor, input);
+        double[] output = new double[input.length];
+        normalizeValues(input, output);
+        return output;
     }
 
     public static double[] normalizeValues(int[] input) {
-        return normalizeValues(intToDouble(input));
+        double factor = calculateFactor(input);
+        double[] output = new double[input.length];
+        for (int j = 0; j < input.length; j++) {
+            output[j] = multiplyByFactor(factor, input[j]);
+        }
+        return output;
     }
 
     public static int[][] normalizeValues(int[][] input) {
-        return doubleToInt(normalizeValues(intToDouble(input)));
+        int[][] output = new int[input.length][];
+        for (int i = 0; i < input.length; i++) {
+            output[i] = new int[input[i].length];
+            doubleToInt(normalizeValues(input[i]), output[i]);
+        }
+        return output;
+    }
+
+    private static void normalizeValues(double[] input, double[] output) {
+        multiplyByFactor(calculateFactor(input), input, output);
     }
 
     private static double calculateFactor(double[] input) {
@@ -292,11 +305,25 @@ public class TeamEvalResult {
             actualSum += value;
             count++;
         }
+        return calculateFactor(actualSum, count);
+    }
 
+    private static double calculateFactor(int[] input) {
+        double actualSum = 0;
+        int count = 0;
+        for (int value : input) {
+            if (isSpecialValue(value)) {
+                continue;
+            }
+            actualSum += value;
+            count++;
+        }
+        return calculateFactor(actualSum, count);
+    }
+
+    private static double calculateFactor(double actualSum, int count) {
         double idealSum = count * 100.0;
-        double factor = actualSum == 0 ? 0 : idealSum / actualSum;
-        log.fine("Factor = " + idealSum + "/" + actualSum + " = " + factor);
-        return factor;
+        return actualSum == 0 ? 0 : idealSum / actualSum;
     }
 
     @SuppressWarnings("PMD.AvoidArrayLoops") // the arrays are of different types
@@ -316,44 +343,38 @@ public class TeamEvalResult {
         return converted;
     }
 
-    private static int[] doubleToInt(double[] input) {
-        int[] converted = new int[input.length];
-        for (int i = 0; i < input.length; i++) {
-            converted[i] = (int) Math.round(input[i]);
-        }
-        return converted;
-    }
-
-    private static int[][] doubleToInt(double[][] input) {
-        int[][] output = new int[input.length][input.length];
+    private static void doubleToInt(double[] input, int[] output) {
         for (int i = 0; i < input.length; i++) {
-            output[i] = doubleToInt(input[i]);
+            output[i] = (int) Math.round(input[i]);
         }
-        return output;
     }
 
     // TODO: make this private and use reflection to test
     public static double[] averageColumns(double[][] input) {
         double[] output = new double[input.length];
+        averageColumns(input, output);
+        return output;
+    }
 
-        for (int i = 0; i < input.length; i++) {
-            verify("Unsanitized value in " + Arrays.toString(input[i]),
-                    isSanitized(doubleToInt(input[i])));
+    private static void averageColumns(double[][] input, double[] output) {
+        for (double[] row : input) {
+            for (double value : row) {
+                if (!isSanitized((int) Math.round(value))) {
+                    verify("Unsanitized value in " + Arrays.toString(row), false);
+                }
+            }
+        }
+
+        for (int i = 0; i < output.length; i++) {
             output[i] = averageColumn(input, i);
         }
-        log.fine("Column averages: "
-                + replaceMagicNumbers(Arrays.toString(output)));
-        return output;
     }
 
     private static double averageColumn(double[][] arrayOfArrays, int columnIndex) {
         double sum = 0;
         int count = 0;
-        StringBuilder values = new StringBuilder();
         for (double[] array : arrayOfArrays) {
             double value = array[columnIndex];
-
-            values.append(value).append(' ');
             if (isValidSpecialValue(value)) {
                 continue;
             }
@@ -361,12 +382,7 @@ public class TeamEvalResult {
             count++;
         }
         // omit calculation if no data points
-        double average = count == 0 ? NA : (double) (sum / count);
-
-        String logMessage = "Average(" + values.toString().trim() + ") = " + average;
-        log.fine(replaceMagicNumbers(logMessage));
-
-        return average;
+        return count == 0 ? NA : (double) (sum / count);
     }
 
     public static String pointsToString(int[][] array) {
@@ -190,7 +190,7 @@ public class AccountAttributes extends EntityAttributes<Account> {
 
     @Override
     public String toString() {
-        return JsonUtils.toJson(this, AccountAttributes.class);
+        return JsonUtils.toPrettyJson(this, AccountAttributes.class);
     }
 
     @Override
@@ -210,7 +210,7 @@ public class AccountAttributes extends EntityAttributes<Account> {
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, AccountAttributes.class);
+        return JsonUtils.toPrettyJson(this, AccountAttributes.class);
     }
 
     @Override
@@ -0,0 +1,116 @@
+package teammates.common.datatransfer.attributes;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.google.appengine.api.datastore.Text;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Assumption;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.ActivityLog;
+
+/**
+ * The data transfer object for {@link ActivityLog} entities, i.e. an {@link ActivityLogEntry} of the app
+ * together with the version of the app which generated it.
+ */
+public class ActivityLogAttributes extends EntityAttributes<ActivityLog> {
+
+    private String id;
+    private ActivityLogEntry logEntry;
+    private String appVersion;
+
+    public ActivityLogAttributes(ActivityLogEntry logEntry, String appVersion) {
+        Assumption.assertNotNull(logEntry);
+        this.logEntry = logEntry;
+        this.appVersion = appVersion;
+    }
+
+    public static ActivityLogAttributes valueOf(ActivityLog activityLog) {
+        ActivityLogEntry logEntry = new ActivityLogEntry.Builder(activityLog.getActionName(),
+                        activityLog.getActionUrl(), activityLog.getLogTime().getTime())
+                .withActionResponse(activityLog.getActionResponse())
+                .withUserRole(activityLog.getUserRole())
+                .withMasqueradeUserRole(activityLog.isMasqueradeUserRole())
+                .withUserName(activityLog.getUserName())
+                .withUserGoogleId(activityLog.getUserGoogleId())
+                .withUserEmail(activityLog.getUserEmail())
+                .withLogId(activityLog.getLogId())
+                .withLogMessage(activityLog.getLogMessage() == null ? null : activityLog.getLogMessage().getValue())
+                .withActionTimeTaken(activityLog.getActionTimeTaken())
+                .build();
+        ActivityLogAttributes attributes = new ActivityLogAttributes(logEntry, activityLog.getAppVersion());
+        attributes.setId(activityLog.getId());
+        return attributes;
+    }
+
+    /**
+     * Returns the ID the entry is stored with, or null if it is not set yet.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the ID the entry is stored with. The same entry must always be given the same ID,
+     * e.g. the name of the task it is queued in, so that storing it again overwrites it.
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public ActivityLogEntry getLogEntry() {
+        return logEntry;
+    }
+
+    /**
+     * Returns the version of the app which generated the log entry, in the form e.g. "6.0.0",
+     * or null if it is not known.
+     */
+    public String getAppVersion() {
+        return appVersion;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        // log entries are generated by the app and are stored as they are
+        return new ArrayList<>();
+    }
+
+    @Override
+    public ActivityLog toEntity() {
+        Assumption.assertNotNull("The ID of the entry must be set before it is stored", id);
+        return new ActivityLog(id, logEntry.getLogId(), new Date(logEntry.getLogTime()), logEntry.getActionName(),
+                logEntry.getActionUrl(), logEntry.getActionResponse(), logEntry.getUserRole(),
+                logEntry.isMasqueradeUserRole(), logEntry.getUserName(), logEntry.getUserGoogleId(),
+                logEntry.getUserEmail(), new Text(logEntry.getLogMessage()), logEntry.getActionTimeTaken(),
+                appVersion);
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return logEntry.getLogId();
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Activity Log";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return "Activity log entry " + logEntry.getLogId();
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, ActivityLogAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // log messages are already in HTML, as shown in the admin activity log page
+    }
+
+}
@@ -92,7 +92,7 @@ public class AdminEmailAttributes extends EntityAttributes<AdminEmail> {
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, AdminEmail.class);
+        return JsonUtils.toPrettyJson(this, AdminEmail.class);
     }
 
     @Override
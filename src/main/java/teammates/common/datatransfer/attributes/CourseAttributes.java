@@ -164,7 +164,7 @@ public class CourseAttributes extends EntityAttributes<Course> implements Compar
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, CourseAttributes.class);
+        return JsonUtils.toPrettyJson(this, CourseAttributes.class);
     }
 
     @Override
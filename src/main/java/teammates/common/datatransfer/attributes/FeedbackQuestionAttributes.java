@@ -13,6 +13,7 @@ import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.util.CacheStats;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
@@ -21,6 +22,9 @@ import teammates.storage.entity.FeedbackQuestion;
 
 public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestion>
         implements Comparable<FeedbackQuestionAttributes> {
+
+    private static final CacheStats questionDetailsCacheStats = new CacheStats("Question details");
+
     public String feedbackSessionName;
     public String courseId;
     public String creatorEmail;
@@ -44,6 +48,14 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     protected transient Instant updatedAt;
     private String feedbackQuestionId;
 
+    /**
+     * The details parsed from {@link #questionMetaData}, valid only while {@code questionMetaData}
+     * and {@code questionType} are still the ones they were parsed from.
+     */
+    private transient FeedbackQuestionDetails cachedQuestionDetails;
+    private transient Text cachedQuestionDetailsSource;
+    private transient FeedbackQuestionType cachedQuestionDetailsType;
+
     protected FeedbackQuestionAttributes() {
         //attributes to be built by Builder
     }
@@ -266,7 +278,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, FeedbackQuestionAttributes.class);
+        return JsonUtils.toPrettyJson(this, FeedbackQuestionAttributes.class);
     }
 
     @Override
@@ -663,6 +675,11 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     }
 
     private boolean isValidJsonString(String jsonString) {
+        // a JSON object must start with '{' after leading whitespace; this avoids a failed parse for plain text
+        String trimmed = jsonString.trim();
+        if (trimmed.isEmpty() || trimmed.charAt(0) != '{') {
+            return false;
+        }
         try {
             new JSONObject(jsonString);
         } catch (JSONException e) {
@@ -684,6 +701,22 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
      * @return The Feedback*QuestionDetails object representing the question's details
      */
     public FeedbackQuestionDetails getQuestionDetails() {
+        // Text is immutable, so the parsed details stay valid as long as the same Text instance is referenced
+        if (cachedQuestionDetails != null
+                && cachedQuestionDetailsSource == questionMetaData && cachedQuestionDetailsType == questionType) {
+            questionDetailsCacheStats.recordHit();
+            return cachedQuestionDetails;
+        }
+        questionDetailsCacheStats.recordMiss();
+
+        FeedbackQuestionDetails questionDetails = parseQuestionDetails();
+        cachedQuestionDetails = questionDetails;
+        cachedQuestionDetailsSource = questionMetaData;
+        cachedQuestionDetailsType = questionType;
+        return questionDetails;
+    }
+
+    private FeedbackQuestionDetails parseQuestionDetails() {
         final String questionMetaDataValue = questionMetaData.getValue();
         // For old Text questions, the questionText simply contains the question, not a JSON
         if (questionType == FeedbackQuestionType.TEXT && !isValidJsonString(questionMetaDataValue)) {
@@ -692,6 +725,13 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         return JsonUtils.fromJson(questionMetaDataValue, getFeedbackQuestionDetailsClass());
     }
 
+    /**
+     * Returns the hit/miss counter of the parsed question details cache shared by all questions.
+     */
+    public static CacheStats getQuestionDetailsCacheStats() {
+        return questionDetailsCacheStats;
+    }
+
     /**
      * This method gets the appropriate class type for the Feedback*QuestionDetails object for this question.
      *
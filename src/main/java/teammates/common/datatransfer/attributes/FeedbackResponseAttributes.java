@@ -10,12 +10,16 @@ import com.google.appengine.api.datastore.Text;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.CacheStats;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
 import teammates.storage.entity.FeedbackResponse;
 
 public class FeedbackResponseAttributes extends EntityAttributes<FeedbackResponse> {
+
+    private static final CacheStats responseDetailsCacheStats = new CacheStats("Response details");
+
     public String feedbackSessionName;
     public String courseId;
     public String feedbackQuestionId;
@@ -44,6 +48,14 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     protected transient Instant updatedAt;
     private String feedbackResponseId;
 
+    /**
+     * The details parsed from {@link #responseMetaData}, valid only while {@code responseMetaData}
+     * and {@code feedbackQuestionType} are still the ones they were parsed from.
+     */
+    private transient FeedbackResponseDetails cachedResponseDetails;
+    private transient Text cachedResponseDetailsSource;
+    private transient FeedbackQuestionType cachedResponseDetailsType;
+
     public FeedbackResponseAttributes() {
         // attributes to be set after construction
     }
@@ -161,7 +173,7 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, FeedbackResponseAttributes.class);
+        return JsonUtils.toPrettyJson(this, FeedbackResponseAttributes.class);
     }
 
     @Override
@@ -195,6 +207,22 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
             return null;
         }
 
+        // Text is immutable, so the parsed details stay valid as long as the same Text instance is referenced
+        if (cachedResponseDetails != null
+                && cachedResponseDetailsSource == responseMetaData && cachedResponseDetailsType == feedbackQuestionType) {
+            responseDetailsCacheStats.recordHit();
+            return cachedResponseDetails;
+        }
+        responseDetailsCacheStats.recordMiss();
+
+        FeedbackResponseDetails responseDetails = parseResponseDetails();
+        cachedResponseDetails = responseDetails;
+        cachedResponseDetailsSource = responseMetaData;
+        cachedResponseDetailsType = feedbackQuestionType;
+        return responseDetails;
+    }
+
+    private FeedbackResponseDetails parseResponseDetails() {
         Class<? extends FeedbackResponseDetails> responseDetailsClass = getFeedbackResponseDetailsClass();
 
         if (responseDetailsClass == FeedbackTextResponseDetails.class) {
@@ -205,6 +233,13 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         return JsonUtils.fromJson(responseMetaData.getValue(), responseDetailsClass);
     }
 
+    /**
+     * Returns the hit/miss counter of the parsed response details cache shared by all responses.
+     */
+    public static CacheStats getResponseDetailsCacheStats() {
+        return responseDetailsCacheStats;
+    }
+
     /** This method gets the appropriate class type for the Feedback*ResponseDetails object
      * for this response.
      * @return The Feedback*ResponseDetails class type appropriate for this response.
@@ -193,7 +193,7 @@ public class FeedbackResponseCommentAttributes extends EntityAttributes<Feedback
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, FeedbackResponseCommentAttributes.class);
+        return JsonUtils.toPrettyJson(this, FeedbackResponseCommentAttributes.class);
     }
 
     @Override
@@ -158,7 +158,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, FeedbackSessionAttributes.class);
+        return JsonUtils.toPrettyJson(this, FeedbackSessionAttributes.class);
     }
 
     @Override
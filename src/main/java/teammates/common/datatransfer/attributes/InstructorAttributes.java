@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import teammates.common.datatransfer.CompiledInstructorPrivileges;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
@@ -132,7 +133,7 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
 
     @Override
     public String toString() {
-        return JsonUtils.toJson(this, InstructorAttributes.class);
+        return JsonUtils.toPrettyJson(this, InstructorAttributes.class);
     }
 
     @Override
@@ -152,7 +153,7 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, InstructorAttributes.class);
+        return JsonUtils.toPrettyJson(this, InstructorAttributes.class);
     }
 
     @Override
@@ -197,7 +198,7 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
         if (privileges == null) {
             privileges = new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
         }
-        return privileges.isAllowedForPrivilege(sectionName, sessionName, privilegeName);
+        return privileges.getCompiledPrivileges().isAllowedForPrivilege(sectionName, sessionName, privilegeName);
     }
 
     /**
@@ -207,7 +208,17 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
         if (privileges == null) {
             privileges = new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
         }
-        return privileges.isAllowedForPrivilegeAnySection(sessionName, privilegeName);
+        return privileges.getCompiledPrivileges().isAllowedForPrivilegeAnySection(sessionName, privilegeName);
+    }
+
+    /**
+     * Returns the compiled form of the privileges of the instructor, for checking privileges repeatedly.
+     */
+    public CompiledInstructorPrivileges getCompiledPrivileges() {
+        if (privileges == null) {
+            privileges = new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        }
+        return privileges.getCompiledPrivileges();
     }
 
     public boolean hasCoownerPrivileges() {
@@ -0,0 +1,69 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.SevereLogsWatermark;
+
+/**
+ * The data transfer object for the {@link SevereLogsWatermark} entity.
+ */
+public class SevereLogsWatermarkAttributes extends EntityAttributes<SevereLogsWatermark> {
+
+    private Instant compiledUntil;
+
+    public SevereLogsWatermarkAttributes(Instant compiledUntil) {
+        Assumption.assertNotNull(compiledUntil);
+        this.compiledUntil = compiledUntil;
+    }
+
+    public static SevereLogsWatermarkAttributes valueOf(SevereLogsWatermark watermark) {
+        return new SevereLogsWatermarkAttributes(watermark.getCompiledUntil());
+    }
+
+    /**
+     * Returns the time up to which the severe logs have been compiled, exclusive.
+     */
+    public Instant getCompiledUntil() {
+        return compiledUntil;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public SevereLogsWatermark toEntity() {
+        return new SevereLogsWatermark(compiledUntil);
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return SevereLogsWatermark.ID;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Severe Logs Watermark";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return "Severe logs compiled until " + compiledUntil;
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, SevereLogsWatermarkAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // nothing to sanitize
+    }
+
+}
@@ -266,7 +266,7 @@ public class StudentAttributes extends EntityAttributes<CourseStudent> {
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, StudentAttributes.class);
+        return JsonUtils.toPrettyJson(this, StudentAttributes.class);
     }
 
     @Override
@@ -139,7 +139,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
 
     @Override
     public String toString() {
-        return JsonUtils.toJson(this, StudentProfileAttributes.class);
+        return JsonUtils.toPrettyJson(this, StudentProfileAttributes.class);
     }
 
     @Override
@@ -165,7 +165,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
 
     @Override
     public String getJsonString() {
-        return JsonUtils.toJson(this, StudentProfileAttributes.class);
+        return JsonUtils.toPrettyJson(this, StudentProfileAttributes.class);
     }
 
     @Override
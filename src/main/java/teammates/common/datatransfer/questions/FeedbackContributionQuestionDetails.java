@@ -176,33 +176,17 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         String currentUserTeam = bundle.emailTeamNameTable.get(studentEmail);
 
-        List<FeedbackResponseAttributes> actualResponses = bundle.getActualResponsesSortedByGqr(question);
-
-        //List of teams with at least one response
-        List<String> teamNames = getTeamsWithAtLeastOneResponse(actualResponses, bundle);
-
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        //Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        // only the current user's team is needed, and only if the team has responded to the question
+        if (!getTeamResponses(bundle, question).containsKey(currentUserTeam)) {
+            return "";
+        }
 
-        TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
+        TeamEvalResult currentUserTeamResults = getTeamEvalResult(bundle, question, currentUserTeam);
         if (currentUserTeamResults == null) {
             return "";
         }
 
-        int currentUserIndex = teamMembersEmail.get(currentUserTeam).indexOf(studentEmail);
+        int currentUserIndex = currentUserTeamResults.studentEmails.indexOf(studentEmail);
         int selfClaim = currentUserTeamResults.claimed[currentUserIndex][currentUserIndex];
         int teamClaim = currentUserTeamResults.denormalizedAveragePerceived[currentUserIndex][currentUserIndex];
 
@@ -235,30 +219,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             return "";
         }
 
-        List<FeedbackResponseAttributes> actualResponses = bundle.getActualResponsesSortedByGqr(question);
-
-        //List of teams visible to the instructor and in the selected section
-        List<String> teamNames = getTeamNames(bundle);
-
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-
-        //Each person's results summary
-        Map<String, StudentResultSummary> studentResults = getStudentResults(
-                teamMembersEmail, teamResults);
+        List<FeedbackResponseAttributes> actualResponses = bundle.getActualUnsortedResponses(question);
 
         //Check visibility of recipient
         boolean hideRecipient = false;
@@ -273,36 +234,38 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         StringBuilder contribFragments = new StringBuilder();
 
-        for (Map.Entry<String, StudentResultSummary> entry : studentResults.entrySet()) {
-            StudentResultSummary summary = entry.getValue();
-            String email = entry.getKey();
-            String name = bundle.roster.getStudentForEmail(email).name;
-            String team = bundle.roster.getStudentForEmail(email).team;
+        //Teams visible to the instructor and in the selected section
+        for (String team : getTeamNames(bundle)) {
+            TeamEvalResult teamResult = getTeamEvalResult(bundle, question, team);
+            if (teamResult == null) {
+                continue;
+            }
 
-            List<String> teamEmails = teamMembersEmail.get(team);
-            TeamEvalResult teamResult = teamResults.get(team);
-            int studentIndx = teamEmails.indexOf(email);
+            for (int studentIndx = 0; studentIndx < teamResult.studentEmails.size(); studentIndx++) {
+                StudentResultSummary summary = getStudentResultSummary(teamResult, studentIndx);
+                String name = bundle.roster.getStudentForEmail(teamResult.studentEmails.get(studentIndx)).name;
 
-            String displayName = name;
-            String displayTeam = team;
+                String displayName = name;
+                String displayTeam = team;
 
-            if (hideRecipient) {
-                displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
-                displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
-            }
-            int[] incomingPoints = new int[teamResult.normalizedPeerContributionRatio.length];
-            for (int i = 0; i < incomingPoints.length; i++) {
-                incomingPoints[i] = teamResult.normalizedPeerContributionRatio[i][studentIndx];
+                if (hideRecipient) {
+                    displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
+                    displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
+                }
+                int[] incomingPoints = new int[teamResult.normalizedPeerContributionRatio.length];
+                for (int i = 0; i < incomingPoints.length; i++) {
+                    incomingPoints[i] = teamResult.normalizedPeerContributionRatio[i][studentIndx];
+                }
+                contribFragments.append(Templates.populateTemplate(
+                        FormTemplates.CONTRIB_RESULT_STATS_FRAGMENT,
+                        Slots.CONTRIB_STUDENT_TEAM, SanitizationHelper.sanitizeForHtml(displayTeam),
+                        Slots.CONTRIB_STUDENT_NAME, SanitizationHelper.sanitizeForHtml(displayName),
+                        Slots.CONTRIB_CC, getPointsAsColorizedHtml(summary.claimedToInstructor),
+                        Slots.CONTRIB_PC, getPointsAsColorizedHtml(summary.perceivedToInstructor),
+                        Slots.CONTRIB_DIFF, getPointsDiffAsHtml(summary),
+                        Slots.CONTRIB_RR, getNormalizedPointsListColorizedDescending(incomingPoints, studentIndx),
+                        Slots.CONTRIB_PARAM_STUDENT_NAME, Const.ParamsNames.STUDENT_NAME));
             }
-            contribFragments.append(Templates.populateTemplate(
-                    FormTemplates.CONTRIB_RESULT_STATS_FRAGMENT,
-                    Slots.CONTRIB_STUDENT_TEAM, SanitizationHelper.sanitizeForHtml(displayTeam),
-                    Slots.CONTRIB_STUDENT_NAME, SanitizationHelper.sanitizeForHtml(displayName),
-                    Slots.CONTRIB_CC, getPointsAsColorizedHtml(summary.claimedToInstructor),
-                    Slots.CONTRIB_PC, getPointsAsColorizedHtml(summary.perceivedToInstructor),
-                    Slots.CONTRIB_DIFF, getPointsDiffAsHtml(summary),
-                    Slots.CONTRIB_RR, getNormalizedPointsListColorizedDescending(incomingPoints, studentIndx),
-                    Slots.CONTRIB_PARAM_STUDENT_NAME, Const.ParamsNames.STUDENT_NAME));
         }
 
         return Templates.populateTemplate(
@@ -324,30 +287,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             return "";
         }
 
-        List<FeedbackResponseAttributes> actualResponses = bundle.getActualResponsesSortedByGqr(question);
-
-        //List of teams visible to the instructor and in the selected section
-        List<String> teamNames = getTeamNames(bundle);
-
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-
-        //Each person's results summary
-        Map<String, StudentResultSummary> studentResults = getStudentResults(
-                teamMembersEmail, teamResults);
+        List<FeedbackResponseAttributes> actualResponses = bundle.getActualUnsortedResponses(question);
 
         //Check visibility of recipient
         boolean hideRecipient = false;
@@ -365,52 +305,56 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         Map<String, String> sortedMap = new LinkedHashMap<>();
 
-        for (Map.Entry<String, StudentResultSummary> entry : studentResults.entrySet()) {
-            StudentResultSummary summary = entry.getValue();
-            String email = entry.getKey();
-            String name = bundle.roster.getStudentForEmail(email).name;
-            String team = bundle.roster.getStudentForEmail(email).team;
-
-            List<String> teamEmails = teamMembersEmail.get(team);
-            TeamEvalResult teamResult = teamResults.get(team);
-            int studentIndx = teamEmails.indexOf(email);
-
-            String displayName;
-            String displayTeam;
-            String displayEmail;
-            if (hideRecipient) {
-                displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
-                displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
-                displayEmail = Const.USER_NOBODY_TEXT;
-            } else {
-                displayName = name;
-                displayTeam = team;
-                displayEmail = email;
-            }
-
-            int[] incomingPoints = new int[teamResult.normalizedPeerContributionRatio.length];
-            for (int i = 0; i < incomingPoints.length; i++) {
-                incomingPoints[i] = teamResult.normalizedPeerContributionRatio[i][studentIndx];
+        //Teams visible to the instructor and in the selected section
+        for (String team : getTeamNames(bundle)) {
+            TeamEvalResult teamResult = getTeamEvalResult(bundle, question, team);
+            if (teamResult == null) {
+                continue;
             }
 
-            String contribFragmentString =
-                    SanitizationHelper.sanitizeForCsv(displayTeam) + ","
-                    + SanitizationHelper.sanitizeForCsv(displayName) + ","
-                    + SanitizationHelper.sanitizeForCsv(displayEmail) + ","
-                    + SanitizationHelper.sanitizeForCsv(Integer.toString(summary.claimedToInstructor)) + ","
-                    + SanitizationHelper.sanitizeForCsv(Integer.toString(summary.perceivedToInstructor)) + ","
-                    + getNormalizedPointsListDescending(incomingPoints, studentIndx)
-                    + System.lineSeparator();
-
-            // Replace all Unset values
-            contribFragmentString = contribFragmentString.replaceAll(Integer.toString(Const.INT_UNINITIALIZED), "N/A");
-            contribFragmentString = contribFragmentString.replaceAll(Integer.toString(Const.POINTS_NOT_SURE), "Not Sure");
-            contribFragmentString =
-                    contribFragmentString.replaceAll(Integer.toString(Const.POINTS_NOT_SUBMITTED), "Not Submitted");
+            for (int studentIndx = 0; studentIndx < teamResult.studentEmails.size(); studentIndx++) {
+                StudentResultSummary summary = getStudentResultSummary(teamResult, studentIndx);
+                String email = teamResult.studentEmails.get(studentIndx);
+                String name = bundle.roster.getStudentForEmail(email).name;
+
+                String displayName;
+                String displayTeam;
+                String displayEmail;
+                if (hideRecipient) {
+                    displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
+                    displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
+                    displayEmail = Const.USER_NOBODY_TEXT;
+                } else {
+                    displayName = name;
+                    displayTeam = team;
+                    displayEmail = email;
+                }
 
-            //For sorting purposes
-            sortedMap.put(displayTeam + "-%-" + displayName, contribFragmentString);
+                int[] incomingPoints = new int[teamResult.normalizedPeerContributionRatio.length];
+                for (int i = 0; i < incomingPoints.length; i++) {
+                    incomingPoints[i] = teamResult.normalizedPeerContributionRatio[i][studentIndx];
+                }
 
+                String contribFragmentString =
+                        SanitizationHelper.sanitizeForCsv(displayTeam) + ","
+                        + SanitizationHelper.sanitizeForCsv(displayName) + ","
+                        + SanitizationHelper.sanitizeForCsv(displayEmail) + ","
+                        + SanitizationHelper.sanitizeForCsv(Integer.toString(summary.claimedToInstructor)) + ","
+                        + SanitizationHelper.sanitizeForCsv(Integer.toString(summary.perceivedToInstructor)) + ","
+                        + getNormalizedPointsListDescending(incomingPoints, studentIndx)
+                        + System.lineSeparator();
+
+                // Replace all Unset values
+                contribFragmentString =
+                        contribFragmentString.replaceAll(Integer.toString(Const.INT_UNINITIALIZED), "N/A");
+                contribFragmentString =
+                        contribFragmentString.replaceAll(Integer.toString(Const.POINTS_NOT_SURE), "Not Sure");
+                contribFragmentString =
+                        contribFragmentString.replaceAll(Integer.toString(Const.POINTS_NOT_SUBMITTED), "Not Submitted");
+
+                //For sorting purposes
+                sortedMap.put(displayTeam + "-%-" + displayName, contribFragmentString);
+            }
         }
 
         sortedMap.forEach((key, value) -> contribFragments.append(value));
@@ -435,151 +379,112 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     }
 
     /**
-     * Returns A Map with student email as key and StudentResultSummary as value for the specified question.
+     * Returns the contribution results of {@code team} for the question, or null if it is not a team of students.
+     *
+     * <p>The results of each team are computed at most once per bundle, and only when they are first needed.
      */
-    Map<String, StudentResultSummary> getStudentResults(FeedbackSessionResultsBundle bundle,
-            FeedbackQuestionAttributes question) {
-
-        List<FeedbackResponseAttributes> responses = bundle.getActualResponsesSortedByGqr(question);
-
-        List<String> teamNames = getTeamsWithAtLeastOneResponse(responses, bundle);
-
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
-
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-
-        return getStudentResults(teamMembersEmail, teamResults);
+    public static TeamEvalResult getTeamEvalResult(FeedbackSessionResultsBundle bundle,
+            FeedbackQuestionAttributes question, String team) {
+        if (team == null || Const.USER_TEAM_FOR_INSTRUCTOR.equals(team)
+                || !bundle.rosterTeamNameMembersTable.containsKey(team)) {
+            // contrib questions should only have responses from student teams
+            return null;
+        }
+        return bundle.getContributionQuestionTeamEvalResult(question.getId(), team,
+                () -> computeTeamEvalResult(bundle, question, team));
     }
 
     /**
-     * Returns A Map with student email as key and TeamEvalResult as value for the specified question.
+     * Returns the result summary of the student with {@code email}, which may be anonymised,
+     * or null if the student's team has not responded to the question.
      */
-    Map<String, TeamEvalResult> getTeamEvalResults(FeedbackSessionResultsBundle bundle,
-            FeedbackQuestionAttributes question) {
-
-        List<FeedbackResponseAttributes> responses = bundle.getActualResponsesSortedByGqr(question);
-
-        List<String> teamNames = getTeamsWithAtLeastOneResponse(responses, bundle);
-
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
-
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        return getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-    }
-
-    private Map<String, StudentResultSummary> getStudentResults(
-            Map<String, List<String>> teamMembersEmail,
-            Map<String, TeamEvalResult> teamResults) {
-        Map<String, StudentResultSummary> studentResults = new LinkedHashMap<>();
-        teamResults.forEach((key, teamResult) -> {
-            List<String> teamEmails = teamMembersEmail.get(key);
-            int i = 0;
-            for (String studentEmail : teamEmails) {
-                StudentResultSummary summary = new StudentResultSummary();
-                summary.claimedToInstructor = teamResult.normalizedClaimed[i][i];
-                summary.perceivedToInstructor = teamResult.normalizedAveragePerceived[i];
-
-                studentResults.put(studentEmail, summary);
-
-                i++;
+    public static StudentResultSummary getStudentResultSummary(FeedbackSessionResultsBundle bundle,
+            FeedbackQuestionAttributes question, String email) {
+        StudentResultSummary summary = bundle.getContributionQuestionStudentResultSummary(question.getId(), email);
+        if (summary == null) {
+            Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(bundle, question);
+            String team = bundle.emailTeamNameTable.get(email);
+            if (team == null) {
+                // an anonymised email can only be resolved by summarising all teams which have responded
+                teamResponses.keySet().forEach(teamName -> addStudentResults(bundle, question, teamName));
+            } else if (teamResponses.containsKey(team)) {
+                addStudentResults(bundle, question, team);
             }
-        });
-        return studentResults;
-    }
-
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
-            Map<String, int[][]> teamSubmissionArray, Map<String, List<String>> teamMembersEmail) {
-        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
-            teamEvalResult.studentEmails = teamMembersEmail.get(team);
-            teamResults.put(team, teamEvalResult);
-        }
-        return teamResults;
-    }
-
-    private Map<String, int[][]> getTeamSubmissionArray(List<String> teamNames,
-            Map<String, List<String>> teamMembersEmail,
-            Map<String, List<FeedbackResponseAttributes>> teamResponses) {
-        Map<String, int[][]> teamSubmissionArray = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            int teamSize = teamMembersEmail.get(team).size();
-            teamSubmissionArray.put(team, new int[teamSize][teamSize]);
-            //Initialize all as not submitted.
-            for (int i = 0; i < teamSize; i++) {
-                for (int j = 0; j < teamSize; j++) {
-                    teamSubmissionArray.get(team)[i][j] = Const.POINTS_NOT_SUBMITTED;
-                }
-            }
-            //Fill in submitted points
-            List<FeedbackResponseAttributes> teamResponseList = teamResponses.get(team);
-            List<String> memberEmailList = teamMembersEmail.get(team);
-            for (FeedbackResponseAttributes response : teamResponseList) {
-                int giverIndx = memberEmailList.indexOf(response.giver);
-                int recipientIndx = memberEmailList.indexOf(response.recipient);
-                if (giverIndx == -1 || recipientIndx == -1) {
-                    continue;
-                }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
-                teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
-            }
-        }
-        return teamSubmissionArray;
-    }
-
-    private Map<String, List<FeedbackResponseAttributes>> getTeamResponses(
-            List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle, List<String> teamNames) {
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = new LinkedHashMap<>();
-        for (String teamName : teamNames) {
-            teamResponses.put(teamName, new ArrayList<FeedbackResponseAttributes>());
-        }
-        for (FeedbackResponseAttributes response : responses) {
-            String team = bundle.emailTeamNameTable.get(response.giver);
-            if (teamResponses.containsKey(team)) {
-                teamResponses.get(team).add(response);
-            }
-        }
-        return teamResponses;
-    }
-
-    private Map<String, List<String>> getTeamMembersEmail(
-            FeedbackSessionResultsBundle bundle, List<String> teamNames) {
-        Map<String, List<String>> teamMembersEmail = new LinkedHashMap<>();
-        for (String teamName : teamNames) {
-            if (Const.USER_TEAM_FOR_INSTRUCTOR.equals(teamName)) {
-                // skip instructors team (contrib questions should only have responses from student teams)
+            summary = bundle.getContributionQuestionStudentResultSummary(question.getId(), email);
+        }
+        return summary;
+    }
+
+    private static void addStudentResults(FeedbackSessionResultsBundle bundle, FeedbackQuestionAttributes question,
+            String team) {
+        TeamEvalResult teamResult = getTeamEvalResult(bundle, question, team);
+        if (teamResult == null || bundle.getContributionQuestionStudentResultSummary(
+                question.getId(), teamResult.studentEmails.get(0)) != null) {
+            return;
+        }
+        for (int i = 0; i < teamResult.studentEmails.size(); i++) {
+            String studentEmail = teamResult.studentEmails.get(i);
+            StudentResultSummary summary = getStudentResultSummary(teamResult, i);
+            bundle.addContributionQuestionStudentResultSummary(question.getId(), studentEmail, summary);
+            bundle.addContributionQuestionStudentResultSummary(
+                    question.getId(), bundle.getAnonEmailFromStudentEmail(studentEmail), summary);
+        }
+    }
+
+    private static StudentResultSummary getStudentResultSummary(TeamEvalResult teamResult, int studentIndex) {
+        StudentResultSummary summary = new StudentResultSummary();
+        summary.claimedToInstructor = teamResult.normalizedClaimed[studentIndex][studentIndex];
+        summary.perceivedToInstructor = teamResult.normalizedAveragePerceived[studentIndex];
+        return summary;
+    }
+
+    private static TeamEvalResult computeTeamEvalResult(FeedbackSessionResultsBundle bundle,
+            FeedbackQuestionAttributes question, String team) {
+        List<String> memberEmails = new ArrayList<>(bundle.rosterTeamNameMembersTable.get(team));
+        memberEmails.sort(null);
+
+        //Where submissions[0][1] refers points from student 0 to student 1
+        //Where student 0 is the 0th student in memberEmails
+        int teamSize = memberEmails.size();
+        int[][] submissions = new int[teamSize][teamSize];
+        //Initialize all as not submitted.
+        for (int[] pointsGiven : submissions) {
+            Arrays.fill(pointsGiven, Const.POINTS_NOT_SUBMITTED);
+        }
+        //Fill in submitted points
+        List<FeedbackResponseAttributes> teamResponses =
+                getTeamResponses(bundle, question).getOrDefault(team, new ArrayList<>());
+        for (FeedbackResponseAttributes response : teamResponses) {
+            int giverIndx = memberEmails.indexOf(response.giver);
+            int recipientIndx = memberEmails.indexOf(response.recipient);
+            if (giverIndx == -1 || recipientIndx == -1) {
                 continue;
             }
-            List<String> memberEmails = new ArrayList<>(bundle.rosterTeamNameMembersTable.get(teamName));
-            memberEmails.sort(null);
-            teamMembersEmail.put(teamName, memberEmails);
+            submissions[giverIndx][recipientIndx] =
+                    ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
         }
-        return teamMembersEmail;
+
+        TeamEvalResult teamEvalResult = new TeamEvalResult(submissions);
+        teamEvalResult.studentEmails = memberEmails;
+        return teamEvalResult;
     }
 
-    private List<String> getTeamsWithAtLeastOneResponse(
-            List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle) {
-        List<String> teamNames = new ArrayList<>();
-        for (FeedbackResponseAttributes response : responses) {
-            String teamNameOfResponseGiver = bundle.getTeamNameForEmail(response.giver);
-            if (!teamNames.contains(teamNameOfResponseGiver)) {
-                teamNames.add(teamNameOfResponseGiver);
+    /**
+     * Returns the responses to the question grouped by the team of their givers, which are grouped once per bundle.
+     * Teams without responses are not included.
+     */
+    private static Map<String, List<FeedbackResponseAttributes>> getTeamResponses(
+            FeedbackSessionResultsBundle bundle, FeedbackQuestionAttributes question) {
+        return bundle.getContributionQuestionTeamResponses(question.getId(), () -> {
+            Map<String, List<FeedbackResponseAttributes>> teamResponses = new LinkedHashMap<>();
+            for (FeedbackResponseAttributes response : bundle.getActualUnsortedResponses(question)) {
+                String team = bundle.emailTeamNameTable.get(response.giver);
+                if (team != null) {
+                    teamResponses.computeIfAbsent(team, teamName -> new ArrayList<>()).add(response);
+                }
             }
-        }
-        return teamNames;
+            return teamResponses;
+        });
     }
 
     private static String getNormalizedPointsListColorizedDescending(int[] subs, int index) {
@@ -774,10 +679,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             String targetEmail, FeedbackSessionResultsBundle bundle) {
 
         if (hasPerceivedContribution(targetEmail, question, bundle)) {
-            Map<String, StudentResultSummary> stats =
-                    FeedbackContributionResponseDetails.getContribQnStudentResultSummary(question, bundle);
-            StudentResultSummary studentResult = stats.get(targetEmail);
-            int pc = studentResult.perceivedToInstructor;
+            int pc = getStudentResultSummary(bundle, question, targetEmail).perceivedToInstructor;
 
             return FeedbackContributionQuestionDetails.getPerceivedContributionInEqualShareFormatHtml(pc);
         }
@@ -786,9 +688,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
     private boolean hasPerceivedContribution(String email, FeedbackQuestionAttributes question,
                                              FeedbackSessionResultsBundle bundle) {
-        Map<String, StudentResultSummary> stats =
-                FeedbackContributionResponseDetails.getContribQnStudentResultSummary(question, bundle);
-        return stats.containsKey(email);
+        return getStudentResultSummary(bundle, question, email) != null;
     }
 
     /**
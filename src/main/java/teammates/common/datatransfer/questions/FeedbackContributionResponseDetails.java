@@ -1,8 +1,5 @@
 package teammates.common.datatransfer.questions;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.StudentResultSummary;
 import teammates.common.datatransfer.TeamEvalResult;
@@ -86,13 +83,12 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
             FeedbackResponseAttributes response,
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle feedbackSessionResultsBundle) {
-        Map<String, TeamEvalResult> teamResults = getContribQnTeamEvalResult(question, feedbackSessionResultsBundle);
-
         // Need to get actual team name and giver/recipient emails here,
         // only for getting the responseAnswer.
         FeedbackResponseAttributes actualResponse = feedbackSessionResultsBundle.getActualResponse(response);
         String giverTeamName = feedbackSessionResultsBundle.emailTeamNameTable.get(actualResponse.giver);
-        TeamEvalResult teamResult = teamResults.get(giverTeamName);
+        TeamEvalResult teamResult =
+                FeedbackContributionQuestionDetails.getTeamEvalResult(feedbackSessionResultsBundle, question, giverTeamName);
 
         int giverIndex = teamResult.studentEmails.indexOf(actualResponse.giver);
         int recipientIndex = teamResult.studentEmails.indexOf(actualResponse.recipient);
@@ -116,10 +112,9 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
             return "";
         }
 
-        Map<String, StudentResultSummary> stats = getContribQnStudentResultSummary(question, feedbackSessionResultsBundle);
-
         if (response.giver.equals(response.recipient)) {
-            StudentResultSummary studentResult = stats.get(response.giver);
+            StudentResultSummary studentResult = FeedbackContributionQuestionDetails.getStudentResultSummary(
+                    feedbackSessionResultsBundle, question, actualResponse.giver);
             String responseAnswerHtml = FeedbackContributionQuestionDetails.convertToEqualShareFormatHtml(
                                               studentResult.claimedToInstructor);
 
@@ -136,14 +131,12 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
             FeedbackResponseAttributes response,
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle feedbackSessionResultsBundle) {
-        Map<String, TeamEvalResult> teamResults = getContribQnTeamEvalResult(question, feedbackSessionResultsBundle);
-        Map<String, StudentResultSummary> stats = getContribQnStudentResultSummary(question, feedbackSessionResultsBundle);
-
         // Need to get actual team name and giver/recipient emails here,
         // only for getting the responseAnswer.
         FeedbackResponseAttributes actualResponse = feedbackSessionResultsBundle.getActualResponse(response);
         String giverTeamName = feedbackSessionResultsBundle.emailTeamNameTable.get(actualResponse.giver);
-        TeamEvalResult teamResult = teamResults.get(giverTeamName);
+        TeamEvalResult teamResult =
+                FeedbackContributionQuestionDetails.getTeamEvalResult(feedbackSessionResultsBundle, question, giverTeamName);
 
         int giverIndex = teamResult.studentEmails.indexOf(actualResponse.giver);
         int recipientIndex = teamResult.studentEmails.indexOf(actualResponse.recipient);
@@ -171,7 +164,8 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
                             teamResult.normalizedPeerContributionRatio[giverIndex][recipientIndex]));
 
             if (response.giver.equals(response.recipient)) {
-                StudentResultSummary studentResult = stats.get(response.giver);
+                StudentResultSummary studentResult = FeedbackContributionQuestionDetails.getStudentResultSummary(
+                        feedbackSessionResultsBundle, question, actualResponse.giver);
                 responseAnswerCsv = SanitizationHelper.sanitizeForCsv(
                         FeedbackContributionQuestionDetails.convertToEqualShareFormat(
                                 studentResult.claimedToInstructor));
@@ -179,37 +173,4 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
         }
         return responseAnswerCsv;
     }
-
-    // TODO: check if this can be made non-static
-    public static Map<String, StudentResultSummary> getContribQnStudentResultSummary(FeedbackQuestionAttributes question,
-            FeedbackSessionResultsBundle feedbackSessionResultsBundle) {
-
-        return feedbackSessionResultsBundle.contributionQuestionStudentResultSummary.computeIfAbsent(
-                question.getId(), key -> {
-                    FeedbackContributionQuestionDetails fqcd =
-                            (FeedbackContributionQuestionDetails) question.getQuestionDetails();
-                    Map<String, StudentResultSummary> contribQnStats =
-                            fqcd.getStudentResults(feedbackSessionResultsBundle, question);
-
-                    new HashMap<>(contribQnStats).forEach((contribQnStatsKey, value) -> contribQnStats.putIfAbsent(
-                            feedbackSessionResultsBundle.getAnonEmailFromStudentEmail(contribQnStatsKey), value));
-
-                    return contribQnStats;
-                }
-        );
-
-    }
-
-    public Map<String, TeamEvalResult> getContribQnTeamEvalResult(FeedbackQuestionAttributes question,
-            FeedbackSessionResultsBundle feedbackSessionResultsBundle) {
-        Map<String, TeamEvalResult> contribQnStats =
-                feedbackSessionResultsBundle.contributionQuestionTeamEvalResults.get(question.getId());
-        if (contribQnStats == null) {
-            FeedbackContributionQuestionDetails fqcd = (FeedbackContributionQuestionDetails) question.getQuestionDetails();
-            contribQnStats = fqcd.getTeamEvalResults(feedbackSessionResultsBundle, question);
-            feedbackSessionResultsBundle.contributionQuestionTeamEvalResults.put(question.getId(), contribQnStats);
-        }
-
-        return contribQnStats;
-    }
 }
@@ -2,12 +2,11 @@ package teammates.common.datatransfer.questions;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -613,8 +612,9 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
                                                   FeedbackQuestionAttributes question, String studentEmail,
                                                   FeedbackSessionResultsBundle bundle, String view) {
 
-        List<FeedbackResponseAttributes> responsesForStatistics =
-                filterResponsesForStatistics(responses, question, studentEmail, bundle, view);
+        RubricStatistics statistics = getRubricStatistics(responses, question, bundle);
+        RubricRecipientStatistics statisticsForTable =
+                getStatisticsForTable(statistics, question, studentEmail, bundle, view);
 
         FeedbackRubricQuestionDetails fqd =
                 (FeedbackRubricQuestionDetails) question.getQuestionDetails();
@@ -642,21 +642,15 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             tableHeaderFragmentHtml.append(tableHeaderAverageCell).append(System.lineSeparator());
         }
 
-        int[][] responseFrequency = RubricStatistics.calculateResponseFrequency(responsesForStatistics, fqd);
-        float[][] rubricStats = RubricStatistics.calculatePercentageFrequencyAndAverage(fqd, responseFrequency);
-
-        StringBuilder tableBodyHtml = getQuestionResultsStatisticsBodyHtml(fqd, responseFrequency, rubricStats);
+        StringBuilder tableBodyHtml = getQuestionResultsStatisticsBodyHtml(fqd,
+                statisticsForTable.getResponseFrequency(), statisticsForTable.getPercentageFrequencyAndAverage());
 
         StringBuilder tableBodyExcludingSelfHtml;
 
         if (isExcludingSelfOptionAvailable) {
-
-            int[][] responseFrequencyExcludingSelf =
-                    RubricStatistics.calculateResponseFrequencyExcludingSelf(responsesForStatistics, fqd);
-            float[][] rubricStatsExcludingSelf = RubricStatistics.calculatePercentageFrequencyAndAverage(fqd,
-                    responseFrequencyExcludingSelf);
             tableBodyExcludingSelfHtml = getQuestionResultsStatisticsBodyHtml(fqd,
-                    responseFrequencyExcludingSelf, rubricStatsExcludingSelf);
+                    statisticsForTable.getResponseFrequencyExcludingSelf(),
+                    statisticsForTable.getPercentageFrequencyAndAverageExcludingSelf());
         } else {
             tableBodyExcludingSelfHtml = new StringBuilder();
             tableBodyExcludingSelfHtml.append(System.lineSeparator());
@@ -665,7 +659,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         String statsTitle = "Response Summary";
 
         if ("student".equals(view)) {
-            if (responses.size() == responsesForStatistics.size()) {
+            if (responses.size() == statisticsForTable.getNumOfResponses()) {
                 statsTitle = "Response Summary (of visible responses)";
             } else {
                 statsTitle = "Response Summary (of received responses)";
@@ -675,12 +669,9 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         String recipientStatsHtml = "";
 
         if (hasAssignedWeights) {
-            List<Map.Entry<String, RubricRecipientStatistics>> recipientStatsList =
-                    getPerRecipientStatisticsSorted(responses, bundle);
             StringBuilder bodyBuilder = new StringBuilder(100);
 
-            for (Map.Entry<String, RubricRecipientStatistics> entry : recipientStatsList) {
-                RubricRecipientStatistics stats = entry.getValue();
+            for (RubricRecipientStatistics stats : statistics.getPerRecipientStatisticsSorted()) {
                 bodyBuilder.append(stats.getHtmlForAllSubQuestions());
             }
 
@@ -751,16 +742,26 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     }
 
     /**
-     * Returns a list of FeedbackResponseAttributes filtered according to view, question recipient type
-     * for the Statistics Table.
+     * Returns the statistics of the responses to the question, which are reused if they have been accumulated
+     * from the same responses before.
      */
-    private List<FeedbackResponseAttributes> filterResponsesForStatistics(
-            List<FeedbackResponseAttributes> responses, FeedbackQuestionAttributes question,
+    private RubricStatistics getRubricStatistics(List<FeedbackResponseAttributes> responses,
+            FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
+        return bundle.getRubricQuestionStatistics(question.getId(), responses,
+                () -> new RubricStatistics(this, responses, bundle));
+    }
+
+    /**
+     * Returns the statistics of the responses to be summarised in the Statistics Table,
+     * according to view and question recipient type.
+     */
+    private RubricRecipientStatistics getStatisticsForTable(
+            RubricStatistics statistics, FeedbackQuestionAttributes question,
             String studentEmail, FeedbackSessionResultsBundle bundle, String view) {
 
         boolean isViewedByStudent = "student".equals(view);
         if (!isViewedByStudent) {
-            return responses;
+            return statistics.getOverallStatistics();
         }
 
         FeedbackParticipantType recipientType = question.getRecipientType();
@@ -770,23 +771,62 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
                 || recipientType.equals(FeedbackParticipantType.SELF);
 
         if (isFilteringSkipped) {
-            return responses;
+            return statistics.getOverallStatistics();
         }
 
         boolean isFilteringByTeams = recipientType.equals(FeedbackParticipantType.OWN_TEAM)
                 || recipientType.equals(FeedbackParticipantType.TEAMS);
 
-        List<FeedbackResponseAttributes> receivedResponses = new ArrayList<>();
         String recipientString = isFilteringByTeams ? bundle.getTeamNameForEmail(studentEmail) : studentEmail;
 
-        for (FeedbackResponseAttributes response : responses) {
-            boolean isReceivedResponse = response.recipient.equals(recipientString);
-            if (isReceivedResponse) {
-                receivedResponses.add(response);
+        return statistics.getRecipientStatistics(recipientString);
+    }
+
+    /**
+     * Returns the calculated percentage frequencies for each choice and average value for each sub-question
+     * The percentage value between [0,1] of each choice being selected for the sub-question.
+     *
+     * <p>Values are set to 0 if there are no responses to that sub-question.
+     * Average value is set to 0 if there are no assigned weights.
+     *
+     * <p>e.g.<br>
+     * percentageFrequencyAndAverageValue[subQuestionIndex][choiceIndex]
+     * -> is the percentage choiceIndex is chosen for subQuestionIndex.<br>
+     * percentageFrequencyAndAverageValue[subQuestionIndex][numOfRubricChoices]
+     * -> is the average weight of the responses for the given sub-question.
+     *
+     * @param responseFrequency decides whether the value returned is for excluding-self or including-self.
+     */
+    private float[][] calculatePercentageFrequencyAndAverage(int[][] responseFrequency) {
+        Assumption.assertNotNull("Response Frequency should be initialised and calculated first.",
+                                 (Object[]) responseFrequency);
+
+        int responseTotalIndex = numOfRubricChoices;
+        List<List<Double>> weights = getRubricWeights();
+
+        float[][] percentageFrequencyAndAverage = new float[numOfRubricSubQuestions][numOfRubricChoices + 1];
+        // calculate percentage frequencies and average value
+        for (int i = 0; i < percentageFrequencyAndAverage.length; i++) {
+            int totalForSubQuestion = responseFrequency[i][responseTotalIndex];
+            //continue to next row if no response for this sub-question
+            if (totalForSubQuestion == 0) {
+                continue;
+            }
+            // divide responsesFrequency by totalForSubQuestion to get percentage
+            for (int j = 0; j < numOfRubricChoices; j++) {
+                percentageFrequencyAndAverage[i][j] = (float) responseFrequency[i][j] / totalForSubQuestion;
+            }
+            // calculate the average for each sub-question
+            if (hasAssignedWeights) {
+                for (int j = 0; j < numOfRubricChoices; j++) {
+                    float choiceWeight =
+                            (float) (weights.get(i).get(j)
+                                    * percentageFrequencyAndAverage[i][j]);
+                    percentageFrequencyAndAverage[i][numOfRubricChoices] += choiceWeight;
+                }
             }
         }
-
-        return receivedResponses;
+        return percentageFrequencyAndAverage;
     }
 
     /**
@@ -833,9 +873,9 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         // table body
         DecimalFormat dfAverage = new DecimalFormat("0.00");
 
-        int[][] responseFrequency = RubricStatistics.calculateResponseFrequency(responses, this);
-        float[][] rubricStats = RubricStatistics.calculatePercentageFrequencyAndAverage(this,
-                responseFrequency);
+        RubricStatistics statistics = getRubricStatistics(responses, question, bundle);
+        int[][] responseFrequency = statistics.getOverallStatistics().getResponseFrequency();
+        float[][] rubricStats = statistics.getOverallStatistics().getPercentageFrequencyAndAverage();
 
         for (int i = 0; i < rubricSubQuestions.size(); i++) {
             String alphabeticalIndex = StringHelper.integerToLowerCaseAlphabeticalIndex(i + 1);
@@ -862,42 +902,17 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             csv.append(System.lineSeparator())
                 .append("Per Recipient Statistics").append(System.lineSeparator())
                 .append(getPerRecipientStatisticsHeader())
-                .append(getPerRecipientStatisticsCsv(responses, bundle));
+                .append(getPerRecipientStatisticsCsv(statistics));
         }
 
         return csv.toString();
     }
 
-    public List<Map.Entry<String, RubricRecipientStatistics>> getPerRecipientStatisticsSorted(
-            List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle) {
-        Map<String, RubricRecipientStatistics> recipientToRecipientStats = new HashMap<>();
-
-        for (FeedbackResponseAttributes response : responses) {
-            recipientToRecipientStats.computeIfAbsent(response.recipient, recipient -> {
-                String recipientTeam = bundle.getTeamNameForEmail(recipient);
-                String recipientName = bundle.getNameForEmail(recipient);
-                return new RubricRecipientStatistics(recipient, recipientName, recipientTeam);
-            })
-                .addResponseToRecipientStats(response);
-        }
-
-        List<Map.Entry<String, RubricRecipientStatistics>> recipientStatsList =
-                new LinkedList<>(recipientToRecipientStats.entrySet());
-        recipientStatsList.sort(Comparator.comparing((Map.Entry<String, RubricRecipientStatistics> obj) ->
-                obj.getValue().recipientTeam.toLowerCase())
-                .thenComparing(obj -> obj.getValue().recipientName));
-        return recipientStatsList;
-    }
-
-    public String getPerRecipientStatisticsCsv(List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle) {
+    private String getPerRecipientStatisticsCsv(RubricStatistics statistics) {
         StringBuilder csv = new StringBuilder(100);
-        List<Map.Entry<String, RubricRecipientStatistics>> recipientStatsList =
-                getPerRecipientStatisticsSorted(responses, bundle);
 
-        for (Map.Entry<String, RubricRecipientStatistics> entry : recipientStatsList) {
-            csv.append(entry.getValue().getCsvForAllSubQuestions());
+        for (RubricRecipientStatistics stats : statistics.getPerRecipientStatisticsSorted()) {
+            csv.append(stats.getCsvForAllSubQuestions());
         }
 
         return csv.toString();
@@ -1146,46 +1161,124 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     }
 
     /**
-     * Class to store any stats related to a recipient.
+     * Class to store any stats related to a recipient, or to all recipients of the question.
      */
-    private class RubricRecipientStatistics {
-        String recipientEmail;
-        String recipientName;
-        String recipientTeam;
-        int[][] numOfResponsesPerSubQuestionPerChoice;
-        double[] totalPerSubQuestion;
-        int[] respondentsPerSubQuestion;
-        List<List<Double>> weights;
-
-        RubricRecipientStatistics(String recipientEmail, String recipientName, String recipientTeam) {
-            Assumption.assertTrue("Per Recipient Stats is only available when weights are enabled", hasAssignedWeights);
+    public static class RubricRecipientStatistics {
+        private final FeedbackRubricQuestionDetails questionDetails;
+        private final String recipientEmail;
+        private final String recipientName;
+        private final String recipientTeam;
+        private int numOfResponses;
+
+        /**
+         * The frequency of being selected for each choice of each sub-question.
+         *
+         * <p>Last element in each row stores the total number of responses for the sub-question.
+         *
+         * <p>e.g.<br>
+         * responseFrequency[subQuestionIndex][choiceIndex]
+         * -> is the number of times choiceIndex is chosen for subQuestionIndex.<br>
+         * responseFrequency[subQuestionIndex][numOfRubricChoices]
+         * -> is the total number of the responses for the given sub-question.
+         */
+        private final int[][] responseFrequency;
+        /** The same as {@link #responseFrequency}, for responses given by someone else than the recipient. */
+        private final int[][] responseFrequencyExcludingSelf;
+        private final double[] totalPerSubQuestion;
+        private final List<List<Double>> weights;
+
+        private float[][] percentageFrequencyAndAverage;
+        private float[][] percentageFrequencyAndAverageExcludingSelf;
+
+        RubricRecipientStatistics(FeedbackRubricQuestionDetails questionDetails,
+                                  String recipientEmail, String recipientName, String recipientTeam) {
+            this.questionDetails = questionDetails;
             this.recipientEmail = recipientEmail;
             this.recipientName = recipientName;
             this.recipientTeam = recipientTeam;
-            numOfResponsesPerSubQuestionPerChoice = new int[getNumOfRubricSubQuestions()][getNumOfRubricChoices()];
-            totalPerSubQuestion = new double[getNumOfRubricSubQuestions()];
-            respondentsPerSubQuestion = new int[getNumOfRubricSubQuestions()];
-            weights = getRubricWeights();
+            int numOfSubQuestions = questionDetails.getNumOfRubricSubQuestions();
+            responseFrequency = new int[numOfSubQuestions][questionDetails.getNumOfRubricChoices() + 1];
+            responseFrequencyExcludingSelf = new int[numOfSubQuestions][questionDetails.getNumOfRubricChoices() + 1];
+            totalPerSubQuestion = new double[numOfSubQuestions];
+            weights = questionDetails.getRubricWeights();
         }
 
-        public void addResponseToRecipientStats(FeedbackResponseAttributes response) {
-            if (!response.recipient.equalsIgnoreCase(recipientEmail)) {
-                return;
-            }
-
+        void addResponse(FeedbackResponseAttributes response) {
             FeedbackRubricResponseDetails rubricResponse = (FeedbackRubricResponseDetails) response.getResponseDetails();
+            boolean isSelfResponse = response.giver.equals(response.recipient);
+            int responseTotalIndex = questionDetails.getNumOfRubricChoices();
 
-            for (int i = 0; i < getNumOfRubricSubQuestions(); i++) {
+            numOfResponses++;
+            for (int i = 0; i < questionDetails.getNumOfRubricSubQuestions(); i++) {
                 int choice = rubricResponse.getAnswer(i);
 
                 if (choice >= 0) {
-                    ++numOfResponsesPerSubQuestionPerChoice[i][choice];
-                    totalPerSubQuestion[i] += weights.get(i).get(choice);
-                    respondentsPerSubQuestion[i]++;
+                    responseFrequency[i][choice]++;
+                    responseFrequency[i][responseTotalIndex]++;
+                    if (!isSelfResponse) {
+                        responseFrequencyExcludingSelf[i][choice]++;
+                        responseFrequencyExcludingSelf[i][responseTotalIndex]++;
+                    }
+                    if (questionDetails.hasAssignedWeights) {
+                        totalPerSubQuestion[i] += weights.get(i).get(choice);
+                    }
                 }
             }
         }
 
+        public String getRecipientEmail() {
+            return recipientEmail;
+        }
+
+        public String getRecipientName() {
+            return recipientName;
+        }
+
+        public String getRecipientTeam() {
+            return recipientTeam;
+        }
+
+        public int getNumOfResponses() {
+            return numOfResponses;
+        }
+
+        public int[][] getResponseFrequency() {
+            return responseFrequency;
+        }
+
+        public int[][] getResponseFrequencyExcludingSelf() {
+            return responseFrequencyExcludingSelf;
+        }
+
+        /**
+         * Returns the sum of the weights of the choices chosen for each sub-question,
+         * or zeroes if the question has no assigned weights.
+         */
+        public double[] getTotalPerSubQuestion() {
+            return totalPerSubQuestion;
+        }
+
+        /**
+         * Returns the percentage frequencies and averages of {@link #getResponseFrequency()}.
+         */
+        public float[][] getPercentageFrequencyAndAverage() {
+            if (percentageFrequencyAndAverage == null) {
+                percentageFrequencyAndAverage = questionDetails.calculatePercentageFrequencyAndAverage(responseFrequency);
+            }
+            return percentageFrequencyAndAverage;
+        }
+
+        /**
+         * Returns the percentage frequencies and averages of {@link #getResponseFrequencyExcludingSelf()}.
+         */
+        public float[][] getPercentageFrequencyAndAverageExcludingSelf() {
+            if (percentageFrequencyAndAverageExcludingSelf == null) {
+                percentageFrequencyAndAverageExcludingSelf =
+                        questionDetails.calculatePercentageFrequencyAndAverage(responseFrequencyExcludingSelf);
+            }
+            return percentageFrequencyAndAverageExcludingSelf;
+        }
+
         /**
          * Returns a HTML string which contains a sequence of "td" tags.
          * The "td" tags have data related to a sub question.
@@ -1195,7 +1288,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             StringBuilder html = new StringBuilder(100);
             String alphabeticalIndex = StringHelper.integerToLowerCaseAlphabeticalIndex(subQuestion + 1);
             String subQuestionString = SanitizationHelper.sanitizeForHtml(alphabeticalIndex + ") "
-                    + getRubricSubQuestions().get(subQuestion));
+                    + questionDetails.getRubricSubQuestions().get(subQuestion));
             DecimalFormat df = new DecimalFormat("0.00");
             DecimalFormat dfWeight = new DecimalFormat("#.##");
 
@@ -1208,16 +1301,16 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
             // <td> entries which display number of responses per subQuestion per rubric choice,
             // and the corresponding weight of that choice of the specific sub-question.
-            for (int i = 0; i < getNumOfRubricChoices(); i++) {
-                String responseFrequencyAndWeight = Integer.toString(numOfResponsesPerSubQuestionPerChoice[subQuestion][i])
+            for (int i = 0; i < questionDetails.getNumOfRubricChoices(); i++) {
+                String responseFrequencyAndWeight = Integer.toString(responseFrequency[subQuestion][i])
                         + " [" + dfWeight.format(weights.get(subQuestion).get(i)) + "]";
                 cols.add(responseFrequencyAndWeight);
             }
 
             // <td> entries which display aggregate statistics
             cols.add(df.format(totalPerSubQuestion[subQuestion]));
-            cols.add(respondentsPerSubQuestion[subQuestion] == 0 ? "0.00"
-                    : df.format(totalPerSubQuestion[subQuestion] / respondentsPerSubQuestion[subQuestion]));
+            int respondents = responseFrequency[subQuestion][questionDetails.getNumOfRubricChoices()];
+            cols.add(respondents == 0 ? "0.00" : df.format(totalPerSubQuestion[subQuestion] / respondents));
 
             // Generate HTML for all <td> entries using template
             for (String col : cols) {
@@ -1237,7 +1330,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         public String getHtmlForAllSubQuestions() {
             StringBuilder html = new StringBuilder(100);
 
-            for (int i = 0; i < getNumOfRubricSubQuestions(); i++) {
+            for (int i = 0; i < questionDetails.getNumOfRubricSubQuestions(); i++) {
                 String subQuestionStats = getHtmlForSubQuestion(i);
                 html.append(Templates.populateTemplate(
                         FormTemplates.RUBRIC_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
@@ -1251,7 +1344,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             StringBuilder csv = new StringBuilder(100);
             String alphabeticalIndex = StringHelper.integerToLowerCaseAlphabeticalIndex(subQuestion + 1);
             String subQuestionString = SanitizationHelper.sanitizeForCsv(alphabeticalIndex + ") "
-                    + getRubricSubQuestions().get(subQuestion));
+                    + questionDetails.getRubricSubQuestions().get(subQuestion));
             DecimalFormat df = new DecimalFormat("0.00");
             DecimalFormat dfWeight = new DecimalFormat("#.##");
 
@@ -1262,15 +1355,15 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
                .append(subQuestionString);
 
             // Append number of responses per subQuestion per rubric choice
-            for (int i = 0; i < getNumOfRubricChoices(); i++) {
-                csv.append(',').append(Integer.toString(numOfResponsesPerSubQuestionPerChoice[subQuestion][i]))
+            for (int i = 0; i < questionDetails.getNumOfRubricChoices(); i++) {
+                csv.append(',').append(Integer.toString(responseFrequency[subQuestion][i]))
                     .append(" [" + dfWeight.format(weights.get(subQuestion).get(i)) + "]");
             }
 
             // Append aggregate statistics
+            int respondents = responseFrequency[subQuestion][questionDetails.getNumOfRubricChoices()];
             csv.append(',').append(df.format(totalPerSubQuestion[subQuestion])).append(',')
-               .append(respondentsPerSubQuestion[subQuestion] == 0 ? "0.00"
-                       : df.format(totalPerSubQuestion[subQuestion] / respondentsPerSubQuestion[subQuestion]))
+               .append(respondents == 0 ? "0.00" : df.format(totalPerSubQuestion[subQuestion] / respondents))
                .append(System.lineSeparator());
 
             return csv.toString();
@@ -1279,7 +1372,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         public String getCsvForAllSubQuestions() {
             StringBuilder csv = new StringBuilder(100);
 
-            for (int i = 0; i < getNumOfRubricSubQuestions(); i++) {
+            for (int i = 0; i < questionDetails.getNumOfRubricSubQuestions(); i++) {
                 csv.append(getCsvForSubQuestion(i));
             }
 
@@ -1289,106 +1382,72 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
     /**
      * Class to calculate the statistics of responses for a rubric question.
+     *
+     * <p>The frequencies of the choices over all responses and for each recipient, both including and
+     * excluding self responses, are accumulated together in a single pass over the responses.
      */
-    private static class RubricStatistics {
+    public static class RubricStatistics {
+
+        private final FeedbackRubricQuestionDetails questionDetails;
+        private final List<FeedbackResponseAttributes> responses;
+        private final RubricRecipientStatistics overallStatistics;
+        private final Map<String, RubricRecipientStatistics> recipientToRecipientStats = new HashMap<>();
+        private List<RubricRecipientStatistics> recipientStatsSorted;
+
+        public RubricStatistics(FeedbackRubricQuestionDetails questionDetails,
+                                List<FeedbackResponseAttributes> responses, FeedbackSessionResultsBundle bundle) {
+            this.questionDetails = questionDetails;
+            this.responses = responses;
+            this.overallStatistics = new RubricRecipientStatistics(questionDetails, null, null, null);
 
-        private RubricStatistics() {
-            // utility class
+            for (FeedbackResponseAttributes response : responses) {
+                overallStatistics.addResponse(response);
+                recipientToRecipientStats.computeIfAbsent(response.recipient, recipient -> {
+                    String recipientTeam = bundle.getTeamNameForEmail(recipient);
+                    String recipientName = bundle.getNameForEmail(recipient);
+                    return new RubricRecipientStatistics(questionDetails, recipient, recipientName, recipientTeam);
+                })
+                    .addResponse(response);
+            }
         }
 
         /**
-         * Returns the frequency of being selected for each choice of each sub-question
-         * and the total number of responses for each sub-question.
-         *
-         * <p>Last element in each row stores the total number of responses for the sub-question.
-         *
-         * <p>e.g.<br>
-         * responseFrequency[subQuestionIndex][choiceIndex]
-         * -> is the number of times choiceIndex is chosen for subQuestionIndex.<br>
-         * responseFrequency[subQuestionIndex][numOfRubricChoices]
-         * -> is the total number of the responses for the given sub-question.
+         * Returns true if the statistics are of the same responses as {@code otherResponses}, in the same order.
          */
-        public static int[][] calculateResponseFrequency(List<FeedbackResponseAttributes> responses,
-                                                         FeedbackRubricQuestionDetails questionDetails) {
-            int numOfRubricSubQuestions = questionDetails.getNumOfRubricSubQuestions();
-            int numOfRubricChoices = questionDetails.getNumOfRubricChoices();
-            int responseTotalIndex = numOfRubricChoices;
-
-            int[][] responseFrequency = new int[numOfRubricSubQuestions][numOfRubricChoices + 1];
-            // count frequencies
-            for (FeedbackResponseAttributes response : responses) {
-                FeedbackRubricResponseDetails frd = (FeedbackRubricResponseDetails) response.getResponseDetails();
-                for (int i = 0; i < numOfRubricSubQuestions; i++) {
-                    int chosenChoice = frd.getAnswer(i);
-                    if (chosenChoice != -1) {
-                        responseFrequency[i][chosenChoice] += 1;
-                        responseFrequency[i][responseTotalIndex] += 1;
-                    }
-                }
-            }
-            return responseFrequency;
+        public boolean isOfResponses(List<FeedbackResponseAttributes> otherResponses) {
+            return responses.equals(otherResponses);
         }
 
         /**
-         * Returns the frequency of being selected for each choice of each sub-question
-         * and the total number of responses for each sub-question for excluding self.
+         * Returns the statistics of all the responses.
          */
-        public static int[][] calculateResponseFrequencyExcludingSelf(List<FeedbackResponseAttributes> responses,
-                                                         FeedbackRubricQuestionDetails questionDetails) {
+        public RubricRecipientStatistics getOverallStatistics() {
+            return overallStatistics;
+        }
 
-            List<FeedbackResponseAttributes> responsesExcludingSelf = responses.stream()
-                    .filter(response -> !response.giver.equals(response.recipient)).collect(Collectors.toList());
-            return calculateResponseFrequency(responsesExcludingSelf, questionDetails);
+        /**
+         * Returns the statistics of the responses received by {@code recipient}.
+         */
+        public RubricRecipientStatistics getRecipientStatistics(String recipient) {
+            RubricRecipientStatistics stats = recipientToRecipientStats.get(recipient);
+            return stats == null ? new RubricRecipientStatistics(questionDetails, recipient, null, null) : stats;
         }
 
         /**
-         * Returns the calculated percentage frequencies for each choice and average value for each sub-question
-         * The percentage value between [0,1] of each choice being selected for the sub-question.
-         *
-         * <p>Values are set to 0 if there are no responses to that sub-question.
-         * Average value is set to 0 if there are no assigned weights.
-         *
-         * <p>e.g.<br>
-         * percentageFrequencyAndAverageValue[subQuestionIndex][choiceIndex]
-         * -> is the percentage choiceIndex is chosen for subQuestionIndex.<br>
-         * percentageFrequencyAndAverageValue[subQuestionIndex][numOfRubricChoices]
-         * -> is the average weight of the responses for the given sub-question.
-         *
-         * @param responseFrequency decides whether the value returned is for excluding-self or including-self.
+         * Returns the statistics of each recipient, sorted by team and then by name.
          */
-        public static float[][] calculatePercentageFrequencyAndAverage(FeedbackRubricQuestionDetails questionDetails,
-                                                         int [][] responseFrequency) {
-            Assumption.assertNotNull("Response Frequency should be initialised and calculated first.",
-                                     (Object[]) responseFrequency);
-
-            int numOfRubricSubQuestions = questionDetails.getNumOfRubricSubQuestions();
-            int numOfRubricChoices = questionDetails.getNumOfRubricChoices();
-            int responseTotalIndex = numOfRubricChoices;
-
-            float[][] percentageFrequencyAndAverage = new float[numOfRubricSubQuestions][numOfRubricChoices + 1];
-            // calculate percentage frequencies and average value
-            for (int i = 0; i < percentageFrequencyAndAverage.length; i++) {
-                int totalForSubQuestion = responseFrequency[i][responseTotalIndex];
-                //continue to next row if no response for this sub-question
-                if (totalForSubQuestion == 0) {
-                    continue;
-                }
-                // divide responsesFrequency by totalForSubQuestion to get percentage
-                for (int j = 0; j < numOfRubricChoices; j++) {
-                    percentageFrequencyAndAverage[i][j] = (float) responseFrequency[i][j] / totalForSubQuestion;
-                }
-                List<List<Double>> weights = questionDetails.getRubricWeights();
-                // calculate the average for each sub-question
-                if (questionDetails.hasAssignedWeights()) {
-                    for (int j = 0; j < numOfRubricChoices; j++) {
-                        float choiceWeight =
-                                (float) (weights.get(i).get(j)
-                                        * percentageFrequencyAndAverage[i][j]);
-                        percentageFrequencyAndAverage[i][numOfRubricChoices] += choiceWeight;
-                    }
-                }
+        public List<RubricRecipientStatistics> getPerRecipientStatisticsSorted() {
+            Assumption.assertTrue("Per Recipient Stats is only available when weights are enabled",
+                    questionDetails.hasAssignedWeights);
+
+            if (recipientStatsSorted == null) {
+                List<RubricRecipientStatistics> statsSorted = new ArrayList<>(recipientToRecipientStats.values());
+                statsSorted.sort(Comparator.comparing((RubricRecipientStatistics stats) ->
+                        stats.recipientTeam.toLowerCase())
+                        .thenComparing(stats -> stats.recipientName));
+                recipientStatsSorted = Collections.unmodifiableList(statsSorted);
             }
-            return percentageFrequencyAndAverage;
+            return recipientStatsSorted;
         }
 
     }
@@ -0,0 +1,81 @@
+package teammates.common.util;
+
+import java.time.Instant;
+
+/**
+ * A query to retrieve the activity log entries stored by the app, from the latest to the earliest.
+ *
+ * <p>Besides the time period, the entries can be narrowed down by at most one of the user, the action
+ * and the user role, as these are matched against the index of the entries. All values are matched
+ * case-insensitively.
+ */
+public class ActivityLogQuery {
+
+    private final long startTime;
+    private final long endTime;
+
+    private String userIdentifier;
+    private String actionName;
+    private String userRole;
+
+    /**
+     * Creates a query for the entries logged within the time period, both ends inclusive.
+     * If startTime is null, it will be considered as 0.
+     * If endTime is null, it will be considered as the current time.
+     */
+    public ActivityLogQuery(Long startTime, Long endTime) {
+        this.startTime = startTime == null ? 0L : startTime;
+        this.endTime = endTime == null ? Instant.now().toEpochMilli() : endTime;
+    }
+
+    /**
+     * Restricts the query to the entries of the user with the given name, Google ID or email.
+     */
+    public ActivityLogQuery withUserIdentifier(String userIdentifier) {
+        Assumption.assertTrue("Only one of user, action and role can be queried",
+                actionName == null && userRole == null);
+        this.userIdentifier = userIdentifier;
+        return this;
+    }
+
+    /**
+     * Restricts the query to the entries of the action with the given name, e.g. "instructorHomePage".
+     */
+    public ActivityLogQuery withActionName(String actionName) {
+        Assumption.assertTrue("Only one of user, action and role can be queried",
+                userIdentifier == null && userRole == null);
+        this.actionName = actionName;
+        return this;
+    }
+
+    /**
+     * Restricts the query to the entries of users with the given role, e.g. "Instructor".
+     */
+    public ActivityLogQuery withUserRole(String userRole) {
+        Assumption.assertTrue("Only one of user, action and role can be queried",
+                userIdentifier == null && actionName == null);
+        this.userRole = userRole;
+        return this;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public String getUserIdentifier() {
+        return userIdentifier;
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public String getUserRole() {
+        return userRole;
+    }
+
+}
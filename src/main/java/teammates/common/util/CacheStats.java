@@ -0,0 +1,47 @@
+package teammates.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe counter of the hits and misses of a cache.
+ */
+public final class CacheStats {
+
+    private final String cacheName;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CacheStats(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public void recordHit() {
+        hitCount.incrementAndGet();
+    }
+
+    public void recordMiss() {
+        missCount.incrementAndGet();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Resets both counters to zero.
+     */
+    public void reset() {
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return cacheName + " cache: " + getHitCount() + " hits, " + getMissCount() + " misses";
+    }
+
+}
@@ -0,0 +1,125 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template compiled once into literal and placeholder segments, so that it can be populated
+ * in a single pass over the segments for every set of values.
+ *
+ * <p>Placeholders are of the form <code>${name}</code>. A placeholder without a value is kept as it is,
+ * so that the populated template can itself be compiled and populated with other values later.
+ * Unlike {@link Templates#populateTemplate(String, String...)}, placeholders found in the values are never
+ * populated.
+ */
+public final class CompiledTemplate {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final char PLACEHOLDER_END = '}';
+
+    private final String template;
+
+    /** The literal segments; the i-th placeholder is between the i-th and the (i+1)-th literal. */
+    private final String[] literals;
+
+    /** The placeholders, including the delimiters, in the order they appear in the template. */
+    private final String[] placeholders;
+
+    private final int literalsLength;
+
+    private CompiledTemplate(String template) {
+        this.template = template;
+
+        List<String> literalList = new ArrayList<>();
+        List<String> placeholderList = new ArrayList<>();
+        int literalStart = 0;
+        int placeholderStart = template.indexOf(PLACEHOLDER_START);
+        while (placeholderStart != -1) {
+            int placeholderEnd = template.indexOf(PLACEHOLDER_END, placeholderStart + PLACEHOLDER_START.length());
+            if (placeholderEnd == -1) {
+                break;
+            }
+            int nextPlaceholderStart = template.indexOf(PLACEHOLDER_START, placeholderStart + PLACEHOLDER_START.length());
+            if (nextPlaceholderStart != -1 && nextPlaceholderStart < placeholderEnd) {
+                // the placeholder is not closed before the next one starts
+                placeholderStart = nextPlaceholderStart;
+                continue;
+            }
+            literalList.add(template.substring(literalStart, placeholderStart));
+            placeholderList.add(template.substring(placeholderStart, placeholderEnd + 1));
+            literalStart = placeholderEnd + 1;
+            placeholderStart = template.indexOf(PLACEHOLDER_START, literalStart);
+        }
+        literalList.add(template.substring(literalStart));
+
+        this.literals = literalList.toArray(new String[0]);
+        this.placeholders = placeholderList.toArray(new String[0]);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Compiles the {@code template}.
+     */
+    public static CompiledTemplate compile(String template) {
+        return new CompiledTemplate(template);
+    }
+
+    /**
+     * Populates the template by replacing the placeholders with the given values.
+     *
+     * @param keyValuePairs even number of placeholders and their values:
+     *                   { "${key1}", "val1", "${key2}", "val2", ... }
+     * @return The populated template
+     */
+    public String populate(String... keyValuePairs) {
+        Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
+                keyValuePairs.length % 2 == 0);
+        int capacity = literalsLength;
+        for (int i = 1; i < keyValuePairs.length; i += 2) {
+            capacity += keyValuePairs[i].length();
+        }
+
+        StringBuilder populatedTemplate = new StringBuilder(capacity);
+        for (int i = 0; i < placeholders.length; i++) {
+            populatedTemplate.append(literals[i]);
+            String value = null;
+            for (int j = 0; j < keyValuePairs.length && value == null; j += 2) {
+                if (keyValuePairs[j].equals(placeholders[i])) {
+                    value = keyValuePairs[j + 1];
+                }
+            }
+            populatedTemplate.append(value == null ? placeholders[i] : value);
+        }
+        return populatedTemplate.append(literals[placeholders.length]).toString();
+    }
+
+    /**
+     * Populates the template by replacing the placeholders with their values in {@code values}.
+     */
+    public String populate(Map<String, String> values) {
+        int capacity = literalsLength;
+        for (String value : values.values()) {
+            capacity += value.length();
+        }
+
+        StringBuilder populatedTemplate = new StringBuilder(capacity);
+        for (int i = 0; i < placeholders.length; i++) {
+            populatedTemplate.append(literals[i]);
+            populatedTemplate.append(values.getOrDefault(placeholders[i], placeholders[i]));
+        }
+        return populatedTemplate.append(literals[placeholders.length]).toString();
+    }
+
+    /**
+     * Returns the template as it was before compilation.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+}
@@ -63,6 +63,9 @@ public final class Config {
     /** The value of the "app.mailjet.secretkey" in build.properties file. */
     public static final String MAILJET_SECRETKEY;
 
+    /** The value of the "app.feedbackresponse.sections.migrated" in build.properties file; false if absent. */
+    public static final boolean IS_FEEDBACK_RESPONSE_SECTIONS_MIGRATED;
+
     static {
         APP_URL = readAppUrl();
         Properties properties = new Properties();
@@ -86,6 +89,8 @@ public final class Config {
         MAILGUN_DOMAINNAME = properties.getProperty("app.mailgun.domainname");
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
+        IS_FEEDBACK_RESPONSE_SECTIONS_MIGRATED =
+                Boolean.parseBoolean(properties.getProperty("app.feedbackresponse.sections.migrated"));
     }
 
     private Config() {
@@ -875,6 +875,8 @@ public final class Const {
         public static final String OPEN_OR_PUBLISHED_EMAIL_SEND_CHECK = "openorpublishedemailsent";
 
         public static final String EMAIL_CONTENT = "content";
+        public static final String EMAIL_CONTENT_REFERENCE = "contentreference";
+        public static final String EMAIL_BATCH = "emailbatch";
         public static final String EMAIL_SENDER = "sender";
         public static final String EMAIL_SENDERNAME = "sendername";
         public static final String EMAIL_SUBJECT = "subject";
@@ -1094,6 +1096,7 @@ public final class Const {
         public static final String ADMIN_STUDENT_GOOGLE_ID_RESET = "/admin/adminStudentGoogleIdReset";
 
         public static final String AUTOMATED_LOG_COMPILATION = "/auto/compileLogs";
+        public static final String AUTOMATED_ACTIVITY_LOG_STORAGE = "/auto/activityLogStorage";
         public static final String AUTOMATED_FEEDBACK_OPENING_REMINDERS = "/auto/feedbackSessionOpeningReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
@@ -1110,6 +1113,11 @@ public final class Const {
      */
     public static class TaskQueue {
 
+        /**
+         * Pull queue holding the activity log entries of the app until they are stored in the Datastore.
+         */
+        public static final String ACTIVITY_LOG_QUEUE_NAME = "activity-log-queue";
+
         public static final String ADMIN_PREPARE_EMAIL_ADDRESS_MODE_QUEUE_NAME = "admin-prepare-email-address-mode-queue";
         public static final String ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL = "/worker/adminPrepareEmailAddressMode";
 
@@ -1153,6 +1161,9 @@ public final class Const {
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_QUEUE_NAME = "instructor-course-join-email-queue";
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/instructorCourseJoinEmail";
 
+        public static final String SEND_EMAIL_BATCH_QUEUE_NAME = "send-email-batch-queue";
+        public static final String SEND_EMAIL_BATCH_WORKER_URL = "/worker/sendEmailBatch";
+
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = "/worker/sendEmail";
 
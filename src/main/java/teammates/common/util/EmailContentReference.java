@@ -0,0 +1,86 @@
+package teammates.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Refers to the content of an email of a feedback session as the content shared by all recipients of
+ * the email, which is identified by the email type and the session, and the variables of the recipient.
+ *
+ * <p>Email tasks carry this reference instead of the content, which is rendered when the email is sent.
+ */
+public class EmailContentReference {
+
+    private final EmailType emailType;
+    private final String courseId;
+    private final String feedbackSessionName;
+    private final Map<String, String> recipientVariables;
+    private final String sharedContentFingerprint;
+    private transient String sharedContent;
+
+    public EmailContentReference(EmailType emailType, String courseId, String feedbackSessionName,
+                                 Map<String, String> recipientVariables) {
+        this(emailType, courseId, feedbackSessionName, recipientVariables, null);
+    }
+
+    /**
+     * Creates a reference to a content generated from {@code sharedContent}, whose SHA-256 digest is included
+     * in the key of the shared content.
+     */
+    public EmailContentReference(EmailType emailType, String courseId, String feedbackSessionName,
+                                 Map<String, String> recipientVariables, String sharedContent) {
+        this.emailType = emailType;
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.recipientVariables = recipientVariables;
+        this.sharedContent = sharedContent;
+        this.sharedContentFingerprint = sharedContent == null
+                ? null
+                : Hashing.sha256().hashString(sharedContent, StandardCharsets.UTF_8).toString();
+    }
+
+    public EmailType getEmailType() {
+        return emailType;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    /**
+     * Returns the values of the placeholders of the shared content that differ between recipients.
+     */
+    public Map<String, String> getRecipientVariables() {
+        return recipientVariables;
+    }
+
+    /**
+     * Returns the content shared by all recipients, with the placeholders of the recipient variables unpopulated,
+     * or null if it has not been rendered. It is not carried in email tasks.
+     */
+    public String getSharedContent() {
+        return sharedContent;
+    }
+
+    public void setSharedContent(String sharedContent) {
+        this.sharedContent = sharedContent;
+    }
+
+    /**
+     * Returns a key identifying the content shared by all recipients of the email.
+     *
+     * <p>The key includes the digest of the shared content the email was created with, if any,
+     * so that emails created after the session or the course is updated do not share a content
+     * rendered before the update.
+     */
+    public String getSharedContentKey() {
+        return emailType + "|" + courseId + "|" + feedbackSessionName + "|" + sharedContentFingerprint;
+    }
+
+}
@@ -12,6 +12,7 @@ public class EmailWrapper {
     private String bcc;
     private String subject;
     private String content;
+    private EmailContentReference contentReference;
 
     public String getSenderName() {
         return senderName;
@@ -69,6 +70,17 @@ public class EmailWrapper {
         this.content = content;
     }
 
+    /**
+     * Returns the reference from which the content can be rendered again, or null if there is none.
+     */
+    public EmailContentReference getContentReference() {
+        return contentReference;
+    }
+
+    public void setContentReference(EmailContentReference contentReference) {
+        this.contentReference = contentReference;
+    }
+
     public String getInfoForLogging() {
         return "[Email sent]to=" + getRecipient()
                + "|from=" + getSenderEmail()
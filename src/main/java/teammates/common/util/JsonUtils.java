@@ -21,40 +21,68 @@ import com.google.gson.JsonSerializer;
  */
 public final class JsonUtils {
 
+    /**
+     * Compact Gson instance used for storage, search documents and request/task payloads.
+     *
+     * <p>{@link Gson} instances are thread-safe and cache the reflective type adapter of every type
+     * they have (de)serialized, so they are built once and shared instead of being created per call.
+     */
+    private static final Gson COMPACT_GSON = createGsonBuilder().create();
+
+    /**
+     * Pretty-printing Gson instance used for human-readable output, e.g. back door responses and test data.
+     */
+    private static final Gson PRETTY_GSON = createGsonBuilder().setPrettyPrinting().create();
+
     private JsonUtils() {
         // utility class
     }
 
     /**
-     * This creates a Gson object that can handle the Date format we use in the
-     * Json file and also reformat the Json string in pretty-print format.
+     * This creates a GsonBuilder that can handle the Date format we use in the Json file.
      */
-    private static Gson getTeammatesGson() {
+    private static GsonBuilder createGsonBuilder() {
         return new GsonBuilder()
                 .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
                 .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter())
                 .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter())
-                .setPrettyPrinting()
-                .disableHtmlEscaping()
-                .create();
+                .disableHtmlEscaping();
     }
 
     /**
-     * Serializes the specified object into its equivalent JSON string.
+     * Serializes the specified object into its equivalent compact JSON string.
      *
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return COMPACT_GSON.toJson(src, typeOfSrc);
     }
 
     /**
-     * Serializes the specified object into its equivalent JSON string.
+     * Serializes the specified object into its equivalent compact JSON string.
      *
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return COMPACT_GSON.toJson(src);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON string in pretty-print format.
+     *
+     * @see Gson#toJson(Object, Type)
+     */
+    public static String toPrettyJson(Object src, Type typeOfSrc) {
+        return PRETTY_GSON.toJson(src, typeOfSrc);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON string in pretty-print format.
+     *
+     * @see Gson#toJson(Object)
+     */
+    public static String toPrettyJson(Object src) {
+        return PRETTY_GSON.toJson(src);
     }
 
     /**
@@ -63,7 +91,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getTeammatesGson().fromJson(json, typeOfT);
+        return COMPACT_GSON.fromJson(json, typeOfT);
     }
 
     /**
@@ -79,12 +107,12 @@ public final class JsonUtils {
     private static class TeammatesInstantAdapter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
 
         @Override
-        public synchronized JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
+        public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
             return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
-        public synchronized Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+        public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
             return Instant.parse(element.getAsString());
         }
     }
@@ -92,12 +120,12 @@ public final class JsonUtils {
     private static class TeammatesZoneIdAdapter implements JsonSerializer<ZoneId>, JsonDeserializer<ZoneId> {
 
         @Override
-        public synchronized JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
+        public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
             return new JsonPrimitive(zoneId.getId());
         }
 
         @Override
-        public synchronized ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+        public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
             return ZoneId.of(element.getAsString());
         }
     }
@@ -105,12 +133,12 @@ public final class JsonUtils {
     private static class TeammatesDurationMinutesAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
 
         @Override
-        public synchronized JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
+        public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
             return new JsonPrimitive(duration.toMinutes());
         }
 
         @Override
-        public synchronized Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+        public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
             return Duration.ofMinutes(element.getAsLong());
         }
     }
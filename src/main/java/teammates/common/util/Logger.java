@@ -25,6 +25,16 @@ public final class Logger {
         log.fine(msg);
     }
 
+    /**
+     * Returns true if messages at FINE level are logged,
+     * which can be checked before building a costly message.
+     *
+     * @see java.util.logging.Logger#isLoggable(java.util.logging.Level)
+     */
+    public boolean isFineLoggable() {
+        return log.isLoggable(java.util.logging.Level.FINE);
+    }
+
     /**
      * Logs a message at INFO level.
      *
@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.security.GeneralSecurityException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +29,14 @@ import teammates.common.exception.TeammatesException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    private static final String CIPHER_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+
+    // Cipher objects are not thread-safe but are costly to create, so each thread keeps its own
+    private static final ThreadLocal<Cipher> ENCRYPTION_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> DECRYPTION_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+
     private StringHelper() {
         // utility class
     }
@@ -123,17 +132,41 @@ public final class StringHelper {
         return frontPart + ".." + endPart;
     }
 
+    /**
+     * Encrypts the supplied string with the encryption key of the application.
+     *
+     * @param value the plaintext
+     * @return the ciphertext as a hexadecimal string
+     */
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes());
-            return byteArrayToHexString(encrypted);
+            return byteArrayToHexString(ENCRYPTION_CIPHER.get().doFinal(value.getBytes()));
+        } catch (Exception e) {
+            ENCRYPTION_CIPHER.remove();
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+            return null;
+        }
+    }
+
+    /**
+     * Encrypts each of the supplied strings with the encryption key of the application.
+     *
+     * @param values the plaintexts
+     * @return the ciphertexts as hexadecimal strings, in the same order as {@code values}
+     */
+    public static List<String> encrypt(List<String> values) {
+        List<String> encryptedValues = new ArrayList<>(values.size());
+        Cipher cipher = ENCRYPTION_CIPHER.get();
+        try {
+            for (String value : values) {
+                encryptedValues.add(byteArrayToHexString(cipher.doFinal(value.getBytes())));
+            }
         } catch (Exception e) {
+            ENCRYPTION_CIPHER.remove();
             Assumption.fail(TeammatesException.toStringWithStackTrace(e));
             return null;
         }
+        return encryptedValues;
     }
 
     /*
@@ -146,15 +179,30 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = DECRYPTION_CIPHER.get().doFinal(hexStringToByteArray(message));
             return new String(decrypted);
         } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+            DECRYPTION_CIPHER.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
         } catch (Exception e) {
+            DECRYPTION_CIPHER.remove();
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+            return null;
+        }
+    }
+
+    /**
+     * Creates a cipher initialized with the encryption key of the application for {@code mode}.
+     * The cipher is reset to this state after every {@link Cipher#doFinal} call, so it can be reused
+     * by the thread that created it.
+     */
+    private static Cipher createCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            cipher.init(mode, EncryptionKeyHolder.KEY);
+            return cipher;
+        } catch (GeneralSecurityException e) {
             Assumption.fail(TeammatesException.toStringWithStackTrace(e));
             return null;
         }
@@ -575,4 +623,13 @@ public final class StringHelper {
         }
         return quotedString;
     }
+
+    /**
+     * Holds the encryption key of the application, decoded from its hexadecimal form on first use.
+     */
+    private static final class EncryptionKeyHolder {
+
+        static final SecretKeySpec KEY = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+
+    }
 }
@@ -10,11 +10,17 @@ public class TaskWrapper {
     private final String queueName;
     private final String workerUrl;
     private final Map<String, String[]> paramMap;
+    private final long countdownTime;
 
     public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap) {
+        this(queueName, workerUrl, paramMap, 0);
+    }
+
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap, long countdownTime) {
         this.queueName = queueName;
         this.workerUrl = workerUrl;
         this.paramMap = paramMap;
+        this.countdownTime = countdownTime;
     }
 
     public String getQueueName() {
@@ -29,4 +35,11 @@ public class TaskWrapper {
         return paramMap;
     }
 
+    /**
+     * Returns the time delay in milliseconds for the task to be executed, or 0 if it is to be executed immediately.
+     */
+    public long getCountdownTime() {
+        return countdownTime;
+    }
+
 }
@@ -26,38 +26,44 @@ public final class Templates {
         return populatedTemplate;
     }
 
+    private static CompiledTemplate compileResourceFile(String fileName) {
+        return CompiledTemplate.compile(FileHelper.readResourceFile(fileName));
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
     public static class EmailTemplates {
-        public static final String USER_COURSE_JOIN =
-                FileHelper.readResourceFile("userEmailTemplate-courseJoin.html");
-        public static final String USER_COURSE_REGISTER =
-                FileHelper.readResourceFile("userEmailTemplate-userRegisterForCourse.html");
-        public static final String FRAGMENT_STUDENT_COURSE_JOIN =
-                FileHelper.readResourceFile("studentEmailFragment-courseJoin.html");
-        public static final String FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
-                FileHelper.readResourceFile("studentEmailFragment-googleIdReset.html");
-        public static final String FRAGMENT_INSTRUCTOR_COURSE_JOIN =
-                FileHelper.readResourceFile("instructorEmailFragment-courseJoin.html");
-        public static final String USER_FEEDBACK_SESSION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSession.html");
-        public static final String USER_FEEDBACK_SESSION_PUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionPublished.html");
-        public static final String USER_FEEDBACK_SUBMISSION_CONFIRMATION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSubmissionConfirmation.html");
-        public static final String USER_FEEDBACK_SESSION_UNPUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionUnpublished.html");
-        public static final String FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS =
-                FileHelper.readResourceFile("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
-        public static final String USER_FEEDBACK_SESSION_RESEND_ALL_LINKS =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionResendAllLinks.html");
-        public static final String SEVERE_ERROR_LOG_LINE =
-                FileHelper.readResourceFile("severeErrorLogLine.html");
-        public static final String NEW_INSTRUCTOR_ACCOUNT_WELCOME =
-                FileHelper.readResourceFile("newInstructorAccountWelcome.html");
-        public static final String FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION =
-                FileHelper.readResourceFile("userEmailFragment-sessionAdditionalContactInformationFragment.html");
+        public static final CompiledTemplate USER_COURSE_JOIN =
+                compileResourceFile("userEmailTemplate-courseJoin.html");
+        public static final CompiledTemplate USER_COURSE_REGISTER =
+                compileResourceFile("userEmailTemplate-userRegisterForCourse.html");
+        public static final CompiledTemplate FRAGMENT_STUDENT_COURSE_JOIN =
+                compileResourceFile("studentEmailFragment-courseJoin.html");
+        public static final CompiledTemplate FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
+                compileResourceFile("studentEmailFragment-googleIdReset.html");
+        public static final CompiledTemplate FRAGMENT_INSTRUCTOR_COURSE_JOIN =
+                compileResourceFile("instructorEmailFragment-courseJoin.html");
+        public static final CompiledTemplate USER_FEEDBACK_SESSION =
+                compileResourceFile("userEmailTemplate-feedbackSession.html");
+        public static final CompiledTemplate USER_FEEDBACK_SESSION_PUBLISHED =
+                compileResourceFile("userEmailTemplate-feedbackSessionPublished.html");
+        public static final CompiledTemplate USER_FEEDBACK_SUBMISSION_CONFIRMATION =
+                compileResourceFile("userEmailTemplate-feedbackSubmissionConfirmation.html");
+        public static final CompiledTemplate USER_FEEDBACK_SESSION_UNPUBLISHED =
+                compileResourceFile("userEmailTemplate-feedbackSessionUnpublished.html");
+        public static final CompiledTemplate FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS =
+                compileResourceFile("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
+        public static final CompiledTemplate USER_FEEDBACK_SESSION_RESEND_ALL_LINKS =
+                compileResourceFile("userEmailTemplate-feedbackSessionResendAllLinks.html");
+        public static final CompiledTemplate SEVERE_ERROR_LOGS_SUMMARY =
+                compileResourceFile("severeErrorLogsSummary.html");
+        public static final CompiledTemplate SEVERE_ERROR_LOG_LINE =
+                compileResourceFile("severeErrorLogLine.html");
+        public static final CompiledTemplate NEW_INSTRUCTOR_ACCOUNT_WELCOME =
+                compileResourceFile("newInstructorAccountWelcome.html");
+        public static final CompiledTemplate FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION =
+                compileResourceFile("userEmailFragment-sessionAdditionalContactInformationFragment.html");
     }
 
     public static class FeedbackQuestion {
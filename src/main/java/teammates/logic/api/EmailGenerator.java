@@ -2,27 +2,37 @@ package teammates.logic.api;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.log.AppLogLine;
 
+import teammates.common.datatransfer.FeedbackSessionCompletionEvaluator;
+import teammates.common.datatransfer.SevereLogsDigest;
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.Assumption;
+import teammates.common.util.CompiledTemplate;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.EmailContentReference;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
-import teammates.common.util.Templates;
 import teammates.common.util.Templates.EmailTemplates;
 import teammates.common.util.TimeHelper;
+import teammates.logic.core.AdminEmailsLogic;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.EmailContentCache;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
@@ -49,7 +59,12 @@ public class EmailGenerator {
     private static final String HTML_NO_ACTION_REQUIRED =
             "<p>No action is required if you have already submitted.</p>" + System.lineSeparator();
 
+    // severe logs compilation limits
+    private static final int MAX_LOG_GROUPS_PER_EMAIL = 50;
+    private static final int MAX_LOGS_COMPILATION_EMAILS = 5;
+
     private static final Logger log = Logger.getLogger();
+    private static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
@@ -60,8 +75,6 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionOpeningEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION;
-
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
         List<InstructorAttributes> instructors = isEmailNeeded
@@ -71,12 +84,7 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<StudentAttributes>();
 
-        List<EmailWrapper> emails = generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                                                                      EmailType.FEEDBACK_OPENING.getSubject());
-        for (EmailWrapper email : emails) {
-            email.setContent(email.getContent().replace("${status}", FEEDBACK_STATUS_SESSION_OPENING));
-        }
-        return emails;
+        return generateFeedbackSessionEmailBases(EmailType.FEEDBACK_OPENING, course, session, students, instructors);
     }
 
     /**
@@ -88,17 +96,13 @@ public class EmailGenerator {
             List<InstructorAttributes> instructorsToRemind, InstructorAttributes instructorToNotify) {
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN);
-        String additionalContactInformation = HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
         List<InstructorAttributes> instructorToNotifyAsList = new ArrayList<>();
         instructorToNotifyAsList.add(instructorToNotify);
 
         List<EmailWrapper> emails =
-                generateFeedbackSessionEmailBasesForInstructorReminders(course, session, instructorsToRemind, template,
-                        EmailType.FEEDBACK_SESSION_REMINDER.getSubject(), additionalContactInformation);
-        emails.addAll(generateFeedbackSessionEmailBases(course, session, students, instructorToNotifyAsList, template,
-                                                        EmailType.FEEDBACK_SESSION_REMINDER.getSubject(),
-                                                        FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation));
+                generateFeedbackSessionEmailBasesForInstructorReminders(course, session, instructorsToRemind);
+        emails.addAll(generateFeedbackSessionEmailBases(EmailType.FEEDBACK_SESSION_REMINDER, course, session,
+                                                        students, instructorToNotifyAsList));
 
         return emails;
     }
@@ -123,14 +127,9 @@ public class EmailGenerator {
         }
 
         StringBuffer linksFragmentValue = new StringBuffer(1000);
-        String joinUrl = Config.getAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
-        String joinFragmentValue = isYetToJoinCourse(student)
-                                   ? Templates.populateTemplate(EmailTemplates.FRAGMENT_STUDENT_COURSE_JOIN,
-                                           "${joinUrl}", joinUrl,
-                                           "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                                           "${coOwnersEmails}", generateCoOwnersEmailsLine(course.getId()))
-                                   : "";
+        String joinFragmentValue = isYetToJoinCourse(student) ? generateStudentJoinFragment(student, course) : "";
+        String encryptedKey = StringHelper.encrypt(student.key);
 
         for (FeedbackSessionAttributes fsa : sessions) {
 
@@ -141,7 +140,7 @@ public class EmailGenerator {
                 String submitUrl = Config.getAppUrl(Const.ActionURIs.STUDENT_FEEDBACK_SUBMISSION_EDIT_PAGE)
                         .withCourseId(course.getId())
                         .withSessionName(fsa.getFeedbackSessionName())
-                        .withRegistrationKey(StringHelper.encrypt(student.key))
+                        .withRegistrationKey(encryptedKey)
                         .withStudentEmail(student.email)
                         .toAbsoluteString();
                 submitUrlHtml = "<a href=\"" + submitUrl + "\">" + submitUrl + "</a>";
@@ -151,21 +150,20 @@ public class EmailGenerator {
                 String reportUrl = Config.getAppUrl(Const.ActionURIs.STUDENT_FEEDBACK_RESULTS_PAGE)
                         .withCourseId(course.getId())
                         .withSessionName(fsa.getFeedbackSessionName())
-                        .withRegistrationKey(StringHelper.encrypt(student.key))
+                        .withRegistrationKey(encryptedKey)
                         .withStudentEmail(student.email)
                         .toAbsoluteString();
                 reportUrlHtml = "<a href=\"" + reportUrl + "\">" + reportUrl + "</a>";
             }
 
-            linksFragmentValue.append(Templates.populateTemplate(
-                    EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS,
+            linksFragmentValue.append(EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS.populate(
                     "${feedbackSessionName}", fsa.getFeedbackSessionName(),
                     "${deadline}", fsa.getEndTimeString() + (fsa.isClosed() ? " (Passed)" : ""),
                     "${submitUrl}", submitUrlHtml,
                     "${reportUrl}", reportUrlHtml));
         }
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
-        String emailBody = Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION_RESEND_ALL_LINKS,
+        String emailBody = EmailTemplates.USER_FEEDBACK_SESSION_RESEND_ALL_LINKS.populate(
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
                 "${userEmail}", student.email,
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
@@ -213,13 +211,17 @@ public class EmailGenerator {
     }
 
     private List<EmailWrapper> generateFeedbackSessionEmailBasesForInstructorReminders(
-            CourseAttributes course, FeedbackSessionAttributes session, List<InstructorAttributes> instructors,
-            String template, String subject, String additionalContactInformation) {
+            CourseAttributes course, FeedbackSessionAttributes session, List<InstructorAttributes> instructors) {
 
         List<EmailWrapper> emails = new ArrayList<>();
+        if (instructors.isEmpty()) {
+            return emails;
+        }
+        CompiledTemplate sharedContent =
+                generateFeedbackSessionEmailSharedContent(EmailType.FEEDBACK_SESSION_REMINDER, course, session);
         for (InstructorAttributes instructor : instructors) {
             emails.add(generateFeedbackSessionEmailBaseForInstructorReminders(course, session, instructor,
-                    template, subject, additionalContactInformation));
+                    sharedContent));
         }
         return emails;
     }
@@ -227,10 +229,10 @@ public class EmailGenerator {
     private EmailWrapper generateSubmissionConfirmationEmail(
             CourseAttributes course, FeedbackSessionAttributes session, String submitUrl,
             String userName, String userEmail, Instant timestamp) {
-        String template = EmailTemplates.USER_FEEDBACK_SUBMISSION_CONFIRMATION;
+        CompiledTemplate template = EmailTemplates.USER_FEEDBACK_SUBMISSION_CONFIRMATION;
         String subject = EmailType.FEEDBACK_SUBMISSION_CONFIRMATION.getSubject();
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.populate(
                 "${userName}", SanitizationHelper.sanitizeForHtml(userName),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -250,7 +252,7 @@ public class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructorReminders(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject, String additionalContactInformation) {
+            CompiledTemplate sharedContent) {
 
         String submitUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_SUBMISSION_EDIT_PAGE)
                                  .withCourseId(course.getId())
@@ -262,23 +264,8 @@ public class EmailGenerator {
                                  .withSessionName(session.getFeedbackSessionName())
                                  .toAbsoluteString();
 
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW,
-                "${additionalContactInformation}", additionalContactInformation);
-
-        EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
-        email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
-        return email;
+        return generateFeedbackSessionEmail(EmailType.FEEDBACK_SESSION_REMINDER, course, session, sharedContent,
+                instructor.email, instructor.name, "", submitUrl, reportUrl);
     }
 
     /**
@@ -290,32 +277,25 @@ public class EmailGenerator {
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
 
         if (isEmailNeeded) {
-            List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
-
-            for (StudentAttributes student : studentsForCourse) {
-                try {
-                    if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
-                            session.getCourseId(), student.email)) {
+            try {
+                FeedbackSessionCompletionEvaluator completionEvaluator =
+                        fsLogic.getFeedbackSessionCompletionEvaluator(session);
+                for (StudentAttributes student : studentsLogic.getStudentsForCourse(session.getCourseId())) {
+                    if (!completionEvaluator.isFullyCompletedByStudent(student.email)) {
                         students.add(student);
                     }
-                } catch (EntityDoesNotExistException e) {
-                    log.severe("Course " + session.getCourseId() + " does not exist or "
-                               + "session " + session.getFeedbackSessionName() + " does not exist");
-                    // Course or session cannot be found for one student => it will be the case for all students
-                    // Do not waste time looping through all students
-                    break;
                 }
+            } catch (EntityDoesNotExistException e) {
+                log.severe("Course " + session.getCourseId() + " does not exist or "
+                           + "session " + session.getFeedbackSessionName() + " does not exist");
             }
         }
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         List<InstructorAttributes> instructors = isEmailNeeded
                                                  ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
                                                  : new ArrayList<InstructorAttributes>();
-        String additionalContactInformation = HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                EmailType.FEEDBACK_CLOSING.getSubject(), FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation);
+        return generateFeedbackSessionEmailBases(EmailType.FEEDBACK_CLOSING, course, session, students, instructors);
     }
 
     /**
@@ -339,10 +319,7 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<>();
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSED);
-        String additionalContactInformation = getAdditionalContactInformationFragment(course);
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                EmailType.FEEDBACK_CLOSED.getSubject(), FEEDBACK_ACTION_VIEW, additionalContactInformation);
+        return generateFeedbackSessionEmailBases(EmailType.FEEDBACK_CLOSED, course, session, students, instructors);
     }
 
     /**
@@ -367,13 +344,8 @@ public class EmailGenerator {
     public List<EmailWrapper> generateFeedbackSessionPublishedEmails(FeedbackSessionAttributes session,
             List<StudentAttributes> students, List<InstructorAttributes> instructors) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
-
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-
-        String additionalContactInformation = getAdditionalContactInformationFragment(course);
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                EmailType.FEEDBACK_PUBLISHED.getSubject(), FEEDBACK_ACTION_VIEW, additionalContactInformation);
+        return generateFeedbackSessionEmailBases(EmailType.FEEDBACK_PUBLISHED, course, session, students, instructors);
     }
 
     /**
@@ -381,8 +353,6 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionUnpublishedEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
-
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionViewableToStudents(session);
         List<InstructorAttributes> instructors = isEmailNeeded
@@ -392,70 +362,52 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<StudentAttributes>();
 
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                EmailType.FEEDBACK_UNPUBLISHED.getSubject());
+        return generateFeedbackSessionEmailBases(EmailType.FEEDBACK_UNPUBLISHED, course, session, students,
+                                                 instructors);
     }
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
-            CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject) {
-        String additionalContactInformation = getAdditionalContactInformationFragment(course);
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, template, subject,
-                FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation);
-    }
-
-    private List<EmailWrapper> generateFeedbackSessionEmailBases(
-            CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject, String feedbackAction,
-            String addtionalContactInformation) {
+            EmailType emailType, CourseAttributes course, FeedbackSessionAttributes session,
+            List<StudentAttributes> students, List<InstructorAttributes> instructors) {
 
         List<EmailWrapper> emails = new ArrayList<>();
-        for (StudentAttributes student : students) {
-            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, subject, feedbackAction, addtionalContactInformation));
+        if (students.isEmpty() && instructors.isEmpty()) {
+            return emails;
+        }
+        CompiledTemplate sharedContent = generateFeedbackSessionEmailSharedContent(emailType, course, session);
+        List<String> encryptedKeys = StringHelper.encrypt(
+                students.stream().map(student -> student.key).collect(Collectors.toList()));
+        for (int i = 0; i < students.size(); i++) {
+            emails.add(generateFeedbackSessionEmailBaseForStudents(emailType, course, session, students.get(i),
+                    encryptedKeys.get(i), sharedContent));
         }
         for (InstructorAttributes instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, subject, feedbackAction, addtionalContactInformation));
+            emails.add(generateFeedbackSessionEmailBaseForInstructors(emailType, course, session, instructor,
+                    sharedContent));
         }
         return emails;
     }
 
-    private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
-            String subject, String feedbackAction, String additionalContactInformation) {
+    private EmailWrapper generateFeedbackSessionEmailBaseForStudents(EmailType emailType, CourseAttributes course,
+            FeedbackSessionAttributes session, StudentAttributes student, String encryptedKey,
+            CompiledTemplate sharedContent) {
 
         String submitUrl = Config.getAppUrl(Const.ActionURIs.STUDENT_FEEDBACK_SUBMISSION_EDIT_PAGE)
                                  .withCourseId(course.getId())
                                  .withSessionName(session.getFeedbackSessionName())
-                                 .withRegistrationKey(StringHelper.encrypt(student.key))
+                                 .withRegistrationKey(encryptedKey)
                                  .withStudentEmail(student.email)
                                  .toAbsoluteString();
 
         String reportUrl = Config.getAppUrl(Const.ActionURIs.STUDENT_FEEDBACK_RESULTS_PAGE)
                                  .withCourseId(course.getId())
                                  .withSessionName(session.getFeedbackSessionName())
-                                 .withRegistrationKey(StringHelper.encrypt(student.key))
+                                 .withRegistrationKey(encryptedKey)
                                  .withStudentEmail(student.email)
                                  .toAbsoluteString();
 
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
-
-        EmailWrapper email = getEmptyEmailAddressedToEmail(student.email);
-        email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
-        return email;
+        return generateFeedbackSessionEmail(emailType, course, session, sharedContent,
+                student.email, student.name, "", submitUrl, reportUrl);
     }
 
     /**
@@ -473,29 +425,114 @@ public class EmailGenerator {
             + "=== Email message as seen by the students ===</p>" + System.lineSeparator();
     }
 
-    private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
-            CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject, String feedbackAction, String additionalContactInformation) {
+    private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(EmailType emailType, CourseAttributes course,
+            FeedbackSessionAttributes session, InstructorAttributes instructor, CompiledTemplate sharedContent) {
 
         String instructorFragment = generateInstructorPreamble(course.getId(), course.getName());
 
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
+        return generateFeedbackSessionEmail(emailType, course, session, sharedContent,
+                instructor.email, instructor.name, instructorFragment,
+                "{in the actual email sent to the students, this will be the unique link}",
+                "{in the actual email sent to the students, this will be the unique link}");
+    }
+
+    private EmailWrapper generateFeedbackSessionEmail(EmailType emailType, CourseAttributes course,
+            FeedbackSessionAttributes session, CompiledTemplate sharedContent, String recipient, String userName,
+            String instructorFragment, String submitUrl, String reportUrl) {
+
+        Map<String, String> recipientVariables = new LinkedHashMap<>();
+        recipientVariables.put("${userName}", SanitizationHelper.sanitizeForHtml(userName));
+        recipientVariables.put("${instructorFragment}", instructorFragment);
+        recipientVariables.put("${submitUrl}", submitUrl);
+        recipientVariables.put("${reportUrl}", reportUrl);
+
+        EmailWrapper email = getEmptyEmailAddressedToEmail(recipient);
+        email.setSubject(String.format(emailType.getSubject(), course.getName(), session.getFeedbackSessionName()));
+        email.setContent(sharedContent.populate(recipientVariables));
+        EmailContentReference contentReference = new EmailContentReference(emailType, course.getId(),
+                session.getFeedbackSessionName(), recipientVariables, sharedContent.getTemplate());
+        email.setContentReference(contentReference);
+        return email;
+    }
+
+    /**
+     * Generates the content of a feedback session email of {@code emailType} that is shared by all recipients,
+     * leaving the placeholders of the recipient variables unpopulated.
+     */
+    private CompiledTemplate generateFeedbackSessionEmailSharedContent(
+            EmailType emailType, CourseAttributes course, FeedbackSessionAttributes session) {
+
+        CompiledTemplate template = EmailTemplates.USER_FEEDBACK_SESSION;
+        String status = "";
+        String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
+        String additionalContactInformation = getAdditionalContactInformationFragment(course);
+
+        switch (emailType) {
+        case FEEDBACK_OPENING:
+            status = FEEDBACK_STATUS_SESSION_OPENING;
+            break;
+        case FEEDBACK_SESSION_REMINDER:
+            status = FEEDBACK_STATUS_SESSION_OPEN;
+            additionalContactInformation = HTML_NO_ACTION_REQUIRED + additionalContactInformation;
+            break;
+        case FEEDBACK_CLOSING:
+            status = FEEDBACK_STATUS_SESSION_CLOSING;
+            additionalContactInformation = HTML_NO_ACTION_REQUIRED + additionalContactInformation;
+            break;
+        case FEEDBACK_CLOSED:
+            status = FEEDBACK_STATUS_SESSION_CLOSED;
+            feedbackAction = FEEDBACK_ACTION_VIEW;
+            break;
+        case FEEDBACK_PUBLISHED:
+            template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
+            feedbackAction = FEEDBACK_ACTION_VIEW;
+            break;
+        case FEEDBACK_UNPUBLISHED:
+            template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
+            break;
+        default:
+            Assumption.fail("Not a feedback session email type: " + emailType);
+            break;
+        }
+
+        return CompiledTemplate.compile(template.populate(
+                "${status}", status,
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
                 "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", instructorFragment,
                 "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}",
                 "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+                "${additionalContactInformation}", additionalContactInformation));
+    }
 
-        EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
-        email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
-        return email;
+    /**
+     * Renders the content of a feedback session email from its {@code contentReference}.
+     * The content shared by all recipients is generated once and cached for the other recipients,
+     * and is also kept in {@code contentReference}.
+     *
+     * @throws EntityDoesNotExistException if the course or the session of the email no longer exists
+     */
+    public String renderFeedbackSessionEmailContent(EmailContentReference contentReference)
+            throws EntityDoesNotExistException {
+        String courseId = contentReference.getCourseId();
+        String feedbackSessionName = contentReference.getFeedbackSessionName();
+
+        CompiledTemplate sharedContent = EmailContentCache.get(contentReference.getSharedContentKey(), () -> {
+            CourseAttributes course = coursesLogic.getCourse(courseId);
+            FeedbackSessionAttributes session = fsLogic.getFeedbackSession(feedbackSessionName, courseId);
+            if (course == null || session == null) {
+                return null;
+            }
+            return generateFeedbackSessionEmailSharedContent(contentReference.getEmailType(), course, session);
+        });
+
+        if (sharedContent == null) {
+            throw new EntityDoesNotExistException("Trying to render the content of an email of a non-existent "
+                    + "course " + courseId + " or session " + feedbackSessionName);
+        }
+        contentReference.setSharedContent(sharedContent.getTemplate());
+        return sharedContent.populate(contentReference.getRecipientVariables());
     }
 
     private boolean isYetToJoinCourse(StudentAttributes student) {
@@ -508,7 +545,7 @@ public class EmailGenerator {
     public EmailWrapper generateNewInstructorAccountJoinEmail(
             String instructorEmail, String instructorName, String joinUrl) {
 
-        String emailBody = Templates.populateTemplate(EmailTemplates.NEW_INSTRUCTOR_ACCOUNT_WELCOME,
+        String emailBody = EmailTemplates.NEW_INSTRUCTOR_ACCOUNT_WELCOME.populate(
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructorName),
                 "${joinUrl}", joinUrl);
 
@@ -524,11 +561,9 @@ public class EmailGenerator {
      */
     public EmailWrapper generateStudentCourseJoinEmail(CourseAttributes course, StudentAttributes student) {
 
-        String emailBody = Templates.populateTemplate(
-                fillUpStudentJoinFragment(student, EmailTemplates.USER_COURSE_JOIN),
+        String emailBody = EmailTemplates.USER_COURSE_JOIN.populate(
+                "${joinFragment}", generateStudentJoinFragment(student, course),
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${coOwnersEmails}", generateCoOwnersEmailsLine(course.getId()),
                 "${supportEmail}", Config.SUPPORT_EMAIL);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.email);
@@ -544,11 +579,9 @@ public class EmailGenerator {
     public EmailWrapper generateStudentCourseRejoinEmailAfterGoogleIdReset(
             CourseAttributes course, StudentAttributes student) {
 
-        String emailBody = Templates.populateTemplate(
-                fillUpStudentRejoinAfterGoogleIdResetFragment(student, EmailTemplates.USER_COURSE_JOIN),
+        String emailBody = EmailTemplates.USER_COURSE_JOIN.populate(
+                "${joinFragment}", generateStudentRejoinAfterGoogleIdResetFragment(student, course),
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${coOwnersEmails}", generateCoOwnersEmailsLine(course.getId()),
                 "${supportEmail}", Config.SUPPORT_EMAIL);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.email);
@@ -565,12 +598,9 @@ public class EmailGenerator {
     public EmailWrapper generateInstructorCourseJoinEmail(AccountAttributes inviter,
             InstructorAttributes instructor, CourseAttributes course) {
 
-        String emailBody = Templates.populateTemplate(
-                fillUpInstructorJoinFragment(instructor, EmailTemplates.USER_COURSE_JOIN),
+        String emailBody = EmailTemplates.USER_COURSE_JOIN.populate(
+                "${joinFragment}", generateInstructorJoinFragment(inviter, instructor, course),
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${inviterName}", SanitizationHelper.sanitizeForHtml(inviter.getName()),
-                "${inviterEmail}", SanitizationHelper.sanitizeForHtml(inviter.getEmail()),
                 "${supportEmail}", Config.SUPPORT_EMAIL);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.getEmail());
@@ -585,7 +615,7 @@ public class EmailGenerator {
      */
     public EmailWrapper generateUserCourseRegisteredEmail(
             String name, String emailAddress, String googleId, boolean isInstructor, CourseAttributes course) {
-        String emailBody = Templates.populateTemplate(EmailTemplates.USER_COURSE_REGISTER,
+        String emailBody = EmailTemplates.USER_COURSE_REGISTER.populate(
                 "${userName}", SanitizationHelper.sanitizeForHtml(name),
                 "${userType}", isInstructor ? "an instructor" : "a student",
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -600,56 +630,85 @@ public class EmailGenerator {
         return email;
     }
 
-    private String fillUpStudentJoinFragment(StudentAttributes student, String emailBody) {
+    private String generateStudentJoinFragment(StudentAttributes student, CourseAttributes course) {
         String joinUrl = Config.getAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
-        return Templates.populateTemplate(emailBody,
-                "${joinFragment}", EmailTemplates.FRAGMENT_STUDENT_COURSE_JOIN,
-                "${joinUrl}", joinUrl);
+        return EmailTemplates.FRAGMENT_STUDENT_COURSE_JOIN.populate(
+                "${joinUrl}", joinUrl,
+                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
+                "${coOwnersEmails}", generateCoOwnersEmailsLine(course.getId()));
     }
 
-    private String fillUpStudentRejoinAfterGoogleIdResetFragment(StudentAttributes student, String emailBody) {
+    private String generateStudentRejoinAfterGoogleIdResetFragment(StudentAttributes student, CourseAttributes course) {
         String joinUrl = Config.getAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
-        return Templates.populateTemplate(emailBody,
-                "${joinFragment}", EmailTemplates.FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET,
+        return EmailTemplates.FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET.populate(
                 "${joinUrl}", joinUrl,
+                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
+                "${coOwnersEmails}", generateCoOwnersEmailsLine(course.getId()),
                 "${supportEmail}", Config.SUPPORT_EMAIL);
     }
 
-    private String fillUpInstructorJoinFragment(InstructorAttributes instructor, String emailBody) {
+    private String generateInstructorJoinFragment(AccountAttributes inviter, InstructorAttributes instructor,
+            CourseAttributes course) {
         String joinUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_COURSE_JOIN)
                                .withRegistrationKey(StringHelper.encrypt(instructor.key))
                                .toAbsoluteString();
 
-        return Templates.populateTemplate(emailBody,
-                "${joinFragment}", EmailTemplates.FRAGMENT_INSTRUCTOR_COURSE_JOIN,
-                "${joinUrl}", joinUrl);
+        return EmailTemplates.FRAGMENT_INSTRUCTOR_COURSE_JOIN.populate(
+                "${joinUrl}", joinUrl,
+                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
+                "${inviterName}", SanitizationHelper.sanitizeForHtml(inviter.getName()),
+                "${inviterEmail}", SanitizationHelper.sanitizeForHtml(inviter.getEmail()));
     }
 
     /**
-     * Generates the logs compilation email for the given {@code logs}.
+     * Generates the logs compilation emails for the given {@code digest}, one email per page of
+     * {@link #MAX_LOG_GROUPS_PER_EMAIL} groups of logs, up to {@link #MAX_LOGS_COMPILATION_EMAILS} emails.
+     * The least frequent groups beyond that are left out.
      */
-    public EmailWrapper generateCompiledLogsEmail(List<AppLogLine> logs) {
-        StringBuilder emailBody = new StringBuilder();
-        for (int i = 0; i < logs.size(); i++) {
-            emailBody.append(generateSevereErrorLogLine(i, logs.get(i)));
-        }
+    public List<EmailWrapper> generateCompiledLogsEmails(SevereLogsDigest digest) {
+        List<SevereLogsDigest.LogGroup> groups = digest.getGroups();
+        int numberOfGroupsToReport = Math.min(groups.size(), MAX_LOG_GROUPS_PER_EMAIL * MAX_LOGS_COMPILATION_EMAILS);
 
-        EmailWrapper email = getEmptyEmailAddressedToEmail(Config.SUPPORT_EMAIL);
-        email.setSubject(String.format(EmailType.SEVERE_LOGS_COMPILATION.getSubject(), Config.getAppVersion()));
-        email.setContent(emailBody.toString());
-        return email;
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int from = 0; from < numberOfGroupsToReport; from += MAX_LOG_GROUPS_PER_EMAIL) {
+            int to = Math.min(from + MAX_LOG_GROUPS_PER_EMAIL, numberOfGroupsToReport);
+
+            StringBuilder emailBody = new StringBuilder();
+            emailBody.append(EmailTemplates.SEVERE_ERROR_LOGS_SUMMARY.populate(
+                    "${numberOfLogs}", String.valueOf(digest.getNumberOfLogs()),
+                    "${numberOfGroups}", String.valueOf(groups.size()),
+                    "${firstGroupIndex}", String.valueOf(from),
+                    "${lastGroupIndex}", String.valueOf(to - 1)));
+            for (int i = from; i < to; i++) {
+                emailBody.append(generateSevereErrorLogLine(i, groups.get(i)));
+            }
+
+            EmailWrapper email = getEmptyEmailAddressedToEmail(Config.SUPPORT_EMAIL);
+            email.setSubject(String.format(EmailType.SEVERE_LOGS_COMPILATION.getSubject(), Config.getAppVersion()));
+            email.setContent(emailBody.toString());
+            emails.add(email);
+        }
+        return emails;
     }
 
-    private String generateSevereErrorLogLine(int index, AppLogLine logLine) {
-        return Templates.populateTemplate(
-                EmailTemplates.SEVERE_ERROR_LOG_LINE,
+    private String generateSevereErrorLogLine(int index, SevereLogsDigest.LogGroup group) {
+        AppLogLine logLine = group.getSampleLog();
+        return EmailTemplates.SEVERE_ERROR_LOG_LINE.populate(
                 "${index}", String.valueOf(index),
                 "${errorType}", logLine.getLogLevel().toString(),
+                "${count}", String.valueOf(group.getCount()),
+                "${earliestTime}", formatLogTime(group.getEarliestTimeUsec()),
+                "${latestTime}", formatLogTime(group.getLatestTimeUsec()),
                 "${errorMessage}", logLine.getLogMessage().replace("\n", "<br>"));
     }
 
+    private static String formatLogTime(long timeUsec) {
+        return TimeHelper.formatDateTimeForAdminLog(Instant.ofEpochMilli(timeUsec / 1000),
+                Const.SystemParams.ADMIN_TIME_ZONE);
+    }
+
     /**
      * Generates a generic email with the specified {@code content}, {@code subject}, and {@code recipient}.
      */
@@ -660,6 +719,21 @@ public class EmailGenerator {
         return email;
     }
 
+    /**
+     * Generates the admin email with the ID {@code emailId} for {@code recipient}.
+     * The admin email is retrieved once and cached for the other recipients.
+     *
+     * @throws EntityDoesNotExistException if the admin email does not exist
+     */
+    public EmailWrapper generateAdminEmail(String emailId, String recipient) throws EntityDoesNotExistException {
+        AdminEmailAttributes adminEmail =
+                EmailContentCache.get("admin|" + emailId, () -> adminEmailsLogic.getAdminEmailById(emailId));
+        if (adminEmail == null) {
+            throw new EntityDoesNotExistException("Trying to send non-existent admin email " + emailId);
+        }
+        return generateAdminEmail(adminEmail.getContentValue(), adminEmail.getSubject(), recipient);
+    }
+
     private EmailWrapper getEmptyEmailAddressedToEmail(String recipient) {
         EmailWrapper email = new EmailWrapper();
         email.setRecipient(recipient);
@@ -690,7 +764,7 @@ public class EmailGenerator {
      * @return The contact information after replacing the placeholders.
      */
     private String getAdditionalContactInformationFragment(CourseAttributes course) {
-        return Templates.populateTemplate(EmailTemplates.FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION,
+        return EmailTemplates.FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION.populate(
                 "${coOwnersEmails}", generateCoOwnersEmailsLine(course.getId()),
                 "${supportEmail}", Config.SUPPORT_EMAIL);
     }
@@ -1,6 +1,10 @@
 package teammates.logic.api;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import teammates.common.exception.EmailSendingException;
 import teammates.common.exception.TeammatesException;
@@ -46,6 +50,39 @@ public class EmailSender {
         log.info(emailLogInfo);
     }
 
+    /**
+     * Sends the given {@code messages} in as few calls to the email sending service as possible
+     * and generates a log report for each message sent.
+     *
+     * @return the messages that failed to be sent
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> messages) {
+        return sendEmails(messages, sentMessages -> { });
+    }
+
+    /**
+     * Sends the given {@code messages} in as few calls to the email sending service as possible
+     * and generates a log report for each message sent.
+     *
+     * @param sentMessagesConsumer accepts the messages sent by each call to the service, right after the call,
+     *                             so that the messages already sent are known even if a later call throws
+     * @return the messages that failed to be sent
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> messages, Consumer<List<EmailWrapper>> sentMessagesConsumer) {
+        List<EmailWrapper> failedMessages = service.sendEmails(messages, sentMessagesConsumer);
+
+        Set<EmailWrapper> failedMessagesSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedMessagesSet.addAll(failedMessages);
+        for (EmailWrapper message : messages) {
+            if (failedMessagesSet.contains(message)) {
+                log.severe("Email failed to send: " + message.getInfoForLogging());
+            } else {
+                log.info(new EmailLogEntry(message).generateLogMessage());
+            }
+        }
+        return failedMessages;
+    }
+
     /**
      * Sends the given {@code message} with Javamail service regardless of configuration.
      */
@@ -86,4 +123,14 @@ public class EmailSender {
         throw new UnsupportedOperationException("Method is used only for testing");
     }
 
+    /**
+     * Gets the sizes of the batches of emails sent.
+     * This method is used only for testing, where it is overridden.
+     *
+     * @throws UnsupportedOperationException if used in production, where it is not meant to be
+     */
+    public List<Integer> getEmailBatchSizes() {
+        throw new UnsupportedOperationException("Method is used only for testing");
+    }
+
 }
@@ -18,6 +18,8 @@ import teammates.common.util.Const;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
+import teammates.logic.core.UserRoleCache;
+import teammates.logic.core.UserRoleCache.UserRoles;
 
 /**
  * Provides access control mechanisms.
@@ -30,6 +32,21 @@ public class GateKeeper {
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
+    /**
+     * Starts a request scope for the current thread, within which the roles of the current user
+     * are looked up at most once.
+     */
+    public static void startRequestScope() {
+        UserRoleCache.startRequestScope();
+    }
+
+    /**
+     * Ends the request scope of the current thread, if any.
+     */
+    public static void endRequestScope() {
+        UserRoleCache.endRequestScope();
+    }
+
     public boolean isUserLoggedOn() {
         return userService.getCurrentUser() != null;
     }
@@ -47,11 +64,13 @@ public class GateKeeper {
             userType.isAdmin = true;
         }
 
-        if (isInstructor()) {
+        UserRoles roles = UserRoleCache.getRoles(user.getNickname(), this::getRolesFromStorage);
+
+        if (roles.isInstructor()) {
             userType.isInstructor = true;
         }
 
-        if (isStudent()) {
+        if (roles.isStudent()) {
             userType.isStudent = true;
         }
 
@@ -328,17 +347,9 @@ public class GateKeeper {
         return userService.isUserAdmin();
     }
 
-    private boolean isInstructor() {
-        User user = userService.getCurrentUser();
-        Assumption.assertNotNull(user);
-        return accountsLogic.isAccountAnInstructor(user.getNickname());
-    }
-
-    private boolean isStudent() {
-        User user = userService.getCurrentUser();
-        Assumption.assertNotNull(user);
-
-        return studentsLogic.isStudentInAnyCourse(user.getNickname());
+    private UserRoles getRolesFromStorage(String googleId) {
+        return new UserRoles(accountsLogic.isAccountAnInstructor(googleId),
+                studentsLogic.isStudentInAnyCourse(googleId));
     }
 
     public void verifyAccessibleForCurrentUserAsInstructorOrTeamMemberOrAdmin(AccountAttributes account, String courseId,
@@ -1,5 +1,7 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
@@ -7,11 +9,13 @@ import java.util.Map;
 
 import com.google.appengine.api.blobstore.BlobKey;
 
+import teammates.common.datatransfer.ActivityLogsBundle;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.FeedbackSessionCompletionEvaluator;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
@@ -38,9 +42,11 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.JoinCourseException;
+import teammates.common.util.ActivityLogQuery;
 import teammates.common.util.Assumption;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.ActivityLogsLogic;
 import teammates.logic.core.AdminEmailsLogic;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
@@ -49,6 +55,7 @@ import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
+import teammates.logic.core.SevereLogsLogic;
 import teammates.logic.core.StudentsLogic;
 
 /**
@@ -69,6 +76,8 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final ActivityLogsLogic activityLogsLogic = ActivityLogsLogic.inst();
+    protected static final SevereLogsLogic severeLogsLogic = SevereLogsLogic.inst();
 
     /**
      * Creates a new Account based on given values. If a profile is not given,
@@ -1069,6 +1078,18 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionCompletedByStudent(fsa, userEmail);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return an evaluator of the completion of the session by the students and instructors of its course
+     */
+    public FeedbackSessionCompletionEvaluator getFeedbackSessionCompletionEvaluator(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(fsa);
+        return feedbackSessionsLogic.getFeedbackSessionCompletionEvaluator(fsa);
+    }
+
     /**
      * Deletes the student from the course including any submissions to/from
      * for this student in this course.
@@ -1381,6 +1402,28 @@ public class Logic {
                 questionId, isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes summary results (without comments) of the whole session, or of the givers in a section
+     * if {@code section} is non-null, in CSV format to {@code writer} one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters(except section) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String,
+     *      String, boolean, boolean, Writer)
+     */
+    public void writeFeedbackSessionResultSummaryInSectionAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail,
+            String section, boolean isMissingResponsesShown, boolean isStatsShown, Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                feedbackSessionName, courseId, instructorEmail, section,
+                isMissingResponsesShown, isStatsShown, writer);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -2196,6 +2239,65 @@ public class Logic {
         adminEmailsLogic.deleteAdminEmailUploadedFile(key);
     }
 
+    /**
+     * Moves the queued activity log entries of the app to the Datastore.
+     *
+     * @return the number of entries stored
+     * @see ActivityLogsLogic#storeQueuedActivityLogs()
+     */
+    public int storeQueuedActivityLogs() {
+        return activityLogsLogic.storeQueuedActivityLogs();
+    }
+
+    /**
+     * Gets up to {@code limit} activity log entries matching the query, from the latest to the earliest.
+     * Preconditions: <br>
+     * * {@code query} is non-null.
+     *
+     * @param cursor the cursor returned with the previous page of entries, or null to start from the latest entry
+     * @see ActivityLogsLogic#getActivityLogs(ActivityLogQuery, String, int)
+     */
+    public ActivityLogsBundle getActivityLogs(ActivityLogQuery query, String cursor, int limit) {
+        Assumption.assertNotNull(query);
+        return activityLogsLogic.getActivityLogs(query, cursor, limit);
+    }
+
+    /**
+     * Returns true if any activity log entry matches the query.
+     * Preconditions: <br>
+     * * {@code query} is non-null.
+     *
+     * @see ActivityLogsLogic#hasActivityLogs(ActivityLogQuery)
+     */
+    public boolean hasActivityLogs(ActivityLogQuery query) {
+        Assumption.assertNotNull(query);
+        return activityLogsLogic.hasActivityLogs(query);
+    }
+
+    /**
+     * Gets the time from which the severe logs are to be compiled up to {@code endTime}.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see SevereLogsLogic#getSevereLogsCompilationStartTime(Instant)
+     */
+    public Instant getSevereLogsCompilationStartTime(Instant endTime) {
+        Assumption.assertNotNull(endTime);
+        return severeLogsLogic.getSevereLogsCompilationStartTime(endTime);
+    }
+
+    /**
+     * Records that the severe logs have been compiled up to {@code compiledUntil}, exclusive.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see SevereLogsLogic#updateSevereLogsCompiledUntil(Instant)
+     */
+    public void updateSevereLogsCompiledUntil(Instant compiledUntil) {
+        Assumption.assertNotNull(compiledUntil);
+        severeLogsLogic.updateSevereLogsCompiledUntil(compiledUntil);
+    }
+
     /**
      * Deletes uploaded file.
      * @param key the GCS blobkey used to fetch the file in Google Cloud Storage
@@ -2227,6 +2329,20 @@ public class Logic {
         studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
     }
 
+    /**
+     * Adjusts all responses of the session to the team and section changes in {@code enrollmentList},
+     * persisting the changes in batches.
+     * @see FeedbackResponsesLogic#adjustFeedbackResponsesForEnrollments(List, String, String)
+     */
+    public void adjustFeedbackResponsesForEnrollments(List<StudentEnrollDetails> enrollmentList,
+                                                      String feedbackSessionName, String courseId)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(enrollmentList);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        feedbackResponsesLogic.adjustFeedbackResponsesForEnrollments(enrollmentList, feedbackSessionName, courseId);
+    }
+
     /**
      * Returns returns a list of sessions that were closed within past hour.
      *
@@ -1,10 +1,15 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
@@ -20,6 +25,12 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of emails in an email batch task. Emails are carried without their content,
+     * which keeps the task well below the maximum task size.
+     */
+    private static final int EMAILS_PER_BATCH = 50;
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -31,19 +42,24 @@ public class TaskQueuer {
         new TaskQueuesLogic().addTask(task);
     }
 
-    protected void addDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap,
-                                   long countdownTime) {
-        Map<String, String[]> multisetParamMap = new HashMap<>();
-        paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
-        TaskWrapper task = new TaskWrapper(queueName, workerUrl, multisetParamMap);
-        new TaskQueuesLogic().addDeferredTask(task, countdownTime);
-    }
-
     protected void addTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap) {
         TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap);
         new TaskQueuesLogic().addTask(task);
     }
 
+    /**
+     * Adds the tasks to their queues in bulk.
+     *
+     * @return the tasks that are not added because they are invalid, e.g. too large
+     */
+    protected List<TaskWrapper> addTasks(List<TaskWrapper> tasks) {
+        return new TaskQueuesLogic().addTasks(tasks);
+    }
+
+    protected void addPullTask(String queueName, String payload) {
+        new TaskQueuesLogic().addPullTask(queueName, payload);
+    }
+
     /**
      * Gets the tasks added to the queue.
      * This method is used only for testing, where it is overridden.
@@ -66,6 +82,24 @@ public class TaskQueuer {
 
     // The following methods are the actual API methods to be used by the client classes
 
+    /**
+     * Schedules the activity log entry, generated by the app version given, to be stored in the Datastore.
+     * The entry is queued without waiting for the queue, so that logging does not delay the request,
+     * and is stored together with other queued entries
+     * by {@link teammates.common.util.Const.ActionURIs#AUTOMATED_ACTIVITY_LOG_STORAGE}.
+     *
+     * <p>Failure to start queuing the entry is logged but does not affect the caller.
+     */
+    public void scheduleActivityLogStorage(ActivityLogEntry logEntry, String appVersion) {
+        try {
+            addPullTask(TaskQueue.ACTIVITY_LOG_QUEUE_NAME,
+                    JsonUtils.toJson(new ActivityLogAttributes(logEntry, appVersion), ActivityLogAttributes.class));
+        } catch (Exception e) {
+            log.warning("Error when adding activity log entry " + logEntry.getLogId() + " to task queue: "
+                        + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
     /**
      * Schedules an admin email preparation in address mode, i.e. using the address list given directly.
      *
@@ -108,30 +142,26 @@ public class TaskQueuer {
     }
 
     /**
-     * Schedules an admin email to be sent.
+     * Schedules an admin email to be sent to each of the receivers.
+     * The tasks only carry the ID of the admin email, whose content is retrieved when the email is sent.
      *
-     * @param emailId the ID of admin email to be retrieved from the database (if needed)
-     * @param emailReceiver the email address of the email receiver
-     * @param emailSubject the subject of the email
-     * @param emailContent the content of the email
+     * @param emailId the ID of admin email to be retrieved from the database
+     * @param emailReceivers the email addresses of the email receivers
      */
-    public void scheduleAdminEmailForSending(String emailId, String emailReceiver, String emailSubject,
-                                             String emailContent) {
-        Map<String, String> paramMap = new HashMap<>();
-        paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, emailSubject);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, emailContent);
+    public void scheduleAdminEmailsForSending(String emailId, List<String> emailReceivers) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (String emailReceiver : emailReceivers) {
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.ADMIN_EMAIL_ID, new String[] { emailId });
+            paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, new String[] { emailReceiver });
+            tasks.add(new TaskWrapper(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL,
+                    paramMap));
+        }
 
-        try {
-            addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().toLowerCase().contains("task size too large")) {
-                log.info("Email task size exceeds max limit. Switching to large email task mode.");
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_SUBJECT);
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_CONTENT);
-                paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
-                addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-            }
+        for (TaskWrapper rejectedTask : addTasks(tasks)) {
+            log.severe("Error when adding admin email to task queue: task is invalid\n"
+                       + "Email ID: " + emailId + "\n"
+                       + "Email receiver: " + rejectedTask.getParamMap().get(ParamsNames.ADMIN_EMAIL_RECEIVER)[0]);
         }
     }
 
@@ -309,41 +339,124 @@ public class TaskQueuer {
         int oneHourInMillis = 60 * 60 * 1000;
         int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
 
+        List<TaskWrapper> tasks = new ArrayList<>();
+        Map<TaskWrapper, EmailWrapper> emailsByTask = new HashMap<>();
         int numberOfEmailsSent = 0;
         for (EmailWrapper email : emails) {
             long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
+            TaskWrapper task = getEmailSendingTask(email, emailDelayTimer);
+            tasks.add(task);
+            emailsByTask.put(task, email);
             numberOfEmailsSent++;
         }
-    }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
+        List<TaskWrapper> rejectedTasks;
         try {
-            Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
+            rejectedTasks = addTasks(tasks);
+        } catch (Exception e) {
+            log.severe("Error when adding " + tasks.size() + " emails to task queue: "
+                       + TeammatesException.toStringWithStackTrace(e));
+            return;
+        }
+
+        for (TaskWrapper rejectedTask : rejectedTasks) {
+            EmailWrapper email = emailsByTask.get(rejectedTask);
+            log.severe("Error when adding email to task queue: task is invalid, e.g. too large\n"
+                       + "Email sender: " + email.getSenderEmail() + "\n"
+                       + "Email sender name: " + email.getSenderName() + "\n"
+                       + "Email receiver: " + email.getRecipient() + "\n"
+                       + "Email subject: " + email.getSubject() + "\n"
+                       + "Email reply-to address: " + email.getReplyTo());
+        }
+    }
+
+    /**
+     * Schedules for the given list of emails to be sent in batches. The emails of a batch are sent
+     * in as few calls to the email sending service as possible.
+     *
+     * <p>Only emails with a content reference can be sent in batches; the other emails, and the emails
+     * of batches that cannot be queued, are scheduled to be sent individually.
+     *
+     * @param emails the list of emails to be sent
+     */
+    public void scheduleEmailBatchesForSending(List<EmailWrapper> emails) {
+        List<EmailWrapper> emailsToSendIndividually = new ArrayList<>();
+        Map<String, List<EmailWrapper>> emailsBySharedContent = new LinkedHashMap<>();
+        for (EmailWrapper email : emails) {
+            if (email.getContentReference() == null) {
+                emailsToSendIndividually.add(email);
+            } else {
+                emailsBySharedContent.computeIfAbsent(email.getContentReference().getSharedContentKey(),
+                        key -> new ArrayList<>()).add(email);
+            }
+        }
+
+        List<TaskWrapper> tasks = new ArrayList<>();
+        Map<TaskWrapper, List<EmailWrapper>> emailsByTask = new HashMap<>();
+        for (List<EmailWrapper> emailsWithSameContent : emailsBySharedContent.values()) {
+            for (int i = 0; i < emailsWithSameContent.size(); i += EMAILS_PER_BATCH) {
+                List<EmailWrapper> batch =
+                        emailsWithSameContent.subList(i, Math.min(i + EMAILS_PER_BATCH, emailsWithSameContent.size()));
+                TaskWrapper task = getEmailBatchSendingTask(batch);
+                tasks.add(task);
+                emailsByTask.put(task, batch);
             }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
+        }
 
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
+        try {
+            for (TaskWrapper rejectedTask : addTasks(tasks)) {
+                emailsToSendIndividually.addAll(emailsByTask.get(rejectedTask));
+            }
         } catch (Exception e) {
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+            log.severe("Error when adding " + tasks.size() + " email batches to task queue: "
+                       + TeammatesException.toStringWithStackTrace(e));
+            return;
+        }
+
+        scheduleEmailsForSending(emailsToSendIndividually);
+    }
+
+    private TaskWrapper getEmailBatchSendingTask(List<EmailWrapper> emails) {
+        List<EmailWrapper> emailsWithoutContent = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            // the content is rendered from the content reference when the email is sent
+            EmailWrapper emailWithoutContent = new EmailWrapper();
+            emailWithoutContent.setSenderEmail(email.getSenderEmail());
+            emailWithoutContent.setSenderName(email.getSenderName());
+            emailWithoutContent.setReplyTo(email.getReplyTo());
+            emailWithoutContent.setRecipient(email.getRecipient());
+            emailWithoutContent.setBcc(email.getBcc());
+            emailWithoutContent.setSubject(email.getSubject());
+            emailWithoutContent.setContentReference(email.getContentReference());
+            emailsWithoutContent.add(emailWithoutContent);
+        }
+
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_BATCH, new String[] { JsonUtils.toJson(emailsWithoutContent) });
+
+        return new TaskWrapper(TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
+                paramMap);
+    }
+
+    private TaskWrapper getEmailSendingTask(EmailWrapper email, long emailDelayTimer) {
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_SUBJECT, new String[] { email.getSubject() });
+        if (email.getContentReference() == null) {
+            paramMap.put(ParamsNames.EMAIL_CONTENT, new String[] { email.getContent() });
+        } else {
+            paramMap.put(ParamsNames.EMAIL_CONTENT_REFERENCE,
+                    new String[] { JsonUtils.toJson(email.getContentReference()) });
+        }
+        paramMap.put(ParamsNames.EMAIL_SENDER, new String[] { email.getSenderEmail() });
+        String emailSenderName = email.getSenderName();
+        if (emailSenderName != null && !emailSenderName.isEmpty()) {
+            paramMap.put(ParamsNames.EMAIL_SENDERNAME, new String[] { emailSenderName });
         }
+        paramMap.put(ParamsNames.EMAIL_RECEIVER, new String[] { email.getRecipient() });
+        paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, new String[] { email.getReplyTo() });
+
+        return new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                paramMap, emailDelayTimer);
     }
 
 }
@@ -33,6 +33,7 @@ import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.StringHelper;
 import teammates.logic.api.Logic;
+import teammates.logic.core.UserRoleCache;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.api.AdminEmailsDb;
 import teammates.storage.api.CoursesDb;
@@ -120,6 +121,9 @@ public class BackDoorLogic extends Logic {
 
         EntitiesDb.flush();
 
+        // accounts and students are created above without going through the logic layer
+        UserRoleCache.invalidate(googleIdAccountMap.keySet());
+
         return Const.StatusCodes.BACKDOOR_STATUS_SUCCESS;
     }
 
@@ -172,71 +176,71 @@ public class BackDoorLogic extends Logic {
 
     public String getAccountAsJson(String googleId) {
         AccountAttributes accountData = getAccount(googleId, true);
-        return JsonUtils.toJson(accountData);
+        return JsonUtils.toPrettyJson(accountData);
     }
 
     public String getStudentProfileAsJson(String googleId) {
         StudentProfileAttributes profileData = getStudentProfile(googleId);
-        return JsonUtils.toJson(profileData);
+        return JsonUtils.toPrettyJson(profileData);
     }
 
     public String getInstructorAsJsonById(String instructorId, String courseId) {
         InstructorAttributes instructorData = getInstructorForGoogleId(courseId, instructorId);
-        return JsonUtils.toJson(instructorData);
+        return JsonUtils.toPrettyJson(instructorData);
     }
 
     public String getInstructorAsJsonByEmail(String instructorEmail, String courseId) {
         InstructorAttributes instructorData = getInstructorForEmail(courseId, instructorEmail);
-        return JsonUtils.toJson(instructorData);
+        return JsonUtils.toPrettyJson(instructorData);
     }
 
     public String getCourseAsJson(String courseId) {
         CourseAttributes course = getCourse(courseId);
-        return JsonUtils.toJson(course);
+        return JsonUtils.toPrettyJson(course);
     }
 
     public String getStudentAsJson(String courseId, String email) {
         StudentAttributes student = getStudentForEmail(courseId, email);
-        return JsonUtils.toJson(student);
+        return JsonUtils.toPrettyJson(student);
     }
 
     public String getAllStudentsAsJson(String courseId) {
         List<StudentAttributes> studentList = studentsLogic.getStudentsForCourse(courseId);
-        return JsonUtils.toJson(studentList);
+        return JsonUtils.toPrettyJson(studentList);
     }
 
     public String getFeedbackSessionAsJson(String feedbackSessionName, String courseId) {
         FeedbackSessionAttributes fs = getFeedbackSession(feedbackSessionName, courseId);
-        return JsonUtils.toJson(fs);
+        return JsonUtils.toPrettyJson(fs);
     }
 
     public String getFeedbackQuestionAsJson(String feedbackSessionName, String courseId, int qnNumber) {
         FeedbackQuestionAttributes fq =
                 feedbackQuestionsLogic.getFeedbackQuestion(feedbackSessionName, courseId, qnNumber);
-        return JsonUtils.toJson(fq);
+        return JsonUtils.toPrettyJson(fq);
     }
 
     public String getFeedbackQuestionForIdAsJson(String questionId) {
         FeedbackQuestionAttributes fq = feedbackQuestionsLogic.getFeedbackQuestion(questionId);
-        return JsonUtils.toJson(fq);
+        return JsonUtils.toPrettyJson(fq);
     }
 
     public String getFeedbackResponseAsJson(String feedbackQuestionId, String giverEmail, String recipient) {
         FeedbackResponseAttributes fq =
                 feedbackResponsesLogic.getFeedbackResponse(feedbackQuestionId, giverEmail, recipient);
-        return JsonUtils.toJson(fq);
+        return JsonUtils.toPrettyJson(fq);
     }
 
     public String getFeedbackResponsesForGiverAsJson(String courseId, String giverEmail) {
         List<FeedbackResponseAttributes> responseList =
                 feedbackResponsesLogic.getFeedbackResponsesFromGiverForCourse(courseId, giverEmail);
-        return JsonUtils.toJson(responseList);
+        return JsonUtils.toPrettyJson(responseList);
     }
 
     public String getFeedbackResponsesForReceiverAsJson(String courseId, String recipient) {
         List<FeedbackResponseAttributes> responseList =
                 feedbackResponsesLogic.getFeedbackResponsesForReceiverForCourse(courseId, recipient);
-        return JsonUtils.toJson(responseList);
+        return JsonUtils.toPrettyJson(responseList);
     }
 
     public void editAccountAsJson(String newValues)
@@ -558,6 +562,8 @@ public class BackDoorLogic extends Logic {
         populateNullStudentProfiles(dataBundle.accounts.values());
         accountsDb.deleteAccounts(dataBundle.accounts.values());
 
+        UserRoleCache.invalidate(getGoogleIds(dataBundle));
+
         for (AdminEmailAttributes email : dataBundle.adminEmails.values()) {
             // Retrieve email by subject as fields emailId, createDate cannot be specified by dataBundle.
             AdminEmailAttributes emailInDb = adminEmailsDb.getAdminEmailBySubject(email.subject);
@@ -569,6 +575,20 @@ public class BackDoorLogic extends Logic {
         }
     }
 
+    private Set<String> getGoogleIds(DataBundle dataBundle) {
+        Set<String> googleIds = new HashSet<>();
+        for (AccountAttributes account : dataBundle.accounts.values()) {
+            googleIds.add(account.googleId);
+        }
+        for (InstructorAttributes instructor : dataBundle.instructors.values()) {
+            googleIds.add(instructor.googleId);
+        }
+        for (StudentAttributes student : dataBundle.students.values()) {
+            googleIds.add(student.googleId);
+        }
+        return googleIds;
+    }
+
     private void deleteCourses(Collection<CourseAttributes> courses) {
         List<String> courseIds = new ArrayList<>();
         for (CourseAttributes course : courses) {
@@ -54,6 +54,7 @@ public final class AccountsLogic {
         log.info("going to create account :\n" + accountData.toString());
 
         accountsDb.createAccount(accountData);
+        UserRoleCache.invalidate(accountData.googleId);
     }
 
     public AccountAttributes getAccount(String googleId) {
@@ -103,11 +104,13 @@ public final class AccountsLogic {
     public void updateAccount(AccountAttributes account)
             throws InvalidParametersException, EntityDoesNotExistException {
         accountsDb.updateAccount(account, false);
+        UserRoleCache.invalidate(account.googleId);
     }
 
     public void updateAccount(AccountAttributes account, boolean updateStudentProfile)
             throws InvalidParametersException, EntityDoesNotExistException {
         accountsDb.updateAccount(account, updateStudentProfile);
+        UserRoleCache.invalidate(account.googleId);
     }
 
     public void joinCourseForStudent(String registrationKey, String googleId)
@@ -301,6 +304,7 @@ public final class AccountsLogic {
             account.isInstructor = false;
             try {
                 accountsDb.updateAccount(account);
+                UserRoleCache.invalidate(googleId);
             } catch (InvalidParametersException | EntityDoesNotExistException e) {
                 Assumption.fail("Invalid account data detected unexpectedly "
                                 + "while removing instruction privileges from account :" + account.toString());
@@ -318,6 +322,7 @@ public final class AccountsLogic {
             account.isInstructor = true;
             try {
                 accountsDb.updateAccount(account);
+                UserRoleCache.invalidate(googleId);
             } catch (InvalidParametersException | EntityDoesNotExistException e) {
                 Assumption.fail("Invalid account data detected unexpectedly "
                                 + "while adding instruction privileges to account :" + account.toString());
@@ -329,6 +334,7 @@ public final class AccountsLogic {
         instructorsLogic.deleteInstructorsForGoogleIdAndCascade(googleId);
         studentsLogic.deleteStudentsForGoogleIdAndCascade(googleId);
         accountsDb.deleteAccount(googleId);
+        UserRoleCache.invalidate(googleId);
         //TODO: deal with orphan courses, submissions etc.
     }
 
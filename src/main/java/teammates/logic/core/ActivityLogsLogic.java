@@ -0,0 +1,117 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonParseException;
+
+import teammates.common.datatransfer.ActivityLogsBundle;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.util.ActivityLogQuery;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.storage.api.ActivityLogsDb;
+
+/**
+ * Handles operations related to the activity log entries of the app.
+ *
+ * <p>Entries are queued in the {@link Const.TaskQueue#ACTIVITY_LOG_QUEUE_NAME} pull queue as they are generated,
+ * and are moved from the queue to the Datastore in batches by {@link #storeQueuedActivityLogs()}.
+ *
+ * @see ActivityLogAttributes
+ * @see ActivityLogsDb
+ */
+public final class ActivityLogsLogic {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Time for which the queued entries are leased while they are being stored.
+     * Entries which fail to be stored are leased again after this time.
+     */
+    private static final long LEASE_MILLIS = 60 * 1000;
+
+    /**
+     * Maximum number of leases in a single run of {@link #storeQueuedActivityLogs()}.
+     */
+    private static final int MAX_LEASES_PER_STORAGE = 10;
+
+    private static ActivityLogsLogic instance = new ActivityLogsLogic();
+
+    private static final ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    private ActivityLogsLogic() {
+        // prevent initialization
+    }
+
+    public static ActivityLogsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Moves the queued activity log entries to the Datastore, one lease of entries at a time,
+     * until the queue is empty or the maximum number of leases is reached.
+     *
+     * <p>Entries are stored with the names of their tasks as IDs, so an entry which is leased again
+     * after it is stored overwrites the stored entry. Entries which cannot be read are dropped from the queue.
+     *
+     * @return the number of entries stored
+     */
+    public int storeQueuedActivityLogs() {
+        TaskQueuesLogic taskQueuesLogic = new TaskQueuesLogic();
+        int numberOfLogsStored = 0;
+
+        for (int i = 0; i < MAX_LEASES_PER_STORAGE; i++) {
+            Map<String, String> payloadsByTaskName =
+                    taskQueuesLogic.leasePullTasks(Const.TaskQueue.ACTIVITY_LOG_QUEUE_NAME, LEASE_MILLIS);
+            if (payloadsByTaskName.isEmpty()) {
+                break;
+            }
+
+            List<ActivityLogAttributes> logs = new ArrayList<>();
+            for (Map.Entry<String, String> payload : payloadsByTaskName.entrySet()) {
+                try {
+                    ActivityLogAttributes activityLog = JsonUtils.fromJson(payload.getValue(), ActivityLogAttributes.class);
+                    // the task name stays the same if the entry is leased again, e.g. after failing to delete the task
+                    activityLog.setId(payload.getKey());
+                    logs.add(activityLog);
+                } catch (JsonParseException e) {
+                    log.warning("Dropping unreadable activity log entry in task " + payload.getKey()
+                                + ": " + e.getMessage());
+                }
+            }
+
+            activityLogsDb.createActivityLogs(logs);
+            taskQueuesLogic.deleteTasks(Const.TaskQueue.ACTIVITY_LOG_QUEUE_NAME,
+                                        new ArrayList<>(payloadsByTaskName.keySet()));
+            numberOfLogsStored += logs.size();
+        }
+
+        return numberOfLogsStored;
+    }
+
+    /**
+     * Gets up to {@code limit} activity log entries matching the query, from the latest to the earliest,
+     * continuing from the previous page of entries if {@code cursor} is given.
+     *
+     * @see ActivityLogsDb#getActivityLogs(ActivityLogQuery, String, int)
+     */
+    public ActivityLogsBundle getActivityLogs(ActivityLogQuery query, String cursor, int limit) {
+        Assumption.assertNotNull(query);
+        return activityLogsDb.getActivityLogs(query, cursor, limit);
+    }
+
+    /**
+     * Returns true if any activity log entry matches the query.
+     *
+     * @see ActivityLogsDb#hasActivityLogs(ActivityLogQuery)
+     */
+    public boolean hasActivityLogs(ActivityLogQuery query) {
+        Assumption.assertNotNull(query);
+        return activityLogsDb.hasActivityLogs(query);
+    }
+
+}
@@ -0,0 +1,92 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import teammates.common.util.CacheStats;
+
+/**
+ * Caches the email contents shared by many email tasks, e.g. the body of an admin email
+ * or the content of a feedback session email shared by all recipients, in the memory of the instance.
+ *
+ * <p>Email tasks of the same email are executed in quick succession, so the cache only keeps
+ * a few recently used contents and for a short time.
+ */
+public final class EmailContentCache {
+
+    private static final int MAX_ENTRIES = 50;
+
+    private static final Duration EXPIRATION = Duration.ofMinutes(10);
+
+    private static final CacheStats cacheStats = new CacheStats("Email content");
+
+    private static final Map<String, CachedContent> contents =
+            new LinkedHashMap<String, CachedContent>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedContent> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    private EmailContentCache() {
+        // utility class
+    }
+
+    /**
+     * Gets the content cached for the key, loading it with {@code contentLoader} if it is not cached or has expired.
+     * A null content returned by {@code contentLoader} is not cached.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String key, Supplier<T> contentLoader) {
+        synchronized (contents) {
+            CachedContent cachedContent = contents.get(key);
+            if (cachedContent != null && Instant.now().isBefore(cachedContent.expiryTime)) {
+                cacheStats.recordHit();
+                return (T) cachedContent.content;
+            }
+        }
+
+        cacheStats.recordMiss();
+        T content = contentLoader.get();
+        if (content != null) {
+            synchronized (contents) {
+                contents.put(key, new CachedContent(content, Instant.now().plus(EXPIRATION)));
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Discards all cached contents.
+     */
+    public static void clear() {
+        synchronized (contents) {
+            contents.clear();
+        }
+    }
+
+    /**
+     * Returns the hit/miss counters of the cache. Each miss corresponds to one loading of a content.
+     */
+    public static CacheStats getCacheStats() {
+        return cacheStats;
+    }
+
+    private static class CachedContent {
+
+        private final Object content;
+        private final Instant expiryTime;
+
+        CachedContent(Object content, Instant expiryTime) {
+            this.content = content;
+            this.expiryTime = expiryTime;
+        }
+
+    }
+
+}
@@ -1,13 +1,28 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
 import teammates.common.exception.EmailSendingException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.EmailContentReference;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
 
 /**
  * An email sender interface used by services for sending emails.
  */
 public abstract class EmailSenderService {
 
+    private static final Logger log = Logger.getLogger();
+
     /**
      * Parses the {@code wrapper} email object to specific implementations of email object
      * used by the service.
@@ -27,10 +42,198 @@ public abstract class EmailSenderService {
         }
     }
 
+    /**
+     * Sends the emails packaged as {@code wrappers}.
+     *
+     * @return the emails that failed to be sent
+     * @see #sendEmails(List, Consumer)
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> wrappers) {
+        return sendEmails(wrappers, sentEmails -> { });
+    }
+
+    /**
+     * Sends the emails packaged as {@code wrappers}. Emails that can be sent together are sent
+     * in batches, in as few calls to the service as possible; the other emails are sent one by one.
+     * No two emails of a batch have the same recipient.
+     *
+     * <p>If a batch fails to be sent as a whole, its emails are sent one by one instead,
+     * so that only the emails that cannot be sent on their own are reported as failed.
+     *
+     * @param sentEmailsConsumer accepts the emails sent by each call to the service, right after the call
+     * @return the emails that failed to be sent
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> wrappers, Consumer<List<EmailWrapper>> sentEmailsConsumer) {
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        Map<String, List<EmailWrapper>> emailsByBatchKey = new LinkedHashMap<>();
+        for (EmailWrapper wrapper : wrappers) {
+            String batchKey = getBatchKey(wrapper);
+            if (batchKey == null) {
+                failedEmails.addAll(sendEmailsOneByOne(Collections.singletonList(wrapper), sentEmailsConsumer));
+            } else {
+                emailsByBatchKey.computeIfAbsent(batchKey, key -> new ArrayList<>()).add(wrapper);
+            }
+        }
+
+        int maxBatchSize = getMaxBatchSize();
+        for (List<EmailWrapper> emails : emailsByBatchKey.values()) {
+            for (List<EmailWrapper> batch : splitIntoBatches(emails, maxBatchSize)) {
+                List<EmailWrapper> failedEmailsOfBatch = sendEmailBatch(batch);
+                if (batch.size() > 1 && failedEmailsOfBatch.size() == batch.size()) {
+                    failedEmails.addAll(sendEmailsOneByOne(batch, sentEmailsConsumer));
+                    continue;
+                }
+                acceptSentEmails(batch, failedEmailsOfBatch, sentEmailsConsumer);
+                failedEmails.addAll(failedEmailsOfBatch);
+            }
+        }
+        return failedEmails;
+    }
+
+    /**
+     * Splits {@code emails} into batches of at most {@code maxBatchSize} emails, in which no two emails
+     * have the same recipient, as some services (e.g. Mailgun) tell the emails of a batch apart by their recipients.
+     */
+    private static List<List<EmailWrapper>> splitIntoBatches(List<EmailWrapper> emails, int maxBatchSize) {
+        List<List<EmailWrapper>> batches = new ArrayList<>();
+        List<Set<String>> recipientsOfBatches = new ArrayList<>();
+        int firstBatchNotFull = 0;
+        for (EmailWrapper email : emails) {
+            String recipient = email.getRecipient().toLowerCase();
+            int batchIndex = firstBatchNotFull;
+            while (batchIndex < batches.size() && (batches.get(batchIndex).size() == maxBatchSize
+                    || recipientsOfBatches.get(batchIndex).contains(recipient))) {
+                batchIndex++;
+            }
+            if (batchIndex == batches.size()) {
+                batches.add(new ArrayList<>());
+                recipientsOfBatches.add(new HashSet<>());
+            }
+            batches.get(batchIndex).add(email);
+            recipientsOfBatches.get(batchIndex).add(recipient);
+            while (firstBatchNotFull < batches.size() && batches.get(firstBatchNotFull).size() == maxBatchSize) {
+                firstBatchNotFull++;
+            }
+        }
+        return batches;
+    }
+
+    private List<EmailWrapper> sendEmailBatch(List<EmailWrapper> batch) {
+        try {
+            return sendEmailBatchWithService(batch);
+        } catch (Exception e) {
+            log.severe("Batch of " + batch.size() + " emails failed to send: "
+                       + TeammatesException.toStringWithStackTrace(e));
+            return batch;
+        }
+    }
+
+    /**
+     * Sends each of {@code emails} in its own call to the service.
+     *
+     * @return the emails that failed to be sent
+     */
+    private List<EmailWrapper> sendEmailsOneByOne(List<EmailWrapper> emails,
+                                                  Consumer<List<EmailWrapper>> sentEmailsConsumer) {
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            List<EmailWrapper> singleEmail = Collections.singletonList(email);
+            List<EmailWrapper> failedEmailsOfCall;
+            if (getBatchKey(email) == null) {
+                failedEmailsOfCall = new ArrayList<>();
+                try {
+                    sendEmailWithService(email);
+                } catch (Exception e) {
+                    log.severe("Email failed to send to " + email.getRecipient() + ": "
+                               + TeammatesException.toStringWithStackTrace(e));
+                    failedEmailsOfCall.add(email);
+                }
+            } else {
+                // a batch of one, as only batch sending reports failures returned by the service
+                failedEmailsOfCall = sendEmailBatch(singleEmail);
+            }
+            acceptSentEmails(singleEmail, failedEmailsOfCall, sentEmailsConsumer);
+            failedEmails.addAll(failedEmailsOfCall);
+        }
+        return failedEmails;
+    }
+
+    private static void acceptSentEmails(List<EmailWrapper> emails, List<EmailWrapper> failedEmails,
+                                         Consumer<List<EmailWrapper>> sentEmailsConsumer) {
+        if (failedEmails.isEmpty()) {
+            sentEmailsConsumer.accept(emails);
+            return;
+        }
+        Set<EmailWrapper> failedEmailsSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedEmailsSet.addAll(failedEmails);
+        List<EmailWrapper> sentEmails = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            if (!failedEmailsSet.contains(email)) {
+                sentEmails.add(email);
+            }
+        }
+        if (!sentEmails.isEmpty()) {
+            sentEmailsConsumer.accept(sentEmails);
+        }
+    }
+
+    /**
+     * Returns the key shared by the emails that can be sent in the same call to the service as {@code wrapper},
+     * or null if the email has to be sent on its own.
+     */
+    protected String getBatchKey(EmailWrapper wrapper) {
+        return null;
+    }
+
+    /**
+     * Returns the maximum number of emails that can be sent in one call to the service.
+     */
+    protected int getMaxBatchSize() {
+        return 1;
+    }
+
+    /**
+     * Sends the emails of {@code batch}, which all have the same batch key and different recipients,
+     * in one call to the service. By default, the emails are sent one by one.
+     *
+     * @return the emails of the batch that failed to be sent
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    protected List<EmailWrapper> sendEmailBatchWithService(List<EmailWrapper> batch) throws Exception {
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (EmailWrapper wrapper : batch) {
+            try {
+                sendEmailWithService(wrapper);
+            } catch (Exception e) {
+                log.severe("Email failed to send to " + wrapper.getRecipient() + ": "
+                           + TeammatesException.toStringWithStackTrace(e));
+                failedEmails.add(wrapper);
+            }
+        }
+        return failedEmails;
+    }
+
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     // accounts for the many different Exceptions from different email services
     protected abstract void sendEmailWithService(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Returns a batch key shared by the emails rendered from the same shared content and sent from the same
+     * sender, or null if the shared content of {@code wrapper} is not available or the email has a BCC recipient.
+     *
+     * @see EmailContentReference#getSharedContent()
+     */
+    static String getSharedContentBatchKey(EmailWrapper wrapper) {
+        EmailContentReference contentReference = wrapper.getContentReference();
+        boolean hasBcc = wrapper.getBcc() != null && !wrapper.getBcc().isEmpty();
+        if (contentReference == null || contentReference.getSharedContent() == null || hasBcc) {
+            return null;
+        }
+        return wrapper.getSenderEmail() + "|" + wrapper.getSenderName() + "|" + wrapper.getReplyTo()
+                + "|" + contentReference.getSharedContentKey();
+    }
+
     static boolean isNotSuccessStatus(int statusCode) {
         return statusCode < 200 || statusCode > 299;
     }
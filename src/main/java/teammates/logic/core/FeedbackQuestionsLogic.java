@@ -428,15 +428,14 @@ public final class FeedbackQuestionsLogic {
     }
 
     public boolean areThereResponsesForQuestion(String feedbackQuestionId) {
-        return !frLogic.getFeedbackResponsesForQuestionWithinRange(feedbackQuestionId, 1)
-                       .isEmpty();
+        return frLogic.hasFeedbackResponsesForQuestion(feedbackQuestionId);
     }
 
     public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email)
             throws EntityDoesNotExistException {
 
         int numberOfResponsesGiven =
-                frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
+                frLogic.getNumFeedbackResponsesFromGiverForQuestion(question.getId(), email);
         int numberOfResponsesNeeded =
                 question.numberOfEntitiesToGiveFeedbackTo;
 
@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -139,6 +140,15 @@ public final class FeedbackResponseCommentsLogic {
         }
     }
 
+    /**
+     * Updates the giver and receiver sections of the comments on the given responses of a session
+     * to those of the responses, in one batch.
+     */
+    public void updateFeedbackResponseCommentsForResponses(String courseId, String feedbackSessionName,
+            Collection<FeedbackResponseAttributes> responses) {
+        frcDb.updateSectionsOfFeedbackResponseComments(courseId, feedbackSessionName, responses);
+    }
+
     public FeedbackResponseCommentAttributes updateFeedbackResponseComment(
                                                      FeedbackResponseCommentAttributes feedbackResponseComment)
                                                      throws InvalidParametersException, EntityDoesNotExistException {
@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.Set;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -145,6 +147,10 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForQuestionWithinRange(feedbackQuestionId, range);
     }
 
+    public boolean hasFeedbackResponsesForQuestion(String feedbackQuestionId) {
+        return frDb.hasFeedbackResponsesForQuestion(feedbackQuestionId);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionInSection(
             String feedbackQuestionId, String section) {
         if (section == null) {
@@ -153,6 +159,18 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForQuestionInSection(feedbackQuestionId, section);
     }
 
+    /**
+     * Gets the responses for a question given by givers in {@code section}.
+     * If {@code section} is null, all responses for the question are returned.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionFromSection(
+            String feedbackQuestionId, String section) {
+        if (section == null) {
+            return getFeedbackResponsesForQuestion(feedbackQuestionId);
+        }
+        return frDb.getFeedbackResponsesForQuestionFromSection(feedbackQuestionId, section);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForQuestion(
             String feedbackQuestionId, String userEmail) {
         return frDb.getFeedbackResponsesForReceiverForQuestion(feedbackQuestionId, userEmail);
@@ -173,6 +191,10 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForQuestion(feedbackQuestionId, userEmail);
     }
 
+    public int getNumFeedbackResponsesFromGiverForQuestion(String feedbackQuestionId, String userEmail) {
+        return frDb.getNumFeedbackResponsesFromGiverForQuestion(feedbackQuestionId, userEmail);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForQuestionInSection(
             String feedbackQuestionId, String userEmail, String section) {
 
@@ -189,8 +211,7 @@ public final class FeedbackResponsesLogic {
     }
 
     public boolean hasGiverRespondedForSession(String userEmail, String feedbackSessionName, String courseId) {
-
-        return !getFeedbackResponsesFromGiverForSessionWithinRange(userEmail, feedbackSessionName, courseId, 1).isEmpty();
+        return frDb.hasFeedbackResponsesFromGiverForSession(userEmail, feedbackSessionName, courseId);
     }
 
     public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForCourse(
@@ -542,38 +563,130 @@ public final class FeedbackResponsesLogic {
 
     /**
      * Updates responses for a student when his section changes.
+     * The responses and their comments are saved in batches.
      */
     public void updateFeedbackResponsesForChangingSection(
             String courseId, String userEmail, String oldSection, String newSection)
             throws EntityDoesNotExistException, InvalidParametersException {
-        updateSectionOfResponsesFromUser(courseId, userEmail, newSection);
-        updateSectionOfResponsesToUser(courseId, userEmail, newSection);
+        // keyed by ID so that a response from the user to the user is updated once with both sections
+        Map<String, FeedbackResponseAttributes> responsesToUpdate = new HashMap<>();
+
+        for (FeedbackResponseAttributes response : getFeedbackResponsesFromGiverForCourse(courseId, userEmail)) {
+            response.giverSection = newSection;
+            responsesToUpdate.put(response.getId(), response);
+        }
+
+        for (FeedbackResponseAttributes response : getFeedbackResponsesForReceiverForCourse(courseId, userEmail)) {
+            FeedbackResponseAttributes responseToUpdate = responsesToUpdate.get(response.getId());
+            if (responseToUpdate == null) {
+                responseToUpdate = response;
+                responsesToUpdate.put(response.getId(), response);
+            }
+            responseToUpdate.recipientSection = newSection;
+        }
+
+        updateSectionsOfResponsesAndComments(courseId, responsesToUpdate.values());
     }
 
-    private void updateSectionOfResponsesToUser(String courseId, String userEmail, String newSection)
+    /**
+     * Adjusts the responses of a session to the team and section changes in {@code enrollmentList}.
+     * Responses that are no longer valid because their giver or recipient changed team are deleted,
+     * and the sections of the other responses involving students who changed section are updated,
+     * together with the sections of their comments.
+     *
+     * <p>All changes are computed in memory; each question is read at most once and
+     * the responses and comments are deleted and saved in batches.
+     */
+    public void adjustFeedbackResponsesForEnrollments(List<StudentEnrollDetails> enrollmentList,
+            String feedbackSessionName, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
+        Map<String, StudentEnrollDetails> modifiedEnrollments = new HashMap<>();
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED) {
+                modifiedEnrollments.put(enrollment.email, enrollment);
+            }
+        }
+        if (modifiedEnrollments.isEmpty()) {
+            return;
+        }
 
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            response.recipientSection = newSection;
-            frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToUpdate = new ArrayList<>();
+        Set<String> emailsWithDeletedResponses = new HashSet<>();
+
+        for (FeedbackResponseAttributes response : getFeedbackResponsesForSession(feedbackSessionName, courseId)) {
+            StudentEnrollDetails giverEnrollment = modifiedEnrollments.get(response.giver);
+            StudentEnrollDetails recipientEnrollment = modifiedEnrollments.get(response.recipient);
+            if (giverEnrollment == null && recipientEnrollment == null) {
+                continue;
+            }
+
+            boolean isGiverTeamChanged = giverEnrollment != null && isTeamChanged(giverEnrollment);
+            boolean isRecipientTeamChanged = recipientEnrollment != null && isTeamChanged(recipientEnrollment);
+            if (isGiverTeamChanged || isRecipientTeamChanged) {
+                FeedbackQuestionAttributes question = questions.computeIfAbsent(
+                        response.feedbackQuestionId, fqLogic::getFeedbackQuestion);
+                boolean shouldDeleteByChangeOfGiver = isGiverTeamChanged
+                        && (question.giverType == FeedbackParticipantType.TEAMS
+                            || isRecipientTypeTeamMembers(question));
+                boolean shouldDeleteByChangeOfRecipient = isRecipientTeamChanged
+                        && isRecipientTypeTeamMembers(question);
+
+                if (shouldDeleteByChangeOfGiver || shouldDeleteByChangeOfRecipient) {
+                    responsesToDelete.add(response);
+                    emailsWithDeletedResponses.add(
+                            shouldDeleteByChangeOfGiver ? giverEnrollment.email : recipientEnrollment.email);
+                    continue;
+                }
+            }
+
+            boolean isGiverSectionChanged = giverEnrollment != null && isSectionChanged(giverEnrollment);
+            boolean isRecipientSectionChanged = recipientEnrollment != null && isSectionChanged(recipientEnrollment);
+            if (isGiverSectionChanged) {
+                response.giverSection = giverEnrollment.newSection;
+            }
+            if (isRecipientSectionChanged) {
+                response.recipientSection = recipientEnrollment.newSection;
+            }
+            if (isGiverSectionChanged || isRecipientSectionChanged) {
+                responsesToUpdate.add(response);
+            }
+        }
+
+        frDb.deleteFeedbackResponsesById(responsesToDelete);
+        for (String email : emailsWithDeletedResponses) {
+            updateSessionResponseRateForDeletingStudentResponse(email, feedbackSessionName, courseId);
         }
+
+        frDb.updateSectionsOfFeedbackResponses(responsesToUpdate);
+        frcLogic.updateFeedbackResponseCommentsForResponses(courseId, feedbackSessionName, responsesToUpdate);
     }
 
-    private void updateSectionOfResponsesFromUser(String courseId, String userEmail, String newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
+    private void updateSectionsOfResponsesAndComments(String courseId, Collection<FeedbackResponseAttributes> responses)
+            throws EntityDoesNotExistException {
+        frDb.updateSectionsOfFeedbackResponses(responses);
 
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            response.giverSection = newSection;
-            frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
+        Map<String, List<FeedbackResponseAttributes>> responsesBySession = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responsesBySession.computeIfAbsent(response.feedbackSessionName, key -> new ArrayList<>()).add(response);
+        }
+        for (Map.Entry<String, List<FeedbackResponseAttributes>> sessionResponses : responsesBySession.entrySet()) {
+            frcLogic.updateFeedbackResponseCommentsForResponses(
+                    courseId, sessionResponses.getKey(), sessionResponses.getValue());
         }
     }
 
+    private boolean isTeamChanged(StudentEnrollDetails enrollment) {
+        return enrollment.oldTeam != null && enrollment.newTeam != null
+                && !enrollment.oldTeam.equals(enrollment.newTeam);
+    }
+
+    private boolean isSectionChanged(StudentEnrollDetails enrollment) {
+        return enrollment.oldSection != null && enrollment.newSection != null
+                && !enrollment.oldSection.equals(enrollment.newSection);
+    }
+
     public boolean updateFeedbackResponseForChangingTeam(StudentEnrollDetails enrollment,
             FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
 
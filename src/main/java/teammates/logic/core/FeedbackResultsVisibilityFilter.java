@@ -0,0 +1,193 @@
+package teammates.logic.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.CompiledInstructorPrivileges;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Decides which responses of a session, and which giver and recipient names in them,
+ * are visible to the user viewing the results of the session.
+ *
+ * <p>The user is resolved once when the filter is created, and the visibility settings of each question
+ * are resolved for the user the first time a response of the question is checked, so that checking
+ * a response only involves the fields of the response.
+ */
+public final class FeedbackResultsVisibilityFilter {
+
+    private static final int PRIVILEGE_MASK_VIEW_SESSION_IN_SECTIONS = CompiledInstructorPrivileges.getPrivilegeMask(
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+
+    private final String userEmail;
+    private final StudentAttributes student;
+    private final Set<String> studentsEmailInTeam;
+    private final CompiledInstructorPrivileges instructorPrivileges;
+    private final CourseRoster roster;
+
+    private final boolean isInstructor;
+    private final boolean isStudent;
+    private final boolean isInstructorInRoster;
+    private final boolean isStudentInRoster;
+
+    private final Map<String, QuestionVisibility> questionVisibilities = new HashMap<>();
+
+    /**
+     * Creates a filter for the user with {@code userEmail} viewing the results as {@code role}.
+     *
+     * @param student the user as a student, used to check the visibility to the team of the student
+     *         together with {@code studentsEmailInTeam}; null if not applicable
+     * @param studentsEmailInTeam the emails of the members of the team of the student; null if not applicable
+     * @param instructor the user as an instructor, whose privileges for the sections of the givers and
+     *         recipients of the responses are checked; null if not applicable
+     */
+    public FeedbackResultsVisibilityFilter(String userEmail, UserRole role, StudentAttributes student,
+            Set<String> studentsEmailInTeam, InstructorAttributes instructor, CourseRoster roster) {
+        this.userEmail = userEmail;
+        this.student = student;
+        this.studentsEmailInTeam = studentsEmailInTeam;
+        this.instructorPrivileges = instructor == null ? null : instructor.getCompiledPrivileges();
+        this.roster = roster;
+
+        this.isInstructor = role == UserRole.INSTRUCTOR;
+        this.isStudent = role == UserRole.STUDENT;
+        this.isInstructorInRoster = roster.getInstructorForEmail(userEmail) != null;
+        this.isStudentInRoster = roster.isStudentInCourse(userEmail);
+    }
+
+    /**
+     * Returns true if the {@code response} to {@code question} is visible to the user.
+     */
+    public boolean isResponseVisible(FeedbackQuestionAttributes question, FeedbackResponseAttributes response) {
+        QuestionVisibility visibility = getQuestionVisibility(question);
+
+        boolean isVisibleResponse = false;
+        if (visibility.isResponseAlwaysVisible
+                || visibility.isResponseVisibleToReceiver && response.recipient.equals(userEmail)
+                || response.giver.equals(userEmail)) {
+            isVisibleResponse = true;
+        } else if (studentsEmailInTeam != null && isStudent) {
+            isVisibleResponse =
+                    visibility.isResponseToTeamVisibleToReceiver && response.recipient.equals(student.team)
+                    || visibility.isResponseVisibleToGiverTeam && studentsEmailInTeam.contains(response.giver)
+                    || visibility.isResponseVisibleToReceiverTeamMembers
+                            && studentsEmailInTeam.contains(response.recipient);
+        }
+
+        if (isVisibleResponse && instructorPrivileges != null) {
+            // If instructors are not restricted to view the giver's section,
+            // they are allowed to view responses to GENERAL, subject to visibility options
+            return instructorPrivileges.isAllowedForPrivilege(
+                            response.giverSection, response.feedbackSessionName, PRIVILEGE_MASK_VIEW_SESSION_IN_SECTIONS)
+                    && (!visibility.hasRecipient || instructorPrivileges.isAllowedForPrivilege(
+                            response.recipientSection, response.feedbackSessionName,
+                            PRIVILEGE_MASK_VIEW_SESSION_IN_SECTIONS));
+        }
+        return isVisibleResponse;
+    }
+
+    /**
+     * Returns true if the name of the giver (if {@code isGiverName} is true) or the recipient of
+     * the {@code response} to {@code question} is visible to the user.
+     *
+     * @see FeedbackResponsesLogic#isNameVisibleToUser
+     */
+    public boolean isNameVisible(FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
+            boolean isGiverName) {
+        QuestionVisibility visibility = getQuestionVisibility(question);
+
+        boolean isUserGiver = visibility.isGiverTeam
+                            ? roster.isStudentsInSameTeam(response.giver, userEmail)
+                            : response.giver.equals(userEmail);
+        if (isUserGiver) {
+            return true;
+        }
+
+        NameVisibility nameVisibility = isGiverName ? visibility.giverName : visibility.recipientName;
+        if (nameVisibility.isAlwaysVisible) {
+            return true;
+        }
+        if (nameVisibility.isVisibleToGiverTeamMembers && roster.isStudentsInSameTeam(response.giver, userEmail)) {
+            return true;
+        }
+        if (visibility.isRecipientTeam) {
+            return (nameVisibility.isVisibleToReceiver || nameVisibility.isVisibleToReceiverTeamMembers)
+                    && roster.isStudentInTeam(userEmail, response.recipient);
+        }
+        return nameVisibility.isVisibleToReceiver && response.recipient.equals(userEmail)
+                || nameVisibility.isVisibleToReceiverTeamMembers
+                        && roster.isStudentsInSameTeam(response.recipient, userEmail);
+    }
+
+    private QuestionVisibility getQuestionVisibility(FeedbackQuestionAttributes question) {
+        return questionVisibilities.computeIfAbsent(question.getId(), id -> new QuestionVisibility(question));
+    }
+
+    /**
+     * The visibility settings of a question, resolved for the user.
+     */
+    private final class QuestionVisibility {
+
+        final boolean isResponseAlwaysVisible;
+        final boolean isResponseVisibleToReceiver;
+        final boolean isResponseToTeamVisibleToReceiver;
+        final boolean isResponseVisibleToGiverTeam;
+        final boolean isResponseVisibleToReceiverTeamMembers;
+        final boolean hasRecipient;
+        final boolean isGiverTeam;
+        final boolean isRecipientTeam;
+        final NameVisibility giverName;
+        final NameVisibility recipientName;
+
+        QuestionVisibility(FeedbackQuestionAttributes question) {
+            isResponseAlwaysVisible =
+                    isInstructor && question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                    || isStudent && question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS);
+            isResponseVisibleToReceiver = question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER);
+            isResponseToTeamVisibleToReceiver =
+                    question.recipientType == FeedbackParticipantType.TEAMS && isResponseVisibleToReceiver;
+            isResponseVisibleToGiverTeam = question.giverType == FeedbackParticipantType.TEAMS
+                    || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS);
+            isResponseVisibleToReceiverTeamMembers =
+                    question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS);
+            hasRecipient = question.recipientType != FeedbackParticipantType.NONE;
+            isGiverTeam = question.giverType == FeedbackParticipantType.TEAMS;
+            isRecipientTeam = question.recipientType.isTeam();
+            giverName = new NameVisibility(question.showGiverNameTo);
+            recipientName = new NameVisibility(question.showRecipientNameTo);
+        }
+
+    }
+
+    /**
+     * The visibility settings of the giver or recipient name in the responses to a question, resolved for the user.
+     */
+    private final class NameVisibility {
+
+        final boolean isAlwaysVisible;
+        final boolean isVisibleToGiverTeamMembers;
+        final boolean isVisibleToReceiver;
+        final boolean isVisibleToReceiverTeamMembers;
+
+        NameVisibility(List<FeedbackParticipantType> showNameTo) {
+            isAlwaysVisible = showNameTo.contains(FeedbackParticipantType.INSTRUCTORS)
+                            && isInstructorInRoster && isInstructor
+                    || showNameTo.contains(FeedbackParticipantType.STUDENTS) && isStudentInRoster;
+            isVisibleToGiverTeamMembers = showNameTo.contains(FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                    || showNameTo.contains(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF);
+            isVisibleToReceiver = showNameTo.contains(FeedbackParticipantType.RECEIVER);
+            isVisibleToReceiverTeamMembers = showNameTo.contains(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS);
+        }
+
+    }
+
+}
@@ -1,8 +1,11 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -12,8 +15,10 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.CompiledInstructorPrivileges;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionCompletionEvaluator;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
@@ -62,6 +67,9 @@ public final class FeedbackSessionsLogic {
     private static final String PARAM_TO_SECTION = "toSection";
     private static final String PARAM_VIEW_TYPE = "viewType";
 
+    private static final int PRIVILEGE_MASK_VIEW_SESSION_IN_SECTIONS = CompiledInstructorPrivileges.getPrivilegeMask(
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+
     private static final String ASSUMPTION_FAIL_DELETE_INSTRUCTOR = "Fail to delete instructor respondent for ";
     private static final String ASSUMPTION_FAIL_RESPONSE_ORIGIN = "Client did not indicate the origin of the response(s)";
     private static final String ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE = "Number of responses exceeds the limited range";
@@ -815,16 +823,139 @@ public final class FeedbackSessionsLogic {
         if (!results.isComplete) {
             throw new ExceedingRangeException(ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE);
         }
+
+        return getFeedbackSessionResultsInCsvFormat(results, section, isMissingResponsesShown, isStatsShown);
+    }
+
+    /**
+     * Gets the results in {@code results} as CSV, without reading from the storage.
+     * The responses in {@code results} are sorted in place by giver > recipient > question number.
+     */
+    public String getFeedbackSessionResultsInCsvFormat(FeedbackSessionResultsBundle results, String section,
+            boolean isMissingResponsesShown, boolean isStatsShown) {
         // sort responses by giver > recipient > qnNumber
         results.responses.sort(results.compareByGiverRecipientQuestion);
 
+        StringBuilder exportBuilder = getCsvHeader(results.feedbackSession, section);
+
+        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
+                results.getQuestionResponseMap().entrySet();
+
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                    results, entry, isMissingResponsesShown, isStatsShown, section));
+        }
+
+        return exportBuilder.toString();
+    }
+
+    /**
+     * Writes the results of a feedback session in a section as CSV to {@code writer}.
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsSummaryInSectionAsCsv}, responses are loaded one question
+     * at a time and the rows of each question are flushed to {@code writer} before the next question is loaded.
+     * Memory usage is thus bounded by the size of the largest question and the export is not subject to
+     * {@link Const#INSTRUCTOR_VIEW_RESPONSE_LIMIT}.
+     *
+     * @param section the section whose givers' responses are to be exported, or null for all sections
+     */
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail, String section,
+            boolean isMissingResponsesShown, boolean isStatsShown, Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        // Roster, viewer and comments are shared by all questions, so they are loaded only once
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+        InstructorAttributes instructor = getInstructor(courseId, userEmail, UserRole.INSTRUCTOR);
+
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, UserRole.INSTRUCTOR,
+                feedbackSessionName, section);
+
+        Map<String, List<FeedbackResponseCommentAttributes>> questionIdToComments = new HashMap<>();
+        for (FeedbackResponseCommentAttributes frc
+                : frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section)) {
+            questionIdToComments.computeIfAbsent(frc.feedbackQuestionId, key -> new ArrayList<>()).add(frc);
+        }
+
+        writer.append(getCsvHeader(session, section));
+
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            FeedbackSessionResultsBundle results = getFeedbackSessionResultsForInstructorForQuestionFromSection(
+                    session, question, userEmail, section, roster, instructor, sectionTeamNameTable,
+                    questionIdToComments.getOrDefault(question.getId(), new ArrayList<>()));
+
+            // sort responses by giver > recipient > qnNumber
+            results.responses.sort(results.compareByGiverRecipientQuestion);
+
+            for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                    : results.getQuestionResponseMap().entrySet()) {
+                writer.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                        results, entry, isMissingResponsesShown, isStatsShown, section));
+            }
+            writer.flush();
+        }
+    }
+
+    /**
+     * Gets the results of a single question to show to an instructor, restricted to responses
+     * from givers in {@code section}, in the same way as the results of the whole session are filtered.
+     */
+    private FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorForQuestionFromSection(
+            FeedbackSessionAttributes session, FeedbackQuestionAttributes question, String userEmail, String section,
+            CourseRoster roster, InstructorAttributes instructor, Map<String, Set<String>> sectionTeamNameTable,
+            List<FeedbackResponseCommentAttributes> commentsForQuestion) {
+
+        Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+        relevantQuestions.put(question.getId(), question);
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailLastNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        FeedbackResultsVisibilityFilter visibilityFilter = new FeedbackResultsVisibilityFilter(
+                userEmail, UserRole.INSTRUCTOR, null, null, instructor, roster);
+
+        for (FeedbackResponseAttributes response
+                : frLogic.getFeedbackResponsesForQuestionFromSection(question.getId(), section)) {
+            if (visibilityFilter.isResponseVisible(question, response)) {
+                responses.add(response);
+                relevantResponse.put(response.getId(), response);
+                addEmailNamePairsToTable(emailNameTable, response, question, roster);
+                addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
+                addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
+                addVisibilityToTable(visibilityTable, question, response, visibilityFilter);
+            }
+        }
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getVisibleResponseComments(
+                commentsForQuestion, userEmail, UserRole.INSTRUCTOR, roster, relevantQuestions, null,
+                new HashSet<>(), relevantResponse);
+
+        return new FeedbackSessionResultsBundle(
+                session, responses, relevantQuestions, emailNameTable,
+                emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
+                visibilityTable, null, roster, responseComments, true);
+    }
+
+    private StringBuilder getCsvHeader(FeedbackSessionAttributes session, String section) {
         StringBuilder exportBuilder = new StringBuilder(100);
 
         exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
+                             SanitizationHelper.sanitizeForCsv(session.getCourseId())))
                      .append(System.lineSeparator())
                      .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
+                             SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
                      .append(System.lineSeparator());
 
         if (section != null) {
@@ -833,16 +964,7 @@ public final class FeedbackSessionsLogic {
         }
 
         exportBuilder.append(System.lineSeparator()).append(System.lineSeparator());
-
-        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
-                results.getQuestionResponseMap().entrySet();
-
-        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
-            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
-                    results, entry, isMissingResponsesShown, isStatsShown, section));
-        }
-
-        return exportBuilder.toString();
+        return exportBuilder;
     }
 
     private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
@@ -867,8 +989,12 @@ public final class FeedbackSessionsLogic {
             exportBuilder.append(statistics).append(System.lineSeparator());
         }
 
-        List<String> possibleGiversWithoutResponses = fsrBundle.getPossibleGiversInSection(question, section);
-        List<String> possibleRecipientsForGiver = new ArrayList<>();
+        // the possible givers and recipients are the lists shared by the bundle, which are not copied per giver;
+        // the participants with responses are tracked instead, and skipped when the missing response rows are added
+        List<String> possibleGivers = fsrBundle.getPossibleGiversInSection(question, section);
+        Set<String> giversWithResponses = new HashSet<>();
+        List<String> possibleRecipientsForGiver = Collections.emptyList();
+        Set<String> recipientsWithResponsesFromGiver = new HashSet<>();
         String prevGiver = "";
 
         int maxNumOfInstructorComments = getMaxNumberOfInstructorComments(allResponses, fsrBundle.getResponseComments());
@@ -877,29 +1003,30 @@ public final class FeedbackSessionsLogic {
         for (FeedbackResponseAttributes response : allResponses) {
 
             if (!fsrBundle.isRecipientVisible(response) || !fsrBundle.isGiverVisible(response)) {
-                possibleGiversWithoutResponses.clear();
-                possibleRecipientsForGiver.clear();
+                possibleGivers = Collections.emptyList();
+                possibleRecipientsForGiver = Collections.emptyList();
             }
 
-            // keep track of possible recipients with no responses
-            removeParticipantIdentifierFromList(question.giverType,
-                    possibleGiversWithoutResponses, response.giver, fsrBundle);
+            // keep track of possible givers with no responses
+            giversWithResponses.add(getCanonicalParticipantIdentifier(question.giverType, response.giver, fsrBundle));
 
             boolean isNewGiver = !prevGiver.equals(response.giver);
             // print missing responses from the current giver
             if (isNewGiver && isMissingResponsesShown) {
                 exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(fsrBundle,
                         question, questionDetails,
-                        possibleRecipientsForGiver, prevGiver));
+                        possibleRecipientsForGiver, recipientsWithResponsesFromGiver, prevGiver));
                 String giverIdentifier = question.giverType == FeedbackParticipantType.TEAMS
                                              ? fsrBundle.getFullNameFromRoster(response.giver)
                                              : response.giver;
 
                 possibleRecipientsForGiver = fsrBundle.getPossibleRecipients(question, giverIdentifier);
+                recipientsWithResponsesFromGiver.clear();
             }
 
-            removeParticipantIdentifierFromList(question.recipientType, possibleRecipientsForGiver,
-                                                response.recipient, fsrBundle);
+            // keep track of possible recipients with no responses from the current giver
+            recipientsWithResponsesFromGiver.add(
+                    getCanonicalParticipantIdentifier(question.recipientType, response.recipient, fsrBundle));
             prevGiver = response.giver;
 
             exportBuilder.append(questionDetails.getCsvDetailedResponsesRow(fsrBundle, response, question));
@@ -909,8 +1036,9 @@ public final class FeedbackSessionsLogic {
         if (isMissingResponsesShown) {
             exportBuilder.append(
                     getRemainingRowsInCsvFormat(
-                            fsrBundle, entry, question, questionDetails,
-                            possibleGiversWithoutResponses, possibleRecipientsForGiver, prevGiver));
+                            fsrBundle, question, questionDetails,
+                            possibleGivers, giversWithResponses,
+                            possibleRecipientsForGiver, recipientsWithResponsesFromGiver, prevGiver));
         }
 
         exportBuilder.append(System.lineSeparator() + System.lineSeparator());
@@ -941,20 +1069,18 @@ public final class FeedbackSessionsLogic {
     }
 
     /**
-     * Given a participantIdentifier, remove it from participantIdentifierList.
+     * Returns the participantIdentifier in the form used in the lists of possible givers and recipients.
      *
-     * <p>Before removal, {@link FeedbackSessionResultsBundle#getFullNameFromRoster} is used to
+     * <p>{@link FeedbackSessionResultsBundle#getFullNameFromRoster} is used to
      * convert the identifier into a canonical form if the participantIdentifierType is TEAMS.
      */
-    private void removeParticipantIdentifierFromList(
-            FeedbackParticipantType participantIdentifierType,
-            List<String> participantIdentifierList, String participantIdentifier,
+    private String getCanonicalParticipantIdentifier(
+            FeedbackParticipantType participantIdentifierType, String participantIdentifier,
             FeedbackSessionResultsBundle bundle) {
         if (participantIdentifierType == FeedbackParticipantType.TEAMS) {
-            participantIdentifierList.remove(bundle.getFullNameFromRoster(participantIdentifier));
-        } else {
-            participantIdentifierList.remove(participantIdentifier);
+            return bundle.getFullNameFromRoster(participantIdentifier);
         }
+        return participantIdentifier;
     }
 
     /**
@@ -966,28 +1092,26 @@ public final class FeedbackSessionsLogic {
      */
     private StringBuilder getRemainingRowsInCsvFormat(
             FeedbackSessionResultsBundle results,
-            Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
             FeedbackQuestionAttributes question,
             FeedbackQuestionDetails questionDetails,
-            List<String> remainingPossibleGivers,
-            List<String> possibleRecipientsForGiver, String prevGiver) {
+            List<String> possibleGivers, Set<String> giversWithResponses,
+            List<String> possibleRecipientsForGiver, Set<String> recipientsWithResponsesFromGiver,
+            String prevGiver) {
         StringBuilder exportBuilder = new StringBuilder();
 
-        if (possibleRecipientsForGiver != null) {
-            exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(results,
-                    question, questionDetails, possibleRecipientsForGiver,
-                    prevGiver));
-
-        }
-
-        removeParticipantIdentifierFromList(question.giverType, remainingPossibleGivers, prevGiver, results);
+        exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(results,
+                question, questionDetails, possibleRecipientsForGiver, recipientsWithResponsesFromGiver,
+                prevGiver));
 
-        for (String possibleGiverWithNoResponses : remainingPossibleGivers) {
+        for (String possibleGiverWithNoResponses : possibleGivers) {
+            if (giversWithResponses.contains(possibleGiverWithNoResponses)) {
+                continue;
+            }
             List<String> possibleRecipientsForRemainingGiver =
-                    results.getPossibleRecipients(entry.getKey(), possibleGiverWithNoResponses);
+                    results.getPossibleRecipients(question, possibleGiverWithNoResponses);
 
             exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(results,
-                    question, questionDetails, possibleRecipientsForRemainingGiver,
+                    question, questionDetails, possibleRecipientsForRemainingGiver, Collections.emptySet(),
                     possibleGiverWithNoResponses));
         }
 
@@ -996,34 +1120,44 @@ public final class FeedbackSessionsLogic {
 
     /**
      * For a giver and a list of possibleRecipientsForGiver, generate rows
-     * of missing responses between the giver and the possible recipients.
+     * of missing responses between the giver and the possible recipients
+     * who are not in recipientsWithResponses.
      */
     private StringBuilder getRowsOfPossibleRecipientsInCsvFormat(
             FeedbackSessionResultsBundle results,
             FeedbackQuestionAttributes question,
             FeedbackQuestionDetails questionDetails,
-            List<String> possibleRecipientsForGiver, String giver) {
+            List<String> possibleRecipientsForGiver, Set<String> recipientsWithResponses, String giver) {
         StringBuilder exportBuilder = new StringBuilder();
+        if (possibleRecipientsForGiver.isEmpty() || !questionDetails.shouldShowNoResponseText(question)) {
+            return exportBuilder;
+        }
+
+        String giverTeamName = SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(giver));
+        String giverName = SanitizationHelper.sanitizeForCsv(
+                StringHelper.removeExtraSpace(results.getFullNameFromRoster(giver)));
+        String giverLastName = SanitizationHelper.sanitizeForCsv(
+                StringHelper.removeExtraSpace(results.getLastNameFromRoster(giver)));
+        String giverEmail = SanitizationHelper.sanitizeForCsv(
+                StringHelper.removeExtraSpace(results.getDisplayableEmailFromRoster(giver)));
         for (String possibleRecipient : possibleRecipientsForGiver) {
-            String giverName = results.getFullNameFromRoster(giver);
-            String giverLastName = results.getLastNameFromRoster(giver);
-            String giverEmail = results.getDisplayableEmailFromRoster(giver);
+            if (recipientsWithResponses.contains(possibleRecipient)) {
+                continue;
+            }
             String possibleRecipientName = results.getFullNameFromRoster(possibleRecipient);
             String possibleRecipientLastName = results.getLastNameFromRoster(possibleRecipient);
             String possibleRecipientEmail = results.getDisplayableEmailFromRoster(possibleRecipient);
 
-            if (questionDetails.shouldShowNoResponseText(question)) {
-                exportBuilder.append(SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(giver))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverLastName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverEmail))
-                        + "," + SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(possibleRecipient))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientLastName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientEmail))
-                        + "," + questionDetails.getNoResponseTextInCsv(giver, possibleRecipient, results, question)
-                        + System.lineSeparator());
-            }
+            exportBuilder.append(giverTeamName
+                    + "," + giverName
+                    + "," + giverLastName
+                    + "," + giverEmail
+                    + "," + SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(possibleRecipient))
+                    + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientName))
+                    + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientLastName))
+                    + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientEmail))
+                    + "," + questionDetails.getNoResponseTextInCsv(giver, possibleRecipient, results, question)
+                    + System.lineSeparator());
         }
         return exportBuilder;
     }
@@ -1112,6 +1246,23 @@ public final class FeedbackSessionsLogic {
         return allQuestions.isEmpty();
     }
 
+    /**
+     * Gets an evaluator of the completion of the session by the students and instructors of its course.
+     * Questions and the course roster are loaded once; responses are loaded once if they are needed.
+     */
+    public FeedbackSessionCompletionEvaluator getFeedbackSessionCompletionEvaluator(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+
+        return new FeedbackSessionCompletionEvaluator(fsa, allQuestions, roster,
+                () -> frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId));
+    }
+
     public void updateFeedbackSession(FeedbackSessionAttributes newSession)
             throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -1548,6 +1699,8 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(
                                                                     feedbackSessionName, courseId);
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        FeedbackResultsVisibilityFilter visibilityFilter =
+                new FeedbackResultsVisibilityFilter(userEmail, role, null, null, null, roster);
         for (FeedbackQuestionAttributes question : allQuestions) {
 
             List<FeedbackResponseAttributes> responsesForThisQn;
@@ -1567,8 +1720,7 @@ public final class FeedbackSessionsLogic {
                             question, roster);
                     addEmailTeamNamePairsToTable(emailTeamNameTable, response,
                             question, roster);
-                    addVisibilityToTable(visibilityTable, question, response,
-                            userEmail, role, roster);
+                    addVisibilityToTable(visibilityTable, question, response, visibilityFilter);
                 }
             }
         }
@@ -1672,21 +1824,21 @@ public final class FeedbackSessionsLogic {
         Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
 
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        FeedbackResultsVisibilityFilter visibilityFilter = new FeedbackResultsVisibilityFilter(
+                userEmail, role, student, studentsEmailInTeam, instructor, roster);
 
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackResponseAttributes response : allResponses) {
             FeedbackQuestionAttributes relatedQuestion = allQuestionsMap.get(response.feedbackQuestionId);
             if (relatedQuestion != null) {
-                boolean isVisibleResponse = isResponseVisibleForUser(
-                        userEmail, role, student, studentsEmailInTeam, response, relatedQuestion, instructor);
-                if (isVisibleResponse) {
+                if (visibilityFilter.isResponseVisible(relatedQuestion, response)) {
                     responses.add(response);
                     relevantResponse.put(response.getId(), response);
                     relevantQuestions.put(relatedQuestion.getId(), relatedQuestion);
                     addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
                     addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
                     addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
-                    addVisibilityToTable(visibilityTable, relatedQuestion, response, userEmail, role, roster);
+                    addVisibilityToTable(visibilityTable, relatedQuestion, response, visibilityFilter);
                 }
             }
         }
@@ -1707,9 +1859,18 @@ public final class FeedbackSessionsLogic {
             Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
-        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         List<FeedbackResponseCommentAttributes> allResponseComments =
                 frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
+        return getVisibleResponseComments(allResponseComments, userEmail, role, roster, relevantQuestions, student,
+                studentsEmailInTeam, relevantResponse);
+    }
+
+    private Map<String, List<FeedbackResponseCommentAttributes>> getVisibleResponseComments(
+            List<FeedbackResponseCommentAttributes> allResponseComments, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
+            Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1804,18 +1965,18 @@ public final class FeedbackSessionsLogic {
                 boolean hasResponses = !responsesForThisQn.isEmpty();
                 if (hasResponses) {
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+                    InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+                    FeedbackResultsVisibilityFilter visibilityFilter =
+                            new FeedbackResultsVisibilityFilter(userEmail, role, null, null, instructor, roster);
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
-                        boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
-                                                                             question, instructor);
-                        if (isVisibleResponse) {
+                        if (visibilityFilter.isResponseVisible(question, response)) {
                             relevantResponse.put(response.getId(), response);
                             relevantQuestions.put(question.getId(), question);
                             responses.add(response);
                             addEmailNamePairsToTable(emailNameTable, response, question, roster);
                             addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
                             addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
-                            addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
+                            addVisibilityToTable(visibilityTable, question, response, visibilityFilter);
                         }
                     }
                     responseComments = getResponseComments(
@@ -1890,12 +2051,10 @@ public final class FeedbackSessionsLogic {
                                     String feedbackSessionName, String sectionToView) {
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
         if (instructor != null) {
+            CompiledInstructorPrivileges privileges = instructor.getCompiledPrivileges();
             for (StudentAttributes student : roster.getStudents()) {
-                boolean isVisibleResponse =
-                        instructor.isAllowedForPrivilege(
-                                           student.section,
-                                           feedbackSessionName,
-                                           Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+                boolean isVisibleResponse = privileges.isAllowedForPrivilege(
+                        student.section, feedbackSessionName, PRIVILEGE_MASK_VIEW_SESSION_IN_SECTIONS);
                 boolean isStudentInSelectedSection = student.section.equals(sectionToView);
                 boolean isViewingAllSections = sectionToView == null;
 
@@ -1911,56 +2070,6 @@ public final class FeedbackSessionsLogic {
         }
     }
 
-    private boolean isResponseVisibleForUser(String userEmail,
-            UserRole role, StudentAttributes student,
-            Set<String> studentsEmailInTeam,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.recipient.equals(userEmail)
-                        && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.giver.equals(userEmail)
-                || isStudent(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && isStudent(role)) {
-            if (relatedQuestion.recipientType == FeedbackParticipantType.TEAMS
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.recipient.equals(student.team)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.recipient)) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.giverSection,
-                                                      response.feedbackSessionName,
-                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.recipientType != FeedbackParticipantType.NONE
-                    && !instructor.isAllowedForPrivilege(response.recipientSection,
-                                                         response.feedbackSessionName,
-                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
-    }
-
     private void sortByCreatedDate(List<FeedbackResponseCommentAttributes> responseCommentList) {
         responseCommentList.sort(Comparator.comparing(responseComment -> responseComment.createdAt));
     }
@@ -1968,14 +2077,10 @@ public final class FeedbackSessionsLogic {
     private void addVisibilityToTable(Map<String, boolean[]> visibilityTable,
             FeedbackQuestionAttributes question,
             FeedbackResponseAttributes response,
-            String userEmail,
-            UserRole role,
-            CourseRoster roster) {
+            FeedbackResultsVisibilityFilter visibilityFilter) {
         boolean[] visibility = new boolean[2];
-        visibility[Const.VISIBILITY_TABLE_GIVER] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, true, roster);
-        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, false, roster);
+        visibility[Const.VISIBILITY_TABLE_GIVER] = visibilityFilter.isNameVisible(question, response, true);
+        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = visibilityFilter.isNameVisible(question, response, false);
         visibilityTable.put(response.getId(), visibility);
     }
 
@@ -3,6 +3,7 @@ package teammates.logic.core;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.CourseRosterRegistry;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -83,7 +84,9 @@ public final class InstructorsLogic {
 
         log.info("going to create instructor :\n" + instructorToAdd.toString());
 
-        return instructorsDb.createInstructor(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createInstructor(instructorToAdd);
+        CourseRosterRegistry.invalidate(instructorToAdd.courseId);
+        return createdInstructor;
     }
 
     public void setArchiveStatusOfInstructor(String googleId, String courseId, boolean archiveStatus)
@@ -92,6 +95,7 @@ public final class InstructorsLogic {
         InstructorAttributes instructor = instructorsDb.getInstructorForGoogleId(courseId, googleId);
         instructor.isArchived = archiveStatus;
         instructorsDb.updateInstructorByGoogleId(instructor);
+        CourseRosterRegistry.invalidate(courseId);
     }
 
     public InstructorAttributes getInstructorForEmail(String courseId, String email) {
@@ -114,8 +118,15 @@ public final class InstructorsLogic {
         return instructorsDb.getInstructorForRegistrationKey(encryptedKey);
     }
 
+    /**
+     * Gets the instructors of the course, sorted by name.
+     * Within a request scope, the course is read from the storage at most once.
+     *
+     * @see CourseRosterRegistry
+     */
     public List<InstructorAttributes> getInstructorsForCourse(String courseId) {
-        List<InstructorAttributes> instructorReturnList = instructorsDb.getInstructorsForCourse(courseId);
+        List<InstructorAttributes> instructorReturnList =
+                CourseRosterRegistry.getInstructorsForCourse(courseId, instructorsDb::getInstructorsForCourse);
         instructorReturnList.sort(InstructorAttributes.compareByName);
 
         return instructorReturnList;
@@ -197,6 +208,7 @@ public final class InstructorsLogic {
         checkForUpdatingRespondents(instructor);
 
         instructorsDb.updateInstructorByGoogleId(instructor);
+        CourseRosterRegistry.invalidate(instructor.courseId);
     }
 
     private void checkForUpdatingRespondents(InstructorAttributes instructor)
@@ -235,6 +247,7 @@ public final class InstructorsLogic {
         verifyIsEmailOfInstructorOfCourse(email, instructor.courseId);
 
         instructorsDb.updateInstructorByEmail(instructor);
+        CourseRosterRegistry.invalidate(instructor.courseId);
     }
 
     public List<String> getInvalidityInfoForNewInstructorData(String name,
@@ -266,6 +279,7 @@ public final class InstructorsLogic {
     public void deleteInstructorCascade(String courseId, String email) {
         fsLogic.deleteInstructorFromRespondentsList(getInstructorForEmail(courseId, email));
         instructorsDb.deleteInstructor(courseId, email);
+        CourseRosterRegistry.invalidate(courseId);
     }
 
     public void deleteInstructorsForGoogleIdAndCascade(String googleId) {
@@ -282,6 +296,7 @@ public final class InstructorsLogic {
     public void deleteInstructorsForCourse(String courseId) {
 
         instructorsDb.deleteInstructorsForCourse(courseId);
+        CourseRosterRegistry.invalidate(courseId);
     }
 
     public List<InstructorAttributes> getCoOwnersForCourse(String courseId) {
@@ -1,9 +1,13 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.ws.rs.core.MediaType;
 
+import org.json.JSONObject;
+
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
@@ -11,6 +15,7 @@ import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
@@ -25,6 +30,9 @@ public class MailgunService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /** The maximum number of recipients of a batch sending request allowed by Mailgun. */
+    private static final int MAX_RECIPIENTS_PER_BATCH = 1000;
+
     /**
      * {@inheritDoc}
      */
@@ -50,23 +58,96 @@ public class MailgunService extends EmailSenderService {
         return formData;
     }
 
+    /**
+     * Parses the emails of a batch, which are rendered from the same shared content and have the same subject,
+     * to a single batch sending request. The recipient variables are filled in by Mailgun for each recipient,
+     * so the emails of the batch must have different recipients.
+     */
+    public FormDataMultiPart parseToEmailBatch(List<EmailWrapper> wrappers) {
+        EmailWrapper firstWrapper = wrappers.get(0);
+        FormDataMultiPart formData = new FormDataMultiPart();
+
+        String sender = firstWrapper.getSenderName() == null || firstWrapper.getSenderName().isEmpty()
+                        ? firstWrapper.getSenderEmail()
+                        : firstWrapper.getSenderName() + " <" + firstWrapper.getSenderEmail() + ">";
+        formData.field("from", sender);
+
+        JSONObject recipientVariables = new JSONObject();
+        for (EmailWrapper wrapper : wrappers) {
+            Assumption.assertFalse("Duplicate recipient in email batch: " + wrapper.getRecipient(),
+                    recipientVariables.has(wrapper.getRecipient()));
+            formData.field("to", wrapper.getRecipient());
+            JSONObject variables = new JSONObject();
+            wrapper.getContentReference().getRecipientVariables()
+                    .forEach((placeholder, value) -> variables.put(getVariableName(placeholder), value));
+            recipientVariables.put(wrapper.getRecipient(), variables);
+        }
+        formData.field("recipient-variables", recipientVariables.toString());
+
+        String content = firstWrapper.getContentReference().getSharedContent();
+        for (String placeholder : firstWrapper.getContentReference().getRecipientVariables().keySet()) {
+            content = content.replace(placeholder, "%recipient." + getVariableName(placeholder) + "%");
+        }
+
+        formData.field("h:Reply-To", firstWrapper.getReplyTo());
+        formData.field("subject", firstWrapper.getSubject());
+        formData.field("html", content);
+
+        return formData;
+    }
+
+    /**
+     * Returns the name of the variable of a placeholder, e.g. {@code userName} for <code>${userName}</code>.
+     */
+    private static String getVariableName(String placeholder) {
+        return placeholder.substring(2, placeholder.length() - 1);
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) {
         try (FormDataMultiPart email = parseToEmail(wrapper)) {
-            Client client = Client.create();
-            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
-            WebResource webResource =
-                    client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+            ClientResponse response = send(email);
+            if (isNotSuccessStatus(response.getStatus())) {
+                log.severe("Email failed to send: " + response.getStatusInfo().getReasonPhrase());
+            }
+        } catch (IOException e) {
+            log.warning("Could not clean up resources after sending email: " + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+    @Override
+    protected String getBatchKey(EmailWrapper wrapper) {
+        String sharedContentBatchKey = getSharedContentBatchKey(wrapper);
+        return sharedContentBatchKey == null ? null : sharedContentBatchKey + "|" + wrapper.getSubject();
+    }
 
-            ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
-                    .post(ClientResponse.class, email);
+    @Override
+    protected int getMaxBatchSize() {
+        return MAX_RECIPIENTS_PER_BATCH;
+    }
 
+    @Override
+    protected List<EmailWrapper> sendEmailBatchWithService(List<EmailWrapper> batch) {
+        try (FormDataMultiPart email = parseToEmailBatch(batch)) {
+            ClientResponse response = send(email);
             if (isNotSuccessStatus(response.getStatus())) {
-                log.severe("Email failed to send: " + response.getStatusInfo().getReasonPhrase());
+                log.severe("Batch of " + batch.size() + " emails failed to send: "
+                           + response.getStatusInfo().getReasonPhrase());
+                return batch;
             }
         } catch (IOException e) {
             log.warning("Could not clean up resources after sending email: " + TeammatesException.toStringWithStackTrace(e));
         }
+        return new ArrayList<>();
+    }
+
+    private ClientResponse send(FormDataMultiPart email) {
+        Client client = Client.create();
+        client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
+        WebResource webResource =
+                client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+
+        return webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE).post(ClientResponse.class, email);
     }
 
 }
@@ -1,5 +1,8 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -27,6 +30,12 @@ public class MailjetService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /** The property of the send API that holds the messages of a batch. */
+    private static final String MESSAGES = "Messages";
+
+    /** The maximum number of messages in a request to the send API allowed by Mailjet. */
+    private static final int MAX_MESSAGES_PER_REQUEST = 50;
+
     /**
      * {@inheritDoc}
      */
@@ -50,14 +59,52 @@ public class MailjetService extends EmailSenderService {
         return request;
     }
 
+    /**
+     * Parses the emails of a batch to a single request containing one message per email.
+     */
+    public MailjetRequest parseToEmailBatch(List<EmailWrapper> wrappers) {
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            messages.put(new JSONObject(parseToEmail(wrapper).getBody()));
+        }
+        MailjetRequest request = new MailjetRequest(Email.resource);
+        request.property(MESSAGES, messages);
+        return request;
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
-        MailjetRequest email = parseToEmail(wrapper);
-        MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
-        MailjetResponse response = mailjet.post(email);
+        MailjetResponse response = send(parseToEmail(wrapper));
         if (isNotSuccessStatus(response.getStatus())) {
             log.severe("Email failed to send: " + response.getData().toString());
         }
     }
 
+    @Override
+    protected String getBatchKey(EmailWrapper wrapper) {
+        // every message of a batch is complete on its own
+        return "";
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return MAX_MESSAGES_PER_REQUEST;
+    }
+
+    @Override
+    protected List<EmailWrapper> sendEmailBatchWithService(List<EmailWrapper> batch)
+            throws MailjetException, MailjetSocketTimeoutException {
+        MailjetResponse response = send(parseToEmailBatch(batch));
+        if (isNotSuccessStatus(response.getStatus())) {
+            log.severe("Batch of " + batch.size() + " emails failed to send: " + response.getData().toString());
+            return batch;
+        }
+        return new ArrayList<>();
+    }
+
+    private MailjetResponse send(MailjetRequest email) throws MailjetException, MailjetSocketTimeoutException {
+        MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
+        return mailjet.post(email);
+    }
+
 }
@@ -1,6 +1,8 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jsoup.Jsoup;
 
@@ -27,6 +29,9 @@ public class SendgridService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /** The maximum number of personalizations, i.e. recipients, of an email allowed by SendGrid. */
+    private static final int MAX_PERSONALIZATIONS_PER_EMAIL = 1000;
+
     /**
      * {@inheritDoc}
      */
@@ -53,18 +58,88 @@ public class SendgridService extends EmailSenderService {
         return email;
     }
 
+    /**
+     * Parses the emails of a batch, which are rendered from the same shared content, to a single email
+     * with one personalization per recipient. The recipient variables are filled in by substitutions.
+     *
+     * <p>As substitutions apply to all parts of the email, the plain text part refers to the recipient variables
+     * by separate placeholders, which are substituted with the text of the variables instead of their HTML.
+     */
+    public Mail parseToEmailBatch(List<EmailWrapper> wrappers) {
+        EmailWrapper firstWrapper = wrappers.get(0);
+        Mail email = new Mail();
+        Email sender;
+        if (firstWrapper.getSenderName() == null || firstWrapper.getSenderName().isEmpty()) {
+            sender = new Email(firstWrapper.getSenderEmail());
+        } else {
+            sender = new Email(firstWrapper.getSenderEmail(), firstWrapper.getSenderName());
+        }
+        email.setFrom(sender);
+        email.setReplyTo(new Email(firstWrapper.getReplyTo()));
+        for (EmailWrapper wrapper : wrappers) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(wrapper.getRecipient()));
+            personalization.setSubject(wrapper.getSubject());
+            wrapper.getContentReference().getRecipientVariables().forEach((placeholder, value) -> {
+                personalization.addSubstitution(placeholder, value);
+                personalization.addSubstitution(getTextPlaceholder(placeholder), Jsoup.parse(value).text());
+            });
+            email.addPersonalization(personalization);
+        }
+        String sharedContent = firstWrapper.getContentReference().getSharedContent();
+        String sharedTextContent = Jsoup.parse(sharedContent).text();
+        for (String placeholder : firstWrapper.getContentReference().getRecipientVariables().keySet()) {
+            sharedTextContent = sharedTextContent.replace(placeholder, getTextPlaceholder(placeholder));
+        }
+        email.setSubject(firstWrapper.getSubject());
+        email.addContent(new Content("text/plain", sharedTextContent));
+        email.addContent(new Content("text/html", sharedContent));
+        return email;
+    }
+
+    /**
+     * Returns the placeholder of the text of a recipient variable, e.g. "-text-userName-" for "${userName}".
+     * It does not contain the placeholder of the variable, which would otherwise be substituted within it.
+     */
+    private static String getTextPlaceholder(String placeholder) {
+        return "-text-" + placeholder.replace("${", "").replace("}", "") + "-";
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws IOException {
-        Mail email = parseToEmail(wrapper);
+        Response response = send(parseToEmail(wrapper));
+        if (isNotSuccessStatus(response.getStatusCode())) {
+            log.severe("Email failed to send: " + response.getBody());
+        }
+    }
+
+    @Override
+    protected String getBatchKey(EmailWrapper wrapper) {
+        return getSharedContentBatchKey(wrapper);
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return MAX_PERSONALIZATIONS_PER_EMAIL;
+    }
+
+    @Override
+    protected List<EmailWrapper> sendEmailBatchWithService(List<EmailWrapper> batch) throws IOException {
+        Response response = send(parseToEmailBatch(batch));
+        if (isNotSuccessStatus(response.getStatusCode())) {
+            log.severe("Batch of " + batch.size() + " emails failed to send: " + response.getBody());
+            return batch;
+        }
+        return new ArrayList<>();
+    }
+
+    private Response send(Mail email) throws IOException {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
         Request request = new Request();
         request.setMethod(Method.POST);
         request.setEndpoint("mail/send");
         request.setBody(email.build());
-        Response response = sendgrid.api(request);
-        if (isNotSuccessStatus(response.getStatusCode())) {
-            log.severe("Email failed to send: " + response.getBody());
-        }
+        return sendgrid.api(request);
     }
 
 }
@@ -0,0 +1,80 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import teammates.common.datatransfer.attributes.SevereLogsWatermarkAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Logger;
+import teammates.storage.api.SevereLogsWatermarkDb;
+
+/**
+ * Handles operations related to the compilation of the severe logs of the app.
+ *
+ * @see SevereLogsWatermarkDb
+ */
+public final class SevereLogsLogic {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Period compiled if the severe logs have never been compiled, which is the period between compilations.
+     */
+    private static final Duration DEFAULT_COMPILATION_PERIOD = Duration.ofMinutes(5);
+
+    /**
+     * Maximum period compiled at once, e.g. after the severe logs have not been compiled for some time.
+     */
+    private static final Duration MAX_COMPILATION_PERIOD = Duration.ofHours(1);
+
+    private static SevereLogsLogic instance = new SevereLogsLogic();
+
+    private static final SevereLogsWatermarkDb severeLogsWatermarkDb = new SevereLogsWatermarkDb();
+
+    private SevereLogsLogic() {
+        // prevent initialization
+    }
+
+    public static SevereLogsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the time up to which the severe logs have been compiled, exclusive,
+     * or null if the severe logs have never been compiled.
+     */
+    public Instant getSevereLogsCompiledUntil() {
+        SevereLogsWatermarkAttributes watermark = severeLogsWatermarkDb.getWatermark();
+        return watermark == null ? null : watermark.getCompiledUntil();
+    }
+
+    /**
+     * Gets the time from which the severe logs are to be compiled up to {@code endTime}, i.e. the time up to which
+     * they have been compiled, but no earlier than an hour before {@code endTime}. If the severe logs have never
+     * been compiled, they are compiled from 5 minutes before {@code endTime}.
+     */
+    public Instant getSevereLogsCompilationStartTime(Instant endTime) {
+        Assumption.assertNotNull(endTime);
+
+        Instant compiledUntil = getSevereLogsCompiledUntil();
+        if (compiledUntil == null) {
+            return endTime.minus(DEFAULT_COMPILATION_PERIOD);
+        }
+
+        Instant earliestStartTime = endTime.minus(MAX_COMPILATION_PERIOD);
+        if (compiledUntil.isBefore(earliestStartTime)) {
+            log.warning("Severe logs from " + compiledUntil + " to " + earliestStartTime + " are not compiled");
+            return earliestStartTime;
+        }
+        return compiledUntil;
+    }
+
+    /**
+     * Records that the severe logs have been compiled up to {@code compiledUntil}, exclusive.
+     */
+    public void updateSevereLogsCompiledUntil(Instant compiledUntil) {
+        Assumption.assertNotNull(compiledUntil);
+        severeLogsWatermarkDb.putWatermark(new SevereLogsWatermarkAttributes(compiledUntil));
+    }
+
+}
@@ -1,9 +1,12 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.CourseRosterRegistry;
 import teammates.common.datatransfer.StudentAttributesFactory;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
@@ -66,6 +69,8 @@ public final class StudentsLogic {
     public void createStudentCascade(StudentAttributes studentData, boolean hasDocument)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
         studentsDb.createStudent(studentData, hasDocument);
+        CourseRosterRegistry.invalidate(studentData.course);
+        UserRoleCache.invalidate(studentData.googleId);
 
         if (!coursesLogic.isCoursePresent(studentData.course)) {
             throw new EntityDoesNotExistException(
@@ -90,8 +95,14 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForGoogleId(googleId);
     }
 
+    /**
+     * Gets the students of the course.
+     * Within a request scope, the course is read from the storage at most once.
+     *
+     * @see CourseRosterRegistry
+     */
     public List<StudentAttributes> getStudentsForCourse(String courseId) {
-        return studentsDb.getStudentsForCourse(courseId);
+        return CourseRosterRegistry.getStudentsForCourse(courseId, studentsDb::getStudentsForCourse);
     }
 
     public List<StudentAttributes> getStudentsForTeam(String teamName, String courseId) {
@@ -142,7 +153,7 @@ public final class StudentsLogic {
     }
 
     public boolean isStudentInAnyCourse(String googleId) {
-        return studentsDb.getStudentsForGoogleId(googleId).size() != 0;
+        return studentsDb.hasStudentsForGoogleId(googleId);
     }
 
     public boolean isStudentInCourse(String courseId, String studentEmail) {
@@ -239,6 +250,8 @@ public final class StudentsLogic {
 
         studentsDb.updateStudent(student.course, originalEmail, student.name, student.team, student.section,
                                  student.email, student.googleId, student.comments, hasDocument, false);
+        CourseRosterRegistry.invalidate(student.course);
+        UserRoleCache.invalidate(originalStudent.googleId, student.googleId);
 
         // cascade email change, if any
         if (!originalEmail.equals(student.email)) {
@@ -256,6 +269,7 @@ public final class StudentsLogic {
 
         studentsDb.verifyStudentExists(courseId, originalEmail);
         StudentAttributes originalStudent = getStudentForEmail(courseId, originalEmail);
+        String originalGoogleId = originalStudent.googleId;
         originalStudent.googleId = null;
 
         if (!originalStudent.isValid()) {
@@ -264,6 +278,8 @@ public final class StudentsLogic {
         studentsDb.updateStudent(originalStudent.course, originalEmail, originalStudent.name,
                                  originalStudent.team, originalStudent.section, originalStudent.email,
                                  originalStudent.googleId, originalStudent.comments, hasDocument, false);
+        CourseRosterRegistry.invalidate(courseId);
+        UserRoleCache.invalidate(originalGoogleId);
     }
 
     public CourseEnrollmentResult enrollStudents(String enrollLines, String courseId)
@@ -295,20 +311,38 @@ public final class StudentsLogic {
         verifyIsWithinSizeLimitPerEnrollment(studentList);
         validateSectionsAndTeams(studentList, courseId);
 
-        // TODO: can we use a batch persist operation here?
-        // enroll all students
-        for (StudentAttributes student : studentList) {
-            StudentEnrollDetails enrollmentDetails;
+        // existing students are read once and compared with the enroll list in memory
+        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        Map<String, StudentAttributes> originalStudentsByEmail = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            originalStudentsByEmail.put(student.email, student);
+        }
 
-            enrollmentDetails = enrollStudent(student, hasDocument);
+        List<StudentAttributes> studentsToCreate = new ArrayList<>();
+        List<StudentAttributes> studentsToUpdate = new ArrayList<>();
+        for (StudentAttributes student : studentList) {
+            StudentAttributes originalStudent = originalStudentsByEmail.get(student.email);
+            StudentEnrollDetails enrollmentDetails = makeEnrollmentDetails(student, originalStudent);
+
+            if (enrollmentDetails.updateStatus == StudentUpdateStatus.NEW) {
+                studentsToCreate.add(student);
+            } else if (enrollmentDetails.updateStatus == StudentUpdateStatus.MODIFIED) {
+                student.updateWithExistingRecord(originalStudent);
+                // the existing record is written back with the new values, without being read again
+                student.key = originalStudent.key;
+                student.setCreatedAt(originalStudent.getCreatedAt());
+                studentsToUpdate.add(student);
+            }
             student.updateStatus = enrollmentDetails.updateStatus;
 
             enrollmentList.add(enrollmentDetails);
             returnList.add(student);
         }
 
+        studentsDb.createAndUpdateStudents(studentsToCreate, studentsToUpdate, hasDocument);
+        CourseRosterRegistry.invalidate(courseId);
+
         // add to return list students not included in the enroll list.
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
         for (StudentAttributes student : studentsInCourse) {
             if (!isInEnrollList(student, returnList)) {
                 student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
@@ -466,8 +500,13 @@ public final class StudentsLogic {
     public void deleteStudentCascade(String courseId, String studentEmail, boolean hasDocument) {
         // delete responses before deleting the student as we need to know the student's team.
         frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, studentEmail);
-        fsLogic.deleteStudentFromRespondentsList(getStudentForEmail(courseId, studentEmail));
+        StudentAttributes student = getStudentForEmail(courseId, studentEmail);
+        fsLogic.deleteStudentFromRespondentsList(student);
         studentsDb.deleteStudent(courseId, studentEmail, hasDocument);
+        CourseRosterRegistry.invalidate(courseId);
+        if (student != null) {
+            UserRoleCache.invalidate(student.googleId);
+        }
     }
 
     public void deleteStudentsForGoogleId(String googleId) {
@@ -476,6 +515,8 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleId(googleId);
+        CourseRosterRegistry.invalidateAll();
+        UserRoleCache.invalidate(googleId);
     }
 
     public void deleteStudentsForGoogleIdWithoutDocument(String googleId) {
@@ -484,6 +525,8 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleIdWithoutDocument(googleId);
+        CourseRosterRegistry.invalidateAll();
+        UserRoleCache.invalidate(googleId);
     }
 
     public void deleteStudentsForGoogleIdAndCascade(String googleId) {
@@ -496,11 +539,25 @@ public final class StudentsLogic {
     }
 
     public void deleteStudentsForCourse(String courseId) {
+        List<String> googleIds = getGoogleIdsOfStudentsInCourse(courseId);
         studentsDb.deleteStudentsForCourse(courseId);
+        CourseRosterRegistry.invalidate(courseId);
+        UserRoleCache.invalidate(googleIds);
     }
 
     public void deleteStudentsForCourseWithoutDocument(String courseId) {
+        List<String> googleIds = getGoogleIdsOfStudentsInCourse(courseId);
         studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+        CourseRosterRegistry.invalidate(courseId);
+        UserRoleCache.invalidate(googleIds);
+    }
+
+    private List<String> getGoogleIdsOfStudentsInCourse(String courseId) {
+        List<String> googleIds = new ArrayList<>();
+        for (StudentAttributes student : getStudentsForCourse(courseId)) {
+            googleIds.add(student.googleId);
+        }
+        return googleIds;
     }
 
     public void adjustFeedbackResponseForEnrollments(
@@ -529,11 +586,8 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
-    private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes, Boolean hasDocument)
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
-        StudentAttributes originalStudentAttributes = getStudentForEmail(
-                validStudentAttributes.course, validStudentAttributes.email);
-
+    private StudentEnrollDetails makeEnrollmentDetails(StudentAttributes validStudentAttributes,
+            StudentAttributes originalStudentAttributes) {
         StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
         enrollmentDetails.course = validStudentAttributes.course;
         enrollmentDetails.email = validStudentAttributes.email;
@@ -544,8 +598,6 @@ public final class StudentsLogic {
         if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
             enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
         } else if (isModifyingExistingStudent) {
-            updateStudentCascadeWithSubmissionAdjustmentScheduled(originalStudentAttributes.email,
-                                                                  validStudentAttributes, true);
             enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
 
             if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
@@ -555,7 +607,6 @@ public final class StudentsLogic {
                 enrollmentDetails.oldSection = originalStudentAttributes.section;
             }
         } else {
-            createStudentCascade(validStudentAttributes, hasDocument);
             enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
         }
 
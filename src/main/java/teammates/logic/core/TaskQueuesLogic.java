@@ -1,9 +1,18 @@
 package teammates.logic.core;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import com.google.appengine.api.taskqueue.Queue;
+import com.google.appengine.api.taskqueue.QueueConstants;
 import com.google.appengine.api.taskqueue.QueueFactory;
+import com.google.appengine.api.taskqueue.TaskHandle;
 import com.google.appengine.api.taskqueue.TaskOptions;
 
 import teammates.common.util.TaskWrapper;
@@ -13,13 +22,16 @@ import teammates.common.util.TaskWrapper;
  */
 public class TaskQueuesLogic {
 
+    private static final int MAX_TASKS_PER_ADD = QueueConstants.maxTasksPerAdd();
+    private static final int MAX_TASKS_PER_LEASE = (int) QueueConstants.maxLeaseCount();
+
     /**
      * Adds the given task to the specified queue.
      *
      * @param task the task object containing the details of task to be added
      */
     public void addTask(TaskWrapper task) {
-        addDeferredTask(task, 0);
+        addDeferredTask(task, task.getCountdownTime());
     }
 
     /**
@@ -30,6 +42,103 @@ public class TaskQueuesLogic {
      */
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
         Queue requiredQueue = QueueFactory.getQueue(task.getQueueName());
+        requiredQueue.add(toTaskOptions(task, countdownTime));
+    }
+
+    /**
+     * Adds the given tasks, each to its specified queue and to be run after its specified countdown time.
+     *
+     * <p>Tasks are added in bulk, up to {@link QueueConstants#maxTasksPerAdd()} tasks per queue at a time,
+     * and all the bulk adds are in flight at the same time.
+     * A bulk add that is rejected because some of its tasks are too large adds nothing;
+     * the tasks of that bulk add only are then added one at a time so that only the tasks which are too large
+     * are left out.
+     *
+     * @return the tasks that are not added because they are too large
+     */
+    public List<TaskWrapper> addTasks(List<TaskWrapper> tasks) {
+        Map<String, List<TaskWrapper>> tasksByQueue = new LinkedHashMap<>();
+        for (TaskWrapper task : tasks) {
+            tasksByQueue.computeIfAbsent(task.getQueueName(), queueName -> new ArrayList<>()).add(task);
+        }
+
+        List<PendingAdd> pendingAdds = new ArrayList<>();
+        for (Map.Entry<String, List<TaskWrapper>> entry : tasksByQueue.entrySet()) {
+            Queue requiredQueue = QueueFactory.getQueue(entry.getKey());
+            List<TaskWrapper> tasksForQueue = entry.getValue();
+
+            for (int from = 0; from < tasksForQueue.size(); from += MAX_TASKS_PER_ADD) {
+                List<TaskWrapper> chunk =
+                        tasksForQueue.subList(from, Math.min(from + MAX_TASKS_PER_ADD, tasksForQueue.size()));
+                List<TaskOptions> tasksToBeAdded = new ArrayList<>();
+                for (TaskWrapper task : chunk) {
+                    tasksToBeAdded.add(toTaskOptions(task, task.getCountdownTime()));
+                }
+                pendingAdds.add(new PendingAdd(requiredQueue, chunk, tasksToBeAdded));
+            }
+        }
+
+        List<TaskWrapper> rejectedTasks = new ArrayList<>();
+        for (PendingAdd pendingAdd : pendingAdds) {
+            try {
+                pendingAdd.waitForAdd();
+            } catch (IllegalArgumentException e) {
+                if (!isTaskTooLarge(e)) {
+                    throw e;
+                }
+                rejectedTasks.addAll(pendingAdd.addOneByOne());
+            }
+        }
+        return rejectedTasks;
+    }
+
+    /**
+     * Starts adding a task carrying {@code payload} to the specified pull queue, without waiting for the add
+     * to complete. A failure of the add itself is therefore not reported to the caller.
+     */
+    public void addPullTask(String queueName, String payload) {
+        Queue requiredQueue = QueueFactory.getQueue(queueName);
+        requiredQueue.addAsync(TaskOptions.Builder.withMethod(TaskOptions.Method.PULL)
+                .payload(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Leases up to {@link QueueConstants#maxLeaseCount()} tasks from the specified pull queue
+     * for {@code leaseMillis} milliseconds. Tasks which are not deleted before their lease expires
+     * can be leased again.
+     *
+     * @return the payloads of the leased tasks, keyed by the names of the tasks
+     */
+    public Map<String, String> leasePullTasks(String queueName, long leaseMillis) {
+        Queue requiredQueue = QueueFactory.getQueue(queueName);
+        List<TaskHandle> tasks = requiredQueue.leaseTasks(leaseMillis, TimeUnit.MILLISECONDS, MAX_TASKS_PER_LEASE);
+
+        Map<String, String> payloadsByTaskName = new LinkedHashMap<>();
+        for (TaskHandle task : tasks) {
+            payloadsByTaskName.put(task.getName(), new String(task.getPayload(), StandardCharsets.UTF_8));
+        }
+        return payloadsByTaskName;
+    }
+
+    /**
+     * Deletes the tasks with the given names from the specified queue.
+     */
+    public void deleteTasks(String queueName, List<String> taskNames) {
+        Queue requiredQueue = QueueFactory.getQueue(queueName);
+        for (int from = 0; from < taskNames.size(); from += MAX_TASKS_PER_ADD) {
+            List<TaskHandle> tasks = new ArrayList<>();
+            for (String taskName : taskNames.subList(from, Math.min(from + MAX_TASKS_PER_ADD, taskNames.size()))) {
+                tasks.add(new TaskHandle(TaskOptions.Builder.withTaskName(taskName), queueName));
+            }
+            requiredQueue.deleteTask(tasks);
+        }
+    }
+
+    private static boolean isTaskTooLarge(IllegalArgumentException e) {
+        return e.getMessage() != null && e.getMessage().toLowerCase().contains("task size too large");
+    }
+
+    private static TaskOptions toTaskOptions(TaskWrapper task, long countdownTime) {
         TaskOptions taskToBeAdded = TaskOptions.Builder.withUrl(task.getWorkerUrl());
         if (countdownTime > 0) {
             taskToBeAdded.countdownMillis(countdownTime);
@@ -43,8 +152,73 @@ public class TaskQueuesLogic {
                 taskToBeAdded = taskToBeAdded.param(name, value);
             }
         }
+        return taskToBeAdded;
+    }
+
+    /**
+     * A bulk add of tasks to a queue, which is started as soon as it is created.
+     */
+    private static class PendingAdd {
+
+        private final Queue queue;
+        private final List<TaskWrapper> tasks;
+        private final List<TaskOptions> tasksToBeAdded;
+        private Future<List<TaskHandle>> result;
+        private IllegalArgumentException rejection;
+
+        PendingAdd(Queue queue, List<TaskWrapper> tasks, List<TaskOptions> tasksToBeAdded) {
+            this.queue = queue;
+            this.tasks = tasks;
+            this.tasksToBeAdded = tasksToBeAdded;
+            try {
+                this.result = queue.addAsync(tasksToBeAdded);
+            } catch (IllegalArgumentException e) {
+                this.rejection = e;
+            }
+        }
+
+        /**
+         * Waits for the bulk add to complete.
+         *
+         * @throws IllegalArgumentException if the bulk add is rejected, e.g. because some of its tasks are too large
+         */
+        void waitForAdd() {
+            if (rejection != null) {
+                throw rejection;
+            }
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while adding tasks", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException("Failed to add tasks", e.getCause());
+            }
+        }
+
+        /**
+         * Adds the tasks one at a time.
+         *
+         * @return the tasks that are not added because they are too large
+         */
+        List<TaskWrapper> addOneByOne() {
+            List<TaskWrapper> rejectedTasks = new ArrayList<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    queue.add(tasksToBeAdded.get(i));
+                } catch (IllegalArgumentException e) {
+                    if (!isTaskTooLarge(e)) {
+                        throw e;
+                    }
+                    rejectedTasks.add(tasks.get(i));
+                }
+            }
+            return rejectedTasks;
+        }
 
-        requiredQueue.add(taskToBeAdded);
     }
 
 }
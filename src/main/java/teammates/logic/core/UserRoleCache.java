@@ -0,0 +1,151 @@
+package teammates.logic.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheService.SetPolicy;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.util.CacheStats;
+
+/**
+ * Caches whether users are instructors and/or students, keyed by Google ID.
+ *
+ * <p>Roles are memoized for the duration of a request scope (see {@link #startRequestScope()}) and
+ * shared across requests through Memcache for a short time. Write paths that can change whether a
+ * Google ID belongs to an instructor account or to a student must call {@link #invalidate(Collection)}.
+ */
+public final class UserRoleCache {
+
+    private static final String NAMESPACE = "UserRoles";
+
+    private static final Duration EXPIRATION = Duration.ofMinutes(2);
+
+    /**
+     * How long an invalidated Google ID is locked against re-adding, so that a role lookup which
+     * started before a write cannot put the old roles back into the cache after the write.
+     */
+    private static final long INVALIDATION_LOCK_MILLIS = 2000;
+
+    private static final ThreadLocal<Map<String, UserRoles>> CURRENT_REQUEST_MEMO = new ThreadLocal<>();
+
+    private static final CacheStats cacheStats = new CacheStats("User role");
+
+    private static final MemcacheService memcache = MemcacheServiceFactory.getMemcacheService(NAMESPACE);
+
+    private UserRoleCache() {
+        // utility class
+    }
+
+    /**
+     * Starts a request scope for the current thread, discarding any roles memoized by an earlier scope.
+     */
+    public static void startRequestScope() {
+        CURRENT_REQUEST_MEMO.set(new HashMap<>());
+    }
+
+    /**
+     * Ends the request scope of the current thread, if any.
+     */
+    public static void endRequestScope() {
+        CURRENT_REQUEST_MEMO.remove();
+    }
+
+    /**
+     * Gets the roles of the user, loading them with {@code rolesLoader}
+     * only if they are neither memoized in the current request scope nor cached in Memcache.
+     */
+    public static UserRoles getRoles(String googleId, Function<String, UserRoles> rolesLoader) {
+        Map<String, UserRoles> requestMemo = CURRENT_REQUEST_MEMO.get();
+        UserRoles roles = requestMemo == null ? null : requestMemo.get(googleId);
+
+        if (roles == null) {
+            roles = (UserRoles) memcache.get(googleId);
+        }
+
+        if (roles == null) {
+            cacheStats.recordMiss();
+            roles = rolesLoader.apply(googleId);
+            memcache.put(googleId, roles, Expiration.byDeltaSeconds((int) EXPIRATION.getSeconds()),
+                    SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+        } else {
+            cacheStats.recordHit();
+        }
+
+        if (requestMemo != null) {
+            requestMemo.put(googleId, roles);
+        }
+        return roles;
+    }
+
+    /**
+     * Discards the cached roles of the users. Null or empty Google IDs are ignored.
+     */
+    public static void invalidate(String... googleIds) {
+        invalidate(Arrays.asList(googleIds));
+    }
+
+    /**
+     * Discards the cached roles of the users. Null or empty Google IDs are ignored.
+     */
+    public static void invalidate(Collection<String> googleIds) {
+        List<String> keys = new ArrayList<>();
+        for (String googleId : googleIds) {
+            if (googleId != null && !googleId.isEmpty()) {
+                keys.add(googleId);
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Map<String, UserRoles> requestMemo = CURRENT_REQUEST_MEMO.get();
+        if (requestMemo != null) {
+            requestMemo.keySet().removeAll(keys);
+        }
+        memcache.deleteAll(keys, INVALIDATION_LOCK_MILLIS);
+    }
+
+    /**
+     * Returns the hit/miss counters of the cache. Each miss corresponds to one role lookup in the storage.
+     */
+    public static CacheStats getCacheStats() {
+        return cacheStats;
+    }
+
+    /**
+     * Whether a user is an instructor and/or a student. Being an admin is not cached
+     * as it is known from the current login without reading the storage.
+     */
+    public static class UserRoles implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean isInstructor;
+        private final boolean isStudent;
+
+        public UserRoles(boolean isInstructor, boolean isStudent) {
+            this.isInstructor = isInstructor;
+            this.isStudent = isStudent;
+        }
+
+        public boolean isInstructor() {
+            return isInstructor;
+        }
+
+        public boolean isStudent() {
+            return isStudent;
+        }
+
+    }
+
+}
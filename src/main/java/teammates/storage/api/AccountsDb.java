@@ -2,6 +2,7 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -195,7 +196,7 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
     }
 
     private Account getAccountEntity(String googleId, boolean retrieveStudentProfile) {
-        Account account = load().id(googleId).now();
+        Account account = loadEntity(Key.create(Account.class, googleId));
         if (account == null) {
             return null;
         }
@@ -209,6 +210,11 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return getAccountEntity(googleId, false);
     }
 
+    @Override
+    protected Duration getEntityCacheExpiration() {
+        return Duration.ofMinutes(30);
+    }
+
     @Override
     protected LoadType<Account> load() {
         return ofy().load().type(Account.class);
@@ -0,0 +1,160 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.ActivityLogsBundle;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.util.ActivityLogQuery;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.ActivityLog;
+
+/**
+ * Handles CRUD operations for the activity log entries of the app.
+ *
+ * @see ActivityLog
+ * @see ActivityLogAttributes
+ */
+public class ActivityLogsDb extends EntitiesDb<ActivityLog, ActivityLogAttributes> {
+
+    /**
+     * Maximum number of entities in a single batch save.
+     */
+    private static final int MAX_ENTITIES_PER_SAVE = 500;
+
+    /**
+     * Creates the log entries without checking for existence, in as few batch saves as possible.
+     * Entries which are already stored with the same IDs are overwritten, so that storing the same entries
+     * again, e.g. after a failed attempt, does not create duplicates.
+     *
+     * <p>Unlike other entities, the entries are not logged individually when they are saved,
+     * as they are themselves the logs of the app.
+     *
+     * <br> Preconditions: <br>
+     * * All parameters are non-null, and the IDs of all entries are set.
+     */
+    public void createActivityLogs(Collection<ActivityLogAttributes> logsToAdd) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, logsToAdd);
+
+        List<ActivityLog> entities = new ArrayList<>();
+        for (ActivityLogAttributes logToAdd : logsToAdd) {
+            entities.add(logToAdd.toEntity());
+        }
+
+        for (int from = 0; from < entities.size(); from += MAX_ENTITIES_PER_SAVE) {
+            ofy().save().entities(entities.subList(from, Math.min(from + MAX_ENTITIES_PER_SAVE, entities.size())))
+                    .now();
+        }
+        log.info("Stored " + entities.size() + " activity log entries");
+    }
+
+    /**
+     * Gets up to {@code limit} log entries matching the query, from the latest to the earliest,
+     * starting after the entry pointed to by {@code cursor}.
+     *
+     * <br> Preconditions: <br>
+     * * {@code query} is non-null.
+     *
+     * @param cursor the cursor returned with the previous page of entries,
+     *         or null (or an invalid cursor) to start from the latest entry
+     */
+    public ActivityLogsBundle getActivityLogs(ActivityLogQuery query, String cursor, int limit) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        Query<ActivityLog> datastoreQuery = getActivityLogsQuery(query).limit(limit);
+        Cursor startCursor = parseCursorOrNull(cursor);
+        if (startCursor != null) {
+            datastoreQuery = datastoreQuery.startAt(startCursor);
+        }
+
+        List<ActivityLogAttributes> logs = new ArrayList<>();
+        QueryResultIterator<ActivityLog> iterator = datastoreQuery.iterator();
+        while (iterator.hasNext()) {
+            logs.add(makeAttributes(iterator.next()));
+        }
+
+        String nextCursor = logs.size() < limit ? null : iterator.getCursor().toWebSafeString();
+        return new ActivityLogsBundle(logs, nextCursor);
+    }
+
+    /**
+     * Returns true if any log entry matches the query, reading only the key of the latest match.
+     *
+     * <br> Preconditions: <br>
+     * * {@code query} is non-null.
+     */
+    public boolean hasActivityLogs(ActivityLogQuery query) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        return hasAny(getActivityLogsQuery(query));
+    }
+
+    /**
+     * Builds the query for log entries, which is answered by the index on the time of the entries
+     * and at most one of the indexed fields of the entries.
+     */
+    private Query<ActivityLog> getActivityLogsQuery(ActivityLogQuery query) {
+        Query<ActivityLog> datastoreQuery = load();
+        if (query.getUserIdentifier() != null) {
+            datastoreQuery = datastoreQuery.filter("searchableUserIdentifiers =",
+                    ActivityLog.toSearchableForm(query.getUserIdentifier()));
+        } else if (query.getActionName() != null) {
+            datastoreQuery = datastoreQuery.filter("searchableActionName =",
+                    ActivityLog.toSearchableForm(query.getActionName()));
+        } else if (query.getUserRole() != null) {
+            datastoreQuery = datastoreQuery.filter("searchableUserRole =",
+                    ActivityLog.toSearchableForm(query.getUserRole()));
+        }
+        return datastoreQuery
+                .filter("logTime >=", new Date(query.getStartTime()))
+                .filter("logTime <=", new Date(query.getEndTime()))
+                .order("-logTime");
+    }
+
+    private static Cursor parseCursorOrNull(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return Cursor.fromWebSafeString(cursor);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected LoadType<ActivityLog> load() {
+        return ofy().load().type(ActivityLog.class);
+    }
+
+    @Override
+    protected ActivityLog getEntity(ActivityLogAttributes attributes) {
+        return load().id(attributes.getId()).now();
+    }
+
+    @Override
+    protected QueryKeys<ActivityLog> getEntityQueryKeys(ActivityLogAttributes attributes) {
+        Key<ActivityLog> keyToFind = Key.create(ActivityLog.class, attributes.getId());
+        return load().filterKey(keyToFind).keys();
+    }
+
+    @Override
+    protected ActivityLogAttributes makeAttributes(ActivityLog entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return ActivityLogAttributes.valueOf(entity);
+    }
+
+}
@@ -3,6 +3,7 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -136,8 +137,13 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         return load().filterKey(keyToFind).keys();
     }
 
+    @Override
+    protected Duration getEntityCacheExpiration() {
+        return Duration.ofHours(1);
+    }
+
     private Course getCourseEntity(String courseId) {
-        return load().id(courseId).now();
+        return loadEntity(Key.create(Course.class, courseId));
     }
 
     private List<Course> getCourseEntities(List<String> courseIds) {
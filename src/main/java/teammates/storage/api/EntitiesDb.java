@@ -2,24 +2,38 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.EntityNotFoundException;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
+import teammates.common.util.CacheStats;
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.Logger;
@@ -52,6 +66,38 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected static final Logger log = Logger.getLogger();
 
+    private static final Map<String, CacheStats> ENTITY_CACHE_STATS_BY_KIND = new ConcurrentHashMap<>();
+
+    private static EntityCache entityCache = new MemcacheEntityCache();
+
+    /**
+     * Second-level cache keys of entities whose deferred saves have not been flushed by the current thread.
+     * They are invalidated again once {@link #flush()} has committed the saves, so that a concurrent read
+     * in between cannot leave the old version cached.
+     */
+    private static final ThreadLocal<Set<String>> PENDING_DEFERRED_CACHE_KEYS = ThreadLocal.withInitial(HashSet::new);
+
+    /**
+     * Second-level cache keys of entities saved or deleted in the transaction run by the current thread.
+     * They are invalidated again once {@link #transact(VoidWork)} has committed the transaction.
+     */
+    private static final ThreadLocal<Set<String>> TRANSACTION_CACHE_KEYS = ThreadLocal.withInitial(HashSet::new);
+
+    /**
+     * Replaces the second-level cache shared by all entity kinds, e.g. with a {@link LocalEntityCache} in tests.
+     */
+    public static void setEntityCache(EntityCache cache) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, cache);
+        entityCache = cache;
+    }
+
+    /**
+     * Returns the second-level cache hit/miss counters of the entity kind, e.g. "Course".
+     */
+    public static CacheStats getEntityCacheStats(String kind) {
+        return ENTITY_CACHE_STATS_BY_KIND.computeIfAbsent(kind, CacheStats::new);
+    }
+
     /**
      * Preconditions:
      * <br> * {@code entityToAdd} is not null and has valid data.
@@ -176,6 +222,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected void saveEntity(E entityToSave, A entityToSaveAttributesForLogging) {
         ofy().save().entity(entityToSave).now();
+        invalidateCachedEntities(Collections.singletonList(entityToSave));
         log.info(entityToSaveAttributesForLogging.getBackupIdentifier());
     }
 
@@ -188,6 +235,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(attributes.getBackupIdentifier());
         }
         ofy().save().entities(entitiesToSave).now();
+        invalidateCachedEntities(entitiesToSave);
     }
 
     protected void saveEntitiesDeferred(Collection<E> entitiesToSave) {
@@ -199,10 +247,43 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(attributes.getBackupIdentifier());
         }
         ofy().defer().save().entities(entitiesToSave);
+        if (getEntityCacheExpiration() == null) {
+            return;
+        }
+        List<String> cacheKeys = new ArrayList<>();
+        for (E entity : entitiesToSave) {
+            cacheKeys.add(Key.create(entity).toWebSafeString());
+        }
+        PENDING_DEFERRED_CACHE_KEYS.get().addAll(cacheKeys);
+        entityCache.invalidate(cacheKeys);
     }
 
+    /**
+     * Writes all deferred operations, then removes the entities they saved from the second-level cache.
+     */
     public static void flush() {
         ofy().flush();
+        Set<String> pendingCacheKeys = PENDING_DEFERRED_CACHE_KEYS.get();
+        if (!pendingCacheKeys.isEmpty()) {
+            entityCache.invalidate(new ArrayList<>(pendingCacheKeys));
+            pendingCacheKeys.clear();
+        }
+    }
+
+    /**
+     * Runs {@code work} in a Datastore transaction, then removes the entities it saved or deleted
+     * from the second-level cache. Entities read by key within the transaction bypass the cache.
+     */
+    protected void transact(VoidWork work) {
+        try {
+            ofy().transact(work);
+        } finally {
+            Set<String> transactionCacheKeys = TRANSACTION_CACHE_KEYS.get();
+            if (!transactionCacheKeys.isEmpty()) {
+                entityCache.invalidate(new ArrayList<>(transactionCacheKeys));
+                transactionCacheKeys.clear();
+            }
+        }
     }
 
     // TODO: use this method for subclasses.
@@ -213,7 +294,9 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     public void deleteEntity(A entityToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToDelete);
 
-        ofy().delete().keys(getEntityQueryKeys(entityToDelete)).now();
+        List<Key<E>> keysToDelete = getEntityQueryKeys(entityToDelete).list();
+        ofy().delete().keys(keysToDelete).now();
+        invalidateCachedKeys(keysToDelete);
         log.info(entityToDelete.getBackupIdentifier());
     }
 
@@ -231,6 +314,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         }
 
         ofy().delete().keys(keysToDelete).now();
+        invalidateCachedKeys(keysToDelete);
     }
 
     protected void deleteEntityDirect(E entityToDelete) {
@@ -239,6 +323,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected void deleteEntityDirect(E entityToDelete, A entityToDeleteAttributesForLogging) {
         ofy().delete().entity(entityToDelete).now();
+        invalidateCachedEntities(Collections.singletonList(entityToDelete));
         log.info(entityToDeleteAttributesForLogging.getBackupIdentifier());
     }
 
@@ -251,6 +336,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(attributes.getBackupIdentifier());
         }
         ofy().delete().entities(entitiesToDelete).now();
+        invalidateCachedEntities(entitiesToDelete);
     }
 
     public void deletePicture(BlobKey key) {
@@ -259,6 +345,158 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected abstract LoadType<E> load();
 
+    /**
+     * Returns true if {@code query} matches any entity, reading only the key of the first match.
+     */
+    protected boolean hasAny(Query<E> query) {
+        return query.keys().first().now() != null;
+    }
+
+    /**
+     * Returns the number of entities matching {@code query}, counted without reading the entities.
+     */
+    protected int count(Query<E> query) {
+        return query.count();
+    }
+
+    /**
+     * Returns how long entities of this kind may be kept in the second-level cache,
+     * or null (the default) if the kind is not cached.
+     *
+     * <p>Subclasses enabling the cache must load entities by key through {@link #loadEntity(Key)}, must run
+     * transactions through {@link #transact(VoidWork)}, and must invalidate the keys of entities they delete
+     * without going through this class.
+     */
+    protected Duration getEntityCacheExpiration() {
+        return null;
+    }
+
+    /**
+     * Loads the entity with the given key, going through the second-level cache if it is enabled for the kind.
+     *
+     * @return null if there is no such entity.
+     */
+    protected E loadEntity(Key<E> key) {
+        Duration expiration = getEntityCacheExpiration();
+        if (expiration == null) {
+            return ofy().load().key(key).now();
+        }
+
+        String cacheKey = key.toWebSafeString();
+        if (PENDING_DEFERRED_CACHE_KEYS.get().contains(cacheKey) || isInTransaction()) {
+            // only the session sees the unflushed save, and only a transactional read is checked at commit
+            return ofy().load().key(key).now();
+        }
+
+        CacheStats cacheStats = getEntityCacheStats(key.getKind());
+        E cachedEntity = getCachedEntity(cacheKey);
+        if (cachedEntity != null) {
+            cacheStats.recordHit();
+            return cachedEntity;
+        }
+
+        cacheStats.recordMiss();
+        return loadAndCacheEntity(key, expiration);
+    }
+
+    /**
+     * Loads the entity with a unique combination of non-key properties, going through the second-level cache
+     * if it is enabled for the kind. The cache maps {@code lookupName} to the key of the entity, which is only
+     * returned if it still satisfies {@code isMatch}; otherwise, {@code query} is run against the Datastore
+     * and the entity it returns is cached.
+     *
+     * <p>The entity is cached as converted back by Objectify's save translator, so the kind must not have
+     * {@code @OnSave} callbacks changing the entity.
+     *
+     * @return null if there is no such entity.
+     */
+    protected E loadEntityByUniqueLookup(String lookupName, Predicate<E> isMatch, Supplier<E> query) {
+        Duration expiration = getEntityCacheExpiration();
+        if (expiration == null || isInTransaction()) {
+            return query.get();
+        }
+
+        Object cachedKey = entityCache.get(lookupName);
+        if (cachedKey != null) {
+            E cachedEntity = getCachedEntity((String) cachedKey);
+            if (cachedEntity != null && isMatch.test(cachedEntity)) {
+                getEntityCacheStats(Key.create(cachedEntity).getKind()).recordHit();
+                return cachedEntity;
+            }
+        }
+
+        E entity = query.get();
+        if (entity != null) {
+            Key<E> key = Key.create(entity);
+            String cacheKey = key.toWebSafeString();
+            getEntityCacheStats(key.getKind()).recordMiss();
+            if (!PENDING_DEFERRED_CACHE_KEYS.get().contains(cacheKey)) {
+                entityCache.putIfAbsent(cacheKey, ofy().save().toEntity(entity), expiration);
+                entityCache.putIfAbsent(lookupName, cacheKey, expiration);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Removes the entities with the given keys from the second-level cache, if it is enabled for the kind.
+     */
+    protected void invalidateCachedKeys(Collection<Key<E>> keys) {
+        if (getEntityCacheExpiration() == null || keys.isEmpty()) {
+            return;
+        }
+        List<String> cacheKeys = new ArrayList<>();
+        for (Key<E> key : keys) {
+            cacheKeys.add(key.toWebSafeString());
+        }
+        if (isInTransaction()) {
+            TRANSACTION_CACHE_KEYS.get().addAll(cacheKeys);
+        }
+        entityCache.invalidate(cacheKeys);
+    }
+
+    /**
+     * Removes the entities from the second-level cache, if it is enabled for the kind.
+     */
+    protected void invalidateCachedEntities(Collection<E> entities) {
+        if (getEntityCacheExpiration() == null || entities.isEmpty()) {
+            return;
+        }
+        List<Key<E>> keys = new ArrayList<>();
+        for (E entity : entities) {
+            keys.add(Key.create(entity));
+        }
+        invalidateCachedKeys(keys);
+    }
+
+    private static boolean isInTransaction() {
+        return ofy().getTransaction() != null;
+    }
+
+    private E getCachedEntity(String cacheKey) {
+        Object cachedEntity = entityCache.get(cacheKey);
+        if (cachedEntity == null) {
+            return null;
+        }
+        return ofy().load().fromEntity((Entity) cachedEntity);
+    }
+
+    /**
+     * Reads the raw entity with a low-level Datastore get and caches it as stored. Converting a loaded
+     * entity back with Objectify's save translator is avoided because it runs {@code @OnSave} callbacks,
+     * e.g. ones refreshing an update timestamp.
+     */
+    private E loadAndCacheEntity(Key<E> key, Duration expiration) {
+        Entity rawEntity;
+        try {
+            rawEntity = DatastoreServiceFactory.getDatastoreService().get(key.getRaw());
+        } catch (EntityNotFoundException e) {
+            return null;
+        }
+        entityCache.putIfAbsent(key.toWebSafeString(), rawEntity, expiration);
+        return ofy().load().fromEntity(rawEntity);
+    }
+
     /**
      * NOTE: This method must be overriden for all subclasses such that it will return the
      * Entity matching the EntityAttributes in the parameter.
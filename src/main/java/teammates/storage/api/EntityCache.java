@@ -0,0 +1,33 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Second-level cache for entities read by key, shared across requests.
+ *
+ * <p>Values are serialized Datastore entities; the cache is kept consistent by {@link EntitiesDb},
+ * which invalidates the affected keys on every save and delete.
+ *
+ * @see MemcacheEntityCache
+ * @see LocalEntityCache
+ */
+public interface EntityCache {
+
+    /**
+     * Returns the cached value for the key, or null if there is none.
+     */
+    Object get(String key);
+
+    /**
+     * Caches the value for the key unless a value is already present
+     * or the key has just been invalidated by a concurrent write.
+     */
+    void putIfAbsent(String key, Object value, Duration expiration);
+
+    /**
+     * Removes the values of the keys from the cache.
+     */
+    void invalidate(Collection<String> keys);
+
+}
@@ -18,6 +18,7 @@ import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -237,6 +238,41 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(frc);
     }
 
+    /**
+     * Updates the giver and receiver sections of all comments on {@code responses} to those of the responses,
+     * reading the comments of the session with one query and saving the changed comments in one batch.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null and all {@code responses} belong to the given session.
+     */
+    public void updateSectionsOfFeedbackResponseComments(String courseId, String feedbackSessionName,
+            Collection<FeedbackResponseAttributes> responses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        Map<String, FeedbackResponseAttributes> responsesById = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responsesById.put(response.getId(), response);
+        }
+
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        for (FeedbackResponseComment comment : getFeedbackResponseCommentEntitiesForSession(courseId, feedbackSessionName)) {
+            FeedbackResponseAttributes response = responsesById.get(comment.getFeedbackResponseId());
+            if (response == null) {
+                continue;
+            }
+            comment.setGiverSection(response.giverSection);
+            comment.setReceiverSection(response.recipientSection);
+            commentsToSave.add(comment);
+        }
+
+        saveEntities(commentsToSave);
+    }
+
     /*
      * Update giver email (normally an instructor email) with the new one
      */
@@ -18,6 +18,7 @@ import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.storage.entity.FeedbackResponse;
@@ -123,6 +124,21 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForQuestionInSection(feedbackQuestionId, section));
     }
 
+    /**
+     * Finds the responses for a question given by givers in a section.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionFromSection(
+            String feedbackQuestionId, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        return makeAttributes(getFeedbackResponseEntitiesForQuestionFromSection(feedbackQuestionId, section));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -147,6 +163,15 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForQuestionWithinRange(feedbackQuestionId, range));
     }
 
+    /**
+     * Returns true if there are responses for the question, without loading the responses.
+     */
+    public boolean hasFeedbackResponsesForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return hasAny(getFeedbackResponsesForQuestionQuery(feedbackQuestionId));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -304,6 +329,18 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForQuestion(feedbackQuestionId, giverEmail));
     }
 
+    /**
+     * Returns the number of responses from the giver for the question, without loading the responses.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public int getNumFeedbackResponsesFromGiverForQuestion(String feedbackQuestionId, String giverEmail) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+
+        return count(getFeedbackResponsesFromGiverForQuestionQuery(feedbackQuestionId, giverEmail));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -334,6 +371,20 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 giverEmail, feedbackSessionName, courseId, range));
     }
 
+    /**
+     * Returns true if there are responses from the giver in the session, without loading the responses.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public boolean hasFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return hasAny(getFeedbackResponsesFromGiverForSessionQuery(giverEmail, feedbackSessionName, courseId));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -431,6 +482,59 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         updateFeedbackResponseOptimized(newAttributes, fr, false);
     }
 
+    /**
+     * Updates the giver and recipient sections of the feedback responses identified by their IDs
+     * with one batch read and one batch write. Other fields of the responses are not updated.<br>
+     * Preconditions: <br>
+     * * {@code responses} is non-null and the IDs of all responses are non-null.
+     */
+    public void updateSectionsOfFeedbackResponses(Collection<FeedbackResponseAttributes> responses)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        List<String> responseIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responseIds.add(response.getId());
+        }
+        Map<String, FeedbackResponse> entitiesById = load().ids(responseIds);
+
+        List<FeedbackResponse> entitiesToSave = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackResponse fr = entitiesById.get(response.getId());
+            if (fr == null) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + response.toString());
+            }
+            fr.setGiverSection(response.giverSection);
+            fr.setRecipientSection(response.recipientSection);
+            entitiesToSave.add(fr);
+        }
+
+        saveEntities(entitiesToSave, responses);
+    }
+
+    /**
+     * Deletes the feedback responses identified by their IDs in one batch, without querying for their keys.<br>
+     * Note: This is a non-cascade delete.<br>
+     * Preconditions: <br>
+     * * {@code responses} is non-null and the IDs of all responses are non-null.
+     */
+    public void deleteFeedbackResponsesById(Collection<FeedbackResponseAttributes> responses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            keysToDelete.add(Key.create(FeedbackResponse.class, response.getId()));
+            log.info(response.getBackupIdentifier());
+        }
+
+        ofy().delete().keys(keysToDelete).now();
+        invalidateCachedKeys(keysToDelete);
+    }
+
     public void deleteFeedbackResponsesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -452,11 +556,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
      */
     public boolean hasFeedbackResponseEntitiesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
-        return !getFeedbackResponseEntitiesForCourseWithinRange(courseId, 1).isEmpty();
-    }
-
-    private List<FeedbackResponse> getFeedbackResponseEntitiesForCourseWithinRange(String courseId, int range) {
-        return load().filter("courseId =", courseId).limit(range).list();
+        return hasAny(load().filter("courseId =", courseId));
     }
 
     private FeedbackResponse getFeedbackResponseEntity(String feedbackResponseId) {
@@ -496,16 +596,27 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return feedbackResponses;
     }
 
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionFromSection(
+            String feedbackQuestionId, String section) {
+        return load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .filter("giverSection =", section)
+                .list();
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
         return getFeedbackResponseEntitiesForQuestionWithinRange(feedbackQuestionId, -1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionWithinRange(String feedbackQuestionId, int range) {
-        return load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
+        return getFeedbackResponsesForQuestionQuery(feedbackQuestionId)
                 .limit(range + 1).list();
     }
 
+    private Query<FeedbackResponse> getFeedbackResponsesForQuestionQuery(String feedbackQuestionId) {
+        return load().filter("feedbackQuestionId =", feedbackQuestionId);
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSession(
             String feedbackSessionName, String courseId) {
         return getFeedbackResponseEntitiesForSessionWithinRange(feedbackSessionName, courseId, -1);
@@ -521,19 +632,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesForSessionInSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSection(
@@ -548,6 +647,14 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
+        if (isSectionsListQueryable()) {
+            return load()
+                    .filter("feedbackSessionName =", feedbackSessionName)
+                    .filter("courseId =", courseId)
+                    .filter("sections =", section)
+                    .limit(range + 1).list();
+        }
+
         Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
 
         for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
@@ -591,6 +698,14 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
             String feedbackQuestionId, String receiver, String section) {
+        if (isSectionsListQueryable()) {
+            return load()
+                    .filter("feedbackQuestionId =", feedbackQuestionId)
+                    .filter("receiver =", receiver)
+                    .filter("sections =", section)
+                    .list();
+        }
+
         Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
 
         List<FeedbackResponse> firstQueryResponses = load()
@@ -618,14 +733,26 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
             String feedbackQuestionId, String giverEmail) {
+        return getFeedbackResponsesFromGiverForQuestionQuery(feedbackQuestionId, giverEmail).list();
+    }
+
+    private Query<FeedbackResponse> getFeedbackResponsesFromGiverForQuestionQuery(
+            String feedbackQuestionId, String giverEmail) {
         return load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .list();
+                .filter("giverEmail =", giverEmail);
     }
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
             String feedbackQuestionId, String giverEmail, String section) {
+        if (isSectionsListQueryable()) {
+            return load()
+                    .filter("feedbackQuestionId =", feedbackQuestionId)
+                    .filter("giverEmail =", giverEmail)
+                    .filter("sections =", section)
+                    .list();
+        }
+
         Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
 
         List<FeedbackResponse> firstQueryResponses = load()
@@ -651,13 +778,27 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return feedbackResponses.values();
     }
 
+    /**
+     * Returns true if responses in a section can be queried by their list of sections,
+     * i.e. {@code DataMigrationForFeedbackResponseSections} has populated it for all existing responses.
+     * Otherwise, they are queried by their giver section and recipient section separately.
+     */
+    protected boolean isSectionsListQueryable() {
+        return Config.IS_FEEDBACK_RESPONSE_SECTIONS_MIGRATED;
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForSessionWithinRange(
             String giverEmail, String feedbackSessionName, String courseId, int range) {
+        return getFeedbackResponsesFromGiverForSessionQuery(giverEmail, feedbackSessionName, courseId)
+                .limit(range + 1).list();
+    }
+
+    private Query<FeedbackResponse> getFeedbackResponsesFromGiverForSessionQuery(
+            String giverEmail, String feedbackSessionName, String courseId) {
         return load()
                 .filter("giverEmail =", giverEmail)
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .limit(range + 1).list();
+                .filter("courseId =", courseId);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourse(
@@ -180,7 +180,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         List<Key<FeedbackSession>> sessionKeys = getFeedbackSessionKeysForCourse(courseId);
         for (Key<FeedbackSession> sessionKey : sessionKeys) {
             try {
-                ofy().transact(new VoidWork() {
+                transact(new VoidWork() {
                     @Override
                     public void vrun() {
                         FeedbackSession session = ofy().load().key(sessionKey).now();
@@ -223,7 +223,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
 
         try {
-            ofy().transact(new VoidWork() {
+            transact(new VoidWork() {
                 @Override
                 public void vrun() {
                     FeedbackSession fs = getEntity(feedbackSession);
@@ -311,7 +311,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
 
         try {
-            ofy().transact(new VoidWork() {
+            transact(new VoidWork() {
                 @Override
                 public void vrun() {
                     FeedbackSession fs = getEntity(feedbackSession);
@@ -347,7 +347,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
 
         try {
-            ofy().transact(new VoidWork() {
+            transact(new VoidWork() {
                 @Override
                 public void vrun() {
                     FeedbackSession fs = getEntity(feedbackSession);
@@ -428,7 +428,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
 
         try {
-            ofy().transact(new VoidWork() {
+            transact(new VoidWork() {
                 @Override
                 public void vrun() {
                     FeedbackSession fs = getEntity(feedbackSession);
@@ -459,7 +459,9 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
     public void deleteFeedbackSessionsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
+        List<Key<FeedbackSession>> keysToDelete = load().filter("courseId in", courseIds).keys().list();
+        ofy().delete().keys(keysToDelete).now();
+        invalidateCachedKeys(keysToDelete);
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
@@ -501,7 +503,12 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
     }
 
     private FeedbackSession getFeedbackSessionEntity(String feedbackSessionName, String courseId) {
-        return load().id(feedbackSessionName + "%" + courseId).now();
+        return loadEntity(Key.create(FeedbackSession.class, feedbackSessionName + "%" + courseId));
+    }
+
+    @Override
+    protected Duration getEntityCacheExpiration() {
+        return Duration.ofMinutes(10);
     }
 
     @Override
@@ -2,11 +2,13 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
+import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
@@ -305,13 +307,16 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
             deleteDocument(makeAttributes(instructor));
         }
         ofy().delete().entities(instructors).now();
+        invalidateCachedEntities(instructors);
     }
 
     private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
-        return load()
-                .filter("courseId =", courseId)
-                .filter("googleId =", googleId)
-                .first().now();
+        return loadEntityByUniqueLookup("Instructor|googleId|" + courseId + "|" + googleId,
+                instructor -> courseId.equals(instructor.getCourseId()) && googleId.equals(instructor.getGoogleId()),
+                () -> load()
+                        .filter("courseId =", courseId)
+                        .filter("googleId =", googleId)
+                        .first().now());
     }
 
     private Instructor getInstructorEntityForEmail(String courseId, String email) {
@@ -322,7 +327,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     }
 
     private Instructor getInstructorEntityById(String courseId, String email) {
-        return load().id(email + '%' + courseId).now();
+        return loadEntity(Key.create(Instructor.class, email + '%' + courseId));
     }
 
     private List<Instructor> getInstructorEntitiesForCourses(List<String> courseIds) {
@@ -355,6 +360,11 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         return load().filter("courseId =", courseId).list();
     }
 
+    @Override
+    protected Duration getEntityCacheExpiration() {
+        return Duration.ofMinutes(30);
+    }
+
     @Override
     protected LoadType<Instructor> load() {
         return ofy().load().type(Instructor.class);
@@ -0,0 +1,68 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link EntityCache} local to the running instance.
+ * Used in tests, where the simulated Datastore is reset without going through {@link EntitiesDb}.
+ */
+public class LocalEntityCache implements EntityCache {
+
+    private final Map<String, CachedValue> values = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String key) {
+        CachedValue cachedValue = values.get(key);
+        if (cachedValue == null) {
+            return null;
+        }
+        if (cachedValue.isExpired()) {
+            values.remove(key, cachedValue);
+            return null;
+        }
+        return cachedValue.value;
+    }
+
+    @Override
+    public void putIfAbsent(String key, Object value, Duration expiration) {
+        CachedValue newValue = new CachedValue(value, Instant.now().plus(expiration));
+        values.merge(key, newValue, (oldValue, ignored) -> oldValue.isExpired() ? newValue : oldValue);
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        for (String key : keys) {
+            values.remove(key);
+        }
+    }
+
+    /**
+     * Removes all values from the cache.
+     */
+    public void clear() {
+        values.clear();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private static class CachedValue {
+        final Object value;
+        final Instant expiresAt;
+
+        CachedValue(Object value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheService.SetPolicy;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+/**
+ * {@link EntityCache} backed by the App Engine Memcache service.
+ */
+public class MemcacheEntityCache implements EntityCache {
+
+    private static final String NAMESPACE = "EntityCache";
+
+    /**
+     * How long an invalidated key is locked against re-adding, so that a read which started
+     * before a write cannot put the old value back into the cache after the write.
+     */
+    private static final long INVALIDATION_LOCK_MILLIS = 2000;
+
+    private final MemcacheService memcache;
+
+    public MemcacheEntityCache() {
+        // the default error handler logs and continues, so a Memcache outage only makes reads slower
+        memcache = MemcacheServiceFactory.getMemcacheService(NAMESPACE);
+    }
+
+    @Override
+    public Object get(String key) {
+        return memcache.get(key);
+    }
+
+    @Override
+    public void putIfAbsent(String key, Object value, Duration expiration) {
+        memcache.put(key, value, Expiration.byDeltaSeconds((int) expiration.getSeconds()),
+                SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        memcache.deleteAll(keys, INVALIDATION_LOCK_MILLIS);
+    }
+
+}
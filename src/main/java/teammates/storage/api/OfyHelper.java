@@ -6,6 +6,7 @@ import javax.servlet.ServletContextListener;
 import com.googlecode.objectify.ObjectifyService;
 
 import teammates.storage.entity.Account;
+import teammates.storage.entity.ActivityLog;
 import teammates.storage.entity.AdminEmail;
 import teammates.storage.entity.Course;
 import teammates.storage.entity.CourseStudent;
@@ -14,6 +15,7 @@ import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
 import teammates.storage.entity.Instructor;
+import teammates.storage.entity.SevereLogsWatermark;
 import teammates.storage.entity.StudentProfile;
 
 /**
@@ -26,6 +28,7 @@ public class OfyHelper implements ServletContextListener {
      */
     public static void registerEntityClasses() {
         ObjectifyService.register(Account.class);
+        ObjectifyService.register(ActivityLog.class);
         ObjectifyService.register(AdminEmail.class);
         ObjectifyService.register(Course.class);
         ObjectifyService.register(CourseStudent.class);
@@ -34,6 +37,7 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
         ObjectifyService.register(Instructor.class);
+        ObjectifyService.register(SevereLogsWatermark.class);
         ObjectifyService.register(StudentProfile.class);
     }
 
@@ -0,0 +1,69 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.SevereLogsWatermarkAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.SevereLogsWatermark;
+
+/**
+ * Handles operations for the time up to which the severe logs of the app have been compiled.
+ *
+ * @see SevereLogsWatermark
+ * @see SevereLogsWatermarkAttributes
+ */
+public class SevereLogsWatermarkDb extends EntitiesDb<SevereLogsWatermark, SevereLogsWatermarkAttributes> {
+
+    /**
+     * Gets the watermark, or null if the severe logs have never been compiled.
+     */
+    public SevereLogsWatermarkAttributes getWatermark() {
+        SevereLogsWatermark watermark = getWatermarkEntity();
+        return watermark == null ? null : makeAttributes(watermark);
+    }
+
+    /**
+     * Creates or overwrites the watermark.
+     *
+     * <br> Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void putWatermark(SevereLogsWatermarkAttributes watermark) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, watermark);
+
+        saveEntity(watermark.toEntity(), watermark);
+    }
+
+    private SevereLogsWatermark getWatermarkEntity() {
+        return load().id(SevereLogsWatermark.ID).now();
+    }
+
+    @Override
+    protected LoadType<SevereLogsWatermark> load() {
+        return ofy().load().type(SevereLogsWatermark.class);
+    }
+
+    @Override
+    protected SevereLogsWatermark getEntity(SevereLogsWatermarkAttributes attributes) {
+        return getWatermarkEntity();
+    }
+
+    @Override
+    protected QueryKeys<SevereLogsWatermark> getEntityQueryKeys(SevereLogsWatermarkAttributes attributes) {
+        Key<SevereLogsWatermark> keyToFind = Key.create(SevereLogsWatermark.class, SevereLogsWatermark.ID);
+        return load().filterKey(keyToFind).keys();
+    }
+
+    @Override
+    protected SevereLogsWatermarkAttributes makeAttributes(SevereLogsWatermark entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return SevereLogsWatermarkAttributes.valueOf(entity);
+    }
+
+}
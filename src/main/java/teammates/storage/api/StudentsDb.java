@@ -2,6 +2,7 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.Map;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
+import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
@@ -114,6 +116,51 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Batch creates the students in {@code studentsToCreate} and updates the name, comments, team and section
+     * of the students in {@code studentsToUpdate}, with one Datastore write and no Datastore read.
+     * If {@code hasDocument} is true, the search documents of all these students are put in one call,
+     * after the students are saved.
+     * Preconditions: <br>
+     * * All parameters are non-null. <br>
+     * * Students in {@code studentsToCreate} do not exist yet; this is not checked. <br>
+     * * Students in {@code studentsToUpdate} are records read from the Datastore, with their registration key
+     * and creation time, and the new values of the fields to update.
+     */
+    public void createAndUpdateStudents(List<StudentAttributes> studentsToCreate,
+            List<StudentAttributes> studentsToUpdate, boolean hasDocument) throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentsToCreate);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentsToUpdate);
+
+        List<CourseStudent> courseStudentsToSave = new ArrayList<>();
+
+        for (StudentAttributes student : studentsToCreate) {
+            student.sanitizeForSaving();
+            if (!student.isValid()) {
+                throw new InvalidParametersException(student.getInvalidityInfo());
+            }
+            courseStudentsToSave.add(student.toEntity());
+        }
+
+        for (StudentAttributes student : studentsToUpdate) {
+            if (!student.isValid()) {
+                throw new InvalidParametersException(student.getInvalidityInfo());
+            }
+            Assumption.assertNotNull("Student to update is not a record read from the Datastore: "
+                    + student.getIdentificationString(), student.key);
+            CourseStudent courseStudent = student.toEntity();
+            courseStudent.setRegistrationKey(student.key);
+            courseStudent.setCreatedAt(student.getCreatedAt());
+            courseStudentsToSave.add(courseStudent);
+        }
+
+        List<StudentAttributes> studentsToSave = makeAttributes(courseStudentsToSave);
+        saveEntities(courseStudentsToSave, studentsToSave);
+        if (hasDocument && !studentsToSave.isEmpty()) {
+            putDocuments(studentsToSave);
+        }
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -181,6 +228,15 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributes(getCourseStudentEntitiesForGoogleId(googleId));
     }
 
+    /**
+     * Returns true if the user with {@code googleId} is a student of any course, without loading the students.
+     */
+    public boolean hasStudentsForGoogleId(String googleId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
+
+        return hasAny(getCourseStudentsForGoogleIdQuery(googleId));
+    }
+
     /**
      * Preconditions: <br>
      *  * All parameters are non-null.
@@ -412,7 +468,9 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
                 deleteEntityDirect(courseStudentToDelete, courseStudentToDeleteAttributes);
             }
         } else {
-            ofy().delete().keys(getCourseStudentForEmailQuery(courseId, email).keys()).now();
+            List<Key<CourseStudent>> keysToDelete = getCourseStudentForEmailQuery(courseId, email).keys().list();
+            ofy().delete().keys(keysToDelete).now();
+            invalidateCachedKeys(keysToDelete);
         }
     }
 
@@ -437,7 +495,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         if (hasDocument) {
             deleteStudentsCascadeDocuments(getCourseStudentEntitiesForGoogleId(googleId));
         } else {
-            ofy().delete().keys(getCourseStudentsForGoogleIdQuery(googleId).keys());
+            deleteCourseStudentKeys(getCourseStudentsForGoogleIdQuery(googleId).keys());
         }
     }
 
@@ -462,14 +520,20 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         if (hasDocument) {
             deleteStudentsCascadeDocuments(getCourseStudentEntitiesForCourse(courseId));
         } else {
-            ofy().delete().keys(getCourseStudentsForCourseQuery(courseId).keys());
+            deleteCourseStudentKeys(getCourseStudentsForCourseQuery(courseId).keys());
         }
     }
 
     public void deleteStudentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(getCourseStudentsForCoursesQuery(courseIds).keys());
+        deleteCourseStudentKeys(getCourseStudentsForCoursesQuery(courseIds).keys());
+    }
+
+    private void deleteCourseStudentKeys(QueryKeys<CourseStudent> keysQuery) {
+        List<Key<CourseStudent>> keysToDelete = keysQuery.list();
+        ofy().delete().keys(keysToDelete);
+        invalidateCachedKeys(keysToDelete);
     }
 
     /**
@@ -492,7 +556,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     }
 
     private CourseStudent getCourseStudentEntityForEmail(String courseId, String email) {
-        return load().id(email + '%' + courseId).now();
+        return loadEntity(Key.create(CourseStudent.class, email + '%' + courseId));
     }
 
     private CourseStudent getCourseStudentEntityForRegistrationKey(String registrationKey) {
@@ -556,6 +620,11 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return load().list();
     }
 
+    @Override
+    protected Duration getEntityCacheExpiration() {
+        return Duration.ofMinutes(30);
+    }
+
     @Override
     protected LoadType<CourseStudent> load() {
         return ofy().load().type(CourseStudent.class);
@@ -0,0 +1,173 @@
+package teammates.storage.entity;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents an activity log entry of the app, as shown in the admin activity log page.
+ *
+ * <p>The entity is keyed by an ID which stays the same when the same entry is stored again, so that storing
+ * an entry more than once overwrites it instead of creating a duplicate.
+ *
+ * <p>Only the ID and the time of the entry, and the lower case forms of its action name, user role and
+ * user name, Google ID and email are indexed; these are the fields the entries are searched by.
+ */
+@Entity
+@Unindex
+public class ActivityLog extends BaseEntity {
+
+    @Id
+    private String id;
+
+    @Index
+    private Date logTime;
+
+    @Index
+    private String searchableActionName;
+
+    @Index
+    private String searchableUserRole;
+
+    @Index
+    private List<String> searchableUserIdentifiers = new ArrayList<>();
+
+    @Index
+    private String logId;
+
+    private String actionName;
+
+    private String actionUrl;
+
+    private String actionResponse;
+
+    private String userRole;
+
+    private boolean isMasqueradeUserRole;
+
+    private String userName;
+
+    private String userGoogleId;
+
+    private String userEmail;
+
+    private Text logMessage;
+
+    private long actionTimeTaken;
+
+    private String appVersion;
+
+    @SuppressWarnings("unused")
+    private ActivityLog() {
+        // required by Objectify
+    }
+
+    public ActivityLog(String id, String logId, Date logTime, String actionName, String actionUrl, String actionResponse,
+                       String userRole, boolean isMasqueradeUserRole, String userName, String userGoogleId,
+                       String userEmail, Text logMessage, long actionTimeTaken, String appVersion) {
+        this.id = id;
+        this.logId = logId;
+        this.logTime = logTime;
+        this.actionName = actionName;
+        this.actionUrl = actionUrl;
+        this.actionResponse = actionResponse;
+        this.userRole = userRole;
+        this.isMasqueradeUserRole = isMasqueradeUserRole;
+        this.userName = userName;
+        this.userGoogleId = userGoogleId;
+        this.userEmail = userEmail;
+        this.logMessage = logMessage;
+        this.actionTimeTaken = actionTimeTaken;
+        this.appVersion = appVersion;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getLogId() {
+        return logId;
+    }
+
+    public Date getLogTime() {
+        return logTime;
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public String getActionUrl() {
+        return actionUrl;
+    }
+
+    public String getActionResponse() {
+        return actionResponse;
+    }
+
+    public String getUserRole() {
+        return userRole;
+    }
+
+    public boolean isMasqueradeUserRole() {
+        return isMasqueradeUserRole;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getUserGoogleId() {
+        return userGoogleId;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public Text getLogMessage() {
+        return logMessage;
+    }
+
+    public long getActionTimeTaken() {
+        return actionTimeTaken;
+    }
+
+    public String getAppVersion() {
+        return appVersion;
+    }
+
+    /**
+     * Updates the indexed fields, which are derived from the other fields, before the entry is saved.
+     */
+    @OnSave
+    public void updateSearchableFields() {
+        this.searchableActionName = toSearchableForm(actionName);
+        this.searchableUserRole = toSearchableForm(userRole);
+
+        Set<String> userIdentifiers = new LinkedHashSet<>();
+        for (String userIdentifier : new String[] { userName, userGoogleId, userEmail }) {
+            if (userIdentifier != null) {
+                userIdentifiers.add(toSearchableForm(userIdentifier));
+            }
+        }
+        this.searchableUserIdentifiers = new ArrayList<>(userIdentifiers);
+    }
+
+    /**
+     * Returns the form of {@code value} stored in the indexed fields, i.e. trimmed and in lower case.
+     */
+    public static String toSearchableForm(String value) {
+        return value == null ? null : value.trim().toLowerCase();
+    }
+
+}
@@ -178,6 +178,10 @@ public class CourseStudent extends BaseEntity {
         return registrationKey;
     }
 
+    public void setRegistrationKey(String registrationKey) {
+        this.registrationKey = registrationKey;
+    }
+
     public String getCourseId() {
         return courseId;
     }
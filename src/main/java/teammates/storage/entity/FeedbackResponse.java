@@ -1,7 +1,9 @@
 package teammates.storage.entity;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.annotation.Entity;
@@ -51,6 +53,12 @@ public class FeedbackResponse extends BaseEntity {
 
     private String receiverSection;
 
+    /**
+     * The distinct giver and recipient sections of the response, kept in sync on save,
+     * so that responses in a section can be queried with a single filter.
+     */
+    private List<String> sections = new ArrayList<>();
+
     private Text answer; //TODO: rename to responseMetaData, will require database conversion
 
     private Date createdAt;
@@ -148,6 +156,10 @@ public class FeedbackResponse extends BaseEntity {
         this.receiverSection = recipientSection;
     }
 
+    public List<String> getSections() {
+        return sections;
+    }
+
     public Text getResponseMetaData() {
         return answer;
     }
@@ -179,4 +191,16 @@ public class FeedbackResponse extends BaseEntity {
     public void updateLastUpdateTimestamp() {
         this.setLastUpdate(Instant.now());
     }
+
+    @OnSave
+    public void updateSections() {
+        List<String> newSections = new ArrayList<>();
+        if (giverSection != null) {
+            newSections.add(giverSection);
+        }
+        if (receiverSection != null && !receiverSection.equals(giverSection)) {
+            newSections.add(receiverSection);
+        }
+        this.sections = newSections;
+    }
 }
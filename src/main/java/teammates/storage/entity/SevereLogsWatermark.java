@@ -0,0 +1,49 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents the time up to which the severe logs of the app have been compiled and reported.
+ *
+ * <p>There is only one such entity, which is updated after every compilation.
+ */
+@Entity
+@Unindex
+public class SevereLogsWatermark extends BaseEntity {
+
+    public static final String ID = "severeLogsWatermark";
+
+    @Id
+    private String id = ID;
+
+    private Date compiledUntil;
+
+    @SuppressWarnings("unused")
+    private SevereLogsWatermark() {
+        // required by Objectify
+    }
+
+    public SevereLogsWatermark(Instant compiledUntil) {
+        setCompiledUntil(compiledUntil);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getCompiledUntil() {
+        return TimeHelper.convertDateToInstant(compiledUntil);
+    }
+
+    public void setCompiledUntil(Instant compiledUntil) {
+        this.compiledUntil = TimeHelper.convertInstantToDate(compiledUntil);
+    }
+
+}
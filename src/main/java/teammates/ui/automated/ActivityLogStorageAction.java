@@ -0,0 +1,23 @@
+package teammates.ui.automated;
+
+/**
+ * Cron job: stores the activity log entries queued since the last run in the Datastore.
+ */
+public class ActivityLogStorageAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "store activity logs";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Storing queued activity log entries";
+    }
+
+    @Override
+    public void execute() {
+        logic.storeQueuedActivityLogs();
+    }
+
+}
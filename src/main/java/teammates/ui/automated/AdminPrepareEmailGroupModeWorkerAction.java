@@ -21,6 +21,9 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
 
     private static final Logger log = Logger.getLogger();
 
+    /** Number of receivers whose email tasks are added in bulk before the request deadline is checked again. */
+    private static final int EMAILS_PER_BATCH = 100;
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -82,17 +85,18 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
 
         for (int i = indexOfEmailListToResume; i < processedReceiverEmails.size(); i++) {
             List<String> currentEmailList = processedReceiverEmails.get(i);
-            for (int j = indexOfEmailToResume; j < currentEmailList.size(); j++) {
-                String receiverEmail = currentEmailList.get(j);
-                taskQueuer.scheduleAdminEmailForSending(emailId, receiverEmail, adminEmail.getSubject(),
-                                                        adminEmail.getContentValue());
+            int indexOfFirstEmail = i == indexOfEmailListToResume ? indexOfEmailToResume : 0;
+            for (int j = indexOfFirstEmail; j < currentEmailList.size(); j += EMAILS_PER_BATCH) {
+                int indexOfNextEmail = Math.min(j + EMAILS_PER_BATCH, currentEmailList.size());
+                taskQueuer.scheduleAdminEmailsForSending(emailId, currentEmailList.subList(j, indexOfNextEmail));
                 if (isNearDeadline()) {
-                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, i, j);
+                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey,
+                                                                        i, indexOfNextEmail);
                     log.info("Adding group mail tasks for mail with id " + emailId
-                             + " have been paused with list index: " + i + " and email index: " + j);
+                             + " have been paused with list index: " + i + " and email index: " + indexOfNextEmail);
                     return;
                 }
-                indexOfLastEmail = j;
+                indexOfLastEmail = indexOfNextEmail - 1;
             }
             indexOfLastEmailList = i;
         }
@@ -1,6 +1,5 @@
 package teammates.ui.automated;
 
-import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
@@ -33,24 +32,16 @@ public class AdminSendEmailWorkerAction extends AutomatedAction {
         String emailContent = getRequestParamValue(ParamsNames.ADMIN_EMAIL_CONTENT);
         String emailSubject = getRequestParamValue(ParamsNames.ADMIN_EMAIL_SUBJECT);
 
-        if (emailContent == null || emailSubject == null) {
-            String emailId = getRequestParamValue(ParamsNames.ADMIN_EMAIL_ID);
-            Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_ID, emailId);
-
-            log.info("Sending large email. Going to retrieve email content and subject from datastore.");
-            AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
-            Assumption.assertNotNull(adminEmail);
-
-            emailContent = adminEmail.getContentValue();
-            emailSubject = adminEmail.getSubject();
-        }
-
-        Assumption.assertNotNull(emailContent);
-        Assumption.assertNotNull(emailSubject);
-
         try {
-            EmailWrapper email =
-                    new EmailGenerator().generateAdminEmail(emailContent, emailSubject, receiverEmail);
+            EmailWrapper email;
+            if (emailContent == null || emailSubject == null) {
+                String emailId = getRequestParamValue(ParamsNames.ADMIN_EMAIL_ID);
+                Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_ID, emailId);
+                email = new EmailGenerator().generateAdminEmail(emailId, receiverEmail);
+            } else {
+                // tasks queued before the content was retrieved by ID
+                email = new EmailGenerator().generateAdminEmail(emailContent, emailSubject, receiverEmail);
+            }
             emailSender.sendEmail(email);
             log.info("Email sent to " + receiverEmail);
         } catch (Exception e) {
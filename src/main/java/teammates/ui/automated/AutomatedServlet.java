@@ -6,10 +6,14 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import teammates.common.datatransfer.CourseRosterRegistry;
 import teammates.common.exception.TeammatesException;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Config;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
 import teammates.common.util.Logger;
+import teammates.logic.api.TaskQueuer;
 
 /**
  * Receives automated requests from the App Engine server and executes the matching automated action.
@@ -27,6 +31,7 @@ public class AutomatedServlet extends HttpServlet {
     @Override
     @SuppressWarnings("PMD.AvoidCatchingThrowable") // used as fallback
     public void doPost(HttpServletRequest req, HttpServletResponse resp) {
+        CourseRosterRegistry.startRequestScope();
         try {
             if (req.getParameterNames().hasMoreElements()) {
                 log.info(HttpRequestHelper.printRequestParameters(req));
@@ -40,7 +45,10 @@ public class AutomatedServlet extends HttpServlet {
                 Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
                 // no logged-in user for automated servlet
                 LogMessageGenerator logGenerator = new LogMessageGenerator();
-                log.info(logGenerator.generateBasicActivityLogMessage(url, params, action.getActionMessage(), null));
+                ActivityLogEntry logEntry =
+                        logGenerator.generateBasicActivityLogEntry(url, params, action.getActionMessage(), null);
+                log.info(logEntry.generateLogMessage());
+                new TaskQueuer().scheduleActivityLogStorage(logEntry, Config.getAppVersion());
             }
 
             action.execute();
@@ -49,6 +57,8 @@ public class AutomatedServlet extends HttpServlet {
             log.severe("Exception occured while performing " + requestUrl + "|||"
                        + TeammatesException.toStringWithStackTrace(t));
             resp.setStatus(500); // so task will be recognised as failed and GAE retry mechanism can kick in
+        } finally {
+            CourseRosterRegistry.endRequestScope();
         }
     }
 
@@ -1,7 +1,7 @@
 package teammates.ui.automated;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 
 import com.google.appengine.api.log.AppLogLine;
@@ -11,14 +11,23 @@ import com.google.appengine.api.log.LogService.LogLevel;
 import com.google.appengine.api.log.LogServiceFactory;
 import com.google.appengine.api.log.RequestLogs;
 
+import teammates.common.datatransfer.SevereLogsDigest;
 import teammates.common.util.EmailWrapper;
 import teammates.logic.api.EmailGenerator;
 
 /**
  * Cron job: compiles application logs and sends severe logs compilation to the support email.
+ *
+ * <p>Each run only compiles the logs of the requests which ended after those compiled by the previous run,
+ * as recorded by a persisted watermark, so that no log is reported twice.
  */
 public class CompileLogsAction extends AutomatedAction {
 
+    /**
+     * Time allowed for the logs of a request to be available after the request ends.
+     */
+    private static final Duration LOG_AVAILABILITY_DELAY = Duration.ofMinutes(1);
+
     @Override
     protected String getActionDescription() {
         return "send severe log notifications";
@@ -31,26 +40,33 @@ public class CompileLogsAction extends AutomatedAction {
 
     @Override
     public void execute() {
-        List<AppLogLine> errorLogs = getErrorLogs();
-        sendEmail(errorLogs);
+        Instant endTime = Instant.now().minus(LOG_AVAILABILITY_DELAY);
+        Instant startTime = logic.getSevereLogsCompilationStartTime(endTime);
+        if (!startTime.isBefore(endTime)) {
+            return;
+        }
+
+        SevereLogsDigest digest = getErrorLogs(startTime, endTime);
+        sendEmails(digest);
+        // only recorded once the emails are sent, so that the logs are compiled again if this run fails
+        logic.updateSevereLogsCompiledUntil(endTime);
     }
 
-    private List<AppLogLine> getErrorLogs() {
+    /**
+     * Gets the error logs of the requests which ended from {@code startTime} (inclusive)
+     * to {@code endTime} (exclusive), grouped by their fingerprint.
+     */
+    private SevereLogsDigest getErrorLogs(Instant startTime, Instant endTime) {
         LogService logService = LogServiceFactory.getLogService();
 
-        long endTime = Instant.now().toEpochMilli();
-        // Sets the range to 6 minutes to slightly overlap the 5 minute email timer
-        long queryRange = 1000 * 60 * 6;
-        long startTime = endTime - queryRange;
-
         LogQuery q = LogQuery.Builder.withDefaults()
                                      .includeAppLogs(true)
-                                     .startTimeMillis(startTime)
-                                     .endTimeMillis(endTime)
+                                     .startTimeMillis(startTime.toEpochMilli())
+                                     .endTimeMillis(endTime.toEpochMilli())
                                      .minLogLevel(LogLevel.ERROR);
 
         Iterable<RequestLogs> logs = logService.fetch(q);
-        List<AppLogLine> errorLogs = new ArrayList<>();
+        SevereLogsDigest digest = new SevereLogsDigest();
 
         for (RequestLogs requestLogs : logs) {
             List<AppLogLine> logList = requestLogs.getAppLogLines();
@@ -59,18 +75,21 @@ public class CompileLogsAction extends AutomatedAction {
                 LogLevel logLevel = currentLog.getLogLevel();
 
                 if (LogLevel.FATAL == logLevel || LogLevel.ERROR == logLevel) {
-                    errorLogs.add(currentLog);
+                    digest.add(currentLog);
                 }
             }
         }
 
-        return errorLogs;
+        return digest;
     }
 
-    private void sendEmail(List<AppLogLine> logs) {
+    private void sendEmails(SevereLogsDigest digest) {
         // Do not send any emails if there are no severe logs; prevents spamming
-        if (!logs.isEmpty()) {
-            EmailWrapper message = new EmailGenerator().generateCompiledLogsEmail(logs);
+        if (digest.isEmpty()) {
+            return;
+        }
+        List<EmailWrapper> messages = new EmailGenerator().generateCompiledLogsEmails(digest);
+        for (EmailWrapper message : messages) {
             emailSender.sendReport(message);
         }
     }
@@ -32,7 +32,7 @@ public class FeedbackSessionOpeningRemindersAction extends AutomatedAction {
         for (FeedbackSessionAttributes session : sessions) {
             List<EmailWrapper> emailsToBeSent = new EmailGenerator().generateFeedbackSessionOpeningEmails(session);
             try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                taskQueuer.scheduleEmailBatchesForSending(emailsToBeSent);
                 session.setSentOpenEmail(true);
                 logic.updateFeedbackSession(session);
             } catch (Exception e) {
@@ -44,7 +44,7 @@ public class FeedbackSessionPublishedEmailWorkerAction extends AutomatedAction {
         List<EmailWrapper> emailsToBeSent =
                 new EmailGenerator().generateFeedbackSessionPublishedEmails(session);
         try {
-            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+            taskQueuer.scheduleEmailBatchesForSending(emailsToBeSent);
             session.setSentPublishedEmail(true);
             logic.updateFeedbackSession(session);
         } catch (Exception e) {
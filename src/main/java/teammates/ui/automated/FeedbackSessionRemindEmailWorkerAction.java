@@ -3,6 +3,7 @@ package teammates.ui.automated;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.FeedbackSessionCompletionEvaluator;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -47,10 +48,12 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
             List<InstructorAttributes> instructorList = logic.getInstructorsForCourse(courseId);
 
             InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
+            FeedbackSessionCompletionEvaluator completionEvaluator =
+                    logic.getFeedbackSessionCompletionEvaluator(session);
 
             List<StudentAttributes> studentsToRemindList = new ArrayList<>();
             for (StudentAttributes student : studentList) {
-                if (!logic.isFeedbackSessionCompletedByStudent(session, student.email)) {
+                if (!completionEvaluator.isCompletedByStudent(student.email)) {
                     studentsToRemindList.add(student);
                 }
             }
@@ -58,7 +61,7 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
             // Filter out instructors who have submitted the feedback session
             List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
             for (InstructorAttributes instructor : instructorList) {
-                if (!logic.isFeedbackSessionCompletedByInstructor(session, instructor.email)) {
+                if (!completionEvaluator.isCompletedByInstructor(instructor.email)) {
                     instructorsToRemindList.add(instructor);
                 }
             }
@@ -0,0 +1,87 @@
+package teammates.ui.automated;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.logic.api.EmailGenerator;
+
+/**
+ * Task queue worker action: sends a queued batch of emails.
+ *
+ * <p>The emails that fail to be sent are queued to be sent individually, so that they are retried
+ * without sending the rest of the batch again. If sending stops part way through the batch,
+ * only the emails not yet sent are queued again.
+ */
+public class SendEmailBatchWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String emailBatch = getRequestParamValue(ParamsNames.EMAIL_BATCH);
+        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_BATCH, emailBatch);
+
+        List<EmailWrapper> emails = JsonUtils.fromJson(emailBatch, new TypeToken<List<EmailWrapper>>(){}.getType());
+
+        EmailGenerator emailGenerator = new EmailGenerator();
+        List<EmailWrapper> emailsToSend = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            try {
+                email.setContent(emailGenerator.renderFeedbackSessionEmailContent(email.getContentReference()));
+                emailsToSend.add(email);
+            } catch (EntityDoesNotExistException e) {
+                log.warning("Email to " + email.getRecipient() + " not sent as its content can no longer be rendered: "
+                            + e.getMessage());
+            }
+        }
+
+        if (emailsToSend.isEmpty()) {
+            return;
+        }
+
+        Set<EmailWrapper> sentEmails = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<EmailWrapper> failedEmails;
+        try {
+            failedEmails = emailSender.sendEmails(emailsToSend, sentEmails::addAll);
+        } catch (RuntimeException e) {
+            // the task is not retried, as that would send the emails already sent again
+            List<EmailWrapper> unsentEmails = emailsToSend.stream()
+                    .filter(email -> !sentEmails.contains(email))
+                    .collect(Collectors.toList());
+            log.severe("Sending of email batch stopped after " + sentEmails.size() + " of " + emailsToSend.size()
+                       + " emails; the other emails are queued to be sent again: "
+                       + TeammatesException.toStringWithStackTrace(e));
+            taskQueuer.scheduleEmailBatchesForSending(unsentEmails);
+            return;
+        }
+        if (!failedEmails.isEmpty()) {
+            log.warning(failedEmails.size() + " of " + emailsToSend.size()
+                        + " emails failed to send and are queued to be sent individually");
+            taskQueuer.scheduleEmailsForSending(failedEmails);
+        }
+    }
+
+}
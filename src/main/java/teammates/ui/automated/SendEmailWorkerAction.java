@@ -1,10 +1,14 @@
 package teammates.ui.automated;
 
+import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailContentReference;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.logic.api.EmailGenerator;
 
 /**
  * Task queue worker action: sends queued email.
@@ -29,7 +33,18 @@ public class SendEmailWorkerAction extends AutomatedAction {
         Assumption.assertPostParamNotNull(ParamsNames.EMAIL_SUBJECT, emailSubject);
 
         String emailContent = getRequestParamValue(ParamsNames.EMAIL_CONTENT);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_CONTENT, emailContent);
+        if (emailContent == null) {
+            String emailContentReference = getRequestParamValue(ParamsNames.EMAIL_CONTENT_REFERENCE);
+            Assumption.assertPostParamNotNull(ParamsNames.EMAIL_CONTENT_REFERENCE, emailContentReference);
+            try {
+                emailContent = new EmailGenerator().renderFeedbackSessionEmailContent(
+                        JsonUtils.fromJson(emailContentReference, EmailContentReference.class));
+            } catch (EntityDoesNotExistException e) {
+                log.warning("Email not sent as its content can no longer be rendered: "
+                            + TeammatesException.toStringWithStackTrace(e));
+                return;
+            }
+        }
 
         String emailSenderEmail = getRequestParamValue(ParamsNames.EMAIL_SENDER);
         Assumption.assertPostParamNotNull(ParamsNames.EMAIL_SENDER, emailSenderEmail);
@@ -14,6 +14,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.InvalidOriginException;
 import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Assumption;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
@@ -547,6 +548,17 @@ public abstract class Action {
                                                                       account, student, statusToAdmin);
     }
 
+    /**
+     * Returns the log entry used for generating the 'activity log' for the Admin.
+     *
+     * @param timeTaken time taken to process the request, in milliseconds
+     */
+    public ActivityLogEntry getLogEntry(long timeTaken) {
+        UserType currUser = gateKeeper.getCurrentUser();
+        return new LogMessageGenerator().generatePageActionLogEntry(requestUrl, requestParameters, currUser,
+                                                                    account, student, statusToAdmin, timeTaken);
+    }
+
     /**
      * Returns null if the specified parameter was not found in the request.
      */
@@ -647,6 +659,15 @@ public abstract class Action {
                                       fileContent);
     }
 
+    public FileDownloadResult createFileDownloadResult(String fileName,
+                                                       FileDownloadResult.FileContentWriter fileContentWriter) {
+        return new FileDownloadResult("filedownload",
+                                      account,
+                                      statusToUser,
+                                      fileName,
+                                      fileContentWriter);
+    }
+
     protected ActionResult createPleaseJoinCourseResponse(String courseId) {
         String errorMessage = "You are not registered in the course " + SanitizationHelper.sanitizeForHtml(courseId);
         statusToUser.add(new StatusMessage(errorMessage, StatusMessageColor.DANGER));
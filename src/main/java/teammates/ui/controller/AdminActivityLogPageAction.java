@@ -2,44 +2,41 @@ package teammates.ui.controller;
 
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
-import com.google.appengine.api.log.AppLogLine;
-
+import teammates.common.datatransfer.ActivityLogsBundle;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.ActivityLogEntry;
-import teammates.common.util.AdminLogQuery;
+import teammates.common.util.ActivityLogQuery;
 import teammates.common.util.Const;
-import teammates.common.util.GaeLogApi;
-import teammates.common.util.GaeVersionApi;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.common.util.TimeHelper;
-import teammates.common.util.Version;
 import teammates.ui.pagedata.AdminActivityLogPageData;
 
 public class AdminActivityLogPageAction extends Action {
     private static final int RELEVANT_LOGS_PER_PAGE = 50;
     /**
-     * The maximum time period to retrieve logs with time increment.
-     */
-    private static final int MAX_SEARCH_PERIOD = 24 * 60 * 60 * 1000; // 24 hrs in milliseconds
-    private static final int SEARCH_TIME_INCREMENT = 2 * 60 * 60 * 1000; // two hours in milliseconds
-    /*
-     * The maximum number of times to retrieve logs with time increment.
+     * The search period if the start of the period is not specified in the query.
      */
-    private static final int MAX_SEARCH_TIMES = MAX_SEARCH_PERIOD / SEARCH_TIME_INCREMENT;
+    private static final int DEFAULT_SEARCH_PERIOD = 24 * 60 * 60 * 1000; // 24 hrs in milliseconds
     /**
-     * Maximum number of versions to query.
+     * The maximum number of stored logs to go through in a single search.
      */
-    private static final int MAX_VERSIONS_TO_QUERY = 1 + 5; //the current version and its 5 preceding versions
+    private static final int MAX_LOGS_TO_SEARCH = 1000;
+
+    private static final String ADMIN_ACTIVITY_LOG_ACTION_NAME =
+            Const.ActionURIs.ADMIN_ACTIVITY_LOG_PAGE.substring(
+                    Const.ActionURIs.ADMIN_ACTIVITY_LOG_PAGE.lastIndexOf('/') + 1);
 
     private int totalLogsSearched;
-    private Long nextEndTimeToSearch;
+    private Long earliestLogTimeSearched;
+    private String nextSearchCursor;
 
     @Override
     protected ActionResult execute() {
@@ -89,23 +86,22 @@ public class AdminActivityLogPageAction extends Action {
         //This is used to parse the filterQuery. If the query is not parsed, the filter function would ignore the query
         data.generateQueryParameters(filterQuery);
 
+        // the cursor continues the previous search from the last log it went through,
+        // while the time offset keeps the search within the same period
+        String searchCursor = null;
         boolean isContinueFromPreviousSearch = !data.isFromDateSpecifiedInQuery() && !searchTimeOffset.isEmpty();
         if (isContinueFromPreviousSearch) {
             data.setToDate(Long.parseLong(searchTimeOffset));
+            searchCursor = getRequestParamValue("searchCursor");
         }
-
-        List<String> versionToQuery = getVersionsForQuery(data.getVersions());
-        AdminLogQuery query = new AdminLogQuery(versionToQuery, data.getFromDate(), data.getToDate());
-
-        List<ActivityLogEntry> logs = null;
-        if (data.isFromDateSpecifiedInQuery()) {
-            logs = searchLogsWithExactTimePeriod(query, data);
-        } else {
-            logs = searchLogsWithTimeIncrement(query, data);
+        if (!data.isFromDateSpecifiedInQuery()) {
+            data.setFromDate(data.getToDate() - DEFAULT_SEARCH_PERIOD);
         }
 
+        List<ActivityLogEntry> logs = searchLogs(data, searchCursor);
+
         String courseIdFromSearchPage = getRequestParamValue("courseId");
-        generateStatusMessage(versionToQuery, data, logs, courseIdFromSearchPage);
+        generateStatusMessage(data, logs, courseIdFromSearchPage);
         data.init(logs);
 
         if (searchTimeOffset.isEmpty()) {
@@ -115,36 +111,15 @@ public class AdminActivityLogPageAction extends Action {
         return createShowPageResult(Const.ViewURIs.ADMIN_ACTIVITY_LOG_AJAX, data);
     }
 
-    /**
-     * Selects versions for query. If versions are not specified, it will return
-     * MAX_VERSIONS_TO_QUERY most recent versions used for query.
-     */
-    private List<String> getVersionsForQuery(List<String> versions) {
-        boolean isVersionSpecifiedInRequest = versions != null && !versions.isEmpty();
-        if (isVersionSpecifiedInRequest) {
-            return versions;
-        }
-        GaeVersionApi versionApi = new GaeVersionApi();
-        return versionApi.getMostRecentVersions(MAX_VERSIONS_TO_QUERY);
-    }
-
-    private void generateStatusMessage(List<String> versionToQuery,
-                                       AdminActivityLogPageData data,
+    private void generateStatusMessage(AdminActivityLogPageData data,
                                        List<ActivityLogEntry> logs, String courseId) {
         StringBuilder status = new StringBuilder(500);
         status.append("Total Logs gone through in last search: " + totalLogsSearched
                     + "<br>Total Relevant Logs found in last search: "
                     + String.format("%s<br>", logs.size()));
 
-        long earliestSearchTime = data.getFromDate();
-        ActivityLogEntry earliestLogChecked = null;
-        if (!logs.isEmpty()) {
-            earliestLogChecked = logs.get(logs.size() - 1);
-        }
-        //  if the search space is limited to a certain log
-        if (logs.size() >= RELEVANT_LOGS_PER_PAGE && earliestLogChecked != null) {
-            earliestSearchTime = earliestLogChecked.getLogTime();
-        }
+        // if the search is not exhausted, the search space is limited to the earliest log gone through
+        long earliestSearchTime = nextSearchCursor == null ? data.getFromDate() : earliestLogTimeSearched;
 
         ZoneId targetTimeZone = null;
         if (data.isPersonSpecified()) {
@@ -172,31 +147,13 @@ public class AdminActivityLogPageAction extends Action {
             status.append("on <b>" + timeInUserTimeZone + "</b> in Local Time Zone (" + targetTimeZone + ").<br>");
         }
 
-        status.append("Logs are from following version(s): ");
-        for (int i = 0; i < versionToQuery.size(); i++) {
-            String version = versionToQuery.get(i).replace('-', '.');
-            if (i < versionToQuery.size() - 1) {
-                status.append(version).append(", ");
-            } else {
-                status.append(version).append("<br>");
-            }
-        }
-
-        status.append("All available version(s): ");
-        GaeVersionApi versionApi = new GaeVersionApi();
-        List<Version> versionList = versionApi.getAvailableVersions();
-        for (int i = 0; i < versionList.size(); i++) {
-            String version = versionList.get(i).toString();
-            if (i < versionList.size() - 1) {
-                status.append(version).append(", ");
-            } else {
-                status.append(version).append("<br>");
-            }
-        }
-
-        // the "Search More" button to continue searching from the previous fromDate
+        // the "Search More" button continues from the last log gone through if the search is not exhausted,
+        // or from before the earliest time searched otherwise
+        long nextEndTimeToSearch = nextSearchCursor == null ? earliestSearchTime - 1 : data.getToDate();
         status.append("<button class=\"btn-link\" id=\"button_older\" data-next-end-time-to-search=\""
                       + nextEndTimeToSearch
+                      + "\" data-next-search-cursor=\""
+                      + (nextSearchCursor == null ? "" : nextSearchCursor)
                       + "\">Search More</button><input id=\"ifShowAll\" type=\"hidden\" value=\""
                       + data.getShouldShowAllLogs()
                       + "\"/><input id=\"ifShowTestData\" type=\"hidden\" value=\""
@@ -208,69 +165,53 @@ public class AdminActivityLogPageAction extends Action {
     }
 
     /**
-     * Retrieves enough logs within MAX_SEARCH_PERIOD hours.
+     * Goes through the stored logs in the search period from the latest to the earliest, starting after the log
+     * pointed to by {@code searchCursor}, until enough relevant logs are found or MAX_LOGS_TO_SEARCH logs
+     * have been gone through.
+     *
+     * <p>If the person in the query is exactly the name, Google ID or email of any log in the search period,
+     * only the logs of that person are gone through. Otherwise, the person is matched as any part of the name,
+     * Google ID or email of the logs gone through. As the search period is the same when the search is continued,
+     * so is the query the search cursor belongs to.
      */
-    private List<ActivityLogEntry> searchLogsWithTimeIncrement(AdminLogQuery query, AdminActivityLogPageData data) {
-        List<ActivityLogEntry> appLogs = new LinkedList<>();
+    private List<ActivityLogEntry> searchLogs(AdminActivityLogPageData data, String searchCursor) {
+        List<ActivityLogEntry> appLogs = new ArrayList<>();
+        ActivityLogQuery query = data.getActivityLogQueryForPerson();
+        if (query == null || !logic.hasActivityLogs(query)) {
+            query = data.getActivityLogQuery();
+        }
 
         totalLogsSearched = 0;
-        GaeLogApi logApi = new GaeLogApi();
-
-        long startTime = query.getEndTime() - SEARCH_TIME_INCREMENT;
-        query.setTimePeriod(startTime, query.getEndTime());
-
-        for (int i = 0; i < MAX_SEARCH_TIMES; i++) {
-            if (appLogs.size() >= RELEVANT_LOGS_PER_PAGE) {
-                break;
+        earliestLogTimeSearched = null;
+        nextSearchCursor = searchCursor;
+        do {
+            int limit = Math.min(RELEVANT_LOGS_PER_PAGE - appLogs.size(), MAX_LOGS_TO_SEARCH - totalLogsSearched);
+            ActivityLogsBundle searchResult = logic.getActivityLogs(query, nextSearchCursor, limit);
+            for (ActivityLogAttributes logAttributes : searchResult.getLogs()) {
+                earliestLogTimeSearched = logAttributes.getLogEntry().getLogTime();
+                if (isLogToShow(logAttributes, data)) {
+                    appLogs.add(logAttributes.getLogEntry());
+                }
             }
-            List<AppLogLine> searchResult = logApi.fetchLogs(query);
-            List<ActivityLogEntry> filteredLogs = filterLogsForActivityLogPage(searchResult, data);
-            appLogs.addAll(filteredLogs);
-            totalLogsSearched += searchResult.size();
-            query.moveTimePeriodBackward(SEARCH_TIME_INCREMENT);
-        }
-        data.setFromDate(query.getStartTime() + SEARCH_TIME_INCREMENT);
-        nextEndTimeToSearch = query.getEndTime();
-        return appLogs;
-    }
-
-    /**
-     * Retrieves all logs in the time period specified in the query.
-     */
-    private List<ActivityLogEntry> searchLogsWithExactTimePeriod(AdminLogQuery query, AdminActivityLogPageData data) {
-        GaeLogApi logApi = new GaeLogApi();
-        List<AppLogLine> searchResult = logApi.fetchLogs(query);
+            totalLogsSearched += searchResult.getLogs().size();
+            nextSearchCursor = searchResult.getNextCursor();
+        } while (nextSearchCursor != null
+                && appLogs.size() < RELEVANT_LOGS_PER_PAGE && totalLogsSearched < MAX_LOGS_TO_SEARCH);
 
-        nextEndTimeToSearch = data.getFromDate() - 1;
-        totalLogsSearched = searchResult.size();
-        return filterLogsForActivityLogPage(searchResult, data);
+        return appLogs;
     }
 
     /**
-     * Filters logs that should be shown on Admin Activity Log Page.
+     * Returns true if the log should be shown on Admin Activity Log Page.
      */
-    private List<ActivityLogEntry> filterLogsForActivityLogPage(List<AppLogLine> appLogLines,
-                                                                AdminActivityLogPageData data) {
-        List<ActivityLogEntry> appLogs = new LinkedList<>();
-        for (AppLogLine appLog : appLogLines) {
-            String logMsg = appLog.getLogMessage();
-            boolean isNotTeammatesLog = !logMsg.contains("TEAMMATESLOG");
-            boolean isLogFromAdminActivityLogPage = logMsg.contains("adminActivityLogPage");
-            if (isNotTeammatesLog || isLogFromAdminActivityLogPage) {
-                continue;
-            }
-
-            ActivityLogEntry activityLogEntry = ActivityLogEntry.buildFromAppLog(appLog);
-            boolean isToShow = data.filterLog(activityLogEntry)
-                    && (!activityLogEntry.isTestingData() || data.getShouldShowTestData());
-
-            if (!isToShow) {
-                continue;
-            }
-
-            appLogs.add(activityLogEntry);
+    private boolean isLogToShow(ActivityLogAttributes logAttributes, AdminActivityLogPageData data) {
+        ActivityLogEntry activityLogEntry = logAttributes.getLogEntry();
+        if (ADMIN_ACTIVITY_LOG_ACTION_NAME.equals(activityLogEntry.getActionName())) {
+            return false;
         }
-        return appLogs;
+        return data.filterLogVersion(logAttributes.getAppVersion())
+                && data.filterLog(activityLogEntry)
+                && (!activityLogEntry.isTestingData() || data.getShouldShowTestData());
     }
 
     private ZoneId getLocalTimeZoneForRequest(String userGoogleId, String userRole) {
@@ -12,6 +12,7 @@ import javax.servlet.http.HttpServletResponse;
 import com.google.appengine.api.datastore.DatastoreTimeoutException;
 import com.google.apphosting.api.DeadlineExceededException;
 
+import teammates.common.datatransfer.CourseRosterRegistry;
 import teammates.common.datatransfer.UserType;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.FeedbackSessionNotVisibleException;
@@ -20,6 +21,8 @@ import teammates.common.exception.InvalidPostParametersException;
 import teammates.common.exception.PageNotFoundException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
@@ -29,6 +32,7 @@ import teammates.common.util.StatusMessageColor;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.Url;
 import teammates.logic.api.GateKeeper;
+import teammates.logic.api.TaskQueuer;
 
 /**
  * Receives requests from the Browser, executes the matching action and sends
@@ -51,8 +55,19 @@ public class ControllerServlet extends HttpServlet {
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidCatchingThrowable") // used as fallback
     public final void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        CourseRosterRegistry.startRequestScope();
+        GateKeeper.startRequestScope();
+        try {
+            processRequest(req, resp);
+        } finally {
+            GateKeeper.endRequestScope();
+            CourseRosterRegistry.endRequestScope();
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable") // used as fallback
+    private void processRequest(HttpServletRequest req, HttpServletResponse resp) throws IOException {
 
         UserType userType = new GateKeeper().getCurrentUser();
         String url = HttpRequestHelper.getRequestedUrl(req);
@@ -80,37 +95,34 @@ public class ControllerServlet extends HttpServlet {
             }
 
             long timeTaken = System.currentTimeMillis() - startTime;
-            // This is the log message that is used to generate the 'activity log' for the admin.
+            // This is the log entry that is used to generate the 'activity log' for the admin.
+            ActivityLogEntry logEntry = c.getLogEntry(timeTaken);
 
-            log.info(c.getLogMessage() + "|||" + timeTaken);
+            log.info(logEntry.generateLogMessage() + "|||" + timeTaken);
+            new TaskQueuer().scheduleActivityLogStorage(logEntry, Config.getAppVersion());
 
         } catch (PageNotFoundException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ACTION_NOT_FOUND_PAGE, params, url));
         } catch (EntityNotFoundException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ENTITY_NOT_FOUND_PAGE, params, url));
 
         } catch (FeedbackSessionNotVisibleException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             req.getSession().setAttribute(Const.ParamsNames.FEEDBACK_SESSION_NOT_VISIBLE, e.getStartTimeString());
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.FEEDBACK_SESSION_NOT_VISIBLE, params, url));
 
         } catch (InvalidOriginException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.INVALID_ORIGIN, params, url));
 
         } catch (UnauthorizedAccessException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.UNAUTHORIZED, params, url));
 
@@ -157,6 +169,12 @@ public class ControllerServlet extends HttpServlet {
 
     }
 
+    private void logActionFailure(String url, Map<String, String[]> params, Exception e, UserType userType) {
+        ActivityLogEntry logEntry = new LogMessageGenerator().generateActionFailureLogEntry(url, params, e, userType);
+        log.warning(logEntry.generateLogMessage());
+        new TaskQueuer().scheduleActivityLogStorage(logEntry, Config.getAppVersion());
+    }
+
     private void cleanUpStatusMessageInSession(HttpServletRequest req) {
         req.getSession().removeAttribute(Const.ParamsNames.STATUS_MESSAGES_LIST);
     }
@@ -2,12 +2,16 @@ package teammates.ui.controller;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.List;
 
+import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StringHelper;
@@ -17,6 +21,9 @@ public class FileDownloadResult extends ActionResult {
     private String fileContent = "";
     private String fileName = "";
 
+    /** If non-null, the file content is streamed by this writer instead of being taken from {@code fileContent}. */
+    private FileContentWriter fileContentWriter;
+
     public FileDownloadResult(String destination, AccountAttributes account,
             List<StatusMessage> status) {
         super(destination, account, status);
@@ -31,8 +38,21 @@ public class FileDownloadResult extends ActionResult {
         this.fileContent = fileContent;
     }
 
+    /**
+     * Creates a result whose content is written directly to the response by {@code fileContentWriter}
+     * when the result is sent, so that the content never has to be held in memory as a whole.
+     */
+    public FileDownloadResult(
+            String destination, AccountAttributes account,
+            List<StatusMessage> status,
+            String fileName, FileContentWriter fileContentWriter) {
+        super(destination, account, status);
+        this.fileName = fileName;
+        this.fileContentWriter = fileContentWriter;
+    }
+
     @Override
-    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException, ServletException {
         /*
          * We have to call setContentType() instead of setHeader() in order
          *     to make the servlet aware of the specified charset encoding
@@ -43,7 +63,15 @@ public class FileDownloadResult extends ActionResult {
         resp.setHeader("Content-Disposition", getContentDispositionHeader());
         PrintWriter writer = resp.getWriter();
         writer.write("\uFEFF");
-        writer.append(fileContent);
+        if (fileContentWriter == null) {
+            writer.append(fileContent);
+            return;
+        }
+        try {
+            fileContentWriter.writeTo(writer);
+        } catch (EntityDoesNotExistException e) {
+            throw new ServletException(e);
+        }
     }
 
     /**
@@ -67,8 +95,35 @@ public class FileDownloadResult extends ActionResult {
         return this.fileName;
     }
 
+    /**
+     * Returns the content of the file. If the content is streamed, it is generated in full by the first call
+     * and kept, so that later calls and {@link #send} do not generate it again.
+     */
     public String getFileContent() {
+        if (fileContentWriter == null) {
+            return this.fileContent;
+        }
+        StringWriter writer = new StringWriter();
+        try {
+            fileContentWriter.writeTo(writer);
+        } catch (IOException | EntityDoesNotExistException e) {
+            throw new IllegalStateException(e);
+        }
+        this.fileContent = writer.toString();
+        this.fileContentWriter = null;
         return this.fileContent;
     }
 
+    /**
+     * Writes the content of a file to be downloaded.
+     */
+    @FunctionalInterface
+    public interface FileContentWriter {
+
+        /**
+         * Writes the file content to {@code writer}.
+         */
+        void writeTo(Writer writer) throws IOException, EntityDoesNotExistException;
+    }
+
 }
@@ -35,6 +35,26 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
 
         String fileContent;
         String fileName;
+        boolean isAllSections = section == null || "All".equals(section);
+
+        if (isAllSections) {
+            statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName
+                          + " in Course " + courseId + " was downloaded";
+        } else {
+            statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName
+                          + " in Course " + courseId + " within " + section + " was downloaded";
+        }
+
+        if (questionId == null && !"true".equals(simulateExcessDataForTesting)) {
+            // the whole session is streamed one question at a time, so it is not limited by the number of responses
+            String sectionToDownload = isAllSections ? null : section;
+            fileName = isAllSections ? courseId + "_" + feedbackSessionName
+                                     : courseId + "_" + feedbackSessionName + "_" + section;
+            return createFileDownloadResult(fileName,
+                    writer -> logic.writeFeedbackSessionResultSummaryInSectionAsCsv(
+                            courseId, feedbackSessionName, instructor.email, sectionToDownload,
+                            isMissingResponsesShown, isStatsShown, writer));
+        }
 
         try {
             if ("true".equals(simulateExcessDataForTesting)) {
@@ -46,21 +66,16 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
                 questionName = "_question" + questionNumber;
             }
 
-            if (section == null || "All".equals(section)) {
+            if (isAllSections) {
                 fileContent = logic.getFeedbackSessionResultSummaryAsCsv(
                         courseId, feedbackSessionName, instructor.email,
                         isMissingResponsesShown, isStatsShown, questionId);
-
                 fileName = courseId + "_" + feedbackSessionName + questionName;
-                statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName
-                              + " in Course " + courseId + " was downloaded";
             } else {
                 fileContent = logic.getFeedbackSessionResultSummaryInSectionAsCsv(
                         courseId, feedbackSessionName, instructor.email, section,
                         questionId, isMissingResponsesShown, isStatsShown);
                 fileName = courseId + "_" + feedbackSessionName + "_" + section + questionName;
-                statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName
-                              + " in Course " + courseId + " within " + section + " was downloaded";
             }
         } catch (ExceedingRangeException e) {
             // not tested as the test file is not large enough to reach this catch block
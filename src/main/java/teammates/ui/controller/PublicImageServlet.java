@@ -13,12 +13,15 @@ import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 
 import teammates.common.datatransfer.UserType;
 import teammates.common.exception.TeammatesException;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Assumption;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
 import teammates.common.util.Logger;
 import teammates.logic.api.GateKeeper;
+import teammates.logic.api.TaskQueuer;
 
 /**
  * Serves the public image stored in google cloud storage using the blobkey.<br>
@@ -48,7 +51,7 @@ public class PublicImageServlet extends HttpServlet {
             if (blobKey.isEmpty()) {
                 String message = "Failed to serve image with URL : blobKey is missing";
                 Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
-                log.info(new LogMessageGenerator().generateBasicActivityLogMessage(url, params, message, userType));
+                logActivity(new LogMessageGenerator().generateBasicActivityLogEntry(url, params, message, userType));
                 resp.sendError(1, "No image found");
             } else {
                 resp.setContentType("image/png");
@@ -61,15 +64,22 @@ public class PublicImageServlet extends HttpServlet {
                                + url + "</a>";
 
                 Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
-                log.info(new LogMessageGenerator().generateBasicActivityLogMessage(url, params, message, userType));
+                logActivity(new LogMessageGenerator().generateBasicActivityLogEntry(url, params, message, userType));
             }
         } catch (IOException ioe) {
             Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
-            log.warning(new LogMessageGenerator().generateActionFailureLogMessage(url, params, ioe, userType));
+            ActivityLogEntry logEntry = new LogMessageGenerator().generateActionFailureLogEntry(url, params, ioe, userType);
+            log.warning(logEntry.generateLogMessage());
+            new TaskQueuer().scheduleActivityLogStorage(logEntry, Config.getAppVersion());
         } catch (Exception e) {
             log.severe("Exception occured while performing " + Const.PublicActionNames.PUBLIC_IMAGE_SERVE_ACTION
                     + ": " + TeammatesException.toStringWithStackTrace(e));
         }
     }
 
+    private void logActivity(ActivityLogEntry logEntry) {
+        log.info(logEntry.generateLogMessage());
+        new TaskQueuer().scheduleActivityLogStorage(logEntry, Config.getAppVersion());
+    }
+
 }
@@ -12,6 +12,7 @@ import java.util.List;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.ActivityLogQuery;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
@@ -25,7 +26,8 @@ public class AdminActivityLogPageData extends PageData {
      */
     private static String[] excludedLogRequestURIs = {
             Const.ActionURIs.INSTRUCTOR_FEEDBACK_STATS_PAGE,
-            Const.ActionURIs.AUTOMATED_LOG_COMPILATION
+            Const.ActionURIs.AUTOMATED_LOG_COMPILATION,
+            Const.ActionURIs.AUTOMATED_ACTIVITY_LOG_STORAGE
     };
 
     private String filterQuery;
@@ -225,6 +227,57 @@ public class AdminActivityLogPageData extends PageData {
         return shouldIncludeLogEntry(logEntry);
     }
 
+    /**
+     * Returns true if the log entry is generated by one of the versions in the query,
+     * or if no version is specified in the query.
+     *
+     * @param appVersion the version which generated the log entry, e.g. "6.0.0"
+     */
+    public boolean filterLogVersion(String appVersion) {
+        if (versions == null || versions.isEmpty()) {
+            return true;
+        }
+        return appVersion != null && versions.contains(appVersion.replace('.', '-'));
+    }
+
+    /**
+     * Creates the query for the stored logs within the search period.
+     *
+     * <p>The query is narrowed down by the request or the role in the filter query, whichever comes first
+     * in that order, as the stored logs are indexed by these fields; only a single request or role can be matched.
+     * A person is not matched against the index, as it may be any part of the name, Google ID or email of the logs;
+     * see {@link #getActivityLogQueryForPerson()} for an exact match.
+     * The remaining filters are applied by {@link #filterLog(ActivityLogEntry)}.
+     */
+    public ActivityLogQuery getActivityLogQuery() {
+        ActivityLogQuery query = new ActivityLogQuery(fromDateValue, toDateValue);
+        if (q == null) {
+            return query;
+        }
+
+        if (q.isRequestInQuery && q.requestValues.length == 1 && !q.requestValues[0].isEmpty()) {
+            return query.withActionName(q.requestValues[0]);
+        }
+        if (q.isRoleInQuery && q.roleValues.length == 1 && !q.roleValues[0].isEmpty()) {
+            return query.withUserRole(q.roleValues[0]);
+        }
+        return query;
+    }
+
+    /**
+     * Creates the query for the stored logs within the search period whose name, Google ID or email is exactly
+     * the person in the filter query, which is matched against the index of the stored logs.
+     * The remaining filters are applied by {@link #filterLog(ActivityLogEntry)}.
+     *
+     * @return null if no person is specified in the filter query
+     */
+    public ActivityLogQuery getActivityLogQueryForPerson() {
+        if (!isPersonSpecified() || q.personValue.isEmpty()) {
+            return null;
+        }
+        return new ActivityLogQuery(fromDateValue, toDateValue).withUserIdentifier(q.personValue);
+    }
+
     /**
      * Converts the query string into a QueryParameters object.
      */
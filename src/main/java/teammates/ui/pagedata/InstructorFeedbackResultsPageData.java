@@ -1074,7 +1074,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
             FeedbackQuestionAttributes question, List<FeedbackResponseAttributes> responses) {
         List<InstructorFeedbackResultsResponseRow> responseRows = new ArrayList<>();
 
-        List<String> possibleGiversWithoutResponses = bundle.getPossibleGivers(question);
+        List<String> possibleGiversWithoutResponses = new ArrayList<>(bundle.getPossibleGivers(question));
         List<String> possibleReceiversWithoutResponsesForGiver = new ArrayList<>();
 
         String prevGiver = "";
@@ -1099,7 +1099,8 @@ public class InstructorFeedbackResultsPageData extends PageData {
                 }
                 String giverIdentifier = response.giver;
 
-                possibleReceiversWithoutResponsesForGiver = bundle.getPossibleRecipients(question, giverIdentifier);
+                possibleReceiversWithoutResponsesForGiver =
+                        new ArrayList<>(bundle.getPossibleRecipients(question, giverIdentifier));
             }
 
             // keep track of possible recipients without a response from the current giver
@@ -1160,9 +1161,9 @@ public class InstructorFeedbackResultsPageData extends PageData {
                                     String participantIdentifier, boolean isFirstGroupedByGiver) {
         List<InstructorFeedbackResultsResponseRow> responseRows = new ArrayList<>();
 
-        List<String> possibleParticipantsWithoutResponses = isFirstGroupedByGiver
+        List<String> possibleParticipantsWithoutResponses = new ArrayList<>(isFirstGroupedByGiver
                                                           ? bundle.getPossibleRecipients(question, participantIdentifier)
-                                                          : bundle.getPossibleGivers(question, participantIdentifier);
+                                                          : bundle.getPossibleGivers(question, participantIdentifier));
 
         for (FeedbackResponseAttributes response : responses) {
             if (!bundle.isGiverVisible(response) || !bundle.isRecipientVisible(response)) {
@@ -111,19 +111,19 @@ public abstract class BaseTestCaseWithDatastoreAccess extends BaseTestCaseWithOb
             AccountAttributes expectedAccount = ((AccountAttributes) expected).getCopy();
             AccountAttributes actualAccount = (AccountAttributes) actual;
             equalizeIrrelevantData(expectedAccount, actualAccount);
-            assertEquals(JsonUtils.toJson(expectedAccount), JsonUtils.toJson(actualAccount));
+            assertEquals(JsonUtils.toPrettyJson(expectedAccount), JsonUtils.toPrettyJson(actualAccount));
 
         } else if (expected instanceof CourseAttributes) {
             CourseAttributes expectedCourse = (CourseAttributes) expected;
             CourseAttributes actualCourse = (CourseAttributes) actual;
             equalizeIrrelevantData(expectedCourse, actualCourse);
-            assertEquals(JsonUtils.toJson(expectedCourse), JsonUtils.toJson(actualCourse));
+            assertEquals(JsonUtils.toPrettyJson(expectedCourse), JsonUtils.toPrettyJson(actualCourse));
 
         } else if (expected instanceof FeedbackQuestionAttributes) {
             FeedbackQuestionAttributes expectedFq = (FeedbackQuestionAttributes) expected;
             FeedbackQuestionAttributes actualFq = (FeedbackQuestionAttributes) actual;
             equalizeIrrelevantData(expectedFq, actualFq);
-            assertEquals(JsonUtils.toJson(expectedFq), JsonUtils.toJson(actualFq));
+            assertEquals(JsonUtils.toPrettyJson(expectedFq), JsonUtils.toPrettyJson(actualFq));
 
         } else if (expected instanceof FeedbackResponseCommentAttributes) {
             FeedbackResponseCommentAttributes expectedFrc = (FeedbackResponseCommentAttributes) expected;
@@ -137,13 +137,13 @@ public abstract class BaseTestCaseWithDatastoreAccess extends BaseTestCaseWithOb
             FeedbackResponseAttributes expectedFr = (FeedbackResponseAttributes) expected;
             FeedbackResponseAttributes actualFr = (FeedbackResponseAttributes) actual;
             equalizeIrrelevantData(expectedFr, actualFr);
-            assertEquals(JsonUtils.toJson(expectedFr), JsonUtils.toJson(actualFr));
+            assertEquals(JsonUtils.toPrettyJson(expectedFr), JsonUtils.toPrettyJson(actualFr));
 
         } else if (expected instanceof FeedbackSessionAttributes) {
             FeedbackSessionAttributes expectedFs = ((FeedbackSessionAttributes) expected).getCopy();
             FeedbackSessionAttributes actualFs = (FeedbackSessionAttributes) actual;
             equalizeIrrelevantData(expectedFs, actualFs);
-            assertEquals(JsonUtils.toJson(expectedFs), JsonUtils.toJson(actualFs));
+            assertEquals(JsonUtils.toPrettyJson(expectedFs), JsonUtils.toPrettyJson(actualFs));
 
         } else if (expected instanceof InstructorAttributes) {
             InstructorAttributes expectedInstructor = ((InstructorAttributes) expected).getCopy();
@@ -155,7 +155,7 @@ public abstract class BaseTestCaseWithDatastoreAccess extends BaseTestCaseWithOb
             StudentAttributes expectedStudent = ((StudentAttributes) expected).getCopy();
             StudentAttributes actualStudent = (StudentAttributes) actual;
             equalizeIrrelevantData(expectedStudent, actualStudent);
-            assertEquals(JsonUtils.toJson(expectedStudent), JsonUtils.toJson(actualStudent));
+            assertEquals(JsonUtils.toPrettyJson(expectedStudent), JsonUtils.toPrettyJson(actualStudent));
 
         } else {
             throw new RuntimeException("Unknown entity type!");
@@ -29,6 +29,22 @@ public class ActionResultTest extends BaseTestCase {
                      download.getContentDispositionHeader());
     }
 
+    @Test
+    public void testFileDownloadResult_streamedContent_generatedOnceAndKept() {
+        int[] numberOfGenerations = new int[1];
+        FileDownloadResult download = new FileDownloadResult("/page/instructorFeedbackResultsDownload",
+                null, null, "Streamed", writer -> {
+                    numberOfGenerations[0]++;
+                    writer.write("abc");
+                    writer.write("abc");
+                });
+        assertEquals(0, numberOfGenerations[0]);
+
+        assertEquals("abcabc", download.getFileContent());
+        assertEquals("abcabc", download.getFileContent());
+        assertEquals(1, numberOfGenerations[0]);
+    }
+
     @Test
     public void testFileDownloadResult_fileNameWithUnicodeCharacters_hasCorrectContentDesposition() {
         FileDownloadResult download = new FileDownloadResult("/page/instructorFeedbackResultsDownload",
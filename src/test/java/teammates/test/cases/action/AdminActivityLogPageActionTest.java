@@ -7,16 +7,21 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.testng.annotations.BeforeGroups;
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.log.AppLogLine;
 import com.google.gson.reflect.TypeToken;
 
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
 import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.TimeHelper;
+import teammates.storage.api.ActivityLogsDb;
 import teammates.test.driver.FileHelper;
 import teammates.test.driver.TestProperties;
 import teammates.test.driver.TimeHelperExtension;
@@ -30,10 +35,10 @@ import teammates.ui.template.AdminActivityLogTableRow;
 /**
  * SUT: {@link AdminActivityLogPageAction}.
  *
- * <p>The test will inject predefined GAE logs using {@link teammates.test.driver.GaeSimulation} and
+ * <p>The test will store predefined logs using {@link ActivityLogsDb} and
  * then test the correct execution of the action.
  *
- * <p>Logs will be injected to GAE with time relative to now. Typically, NOW, YESTERDAY
+ * <p>Logs will be stored with time relative to now. Typically, NOW, YESTERDAY
  * and two days ago are the time. It is possible that when the test is run at
  * midnight(around 12:00 PM) in UTC, some logs that belong to NOW will become
  * YESTERDAY's logs as each log occupies a period of time. However, this situation
@@ -48,16 +53,20 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     private static final int LOG_MESSAGE_INDEX_TWO_DAYS_AGO = 2;
     private static final int LOG_MESSAGE_INDEX_MANY_LOGS = 3;
 
-    // In the case of many logs, the query will first look at logs within 2 hours before now,
-    // if the number of logs exceeds 50, it will stop the query and return logs from the first 2 hours.
-    // 130 seconds is chosen so that it will be around 50 logs within 2 hours before now.
+    // In the case of many logs, the query will stop once 50 relevant logs are found.
+    // 130 seconds is chosen so that all the logs are within a day before now.
     private static final int LOG_MESSAGE_INTERVAL_MANY_LOGS = 130;
 
+    private static final String DEFAULT_APP_VERSION = "1";
+
     private static final Instant NOW = Instant.now();
     private static final Instant TWO_DAYS_AGO = TimeHelper.getInstantDaysOffsetFromNow(-2);
     private static final Instant YESTERDAY = TimeHelper.getInstantDaysOffsetFromNow(-1);
 
+    private final ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
     private List<List<String>> logMessages;
+    private List<ActivityLogAttributes> storedLogs = new ArrayList<>();
 
     @Override
     protected String getActionUri() {
@@ -105,7 +114,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @BeforeGroups("typicalActivityLogs")
     public void removeAndRestoreLogMessage() {
         gaeSimulation.loginAsAdmin("admin");
-        gaeSimulation.clearLogs();
+        clearLogs();
 
         insertLogMessagesAtTime(logMessages.get(LOG_MESSAGE_INDEX_TWO_DAYS_AGO), TWO_DAYS_AGO.toEpochMilli());
         insertLogMessagesAtTime(logMessages.get(LOG_MESSAGE_INDEX_YESTERDAY), YESTERDAY.toEpochMilli());
@@ -195,6 +204,11 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         expected = new int[][] { {}, {2}, {0, 1} };
         verifyActionResult(expected, "filterQuery", query);
 
+        // person: any part of name, googleId or email
+        query = "person: google.com.sg";
+        expected = new int[][] { {1, 4} };
+        verifyActionResult(expected, "filterQuery", query);
+
         // role
         query = "role:  Admin | person  :id1@google.com.sg";
         expected = new int[][] { {1} };
@@ -257,8 +271,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
 
     @Test(groups = "typicalActivityLogs")
     public void filterQuery_queryDifferentAppVersions_querySuccessful() {
-        // version query is controlled by GAE itself
-        // so there is no need to write comprehensive test case for it
+        // all logs are stored with version 1
 
         int[][] expected = new int[][] { {} };
         String query = "version:2";
@@ -274,22 +287,28 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         // test statusMessage for default search
         AdminActivityLogPageAction action = getAction();
         String statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 5, YESTERDAY);
+        verifyStatusMessage(statusMessage, 10, 5, YESTERDAY);
         verifyLocalTimeInStatusMessage(statusMessage, YESTERDAY, Const.SystemParams.ADMIN_TIME_ZONE);
 
-        // test statusMessage with filterQuery
+        // test statusMessage with filterQuery: only the logs of the exact person are gone through
         String query = "person:idOfInstructor1OfCourse1";
         action = getAction("filterQuery", query);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 1, YESTERDAY);
+        verifyStatusMessage(statusMessage, 1, 1, YESTERDAY);
         verifyLocalTimeInStatusMessage(statusMessage, YESTERDAY, ZoneId.of("Africa/Johannesburg"));
 
+        // test statusMessage with part of a person: all logs are gone through
+        query = "person:google.com.sg";
+        action = getAction("filterQuery", query);
+        statusMessage = getShowPageResult(action).getStatusMessage();
+        verifyStatusMessage(statusMessage, 10, 2, YESTERDAY);
+
         // test statusMessage with `to`
         query = "to:" + formatAdminDate(YESTERDAY);
         action = getAction("filterQuery", query);
         Instant toDate = TimeHelperExtension.getEndOfTheDayOffsetNowInAdminTimeZone(-2);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 6, 3, toDate);
+        verifyStatusMessage(statusMessage, 5, 3, toDate);
         verifyLocalTimeInStatusMessage(statusMessage, toDate, Const.SystemParams.ADMIN_TIME_ZONE);
 
         // test statusMessage with `from`
@@ -297,7 +316,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         action = getAction("filterQuery", query);
         Instant fromDate = TimeHelperExtension.getBeginOfTheDayOffsetNowInAdminTimeZone(-1);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 17, 8, fromDate);
+        verifyStatusMessage(statusMessage, 15, 8, fromDate);
         verifyLocalTimeInStatusMessage(statusMessage, fromDate, Const.SystemParams.ADMIN_TIME_ZONE);
     }
 
@@ -340,7 +359,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         // default continue search
         int[][] expected = new int[][] { {}, {0, 1, 2} };
         String[] params = new String[] {"searchTimeOffset", String.valueOf(YESTERDAY.toEpochMilli())};
-        verifyContinueSearch(params, expected, 6, 3, TWO_DAYS_AGO);
+        verifyContinueSearch(params, expected, 5, 3, TWO_DAYS_AGO);
 
         // continue search and no more logs
         expected = new int[][] {};
@@ -353,7 +372,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 "searchTimeOffset", String.valueOf(YESTERDAY.toEpochMilli()),
                 "filterQuery", "info:keyword1", "testdata", "true"
         };
-        verifyContinueSearch(params, expected, 6, 2, TWO_DAYS_AGO);
+        verifyContinueSearch(params, expected, 5, 2, TWO_DAYS_AGO);
 
         // when `from` is present, will not do continue search
         expected = new int[][] { {0, 1, 3, 4, 5}, {0, 1, 2} };
@@ -362,7 +381,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 "filterQuery", String.format("from:%s", formatAdminDate(YESTERDAY))
         };
         Instant yesterdayBegin = TimeHelperExtension.getBeginOfTheDayOffsetNowInAdminTimeZone(-1);
-        verifyContinueSearch(params, expected, 17, 8, yesterdayBegin);
+        verifyContinueSearch(params, expected, 15, 8, yesterdayBegin);
 
         // `to` present, search with 1 day interval
         expected = new int[][] { {}, {}, {0, 1} };
@@ -379,7 +398,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @BeforeGroups("manyActivityLogs")
     public void removeAndRestoreManyLogs() {
         gaeSimulation.loginAsAdmin("admin");
-        gaeSimulation.clearLogs();
+        clearLogs();
 
         insertLogMessageAtTimeWithInterval(logMessages.get(LOG_MESSAGE_INDEX_MANY_LOGS),
                 Instant.now().toEpochMilli(), LOG_MESSAGE_INTERVAL_MANY_LOGS);
@@ -390,38 +409,57 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @Test(groups = "manyActivityLogs", priority = 2)
     public void statusMessageAndContinueSearch_withManyLogs_searchCorrectly() {
         Instant now = Instant.now();
-        // default search will stop at #logs around 50
+        // default search will stop at 50 logs
         AdminActivityLogPageAction action = getAction();
         ShowPageResult result = getShowPageResult(action);
-        Instant earliestDateInUtc = now.minusMillis(54 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
-        verifyManyLogs(55, 0, 54, result.data, result.getStatusMessage(), earliestDateInUtc);
+        Instant earliestDateInUtc = now.minusMillis(50 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 0, 49, result.data, result.getStatusMessage(), earliestDateInUtc);
 
-        // continue search will get next #logs around 50
-        long nextSearch = now.toEpochMilli() - 56 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
-        action = getAction("searchTimeOffset", String.valueOf(nextSearch));
-        result = getShowPageResult(action);
-        earliestDateInUtc = now.minusMillis(110 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
-        verifyManyLogs(56, 55, 110, result.data, result.getStatusMessage(), earliestDateInUtc);
+        // continue search will get the next 50 logs
+        result = getShowPageResult(getContinueSearchAction(result.getStatusMessage()));
+        earliestDateInUtc = now.minusMillis(100 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 50, 99, result.data, result.getStatusMessage(), earliestDateInUtc);
 
-        // continue search will get logs until no logs
-        nextSearch = now.toEpochMilli() - 112 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
-        action = getAction("searchTimeOffset", String.valueOf(nextSearch));
-        result = getShowPageResult(action);
-        earliestDateInUtc = Instant.ofEpochMilli(nextSearch - 24 * 60 * 60 * 1000);
-        verifyManyLogs(39, 111, 149, result.data, result.getStatusMessage(), earliestDateInUtc);
+        result = getShowPageResult(getContinueSearchAction(result.getStatusMessage()));
+        earliestDateInUtc = now.minusMillis(150 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 100, 149, result.data, result.getStatusMessage(), earliestDateInUtc);
 
-        // default search with filter stop at #logs around 50
+        // continue search will get no more logs within the search period
+        result = getShowPageResult(getContinueSearchAction(result.getStatusMessage()));
+        earliestDateInUtc = now.minusMillis(24 * 60 * 60 * 1000);
+        verifyStatusMessage(result.getStatusMessage(), 0, 0, earliestDateInUtc);
+        assertTrue(((AdminActivityLogPageData) result.data).getLogs().isEmpty());
+
+        // default search with filter stop at 50 logs
         action = getAction("filterQuery", "request:testdata1");
         result = getShowPageResult(action);
-        earliestDateInUtc = now.minusMillis(54 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
-        verifyManyLogs(55, 0, 54, result.data, result.getStatusMessage(), earliestDateInUtc);
+        earliestDateInUtc = now.minusMillis(50 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 0, 49, result.data, result.getStatusMessage(), earliestDateInUtc);
 
-        // continue search with filter will get logs until no logs
-        nextSearch = now.toEpochMilli() - 56 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
-        action = getAction("filterQuery", "request:testdata1", "searchTimeOffset", String.valueOf(nextSearch));
-        result = getShowPageResult(action);
-        earliestDateInUtc = Instant.ofEpochMilli(nextSearch - 24 * 60 * 60 * 1000);
-        verifyManyLogs(95, 55, 60, result.data, result.getStatusMessage(), earliestDateInUtc);
+        // continue search with filter will only go through the remaining logs of the request
+        result = getShowPageResult(getContinueSearchAction(result.getStatusMessage(),
+                "filterQuery", "request:testdata1"));
+        earliestDateInUtc = now.minusMillis(24 * 60 * 60 * 1000);
+        verifyManyLogs(11, 50, 60, result.data, result.getStatusMessage(), earliestDateInUtc);
+    }
+
+    /**
+     * Gets the action to continue the search as done by the "Search More" button in the status message.
+     */
+    private AdminActivityLogPageAction getContinueSearchAction(String statusMessage, String... params) {
+        Matcher matcher = Pattern.compile("data-next-end-time-to-search=\"(\\d+)\" "
+                                          + "data-next-search-cursor=\"([^\"]*)\"").matcher(statusMessage);
+        assertTrue(matcher.find());
+
+        List<String> continueSearchParams = new ArrayList<>();
+        continueSearchParams.add("searchTimeOffset");
+        continueSearchParams.add(matcher.group(1));
+        continueSearchParams.add("searchCursor");
+        continueSearchParams.add(matcher.group(2));
+        for (String param : params) {
+            continueSearchParams.add(param);
+        }
+        return getAction(continueSearchParams.toArray(new String[0]));
     }
 
     private void verifyContinueSearch(String[] params, int[][] expected, int totalLogs,
@@ -472,8 +510,6 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     private void verifyStatusMessage(String message, int totalLogs, int filteredLogs, Instant earliestDateInUtc) {
         assertTrue(message.contains("Total Logs gone through in last search: " + totalLogs));
         assertTrue(message.contains("Total Relevant Logs found in last search: " + filteredLogs));
-        assertTrue(message.contains("Logs are from following version(s): 1"));
-        assertTrue(message.contains("All available version(s): 1"));
         assertTrue(message.contains("The earliest log entry checked on <b>"
                 + formatActivityLogTimeTruncated(earliestDateInUtc, Const.SystemParams.ADMIN_TIME_ZONE)));
     }
@@ -526,22 +562,28 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     }
 
     private void insertLogMessageAtTimeWithInterval(List<String> msgList, long timeMillis, int intervalInSecond) {
-        int levelInfo = 1;
+        List<ActivityLogAttributes> logs = new ArrayList<>();
         long logTimeInMillis = timeMillis - msgList.size() * intervalInSecond * 1000;
         for (int i = msgList.size() - 1; i >= 0; i--) {
-            createTestDataRequestInfoAtTime(logTimeInMillis);
-            gaeSimulation.addAppLogLine(String.valueOf(logTimeInMillis), logTimeInMillis * 1000,
-                    levelInfo, msgList.get(i));
+            // only the logs in the desired format are generated by the app and hence stored
+            if (msgList.get(i).startsWith(Const.ActivityLog.TEAMMATESLOG)) {
+                AppLogLine appLog = new AppLogLine();
+                appLog.setLogMessage(msgList.get(i));
+                appLog.setTimeUsec(logTimeInMillis * 1000);
+                ActivityLogEntry logEntry = ActivityLogEntry.buildFromAppLog(appLog);
+                ActivityLogAttributes activityLog = new ActivityLogAttributes(logEntry, DEFAULT_APP_VERSION);
+                activityLog.setId(logEntry.getLogId());
+                logs.add(activityLog);
+            }
             logTimeInMillis += intervalInSecond * 1000;
         }
+        activityLogsDb.createActivityLogs(logs);
+        storedLogs.addAll(logs);
     }
 
-    private void createTestDataRequestInfoAtTime(long timeMillis) {
-        String testStr = "TEST";
-        String defaultVersion = "1";
-        gaeSimulation.addLogRequestInfo(testStr, defaultVersion, String.valueOf(timeMillis), testStr,
-                testStr, timeMillis * 1000, timeMillis * 1000, testStr, testStr, testStr, testStr,
-                true, 200, testStr);
+    private void clearLogs() {
+        activityLogsDb.deleteEntities(storedLogs);
+        storedLogs = new ArrayList<>();
     }
 
     @Override
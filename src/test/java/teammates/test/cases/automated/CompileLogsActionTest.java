@@ -0,0 +1,130 @@
+package teammates.test.cases.automated;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.SevereLogsWatermarkAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+import teammates.logic.core.SevereLogsLogic;
+import teammates.storage.api.SevereLogsWatermarkDb;
+import teammates.test.driver.MockEmailSender;
+import teammates.ui.automated.CompileLogsAction;
+
+/**
+ * SUT: {@link CompileLogsAction}.
+ *
+ * <p>The test adds error logs of requests which ended at times relative to now to the simulated log service.
+ */
+public class CompileLogsActionTest extends BaseAutomatedActionTest {
+
+    private static final int LOG_LEVEL_ERROR = 3;
+
+    private static final SevereLogsLogic severeLogsLogic = SevereLogsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_LOG_COMPILATION;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        // test data is not needed
+    }
+
+    @Test
+    public void testExecute() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        gaeSimulation.clearLogs();
+        new SevereLogsWatermarkDb().deleteEntity(new SevereLogsWatermarkAttributes(now));
+
+        addErrorLog("request1", now.minus(Duration.ofMinutes(10)), "Error before the first compilation");
+        addErrorLog("request2", now.minus(Duration.ofMinutes(3)), "Error in the first compilation");
+
+        ______TS("first run: the default period is compiled, then the watermark is recorded");
+
+        List<Instant> compiledUntilWhenSent = new ArrayList<>();
+        CompileLogsAction action = getAction();
+        action.setEmailSender(new MockEmailSender() {
+            @Override
+            public void sendReport(EmailWrapper report) {
+                compiledUntilWhenSent.add(severeLogsLogic.getSevereLogsCompiledUntil());
+                super.sendReport(report);
+            }
+        });
+        action.execute();
+
+        List<EmailWrapper> emailsSent = getEmailsSent(action);
+        assertEquals(1, emailsSent.size());
+        assertTrue(emailsSent.get(0).getContent().contains("Error in the first compilation"));
+        assertFalse(emailsSent.get(0).getContent().contains("Error before the first compilation"));
+        assertEquals(Collections.singletonList(null), compiledUntilWhenSent);
+
+        Instant compiledUntil = severeLogsLogic.getSevereLogsCompiledUntil();
+        assertFalse(compiledUntil.isBefore(now.minus(Duration.ofMinutes(1))));
+
+        ______TS("next run: the logs compiled are not reported again");
+
+        action = getAction();
+        action.execute();
+
+        verifyNoEmailsSent(action);
+        assertFalse(severeLogsLogic.getSevereLogsCompiledUntil().isBefore(compiledUntil));
+
+        ______TS("run after a long pause: only the last hour is compiled");
+
+        severeLogsLogic.updateSevereLogsCompiledUntil(now.minus(Duration.ofHours(3)));
+        addErrorLog("request3", now.minus(Duration.ofHours(2)), "Error more than an hour ago");
+        addErrorLog("request4", now.minus(Duration.ofMinutes(30)), "Error within the hour");
+
+        action = getAction();
+        action.execute();
+
+        emailsSent = getEmailsSent(action);
+        assertEquals(1, emailsSent.size());
+        assertTrue(emailsSent.get(0).getContent().contains("Error within the hour"));
+        assertTrue(emailsSent.get(0).getContent().contains("Error in the first compilation"));
+        assertFalse(emailsSent.get(0).getContent().contains("Error more than an hour ago"));
+
+        ______TS("failed run: the watermark is not advanced");
+
+        compiledUntil = now.minus(Duration.ofMinutes(45));
+        severeLogsLogic.updateSevereLogsCompiledUntil(compiledUntil);
+
+        action = getAction();
+        action.setEmailSender(new MockEmailSender() {
+            @Override
+            public void sendReport(EmailWrapper report) {
+                throw new IllegalStateException("Failed to send report");
+            }
+        });
+        try {
+            action.execute();
+            signalFailureToDetectException();
+        } catch (IllegalStateException e) {
+            assertEquals("Failed to send report", e.getMessage());
+        }
+
+        assertEquals(compiledUntil, severeLogsLogic.getSevereLogsCompiledUntil());
+    }
+
+    private void addErrorLog(String requestId, Instant requestEndTime, String message) {
+        long timeUsec = requestEndTime.toEpochMilli() * 1000;
+        String testStr = "TEST";
+        gaeSimulation.addLogRequestInfo(testStr, "1", requestId, testStr, testStr, timeUsec, timeUsec,
+                testStr, testStr, testStr, testStr, true, 500, testStr);
+        gaeSimulation.addAppLogLine(requestId, timeUsec, LOG_LEVEL_ERROR, message);
+    }
+
+    @Override
+    protected CompileLogsAction getAction(String... params) {
+        return (CompileLogsAction) gaeSimulation.getAutomatedActionObject(getActionUri());
+    }
+
+}
@@ -1,14 +1,17 @@
 package teammates.test.cases.automated;
 
 import java.util.List;
-import java.util.Map;
 
 import org.testng.annotations.Test;
 
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.logic.core.CoursesLogic;
@@ -63,21 +66,25 @@ public class FeedbackSessionOpeningRemindersActionTest extends BaseAutomatedActi
         action = getAction();
         action.execute();
 
-        // 5 students and 5 instructors in course1
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 20);
+        // 5 students and 5 instructors in course1, in a batch for each session
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 2);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
         List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
         for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
-            try {
-                assertEquals(String.format(EmailType.FEEDBACK_OPENING.getSubject(), courseName,
-                                           session1.getSessionName()),
-                             paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
-            } catch (AssertionError ae) {
-                assertEquals(String.format(EmailType.FEEDBACK_OPENING.getSubject(), courseName,
-                                           session2.getSessionName()),
-                             paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+            List<EmailWrapper> emails = JsonUtils.fromJson(task.getParamMap().get(ParamsNames.EMAIL_BATCH)[0],
+                                                           new TypeToken<List<EmailWrapper>>(){}.getType());
+            assertEquals(10, emails.size());
+            for (EmailWrapper email : emails) {
+                try {
+                    assertEquals(String.format(EmailType.FEEDBACK_OPENING.getSubject(), courseName,
+                                               session1.getSessionName()),
+                                 email.getSubject());
+                } catch (AssertionError ae) {
+                    assertEquals(String.format(EmailType.FEEDBACK_OPENING.getSubject(), courseName,
+                                               session2.getSessionName()),
+                                 email.getSubject());
+                }
             }
         }
 
@@ -1,14 +1,17 @@
 package teammates.test.cases.automated;
 
 import java.util.List;
-import java.util.Map;
 
 import org.testng.annotations.Test;
 
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.core.CoursesLogic;
 import teammates.ui.automated.FeedbackSessionPublishedEmailWorkerAction;
@@ -37,16 +40,20 @@ public class FeedbackSessionPublishedEmailWorkerActionTest extends BaseAutomated
         FeedbackSessionPublishedEmailWorkerAction action = getAction(submissionParams);
         action.execute();
 
-        // 5 students and 5 instructors in course1
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 10);
+        // 5 students and 5 instructors in course1, in a single batch
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 1);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
         List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
+        List<EmailWrapper> emails = JsonUtils.fromJson(tasksAdded.get(0).getParamMap().get(ParamsNames.EMAIL_BATCH)[0],
+                                                       new TypeToken<List<EmailWrapper>>(){}.getType());
+        assertEquals(10, emails.size());
+        for (EmailWrapper email : emails) {
             assertEquals(String.format(EmailType.FEEDBACK_PUBLISHED.getSubject(), courseName,
                                        session1.getSessionName()),
-                         paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+                         email.getSubject());
+            assertNull(email.getContent());
+            assertEquals(EmailType.FEEDBACK_PUBLISHED, email.getContentReference().getEmailType());
         }
     }
 
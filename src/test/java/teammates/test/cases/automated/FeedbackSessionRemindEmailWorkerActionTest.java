@@ -11,8 +11,11 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailContentReference;
 import teammates.common.util.EmailType;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.TaskWrapper;
+import teammates.logic.api.EmailGenerator;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
@@ -83,7 +86,8 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
                          paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
 
             String header = "The email below has been sent to students of course: [" + session1.getCourseId() + "]";
-            String content = paramMap.get(ParamsNames.EMAIL_CONTENT)[0];
+            String content = new EmailGenerator().renderFeedbackSessionEmailContent(JsonUtils.fromJson(
+                    paramMap.get(ParamsNames.EMAIL_CONTENT_REFERENCE)[0], EmailContentReference.class));
             String recipient = paramMap.get(ParamsNames.EMAIL_RECEIVER)[0];
 
             if (content.contains(header)) { // notification to only requesting instructors
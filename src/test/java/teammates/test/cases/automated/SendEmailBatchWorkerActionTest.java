@@ -0,0 +1,108 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailContentReference;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.logic.api.EmailGenerator;
+import teammates.test.driver.MockEmailSender;
+import teammates.test.driver.MockTaskQueuer;
+import teammates.ui.automated.SendEmailBatchWorkerAction;
+
+/**
+ * SUT: {@link SendEmailBatchWorkerAction}.
+ */
+public class SendEmailBatchWorkerActionTest extends BaseAutomatedActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_BATCH_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        FeedbackSessionAttributes session1 = dataBundle.feedbackSessions.get("session1InCourse1");
+
+        ______TS("typical case: all emails of the batch sent together");
+
+        List<EmailWrapper> emails = new EmailGenerator().generateFeedbackSessionPublishedEmails(session1);
+        MockTaskQueuer taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailBatchesForSending(emails);
+        String emailBatch = taskQueuer.getTasksAdded().get(0).getParamMap().get(ParamsNames.EMAIL_BATCH)[0];
+
+        SendEmailBatchWorkerAction action = getAction(ParamsNames.EMAIL_BATCH, emailBatch);
+        action.execute();
+
+        // 5 students and 5 instructors in course1
+        verifyNumberOfEmailsSent(action, 10);
+        assertEquals(Arrays.asList(10), action.getEmailSender().getEmailBatchSizes());
+
+        Map<String, String> contentsByRecipient = new HashMap<>();
+        for (EmailWrapper email : emails) {
+            contentsByRecipient.put(email.getRecipient(), email.getContent());
+        }
+        for (EmailWrapper email : getEmailsSent(action)) {
+            assertEquals(contentsByRecipient.get(email.getRecipient()), email.getContent());
+        }
+
+        ______TS("sending stops part way through the batch: only the emails not yet sent are queued again");
+
+        action = getAction(ParamsNames.EMAIL_BATCH, emailBatch);
+        action.setEmailSender(new MockEmailSender() {
+            @Override
+            public List<EmailWrapper> sendEmails(List<EmailWrapper> emails,
+                                                 Consumer<List<EmailWrapper>> sentEmailsConsumer) {
+                super.sendEmails(emails.subList(0, 4), sentEmailsConsumer);
+                throw new IllegalStateException("Connection to the email sending service lost");
+            }
+        });
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 4);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 1);
+        List<EmailWrapper> emailsQueuedAgain = JsonUtils.fromJson(
+                action.getTaskQueuer().getTasksAdded().get(0).getParamMap().get(ParamsNames.EMAIL_BATCH)[0],
+                new TypeToken<List<EmailWrapper>>(){}.getType());
+        Set<String> recipientsQueuedAgain = new HashSet<>();
+        emailsQueuedAgain.forEach(queuedEmail -> recipientsQueuedAgain.add(queuedEmail.getRecipient()));
+        assertEquals(6, recipientsQueuedAgain.size());
+        getEmailsSent(action).forEach(sentEmail -> assertFalse(recipientsQueuedAgain.contains(sentEmail.getRecipient())));
+
+        ______TS("session no longer exists: emails are not sent");
+
+        EmailWrapper email = new EmailWrapper();
+        email.setRecipient("student1InCourse1@gmail.tmt");
+        email.setContentReference(new EmailContentReference(EmailType.FEEDBACK_PUBLISHED, session1.getCourseId(),
+                "non-existent session", new HashMap<>()));
+        List<EmailWrapper> emailsOfDeletedSession = new ArrayList<>();
+        emailsOfDeletedSession.add(email);
+
+        action = getAction(ParamsNames.EMAIL_BATCH, JsonUtils.toJson(emailsOfDeletedSession));
+        action.execute();
+
+        verifyNoEmailsSent(action);
+        verifyNoTasksAdded(action);
+    }
+
+    @Override
+    protected SendEmailBatchWorkerAction getAction(String... params) {
+        return (SendEmailBatchWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
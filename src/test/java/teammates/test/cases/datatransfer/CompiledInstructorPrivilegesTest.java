@@ -0,0 +1,131 @@
+package teammates.test.cases.datatransfer;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CompiledInstructorPrivileges;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CompiledInstructorPrivileges}.
+ */
+public class CompiledInstructorPrivilegesTest extends BaseTestCase {
+
+    private static final String[] PRIVILEGE_NAMES = new String[] {
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS
+    };
+
+    private static final String[] SECTION_NAMES = new String[] { "section1", "section2", "section3", null };
+
+    private static final String[] SESSION_NAMES = new String[] { "session1", "session2", "session3" };
+
+    @Test
+    public void testIsAllowedForPrivilege_sameAsInstructorPrivileges() {
+
+        ______TS("default privileges of each role");
+
+        String[] roles = new String[] {
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER,
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_MANAGER,
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_OBSERVER,
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR,
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_CUSTOM,
+        };
+        for (String role : roles) {
+            verifySameAsInstructorPrivileges(new InstructorPrivileges(role));
+        }
+
+        ______TS("privileges specific to sections and sessions");
+
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_CUSTOM);
+        privileges.updatePrivilege(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
+        privileges.updatePrivilege("section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        privileges.updatePrivilege("section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS, true);
+        privileges.updatePrivilege("section2", "session1",
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, true);
+        privileges.updatePrivilege("section2", "session2",
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        privileges.updatePrivilege("section3", "session1",
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS, true);
+        privileges.validatePrivileges();
+        verifySameAsInstructorPrivileges(privileges);
+
+        ______TS("privileges parsed from text");
+
+        verifySameAsInstructorPrivileges(
+                JsonUtils.fromJson(JsonUtils.toJson(privileges), InstructorPrivileges.class));
+
+        ______TS("invalid privilege name");
+
+        try {
+            privileges.getCompiledPrivileges().isAllowedForPrivilege("section1", "session1", "invalid privilege");
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            ignoreExpectedException();
+        }
+    }
+
+    @Test
+    public void testGetCompiledPrivileges() {
+
+        ______TS("identical privileges share the same compiled privileges");
+
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        privileges.updatePrivilege("section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS, false);
+        InstructorPrivileges identicalPrivileges =
+                JsonUtils.fromJson(JsonUtils.toJson(privileges), InstructorPrivileges.class);
+
+        CompiledInstructorPrivileges compiledPrivileges = privileges.getCompiledPrivileges();
+        assertSame(compiledPrivileges, privileges.getCompiledPrivileges());
+        assertSame(compiledPrivileges, identicalPrivileges.getCompiledPrivileges());
+
+        ______TS("compiled privileges are discarded when the privileges are modified");
+
+        assertFalse(compiledPrivileges.isAllowedForPrivilege(
+                "section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS));
+        privileges.updatePrivilege("section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS, true);
+
+        assertNotSame(compiledPrivileges, privileges.getCompiledPrivileges());
+        assertTrue(privileges.getCompiledPrivileges().isAllowedForPrivilege(
+                "section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS));
+        assertSame(compiledPrivileges, identicalPrivileges.getCompiledPrivileges());
+
+        privileges.removeSectionLevelPrivileges("section1");
+        verifySameAsInstructorPrivileges(privileges);
+    }
+
+    private void verifySameAsInstructorPrivileges(InstructorPrivileges privileges) {
+        CompiledInstructorPrivileges compiledPrivileges = privileges.getCompiledPrivileges();
+        for (String privilegeName : PRIVILEGE_NAMES) {
+            assertEquals(privileges.isAllowedForPrivilege(privilegeName),
+                    compiledPrivileges.isAllowedForPrivilege(privilegeName));
+            for (String sessionName : SESSION_NAMES) {
+                assertEquals(privileges.isAllowedForPrivilegeAnySection(sessionName, privilegeName),
+                        compiledPrivileges.isAllowedForPrivilegeAnySection(sessionName, privilegeName));
+            }
+            for (String sectionName : SECTION_NAMES) {
+                assertEquals(privileges.isAllowedForPrivilege(sectionName, privilegeName),
+                        compiledPrivileges.isAllowedForPrivilege(sectionName, privilegeName));
+                for (String sessionName : SESSION_NAMES) {
+                    boolean isAllowed = privileges.isAllowedForPrivilege(sectionName, sessionName, privilegeName);
+                    assertEquals(isAllowed,
+                            compiledPrivileges.isAllowedForPrivilege(sectionName, sessionName, privilegeName));
+                    assertEquals(isAllowed, compiledPrivileges.isAllowedForPrivilege(sectionName, sessionName,
+                            CompiledInstructorPrivileges.getPrivilegeMask(privilegeName)));
+                }
+            }
+        }
+    }
+
+}
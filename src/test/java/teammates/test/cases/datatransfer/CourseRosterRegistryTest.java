@@ -0,0 +1,121 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRosterRegistry;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CourseRosterRegistry}.
+ */
+public class CourseRosterRegistryTest extends BaseTestCase {
+
+    private final List<String> loadedCourseIds = new ArrayList<>();
+
+    private final Function<String, List<StudentAttributes>> studentsLoader = courseId -> {
+        loadedCourseIds.add(courseId);
+        List<StudentAttributes> students = new ArrayList<>();
+        students.add(StudentAttributes.builder(courseId, "Student 1", "s1@gmail.tmt").withTeam("Team 1").build());
+        students.add(StudentAttributes.builder(courseId, "Student 2", "s2@gmail.tmt").withTeam("Team 2").build());
+        return students;
+    };
+
+    private final Function<String, List<InstructorAttributes>> instructorsLoader = courseId -> {
+        loadedCourseIds.add(courseId);
+        List<InstructorAttributes> instructors = new ArrayList<>();
+        instructors.add(InstructorAttributes.builder("instr1", courseId, "Instructor 1", "i1@gmail.tmt").build());
+        return instructors;
+    };
+
+    @AfterMethod
+    public void tearDown() {
+        CourseRosterRegistry.endRequestScope();
+        loadedCourseIds.clear();
+    }
+
+    @Test
+    public void testGetStudentsForCourse_outsideRequestScope_alwaysLoaded() {
+        assertFalse(CourseRosterRegistry.isInRequestScope());
+
+        CourseRosterRegistry.getStudentsForCourse("course1", studentsLoader);
+        CourseRosterRegistry.getStudentsForCourse("course1", studentsLoader);
+
+        assertEquals(2, loadedCourseIds.size());
+    }
+
+    @Test
+    public void testGetStudentsForCourse_withinRequestScope_loadedOncePerCourse() {
+        CourseRosterRegistry.startRequestScope();
+        long initialMisses = CourseRosterRegistry.getCacheStats().getMissCount();
+        long initialHits = CourseRosterRegistry.getCacheStats().getHitCount();
+
+        ______TS("repeated reads of the same course are served from the registry");
+
+        List<StudentAttributes> firstRead = CourseRosterRegistry.getStudentsForCourse("course1", studentsLoader);
+        List<StudentAttributes> secondRead = CourseRosterRegistry.getStudentsForCourse("course1", studentsLoader);
+        CourseRosterRegistry.getInstructorsForCourse("course1", instructorsLoader);
+        CourseRosterRegistry.getInstructorsForCourse("course1", instructorsLoader);
+
+        assertEquals(2, loadedCourseIds.size());
+        assertEquals(initialMisses + 2, CourseRosterRegistry.getCacheStats().getMissCount());
+        assertEquals(initialHits + 2, CourseRosterRegistry.getCacheStats().getHitCount());
+        assertEquals(2, secondRead.size());
+        assertEquals("s1@gmail.tmt", secondRead.get(0).email);
+        assertEquals("Team 2", secondRead.get(1).team);
+
+        ______TS("callers get copies, so modifying them does not affect later reads");
+
+        firstRead.get(0).team = "Modified Team";
+        firstRead.remove(1);
+
+        List<StudentAttributes> thirdRead = CourseRosterRegistry.getStudentsForCourse("course1", studentsLoader);
+        assertEquals(2, thirdRead.size());
+        assertEquals("Team 1", thirdRead.get(0).team);
+
+        ______TS("different courses are loaded separately");
+
+        CourseRosterRegistry.getStudentsForCourse("course2", studentsLoader);
+        assertEquals(3, loadedCourseIds.size());
+        assertEquals("course2", loadedCourseIds.get(2));
+    }
+
+    @Test
+    public void testInvalidate() {
+        CourseRosterRegistry.startRequestScope();
+        CourseRosterRegistry.getStudentsForCourse("course1", studentsLoader);
+        CourseRosterRegistry.getInstructorsForCourse("course1", instructorsLoader);
+        CourseRosterRegistry.getStudentsForCourse("course2", studentsLoader);
+
+        ______TS("invalidating a course only discards that course");
+
+        CourseRosterRegistry.invalidate("course1");
+        CourseRosterRegistry.getStudentsForCourse("course1", studentsLoader);
+        CourseRosterRegistry.getInstructorsForCourse("course1", instructorsLoader);
+        CourseRosterRegistry.getStudentsForCourse("course2", studentsLoader);
+
+        assertEquals(5, loadedCourseIds.size());
+
+        ______TS("invalidating all discards every course");
+
+        CourseRosterRegistry.invalidateAll();
+        CourseRosterRegistry.getStudentsForCourse("course2", studentsLoader);
+
+        assertEquals(6, loadedCourseIds.size());
+
+        ______TS("ending the request scope discards the registry");
+
+        CourseRosterRegistry.endRequestScope();
+        CourseRosterRegistry.startRequestScope();
+        CourseRosterRegistry.getStudentsForCourse("course2", studentsLoader);
+
+        assertEquals(7, loadedCourseIds.size());
+    }
+
+}
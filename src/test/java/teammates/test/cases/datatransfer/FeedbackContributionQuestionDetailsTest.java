@@ -0,0 +1,206 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResponseStatus;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.StudentResultSummary;
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackContributionQuestionDetails}.
+ */
+public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
+
+    private static final String QUESTION_ID = "contribQuestionId";
+    private static final int NSB = Const.POINTS_NOT_SUBMITTED;
+
+    private final FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+            .withFeedbackQuestionId(QUESTION_ID)
+            .withQuestionType(FeedbackQuestionType.CONTRIB)
+            .withGiverType(FeedbackParticipantType.STUDENTS)
+            .withRecipientType(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF)
+            .withShowResponseTo(new ArrayList<>())
+            .withShowGiverNameTo(new ArrayList<>())
+            .withShowRecipientNameTo(new ArrayList<>())
+            .build();
+
+    @Test
+    public void testGetTeamEvalResult_memoizedPerTeam_sameAsFreshComputation() {
+        FeedbackSessionResultsBundle bundle = getResultsBundle();
+        TeamEvalResult teamAResult = FeedbackContributionQuestionDetails.getTeamEvalResult(bundle, question, "Team A");
+        TeamEvalResult teamBResult = FeedbackContributionQuestionDetails.getTeamEvalResult(bundle, question, "Team B");
+
+        ______TS("results of a team are computed once per bundle");
+
+        assertSame(teamAResult, FeedbackContributionQuestionDetails.getTeamEvalResult(bundle, question, "Team A"));
+        assertSame(teamBResult, FeedbackContributionQuestionDetails.getTeamEvalResult(bundle, question, "Team B"));
+
+        ______TS("memoized results are the same as results computed from the responses of the team only");
+
+        verifyTeamEvalResult(new TeamEvalResult(new int[][] {
+                { 100, 110, 90 },
+                { 100, 100, 100 },
+                { NSB, NSB, NSB },
+        }), teamAResult);
+        verifyTeamEvalResult(new TeamEvalResult(new int[][] {
+                { 120, 80 },
+                { 100, 100 },
+        }), teamBResult);
+        verifyTeamEvalResult(
+                FeedbackContributionQuestionDetails.getTeamEvalResult(getResultsBundle(), question, "Team B"),
+                teamBResult);
+
+        ______TS("teams do not share results");
+
+        assertNotSame(teamAResult, teamBResult);
+        assertEquals(Arrays.asList("a1@email.tmt", "a2@email.tmt", "a3@email.tmt"), teamAResult.studentEmails);
+        assertEquals(Arrays.asList("b1@email.tmt", "b2@email.tmt"), teamBResult.studentEmails);
+
+        TeamEvalResult teamCResult = FeedbackContributionQuestionDetails.getTeamEvalResult(bundle, question, "Team C");
+        verifyTeamEvalResult(new TeamEvalResult(new int[][] { { NSB } }), teamCResult);
+        assertEquals(Arrays.asList("c1@email.tmt"), teamCResult.studentEmails);
+
+        ______TS("not a team of students");
+
+        assertNull(FeedbackContributionQuestionDetails.getTeamEvalResult(bundle, question, null));
+        assertNull(FeedbackContributionQuestionDetails.getTeamEvalResult(
+                bundle, question, Const.USER_TEAM_FOR_INSTRUCTOR));
+        assertNull(FeedbackContributionQuestionDetails.getTeamEvalResult(bundle, question, "Non-existent Team"));
+    }
+
+    @Test
+    public void testGetStudentResultSummary_memoizedPerTeam_sameAsFreshComputation() {
+        FeedbackSessionResultsBundle bundle = getResultsBundle();
+
+        ______TS("summaries are those of the student's own team");
+
+        TeamEvalResult teamAResult = new TeamEvalResult(new int[][] {
+                { 100, 110, 90 },
+                { 100, 100, 100 },
+                { NSB, NSB, NSB },
+        });
+        StudentResultSummary a2Summary =
+                FeedbackContributionQuestionDetails.getStudentResultSummary(bundle, question, "a2@email.tmt");
+        assertEquals(teamAResult.normalizedClaimed[1][1], a2Summary.claimedToInstructor);
+        assertEquals(teamAResult.normalizedAveragePerceived[1], a2Summary.perceivedToInstructor);
+        assertSame(a2Summary, bundle.getContributionQuestionStudentResultSummary(QUESTION_ID, "a2@email.tmt"));
+
+        TeamEvalResult teamBResult = new TeamEvalResult(new int[][] {
+                { 120, 80 },
+                { 100, 100 },
+        });
+        StudentResultSummary b1Summary =
+                FeedbackContributionQuestionDetails.getStudentResultSummary(bundle, question, "b1@email.tmt");
+        assertEquals(teamBResult.normalizedClaimed[0][0], b1Summary.claimedToInstructor);
+        assertEquals(teamBResult.normalizedAveragePerceived[0], b1Summary.perceivedToInstructor);
+
+        ______TS("summaries are memoized per team");
+
+        assertSame(a2Summary,
+                FeedbackContributionQuestionDetails.getStudentResultSummary(bundle, question, "a2@email.tmt"));
+        assertNotNull(bundle.getContributionQuestionStudentResultSummary(QUESTION_ID, "a1@email.tmt"));
+        assertNotSame(a2Summary, bundle.getContributionQuestionStudentResultSummary(QUESTION_ID, "a1@email.tmt"));
+
+        ______TS("anonymised email: same summary as the student's email, also when looked up first");
+
+        String anonA2Email = bundle.getAnonEmailFromStudentEmail("a2@email.tmt");
+        assertSame(a2Summary, FeedbackContributionQuestionDetails.getStudentResultSummary(bundle, question, anonA2Email));
+
+        FeedbackSessionResultsBundle freshBundle = getResultsBundle();
+        StudentResultSummary anonA2Summary =
+                FeedbackContributionQuestionDetails.getStudentResultSummary(freshBundle, question, anonA2Email);
+        assertEquals(a2Summary.claimedToInstructor, anonA2Summary.claimedToInstructor);
+        assertEquals(a2Summary.perceivedToInstructor, anonA2Summary.perceivedToInstructor);
+
+        ______TS("student whose team has not responded: no summary, and none is stored");
+
+        assertNull(FeedbackContributionQuestionDetails.getStudentResultSummary(bundle, question, "c1@email.tmt"));
+        assertNull(bundle.getContributionQuestionStudentResultSummary(QUESTION_ID, "c1@email.tmt"));
+        assertNull(bundle.getContributionQuestionStudentResultSummary("otherQuestionId", "a2@email.tmt"));
+    }
+
+    private void verifyTeamEvalResult(TeamEvalResult expected, TeamEvalResult actual) {
+        assertEquals(Arrays.deepToString(expected.claimed), Arrays.deepToString(actual.claimed));
+        assertEquals(Arrays.deepToString(expected.normalizedClaimed), Arrays.deepToString(actual.normalizedClaimed));
+        assertEquals(Arrays.toString(expected.normalizedAveragePerceived),
+                Arrays.toString(actual.normalizedAveragePerceived));
+        assertEquals(Arrays.deepToString(expected.normalizedPeerContributionRatio),
+                Arrays.deepToString(actual.normalizedPeerContributionRatio));
+    }
+
+    /**
+     * Returns a bundle of the responses of Team A (where a3 has not responded) and Team B,
+     * in a course which also has Team C that has not responded.
+     */
+    private FeedbackSessionResultsBundle getResultsBundle() {
+        List<StudentAttributes> students = Arrays.asList(
+                getStudent("Alice", "a1@email.tmt", "Team A"),
+                getStudent("Amy", "a2@email.tmt", "Team A"),
+                getStudent("Andy", "a3@email.tmt", "Team A"),
+                getStudent("Bob", "b1@email.tmt", "Team B"),
+                getStudent("Betty", "b2@email.tmt", "Team B"),
+                getStudent("Carol", "c1@email.tmt", "Team C"));
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        for (StudentAttributes student : students) {
+            emailNameTable.put(student.email, student.name);
+            emailTeamNameTable.put(student.email, student.team);
+        }
+
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                getContributionResponse("a1@email.tmt", "a1@email.tmt", 100),
+                getContributionResponse("a1@email.tmt", "a2@email.tmt", 110),
+                getContributionResponse("a1@email.tmt", "a3@email.tmt", 90),
+                getContributionResponse("a2@email.tmt", "a1@email.tmt", 100),
+                getContributionResponse("a2@email.tmt", "a2@email.tmt", 100),
+                getContributionResponse("a2@email.tmt", "a3@email.tmt", 100),
+                getContributionResponse("b2@email.tmt", "b1@email.tmt", 100),
+                getContributionResponse("b2@email.tmt", "b2@email.tmt", 100),
+                getContributionResponse("b1@email.tmt", "b1@email.tmt", 120),
+                getContributionResponse("b1@email.tmt", "b2@email.tmt", 80));
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            visibilityTable.put(response.getId(), new boolean[] { true, true });
+        }
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        questions.put(QUESTION_ID, question);
+
+        return new FeedbackSessionResultsBundle(null, responses, questions, emailNameTable, new HashMap<>(),
+                emailTeamNameTable, new HashMap<>(), visibilityTable, new FeedbackSessionResponseStatus(),
+                new CourseRoster(students, new ArrayList<>()), new HashMap<>());
+    }
+
+    private StudentAttributes getStudent(String name, String email, String team) {
+        return StudentAttributes.builder("course", name, email)
+                .withTeam(team)
+                .withSection("Section 1")
+                .build();
+    }
+
+    private FeedbackResponseAttributes getContributionResponse(String giver, String recipient, int points) {
+        FeedbackResponseAttributes response = new FeedbackResponseAttributes("session", "course", QUESTION_ID,
+                FeedbackQuestionType.CONTRIB, giver, "Section 1", recipient, "Section 1", null);
+        response.setId(giver + "%" + recipient);
+        response.setResponseDetails(new FeedbackContributionResponseDetails(points));
+        return response;
+    }
+
+}
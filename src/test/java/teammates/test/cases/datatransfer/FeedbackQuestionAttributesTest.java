@@ -11,10 +11,12 @@ import com.google.appengine.api.datastore.Text;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.CacheStats;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.StringHelper;
@@ -367,6 +369,30 @@ public class FeedbackQuestionAttributesTest extends BaseAttributesTest {
         assertEquals(fq.getQuestionDetails().getQuestionText(), "Rate 1 other student's product");
     }
 
+    @Test
+    public void testGetQuestionDetails_cachedUntilMetaDataChanges() {
+        FeedbackQuestionAttributes fq = getNewFeedbackQuestionAttributes();
+        CacheStats cacheStats = FeedbackQuestionAttributes.getQuestionDetailsCacheStats();
+
+        ______TS("repeated calls reuse the parsed details");
+
+        long initialHits = cacheStats.getHitCount();
+        long initialMisses = cacheStats.getMissCount();
+        FeedbackQuestionDetails questionDetails = fq.getQuestionDetails();
+
+        assertSame(questionDetails, fq.getQuestionDetails());
+        assertEquals(initialHits + 1, cacheStats.getHitCount());
+        assertEquals(initialMisses + 1, cacheStats.getMissCount());
+
+        ______TS("details are parsed again after the meta data is replaced");
+
+        fq.setQuestionDetails(new FeedbackTextQuestionDetails("Updated question text."));
+        assertEquals("Updated question text.", fq.getQuestionDetails().getQuestionText());
+
+        fq.questionMetaData = new Text("Legacy question text.");
+        assertEquals("Legacy question text.", fq.getQuestionDetails().getQuestionText());
+    }
+
     @Test
     public void testRemoveIrrelevantVisibilityOptions() {
 
@@ -4,7 +4,13 @@ import java.time.Instant;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.Text;
+
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.CacheStats;
 import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
@@ -44,4 +50,35 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         assertEquals(defaultTimeStamp, fra.getUpdatedAt());
     }
 
+    @Test
+    public void testGetResponseDetails_cachedUntilMetaDataChanges() {
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
+        fra.feedbackQuestionType = FeedbackQuestionType.TEXT;
+        fra.responseMetaData = new Text("Original answer");
+        CacheStats cacheStats = FeedbackResponseAttributes.getResponseDetailsCacheStats();
+
+        ______TS("repeated calls reuse the parsed details");
+
+        long initialHits = cacheStats.getHitCount();
+        long initialMisses = cacheStats.getMissCount();
+        FeedbackResponseDetails responseDetails = fra.getResponseDetails();
+
+        assertSame(responseDetails, fra.getResponseDetails());
+        assertEquals(initialHits + 1, cacheStats.getHitCount());
+        assertEquals(initialMisses + 1, cacheStats.getMissCount());
+
+        ______TS("details are parsed again after the meta data is replaced");
+
+        fra.responseMetaData = new Text("Updated answer");
+        assertEquals("Updated answer", fra.getResponseDetails().getAnswerString());
+
+        fra.setResponseDetails(new FeedbackTextResponseDetails("Answer set through details"));
+        assertEquals("Answer set through details", fra.getResponseDetails().getAnswerString());
+
+        ______TS("missing response has no details");
+
+        fra.responseMetaData = null;
+        assertNull(fra.getResponseDetails());
+    }
+
 }
@@ -1,17 +1,27 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.Test;
 
 import com.google.appengine.api.datastore.Text;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResponseStatus;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails.RubricRecipientStatistics;
+import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails.RubricStatistics;
+import teammates.common.datatransfer.questions.FeedbackRubricResponseDetails;
 import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
@@ -310,4 +320,205 @@ public class FeedbackRubricQuestionDetailsTest extends BaseTestCase {
         assertEquals(1.84, weightsForEachCell.get(1).get(1));
     }
 
+    @Test
+    public void testRubricStatistics_singlePass_sameAsCalculatingForEachRecipientSeparately() {
+        FeedbackRubricQuestionDetails rubricDetails = getRubricDetailsWithWeights();
+        FeedbackSessionResultsBundle bundle = getResultsBundle();
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                getRubricResponse("alice@email.tmt", "alice@email.tmt", 0, 2),
+                getRubricResponse("bob@email.tmt", "alice@email.tmt", 1, -1),
+                getRubricResponse("carol@email.tmt", "alice@email.tmt", 1, 2),
+                getRubricResponse("alice@email.tmt", "bob@email.tmt", 2, 2),
+                getRubricResponse("carol@email.tmt", "bob@email.tmt", 0, 1),
+                getRubricResponse("bob@email.tmt", "bob@email.tmt", -1, -1));
+
+        RubricStatistics statistics = new RubricStatistics(rubricDetails, responses, bundle);
+
+        ______TS("overall statistics, including and excluding self responses");
+
+        verifyRecipientStatistics(rubricDetails, responses, statistics.getOverallStatistics());
+        assertEquals(6, statistics.getOverallStatistics().getNumOfResponses());
+        assertEquals("[[2, 2, 1, 5], [0, 1, 3, 4]]",
+                Arrays.deepToString(statistics.getOverallStatistics().getResponseFrequency()));
+        assertEquals("[[1, 2, 1, 4], [0, 1, 2, 3]]",
+                Arrays.deepToString(statistics.getOverallStatistics().getResponseFrequencyExcludingSelf()));
+
+        ______TS("statistics of each recipient, including and excluding self responses");
+
+        for (String recipient : Arrays.asList("alice@email.tmt", "bob@email.tmt")) {
+            List<FeedbackResponseAttributes> responsesToRecipient = responses.stream()
+                    .filter(response -> response.recipient.equals(recipient))
+                    .collect(Collectors.toList());
+            RubricRecipientStatistics recipientStatistics = statistics.getRecipientStatistics(recipient);
+
+            verifyRecipientStatistics(rubricDetails, responsesToRecipient, recipientStatistics);
+            assertEquals(3, recipientStatistics.getNumOfResponses());
+            assertEquals(recipient, recipientStatistics.getRecipientEmail());
+        }
+
+        List<RubricRecipientStatistics> statisticsSorted = statistics.getPerRecipientStatisticsSorted();
+        assertEquals(2, statisticsSorted.size());
+        assertEquals("Alice", statisticsSorted.get(0).getRecipientName());
+        assertEquals("Team 1", statisticsSorted.get(0).getRecipientTeam());
+        assertEquals("Bob", statisticsSorted.get(1).getRecipientName());
+        assertEquals("Team 2", statisticsSorted.get(1).getRecipientTeam());
+
+        ______TS("recipient without responses");
+
+        RubricRecipientStatistics noResponseStatistics = statistics.getRecipientStatistics("carol@email.tmt");
+        verifyRecipientStatistics(rubricDetails, new ArrayList<>(), noResponseStatistics);
+        assertEquals(0, noResponseStatistics.getNumOfResponses());
+        assertEquals("[[0, 0, 0, 0], [0, 0, 0, 0]]", Arrays.deepToString(noResponseStatistics.getResponseFrequency()));
+        assertEquals("[[0.0, 0.0, 0.0, 0.0], [0.0, 0.0, 0.0, 0.0]]",
+                Arrays.deepToString(noResponseStatistics.getPercentageFrequencyAndAverage()));
+
+        ______TS("recipient with only a self response");
+
+        List<FeedbackResponseAttributes> selfResponseOnly = Arrays.asList(
+                getRubricResponse("alice@email.tmt", "alice@email.tmt", 0, 2));
+        RubricRecipientStatistics selfOnlyStatistics =
+                new RubricStatistics(rubricDetails, selfResponseOnly, bundle).getRecipientStatistics("alice@email.tmt");
+
+        verifyRecipientStatistics(rubricDetails, selfResponseOnly, selfOnlyStatistics);
+        assertEquals("[[0, 0, 0, 0], [0, 0, 0, 0]]",
+                Arrays.deepToString(selfOnlyStatistics.getResponseFrequencyExcludingSelf()));
+    }
+
+    @Test
+    public void testGetRubricQuestionStatistics_sameOrDifferentResponses_reusedOnlyForSameResponses() {
+        FeedbackRubricQuestionDetails rubricDetails = getRubricDetailsWithWeights();
+        FeedbackSessionResultsBundle bundle = getResultsBundle();
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                getRubricResponse("alice@email.tmt", "bob@email.tmt", 0, 1),
+                getRubricResponse("bob@email.tmt", "alice@email.tmt", 1, 2));
+
+        RubricStatistics statistics = bundle.getRubricQuestionStatistics("questionId", responses,
+                () -> new RubricStatistics(rubricDetails, responses, bundle));
+
+        ______TS("same responses of the same question: statistics are reused");
+
+        assertSame(statistics, bundle.getRubricQuestionStatistics("questionId", new ArrayList<>(responses),
+                () -> new RubricStatistics(rubricDetails, responses, bundle)));
+
+        ______TS("subset of the responses of the same question: statistics are recalculated");
+
+        List<FeedbackResponseAttributes> subset = responses.subList(0, 1);
+        RubricStatistics subsetStatistics = bundle.getRubricQuestionStatistics("questionId", subset,
+                () -> new RubricStatistics(rubricDetails, subset, bundle));
+        assertNotSame(statistics, subsetStatistics);
+        assertEquals(1, subsetStatistics.getOverallStatistics().getNumOfResponses());
+
+        ______TS("same responses of another question: statistics are not shared");
+
+        assertNotSame(subsetStatistics, bundle.getRubricQuestionStatistics("otherQuestionId", subset,
+                () -> new RubricStatistics(rubricDetails, subset, bundle)));
+    }
+
+    /**
+     * Verifies {@code statistics} against the frequencies, percentages and averages calculated directly
+     * from {@code responses}, the way they were calculated for each recipient separately.
+     */
+    private void verifyRecipientStatistics(FeedbackRubricQuestionDetails rubricDetails,
+                                           List<FeedbackResponseAttributes> responses,
+                                           RubricRecipientStatistics statistics) {
+        List<FeedbackResponseAttributes> responsesExcludingSelf = responses.stream()
+                .filter(response -> !response.giver.equals(response.recipient))
+                .collect(Collectors.toList());
+        int[][] expectedFrequency = calculateResponseFrequency(rubricDetails, responses);
+        int[][] expectedFrequencyExcludingSelf = calculateResponseFrequency(rubricDetails, responsesExcludingSelf);
+
+        assertEquals(Arrays.deepToString(expectedFrequency), Arrays.deepToString(statistics.getResponseFrequency()));
+        assertEquals(Arrays.deepToString(expectedFrequencyExcludingSelf),
+                Arrays.deepToString(statistics.getResponseFrequencyExcludingSelf()));
+        assertEquals(Arrays.deepToString(calculatePercentageFrequencyAndAverage(rubricDetails, expectedFrequency)),
+                Arrays.deepToString(statistics.getPercentageFrequencyAndAverage()));
+        assertEquals(
+                Arrays.deepToString(calculatePercentageFrequencyAndAverage(rubricDetails, expectedFrequencyExcludingSelf)),
+                Arrays.deepToString(statistics.getPercentageFrequencyAndAverageExcludingSelf()));
+    }
+
+    private int[][] calculateResponseFrequency(FeedbackRubricQuestionDetails rubricDetails,
+                                               List<FeedbackResponseAttributes> responses) {
+        int numOfChoices = rubricDetails.getNumOfRubricChoices();
+        int[][] responseFrequency = new int[rubricDetails.getNumOfRubricSubQuestions()][numOfChoices + 1];
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackRubricResponseDetails details = (FeedbackRubricResponseDetails) response.getResponseDetails();
+            for (int i = 0; i < rubricDetails.getNumOfRubricSubQuestions(); i++) {
+                int chosenChoice = details.getAnswer(i);
+                if (chosenChoice != -1) {
+                    responseFrequency[i][chosenChoice]++;
+                    responseFrequency[i][numOfChoices]++;
+                }
+            }
+        }
+        return responseFrequency;
+    }
+
+    private float[][] calculatePercentageFrequencyAndAverage(FeedbackRubricQuestionDetails rubricDetails,
+                                                             int[][] responseFrequency) {
+        int numOfChoices = rubricDetails.getNumOfRubricChoices();
+        float[][] percentageFrequencyAndAverage = new float[rubricDetails.getNumOfRubricSubQuestions()][numOfChoices + 1];
+        for (int i = 0; i < percentageFrequencyAndAverage.length; i++) {
+            int totalForSubQuestion = responseFrequency[i][numOfChoices];
+            if (totalForSubQuestion == 0) {
+                continue;
+            }
+            for (int j = 0; j < numOfChoices; j++) {
+                percentageFrequencyAndAverage[i][j] = (float) responseFrequency[i][j] / totalForSubQuestion;
+            }
+            for (int j = 0; j < numOfChoices; j++) {
+                percentageFrequencyAndAverage[i][numOfChoices] +=
+                        (float) (rubricDetails.getRubricWeights().get(i).get(j) * percentageFrequencyAndAverage[i][j]);
+            }
+        }
+        return percentageFrequencyAndAverage;
+    }
+
+    private FeedbackRubricQuestionDetails getRubricDetailsWithWeights() {
+        FeedbackRubricQuestionDetails rubricDetails = new FeedbackRubricQuestionDetails();
+        HashMap<String, String[]> requestParams = new HashMap<>();
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_TYPE, new String[] { "RUBRIC" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_TEXT, new String[] { "Rubric question text" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_NUM_COLS, new String[] { "3" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_NUM_ROWS, new String[] { "2" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHTS_ASSIGNED, new String[] { "on" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_SUBQUESTION + "-0", new String[] {"SubQn-1"});
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_SUBQUESTION + "-1", new String[] {"SubQn-2"});
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_CHOICE + "-0", new String[] {"Choice-1"});
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_CHOICE + "-1", new String[] {"Choice-2"});
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_CHOICE + "-2", new String[] {"Choice-3"});
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-0-0", new String[] { "1.50" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-0-1", new String[] { "2.50" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-0-2", new String[] { "3.00" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-1-0", new String[] { "1.00" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-1-1", new String[] { "2.00" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-1-2", new String[] { "-0.50" });
+
+        assertTrue(rubricDetails.extractQuestionDetails(requestParams, FeedbackQuestionType.RUBRIC));
+        return rubricDetails;
+    }
+
+    private FeedbackSessionResultsBundle getResultsBundle() {
+        Map<String, String> emailNameTable = new HashMap<>();
+        emailNameTable.put("alice@email.tmt", "Alice");
+        emailNameTable.put("bob@email.tmt", "Bob");
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        emailTeamNameTable.put("alice@email.tmt", "Team 1");
+        emailTeamNameTable.put("bob@email.tmt", "Team 2");
+
+        return new FeedbackSessionResultsBundle(null, new ArrayList<>(), new HashMap<>(), emailNameTable,
+                new HashMap<>(), emailTeamNameTable, new HashMap<>(), new HashMap<>(),
+                new FeedbackSessionResponseStatus(), new CourseRoster(new ArrayList<>(), new ArrayList<>()),
+                new HashMap<>());
+    }
+
+    private FeedbackResponseAttributes getRubricResponse(String giver, String recipient, Integer... answer) {
+        FeedbackRubricResponseDetails details = new FeedbackRubricResponseDetails();
+        details.answer = Arrays.asList(answer);
+        FeedbackResponseAttributes response = new FeedbackResponseAttributes("session", "course", "questionId",
+                FeedbackQuestionType.RUBRIC, giver, "Section 1", recipient, "Section 1", null);
+        response.setResponseDetails(details);
+        return response;
+    }
+
 }
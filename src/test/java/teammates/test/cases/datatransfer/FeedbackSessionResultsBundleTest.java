@@ -1,6 +1,7 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +15,7 @@ import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -107,4 +109,57 @@ public class FeedbackSessionResultsBundleTest extends BaseTestCase {
                 bundle.getCsvDetailedFeedbackParticipantCommentOnResponse(
                         responseBundle.feedbackResponses.get("response1ForQ1S1C1")));
     }
+
+    @Test
+    public void testGetPossibleGiversAndRecipients_repeatedCalls_returnIndependentLists() {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("session1InCourse1");
+
+        List<StudentAttributes> students = new ArrayList<>();
+        students.add(StudentAttributes.builder(session.getCourseId(), "Student 1", "student1@gmail.tmt")
+                .withTeam("Team 1").withSection("Section 2").build());
+        students.add(StudentAttributes.builder(session.getCourseId(), "Student 2", "student2@gmail.tmt")
+                .withTeam("Team 1").withSection("Section 2").build());
+        students.add(StudentAttributes.builder(session.getCourseId(), "Student 3", "student3@gmail.tmt")
+                .withTeam("Team 2").withSection("Section 1").build());
+
+        FeedbackSessionResultsBundle bundle = new FeedbackSessionResultsBundle(session,
+                responseBundle.feedbackQuestions, new CourseRoster(students, new ArrayList<>()));
+        FeedbackQuestionAttributes studentToStudentQuestion = responseBundle.feedbackQuestions.get("qn2InSession1InCourse1");
+
+        ______TS("students are sorted by section");
+
+        List<String> possibleGivers = bundle.getPossibleGivers(studentToStudentQuestion);
+        assertEquals(Arrays.asList("student3@gmail.tmt", "student1@gmail.tmt", "student2@gmail.tmt"), possibleGivers);
+
+        ______TS("returned lists are shared and cannot be modified");
+
+        assertSame(possibleGivers, bundle.getPossibleGivers(studentToStudentQuestion));
+        try {
+            possibleGivers.clear();
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            ignoreExpectedException();
+        }
+        assertEquals(3, bundle.getPossibleGivers(studentToStudentQuestion).size());
+
+        List<String> possibleRecipients = bundle.getPossibleRecipients(studentToStudentQuestion, "student1@gmail.tmt");
+        assertEquals(Arrays.asList("student3@gmail.tmt", "student2@gmail.tmt"), possibleRecipients);
+        assertEquals(Arrays.asList("student3@gmail.tmt", "student1@gmail.tmt"),
+                bundle.getPossibleRecipients(studentToStudentQuestion, "student2@gmail.tmt"));
+
+        List<String> teamMembers = bundle.getSortedListOfTeamMembersEmails(students.get(1));
+        assertEquals(Arrays.asList("student1@gmail.tmt", "student2@gmail.tmt"), teamMembers);
+        assertSame(teamMembers, bundle.getSortedListOfTeamMembersEmails(students.get(0)));
+        try {
+            teamMembers.remove(0);
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            ignoreExpectedException();
+        }
+        assertEquals(Arrays.asList("student1@gmail.tmt", "student2@gmail.tmt"),
+                bundle.getSortedListOfTeamMembersEmails(students.get(0)));
+    }
+
 }
@@ -0,0 +1,69 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.log.AppLogLine;
+import com.google.appengine.api.log.LogService.LogLevel;
+
+import teammates.common.datatransfer.SevereLogsDigest;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link SevereLogsDigest}.
+ */
+public class SevereLogsDigestTest extends BaseTestCase {
+
+    @Test
+    public void testAdd() {
+
+        ______TS("no logs");
+
+        SevereLogsDigest digest = new SevereLogsDigest();
+        assertTrue(digest.isEmpty());
+        assertTrue(digest.getGroups().isEmpty());
+
+        ______TS("logs grouped by level and first line of message, ignoring numbers");
+
+        AppLogLine nullPointerLog = getLogLine(LogLevel.ERROR, "java.lang.NullPointerException at line 12\nstack 1", 300);
+        digest.add(nullPointerLog);
+        digest.add(getLogLine(LogLevel.ERROR, "Course idOfCourse1 does not exist", 200));
+        digest.add(getLogLine(LogLevel.ERROR, "java.lang.NullPointerException at line 345\nstack 2", 100));
+        digest.add(getLogLine(LogLevel.FATAL, "java.lang.NullPointerException at line 12", 400));
+        digest.add(getLogLine(LogLevel.ERROR, "  java.lang.NullPointerException at line 6  \nstack 3", 500));
+
+        assertFalse(digest.isEmpty());
+        assertEquals(5, digest.getNumberOfLogs());
+
+        List<SevereLogsDigest.LogGroup> groups = digest.getGroups();
+        assertEquals(3, groups.size());
+
+        // the most frequent group comes first, with the first log added as its sample
+        SevereLogsDigest.LogGroup group = groups.get(0);
+        assertEquals(3, group.getCount());
+        assertSame(nullPointerLog, group.getSampleLog());
+        assertEquals(100, group.getEarliestTimeUsec());
+        assertEquals(500, group.getLatestTimeUsec());
+
+        // equally frequent groups are in the order they were first added in
+        group = groups.get(1);
+        assertEquals(1, group.getCount());
+        assertEquals("Course idOfCourse1 does not exist", group.getSampleLog().getLogMessage());
+
+        group = groups.get(2);
+        assertEquals(1, group.getCount());
+        assertEquals(LogLevel.FATAL, group.getSampleLog().getLogLevel());
+        assertEquals(400, group.getEarliestTimeUsec());
+        assertEquals(400, group.getLatestTimeUsec());
+    }
+
+    private static AppLogLine getLogLine(LogLevel logLevel, String message, long timeUsec) {
+        AppLogLine logLine = new AppLogLine();
+        logLine.setLogLevel(logLevel);
+        logLine.setLogMessage(message);
+        logLine.setTimeUsec(timeUsec);
+        return logLine;
+    }
+
+}
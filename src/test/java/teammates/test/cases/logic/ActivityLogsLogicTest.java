@@ -0,0 +1,78 @@
+package teammates.test.cases.logic;
+
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.taskqueue.QueueFactory;
+import com.google.appengine.api.taskqueue.TaskOptions;
+import com.google.appengine.tools.development.testing.LocalTaskQueueTestConfig;
+
+import teammates.common.datatransfer.ActivityLogsBundle;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.ActivityLogQuery;
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.JsonUtils;
+import teammates.logic.core.ActivityLogsLogic;
+
+/**
+ * SUT: {@link ActivityLogsLogic}.
+ */
+public class ActivityLogsLogicTest extends BaseLogicTest {
+
+    private final ActivityLogsLogic activityLogsLogic = ActivityLogsLogic.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is not needed
+    }
+
+    @Test
+    public void testStoreQueuedActivityLogs() {
+
+        ______TS("no queued entries");
+
+        assertEquals(0, activityLogsLogic.storeQueuedActivityLogs());
+
+        ______TS("queued entries are stored and removed from the queue, unreadable entries are dropped");
+
+        for (int i = 0; i < 150; i++) {
+            ActivityLogEntry logEntry = new ActivityLogEntry.Builder("instructorHomePage", "/page/instructorHomePage",
+                            1_500_000_000_000L + i * 1000L)
+                    .withLogId("id" + i)
+                    .withUserGoogleId("googleId" + i % 2)
+                    .build();
+            addPullTask(JsonUtils.toJson(new ActivityLogAttributes(logEntry, "1.0.0")));
+        }
+        addPullTask("unreadable entry");
+
+        assertEquals(150, activityLogsLogic.storeQueuedActivityLogs());
+        assertEquals(0, getNumberOfTasksInQueue(TaskQueue.ACTIVITY_LOG_QUEUE_NAME));
+
+        ActivityLogsBundle result = activityLogsLogic.getActivityLogs(new ActivityLogQuery(null, null), null, 200);
+        assertEquals(150, result.getLogs().size());
+        assertEquals("id149", result.getLogs().get(0).getLogEntry().getLogId());
+        assertEquals("1.0.0", result.getLogs().get(0).getAppVersion());
+        assertNull(result.getNextCursor());
+
+        result = activityLogsLogic.getActivityLogs(
+                new ActivityLogQuery(null, null).withUserIdentifier("googleId1"), null, 200);
+        assertEquals(75, result.getLogs().size());
+
+        ______TS("entries are not stored twice");
+
+        assertEquals(0, activityLogsLogic.storeQueuedActivityLogs());
+    }
+
+    private static void addPullTask(String payload) {
+        QueueFactory.getQueue(TaskQueue.ACTIVITY_LOG_QUEUE_NAME).add(
+                TaskOptions.Builder.withMethod(TaskOptions.Method.PULL)
+                        .payload(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static int getNumberOfTasksInQueue(String queueName) {
+        return LocalTaskQueueTestConfig.getLocalTaskQueue().getQueueStateInfo().get(queueName).getCountTasks();
+    }
+
+}
@@ -4,22 +4,25 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.Text;
 import com.google.appengine.api.log.AppLogLine;
 import com.google.appengine.api.log.LogService.LogLevel;
 
+import teammates.common.datatransfer.SevereLogsDigest;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.EmailContentReference;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.SanitizationHelper;
@@ -27,9 +30,11 @@ import teammates.common.util.StringHelper;
 import teammates.common.util.TimeHelper;
 import teammates.logic.api.EmailGenerator;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.EmailContentCache;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
+import teammates.test.driver.AssertHelper;
 import teammates.test.driver.EmailChecker;
 import teammates.test.driver.TestProperties;
 
@@ -272,6 +277,51 @@ public class EmailGeneratorTest extends BaseLogicTest {
         verifyEmail(email, instructor1.email, subject, "/sessionSubmissionConfirmationEmailTestingSanitization.html");
     }
 
+    @Test
+    public void testRenderFeedbackSessionEmailContent() throws Exception {
+        FeedbackSessionAttributes session = fsLogic.getFeedbackSession("First feedback session", "idOfTypicalCourse1");
+        EmailContentCache.clear();
+        EmailContentCache.getCacheStats().reset();
+
+        ______TS("rendered content is the same as the generated content");
+
+        List<EmailWrapper> emails = new EmailGenerator().generateFeedbackSessionClosedEmails(session);
+        for (EmailWrapper email : emails) {
+            assertEquals(email.getContent(),
+                    new EmailGenerator().renderFeedbackSessionEmailContent(email.getContentReference()));
+        }
+        // the shared content is generated once for all the recipients
+        assertEquals(1, EmailContentCache.getCacheStats().getMissCount());
+        assertEquals(emails.size() - 1, EmailContentCache.getCacheStats().getHitCount());
+
+        ______TS("session updated: emails created after the update do not share the content cached before");
+
+        Text originalInstructions = session.getInstructions();
+        session.setInstructions(new Text("Updated instructions"));
+        fsLogic.updateFeedbackSession(session);
+
+        List<EmailWrapper> emailsAfterUpdate = new EmailGenerator().generateFeedbackSessionClosedEmails(session);
+        String renderedContent =
+                new EmailGenerator().renderFeedbackSessionEmailContent(emailsAfterUpdate.get(0).getContentReference());
+        assertEquals(emailsAfterUpdate.get(0).getContent(), renderedContent);
+        AssertHelper.assertContains("Updated instructions", renderedContent);
+        assertEquals(2, EmailContentCache.getCacheStats().getMissCount());
+
+        session.setInstructions(originalInstructions);
+        fsLogic.updateFeedbackSession(session);
+
+        ______TS("session does not exist: content cannot be rendered");
+
+        EmailContentReference contentReference = new EmailContentReference(EmailType.FEEDBACK_CLOSED,
+                session.getCourseId(), "non-existent session", emails.get(0).getContentReference().getRecipientVariables());
+        try {
+            new EmailGenerator().renderFeedbackSessionEmailContent(contentReference);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            ignoreExpectedException();
+        }
+    }
+
     @Test
     public void testGenerateInstructorJoinEmail() throws IOException {
 
@@ -446,22 +496,48 @@ public class EmailGeneratorTest extends BaseLogicTest {
     }
 
     @Test
-    public void testGenerateCompiledLogsEmail() throws IOException {
-        AppLogLine typicalLogLine = new AppLogLine();
-        typicalLogLine.setLogLevel(LogLevel.ERROR);
-        typicalLogLine.setLogMessage("Typical log message");
-
-        AppLogLine logLineWithLineBreak = new AppLogLine();
-        logLineWithLineBreak.setLogLevel(LogLevel.ERROR);
-        logLineWithLineBreak.setLogMessage("Log line \n with line break <br> and also HTML br tag");
+    public void testGenerateCompiledLogsEmails() throws IOException {
+        long timeUsec = 1_500_000_000_000_000L;
+        SevereLogsDigest digest = new SevereLogsDigest();
+        digest.add(getErrorLogLine("Typical log message 1", timeUsec));
+        digest.add(getErrorLogLine("Typical log message 2", timeUsec + 1_000_000));
+        digest.add(getErrorLogLine("Log line \n with line break <br> and also HTML br tag", timeUsec + 2_000_000));
 
-        EmailWrapper email = new EmailGenerator().generateCompiledLogsEmail(
-                Arrays.asList(typicalLogLine, logLineWithLineBreak));
+        List<EmailWrapper> emails = new EmailGenerator().generateCompiledLogsEmails(digest);
 
         String subject = String.format(EmailType.SEVERE_LOGS_COMPILATION.getSubject(),
                                        Config.getAppVersion());
 
-        verifyEmail(email, Config.SUPPORT_EMAIL, subject, "/severeLogsCompilationEmail.html");
+        assertEquals(1, emails.size());
+        verifyEmail(emails.get(0), Config.SUPPORT_EMAIL, subject, "/severeLogsCompilationEmail.html");
+
+        ______TS("logs compilation emails: paged and capped");
+
+        digest = new SevereLogsDigest();
+        for (int i = 0; i < 300; i++) {
+            // numbers are masked in grouping the logs, so letters are used to make the logs different
+            digest.add(getErrorLogLine("Error in " + (char) ('a' + i / 26) + (char) ('a' + i % 26), timeUsec));
+        }
+
+        emails = new EmailGenerator().generateCompiledLogsEmails(digest);
+
+        assertEquals(5, emails.size());
+        assertTrue(emails.get(0).getContent().contains("300 severe log(s) in 300 group(s), showing groups 0 to 49"));
+        assertTrue(emails.get(4).getContent().contains("showing groups 200 to 249"));
+        assertTrue(emails.get(4).getContent().contains("Error in jp")); // group 249
+        assertFalse(emails.get(4).getContent().contains("Error in jq")); // group 250
+
+        ______TS("logs compilation emails: no logs");
+
+        assertTrue(new EmailGenerator().generateCompiledLogsEmails(new SevereLogsDigest()).isEmpty());
+    }
+
+    private static AppLogLine getErrorLogLine(String message, long timeUsec) {
+        AppLogLine logLine = new AppLogLine();
+        logLine.setLogLevel(LogLevel.ERROR);
+        logLine.setLogMessage(message);
+        logLine.setTimeUsec(timeUsec);
+        return logLine;
     }
 
     @Test
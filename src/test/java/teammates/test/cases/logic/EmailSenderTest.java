@@ -1,5 +1,11 @@
 package teammates.test.cases.logic;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -12,9 +18,14 @@ import org.testng.annotations.Test;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
 import com.sendgrid.Mail;
+import com.sendgrid.Personalization;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
+import teammates.common.util.CompiledTemplate;
+import teammates.common.util.EmailContentReference;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
@@ -24,7 +35,8 @@ import teammates.logic.core.SendgridService;
  * SUT: {@link JavamailService},
  *      {@link SendgridService},
  *      {@link MailgunService},
- *      {@link MailjetService}.
+ *      {@link MailjetService},
+ *      {@link EmailSenderService}.
  */
 public class EmailSenderTest extends BaseLogicTest {
 
@@ -53,6 +65,27 @@ public class EmailSenderTest extends BaseLogicTest {
         return wrapper;
     }
 
+    private List<EmailWrapper> getTypicalEmailWrapperBatch() {
+        String sharedContent = "<p>Dear ${userName}, view the results at ${reportUrl}</p>";
+        List<EmailWrapper> wrappers = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Map<String, String> recipientVariables = new LinkedHashMap<>();
+            recipientVariables.put("${userName}", "User " + i);
+            recipientVariables.put("${reportUrl}", "http://report.url/" + i);
+            EmailContentReference contentReference = new EmailContentReference(
+                    EmailType.FEEDBACK_PUBLISHED, "course", "session", recipientVariables);
+            contentReference.setSharedContent(sharedContent);
+
+            EmailWrapper wrapper = getTypicalEmailWrapper();
+            wrapper.setBcc(null);
+            wrapper.setRecipient("recipient" + i + "@email.com");
+            wrapper.setContent(CompiledTemplate.compile(sharedContent).populate(recipientVariables));
+            wrapper.setContentReference(contentReference);
+            wrappers.add(wrapper);
+        }
+        return wrappers;
+    }
+
     @Test
     public void testConvertToMimeMessage() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -83,6 +116,58 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.getContent().get(1).getValue());
     }
 
+    @Test
+    public void testConvertBatchToSendgrid() {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        Mail email = new SendgridService().parseToEmailBatch(wrappers);
+
+        assertEquals(wrappers.get(0).getSenderEmail(), email.getFrom().getEmail());
+        assertEquals(wrappers.get(0).getReplyTo(), email.getReplyto().getEmail());
+        assertEquals(wrappers.size(), email.personalization.size());
+        for (int i = 0; i < wrappers.size(); i++) {
+            Personalization personalization = email.personalization.get(i);
+            assertEquals(wrappers.get(i).getRecipient(), personalization.getTos().get(0).getEmail());
+            assertEquals(wrappers.get(i).getSubject(), personalization.getSubject());
+            Map<String, String> substitutions = personalization.getSubstitutions();
+            assertEquals("User " + (i + 1), substitutions.get("${userName}"));
+            assertEquals("User " + (i + 1), substitutions.get("-text-userName-"));
+            assertEquals("http://report.url/" + (i + 1), substitutions.get("${reportUrl}"));
+            assertEquals("http://report.url/" + (i + 1), substitutions.get("-text-reportUrl-"));
+            assertEquals(4, substitutions.size());
+        }
+        assertEquals("Dear -text-userName-, view the results at -text-reportUrl-", email.getContent().get(0).getValue());
+        assertEquals(wrappers.get(0).getContentReference().getSharedContent(), email.getContent().get(1).getValue());
+    }
+
+    @Test
+    public void testConvertBatchToSendgrid_htmlRecipientVariables_plainTextWithoutMarkup() {
+        String sharedContent = "<p>Dear ${userName},</p>${instructorFragment}";
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        for (EmailWrapper wrapper : wrappers) {
+            Map<String, String> recipientVariables = new LinkedHashMap<>();
+            recipientVariables.put("${userName}", "User &amp; " + wrapper.getRecipient());
+            recipientVariables.put("${instructorFragment}",
+                    "<p>Contact <a href=\"mailto:instructor@email.com\">the instructor</a>.</p>");
+            EmailContentReference contentReference = new EmailContentReference(
+                    EmailType.FEEDBACK_PUBLISHED, "course", "session", recipientVariables);
+            contentReference.setSharedContent(sharedContent);
+            wrapper.setContentReference(contentReference);
+        }
+
+        Mail email = new SendgridService().parseToEmailBatch(wrappers);
+
+        assertEquals("text/plain", email.getContent().get(0).getType());
+        assertEquals("Dear -text-userName-, -text-instructorFragment-", email.getContent().get(0).getValue());
+        assertEquals(sharedContent, email.getContent().get(1).getValue());
+
+        Map<String, String> substitutions = email.personalization.get(0).getSubstitutions();
+        assertEquals("User &amp; recipient1@email.com", substitutions.get("${userName}"));
+        assertEquals("User & recipient1@email.com", substitutions.get("-text-userName-"));
+        assertEquals("<p>Contact <a href=\"mailto:instructor@email.com\">the instructor</a>.</p>",
+                substitutions.get("${instructorFragment}"));
+        assertEquals("Contact the instructor.", substitutions.get("-text-instructorFragment-"));
+    }
+
     @Test
     public void testConvertToMailgun() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -98,6 +183,24 @@ public class EmailSenderTest extends BaseLogicTest {
         }
     }
 
+    @Test
+    public void testConvertBatchToMailgun() throws Exception {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        try (FormDataMultiPart formData = new MailgunService().parseToEmailBatch(wrappers)) {
+
+            assertEquals(wrappers.size(), formData.getFields("to").size());
+            assertEquals(wrappers.get(1).getRecipient(), formData.getFields("to").get(1).getValue());
+            assertEquals(wrappers.get(0).getSubject(), formData.getField("subject").getValue());
+            assertEquals("<p>Dear %recipient.userName%, view the results at %recipient.reportUrl%</p>",
+                         formData.getField("html").getValue());
+
+            JSONObject recipientVariables = new JSONObject(formData.getField("recipient-variables").getValue());
+            JSONObject variablesOfSecondRecipient = recipientVariables.getJSONObject(wrappers.get(1).getRecipient());
+            assertEquals("User 2", variablesOfSecondRecipient.getString("userName"));
+            assertEquals("http://report.url/2", variablesOfSecondRecipient.getString("reportUrl"));
+        }
+    }
+
     @Test
     public void testConvertToMailjet() {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -116,4 +219,141 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testConvertBatchToMailjet() {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        MailjetRequest request = new MailjetService().parseToEmailBatch(wrappers);
+        JSONArray messages = new JSONObject(request.getBody()).getJSONArray("Messages");
+
+        assertEquals(wrappers.size(), messages.length());
+        for (int i = 0; i < wrappers.size(); i++) {
+            JSONObject message = messages.getJSONObject(i);
+            assertEquals(wrappers.get(i).getRecipient(),
+                         ((JSONArray) message.get(Email.RECIPIENTS)).getJSONObject(0).get("Email"));
+            assertEquals(wrappers.get(i).getContent(), message.get(Email.HTMLPART));
+        }
+    }
+
+    @Test
+    public void testSendEmails_batches_differentRecipientsWithinMaxBatchSize() {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        EmailWrapper duplicate = getTypicalEmailWrapperBatch().get(0);
+        duplicate.setRecipient("RECIPIENT1@email.com");
+        wrappers.add(1, duplicate);
+        StubEmailSenderService service = new StubEmailSenderService(2, null, true);
+        List<List<String>> sentRecipients = new ArrayList<>();
+
+        List<EmailWrapper> failedEmails =
+                service.sendEmails(wrappers, sentEmails -> sentRecipients.add(getRecipients(sentEmails)));
+
+        assertTrue(failedEmails.isEmpty());
+        List<List<String>> expectedBatches = Arrays.asList(
+                Arrays.asList("recipient1@email.com", "recipient2@email.com"),
+                Arrays.asList("RECIPIENT1@email.com", "recipient3@email.com"));
+        assertEquals(expectedBatches, service.recipientsOfCalls);
+        assertEquals(expectedBatches, sentRecipients);
+
+        ______TS("email without batch key sent on its own; recipients differing only in case not batched together");
+
+        service = new StubEmailSenderService(10, null, true);
+        service.sendEmails(Arrays.asList(getTypicalEmailWrapper(), duplicate, wrappers.get(0)));
+
+        assertEquals(Arrays.asList(Arrays.asList("recipient@email.com"), Arrays.asList("RECIPIENT1@email.com"),
+                Arrays.asList("recipient1@email.com")), service.recipientsOfCalls);
+    }
+
+    @Test
+    public void testSendEmails_batchFailsAsAWhole_onlyFailingEmailsReported() {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        StubEmailSenderService service = new StubEmailSenderService(10, "recipient2@email.com", true);
+        List<List<String>> sentRecipients = new ArrayList<>();
+
+        List<EmailWrapper> failedEmails =
+                service.sendEmails(wrappers, sentEmails -> sentRecipients.add(getRecipients(sentEmails)));
+
+        assertEquals(1, failedEmails.size());
+        assertSame(wrappers.get(1), failedEmails.get(0));
+        assertEquals(Arrays.asList(
+                Arrays.asList("recipient1@email.com", "recipient2@email.com", "recipient3@email.com"),
+                Arrays.asList("recipient1@email.com"),
+                Arrays.asList("recipient2@email.com"),
+                Arrays.asList("recipient3@email.com")), service.recipientsOfCalls);
+        assertEquals(Arrays.asList(Arrays.asList("recipient1@email.com"), Arrays.asList("recipient3@email.com")),
+                sentRecipients);
+
+        ______TS("service without batch sending: emails of the batch are sent one by one");
+
+        service = new StubEmailSenderService(10, "recipient2@email.com", false);
+        sentRecipients.clear();
+
+        failedEmails = service.sendEmails(wrappers, sentEmails -> sentRecipients.add(getRecipients(sentEmails)));
+
+        assertEquals(1, failedEmails.size());
+        assertSame(wrappers.get(1), failedEmails.get(0));
+        assertEquals(Arrays.asList(Arrays.asList("recipient1@email.com"), Arrays.asList("recipient2@email.com"),
+                Arrays.asList("recipient3@email.com")), service.recipientsOfCalls);
+        assertEquals(Arrays.asList(Arrays.asList("recipient1@email.com", "recipient3@email.com")), sentRecipients);
+    }
+
+    private static List<String> getRecipients(List<EmailWrapper> wrappers) {
+        List<String> recipients = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            recipients.add(wrapper.getRecipient());
+        }
+        return recipients;
+    }
+
+    /**
+     * Records the recipients of each call to the service, instead of sending emails.
+     * Emails with a content reference can be sent in batches; any call including the failing recipient fails.
+     */
+    private static class StubEmailSenderService extends EmailSenderService {
+
+        final List<List<String>> recipientsOfCalls = new ArrayList<>();
+        private final int maxBatchSize;
+        private final String failingRecipient;
+        private final boolean isSendingBatchesInOneCall;
+
+        StubEmailSenderService(int maxBatchSize, String failingRecipient, boolean isSendingBatchesInOneCall) {
+            this.maxBatchSize = maxBatchSize;
+            this.failingRecipient = failingRecipient;
+            this.isSendingBatchesInOneCall = isSendingBatchesInOneCall;
+        }
+
+        @Override
+        public Object parseToEmail(EmailWrapper wrapper) {
+            return wrapper;
+        }
+
+        @Override
+        protected String getBatchKey(EmailWrapper wrapper) {
+            return wrapper.getContentReference() == null ? null : wrapper.getContentReference().getSharedContentKey();
+        }
+
+        @Override
+        protected int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.SignatureDeclareThrowsException") // overrides the method of the service
+        protected List<EmailWrapper> sendEmailBatchWithService(List<EmailWrapper> batch) throws Exception {
+            if (!isSendingBatchesInOneCall) {
+                return super.sendEmailBatchWithService(batch);
+            }
+            List<String> recipients = getRecipients(batch);
+            recipientsOfCalls.add(recipients);
+            return recipients.contains(failingRecipient) ? batch : new ArrayList<>();
+        }
+
+        @Override
+        protected void sendEmailWithService(EmailWrapper wrapper) {
+            recipientsOfCalls.add(Arrays.asList(wrapper.getRecipient()));
+            if (wrapper.getRecipient().equals(failingRecipient)) {
+                throw new IllegalStateException("Email rejected by the service");
+            }
+        }
+
+    }
+
 }
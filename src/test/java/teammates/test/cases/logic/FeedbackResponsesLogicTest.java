@@ -60,6 +60,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         testUpdateFeedbackResponsesForChangingTeam();
         testUpdateFeedbackResponsesForChangingTeam_deleteLastResponse_decreaseResponseRate();
         testUpdateFeedbackResponsesForChangingTeam_deleteNotLastResponse_sameResponseRate();
+        testAdjustFeedbackResponsesForEnrollments();
         testUpdateFeedbackResponsesForChangingEmail();
         testDeleteFeedbackResponsesForStudent();
         testSpecialCharactersInTeamName();
@@ -343,6 +344,81 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         restoreStudentFeedbackResponseToDatastore(responseToBeDeleted);
     }
 
+    private void testAdjustFeedbackResponsesForEnrollments() throws Exception {
+
+        ______TS("change of section: sections of responses and their comments in the session are updated");
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        FeedbackResponseAttributes responseToSelf = getResponseFromDatastore("response1ForQ1S1C1");
+        FeedbackResponseAttributes responseToStudent = getResponseFromDatastore("response1ForQ2S1C1");
+        FeedbackResponseAttributes responseFromStudent = getResponseFromDatastore("response2ForQ2S1C1");
+        FeedbackResponseAttributes responseInOtherSession = getResponseFromDatastore("response2ForQ2S2C1");
+        List<StudentEnrollDetails> enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course, student.email,
+                                                    student.team, student.team, student.section, "Section 2"));
+
+        frLogic.adjustFeedbackResponsesForEnrollments(enrollmentList,
+                                                      responseToSelf.feedbackSessionName, responseToSelf.courseId);
+
+        FeedbackResponseAttributes updatedResponse = getResponseFromDatastore("response1ForQ1S1C1");
+        assertEquals("Section 2", updatedResponse.giverSection);
+        assertEquals("Section 2", updatedResponse.recipientSection);
+        for (FeedbackResponseCommentAttributes comment
+                : frcLogic.getFeedbackResponseCommentForResponse(responseToSelf.getId())) {
+            assertEquals("Section 2", comment.giverSection);
+            assertEquals("Section 2", comment.receiverSection);
+        }
+
+        updatedResponse = getResponseFromDatastore("response1ForQ2S1C1");
+        assertEquals(responseToStudent.giverSection, updatedResponse.giverSection);
+        assertEquals("Section 2", updatedResponse.recipientSection);
+
+        updatedResponse = getResponseFromDatastore("response2ForQ2S1C1");
+        assertEquals("Section 2", updatedResponse.giverSection);
+        assertEquals(responseFromStudent.recipientSection, updatedResponse.recipientSection);
+
+        updatedResponse = getResponseFromDatastore("response2ForQ2S2C1");
+        assertEquals(responseInOtherSession.giverSection, updatedResponse.giverSection);
+
+        // restore DataStore so other tests are unaffected
+        enrollmentList.clear();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course, student.email,
+                                                    student.team, student.team, "Section 2", student.section));
+        frLogic.adjustFeedbackResponsesForEnrollments(enrollmentList,
+                                                      responseToSelf.feedbackSessionName, responseToSelf.courseId);
+        assertEquals(responseToSelf.giverSection, getResponseFromDatastore("response1ForQ1S1C1").giverSection);
+
+        ______TS("unmodified enrollment: responses are untouched");
+
+        enrollmentList.clear();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.UNMODIFIED, student.course, student.email,
+                                                    student.team, student.team, student.section, "Section 2"));
+        frLogic.adjustFeedbackResponsesForEnrollments(enrollmentList,
+                                                      responseToSelf.feedbackSessionName, responseToSelf.courseId);
+        assertEquals(responseToSelf.giverSection, getResponseFromDatastore("response1ForQ1S1C1").giverSection);
+
+        ______TS("change of team: responses to team members are deleted and response rate is updated");
+
+        FeedbackResponseAttributes responseToBeDeleted =
+                getResponseFromDatastore(questionTypeBundle, "response1ForQ1ContribSession2Course2");
+        student = questionTypeBundle.students.get("student2InCourse2");
+        enrollmentList.clear();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course, student.email,
+                                                    student.team, student.team + "tmp",
+                                                    student.section, student.section));
+
+        int originalResponseRate = getResponseRate(responseToBeDeleted.feedbackSessionName,
+                                                   responseToBeDeleted.courseId);
+        frLogic.adjustFeedbackResponsesForEnrollments(enrollmentList, responseToBeDeleted.feedbackSessionName,
+                                                      responseToBeDeleted.courseId);
+        assertNull(getResponseFromDatastore(questionTypeBundle, "response1ForQ1ContribSession2Course2"));
+        assertEquals(originalResponseRate - 1, getResponseRate(responseToBeDeleted.feedbackSessionName,
+                                                               responseToBeDeleted.courseId));
+
+        // restore DataStore so other tests are unaffected
+        restoreStudentFeedbackResponseToDatastore(responseToBeDeleted);
+    }
+
     private int numResponsesFromGiverInSession(String studentEmail, String sessionName, String courseId) {
         int numResponses = 0;
         for (FeedbackResponseAttributes response : questionTypeBundle.feedbackResponses.values()) {
@@ -0,0 +1,71 @@
+package teammates.test.cases.logic;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackResultsVisibilityFilter;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
+
+/**
+ * SUT: {@link FeedbackResultsVisibilityFilter}.
+ */
+public class FeedbackResultsVisibilityFilterTest extends BaseLogicTest {
+
+    private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Test
+    public void testIsNameVisible_sameAsFeedbackResponsesLogic() throws EntityDoesNotExistException {
+        for (FeedbackSessionAttributes session : dataBundle.feedbackSessions.values()) {
+            String courseId = session.getCourseId();
+            List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
+            List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+            CourseRoster roster = new CourseRoster(students, instructors);
+
+            Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+            for (FeedbackQuestionAttributes question
+                    : fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), courseId)) {
+                questions.put(question.getId(), question);
+            }
+            List<FeedbackResponseAttributes> responses =
+                    frLogic.getFeedbackResponsesForSession(session.getFeedbackSessionName(), courseId);
+
+            for (StudentAttributes student : students) {
+                verifySameNameVisibility(student.email, UserRole.STUDENT, roster, questions, responses);
+            }
+            for (InstructorAttributes instructor : instructors) {
+                verifySameNameVisibility(instructor.email, UserRole.INSTRUCTOR, roster, questions, responses);
+            }
+        }
+    }
+
+    private void verifySameNameVisibility(String userEmail, UserRole role, CourseRoster roster,
+            Map<String, FeedbackQuestionAttributes> questions, List<FeedbackResponseAttributes> responses) {
+        FeedbackResultsVisibilityFilter visibilityFilter =
+                new FeedbackResultsVisibilityFilter(userEmail, role, null, null, null, roster);
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
+            assertEquals(frLogic.isNameVisibleToUser(question, response, userEmail, role, true, roster),
+                    visibilityFilter.isNameVisible(question, response, true));
+            assertEquals(frLogic.isNameVisibleToUser(question, response, userEmail, role, false, roster),
+                    visibilityFilter.isNameVisible(question, response, false));
+        }
+    }
+
+}
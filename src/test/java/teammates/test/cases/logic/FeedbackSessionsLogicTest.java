@@ -1,5 +1,6 @@
 package teammates.test.cases.logic;
 
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -14,8 +15,10 @@ import org.testng.annotations.Test;
 
 import com.google.appengine.api.datastore.Text;
 
+import teammates.common.datatransfer.CourseRosterRegistry;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionCompletionEvaluator;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -32,6 +35,7 @@ import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.CacheStats;
 import teammates.common.util.Const;
 import teammates.common.util.ThreadHelper;
 import teammates.common.util.TimeHelper;
@@ -39,6 +43,8 @@ import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.TimeHelperExtension;
 
@@ -50,6 +56,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -70,6 +78,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testGetFeedbackSessionQuestionsForInstructor();
         testGetFeedbackSessionResultsForUser();
         testGetFeedbackSessionResultsSummaryAsCsv();
+        testWriteFeedbackSessionResultsSummaryInSectionAsCsv();
+        testGetFeedbackSessionResultsWithinRequestScope();
         testIsFeedbackSessionViewableToStudents();
 
         testCreateAndDeleteFeedbackSession();
@@ -82,6 +92,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetFeedbackSessionCompletionEvaluator();
 
         testDeleteFeedbackSessionsForCourse();
     }
@@ -1765,6 +1776,96 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testWriteFeedbackSessionResultsSummaryInSectionAsCsv() throws Exception {
+
+        ______TS("typical case: streamed results are identical to results built in memory");
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        StringWriter writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null, true, true, writer);
+
+        assertEquals(fsLogic.getFeedbackSessionResultsSummaryAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null, true, true),
+                writer.toString());
+
+        ______TS("typical case: streamed results within section are identical to results built in memory");
+
+        writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, "Section 1",
+                false, true, writer);
+
+        assertEquals(fsLogic.getFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, "Section 1",
+                null, false, true),
+                writer.toString());
+
+        ______TS("Non-existent Course/Session");
+
+        try {
+            fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv("non.existent", "no course",
+                    instructor.email, null, true, true, new StringWriter());
+            signalFailureToDetectException("Failed to detect non-existent feedback session.");
+        } catch (EntityDoesNotExistException e) {
+            assertEquals("Trying to view a non-existent feedback session: "
+                         + "no course" + "/" + "non.existent",
+                         e.getMessage());
+        }
+    }
+
+    private void testGetFeedbackSessionResultsWithinRequestScope() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        CacheStats cacheStats = CourseRosterRegistry.getCacheStats();
+
+        ______TS("outside a request scope: course roster is read from the datastore every time");
+
+        long initialMisses = cacheStats.getMissCount();
+        long initialHits = cacheStats.getHitCount();
+        String expectedCsv = fsLogic.getFeedbackSessionResultsSummaryAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null, true, true);
+
+        assertEquals(initialMisses, cacheStats.getMissCount());
+        assertEquals(initialHits, cacheStats.getHitCount());
+
+        CourseRosterRegistry.startRequestScope();
+        try {
+            ______TS("within a request scope: course roster is read from the datastore once");
+
+            fsLogic.getFeedbackSessionResultsForInstructor(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+            String actualCsv = fsLogic.getFeedbackSessionResultsSummaryAsCsv(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null, true, true);
+
+            assertEquals(expectedCsv, actualCsv);
+            // one read for the students and one read for the instructors of the course
+            assertEquals(initialMisses + 2, cacheStats.getMissCount());
+            assertTrue(cacheStats.getHitCount() > initialHits);
+
+            ______TS("within a request scope: writes to the course invalidate the cached roster");
+
+            InstructorAttributes newInstructor = InstructorAttributes
+                    .builder(null, session.getCourseId(), "New Instructor", "FSLT.new.instr@email.tmt")
+                    .build();
+            instructorsLogic.createInstructor(newInstructor);
+            List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(session.getCourseId());
+
+            assertEquals(initialMisses + 3, cacheStats.getMissCount());
+            assertTrue(instructors.stream().anyMatch(i -> i.email.equals(newInstructor.email)));
+
+            instructorsLogic.deleteInstructorCascade(session.getCourseId(), newInstructor.email);
+            instructors = instructorsLogic.getInstructorsForCourse(session.getCourseId());
+
+            assertEquals(initialMisses + 4, cacheStats.getMissCount());
+            assertFalse(instructors.stream().anyMatch(i -> i.email.equals(newInstructor.email)));
+        } finally {
+            CourseRosterRegistry.endRequestScope();
+        }
+    }
+
     private String getStudentAnonEmail(DataBundle dataBundle, String studentKey) {
         return FeedbackSessionResultsBundle.getAnonEmail(FeedbackParticipantType.STUDENTS,
                                                          dataBundle.students.get(studentKey).name);
@@ -1927,6 +2028,45 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                                      student3OfCourse1.email));
     }
 
+    private void testGetFeedbackSessionCompletionEvaluator() throws Exception {
+
+        ______TS("failure: non-existent feedback session");
+
+        FeedbackSessionAttributes nonExistentSession = getNewFeedbackSession();
+        try {
+            fsLogic.getFeedbackSessionCompletionEvaluator(nonExistentSession);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException edne) {
+            assertEquals("Trying to get questions for a feedback session that does not exist.", edne.getMessage());
+        }
+
+        ______TS("success: same completion as checked for each user separately");
+
+        for (String sessionKey : new String[] {"session1InCourse1", "empty.session"}) {
+            FeedbackSessionAttributes fs = fsLogic.getFeedbackSession(
+                    dataBundle.feedbackSessions.get(sessionKey).getFeedbackSessionName(),
+                    dataBundle.feedbackSessions.get(sessionKey).getCourseId());
+            FeedbackSessionCompletionEvaluator completionEvaluator = fsLogic.getFeedbackSessionCompletionEvaluator(fs);
+
+            for (StudentAttributes student : studentsLogic.getStudentsForCourse(fs.getCourseId())) {
+                assertEquals(fsLogic.isFeedbackSessionCompletedByStudent(fs, student.email),
+                        completionEvaluator.isCompletedByStudent(student.email));
+                assertEquals(fsLogic.isFeedbackSessionFullyCompletedByStudent(
+                                fs.getFeedbackSessionName(), fs.getCourseId(), student.email),
+                        completionEvaluator.isFullyCompletedByStudent(student.email));
+            }
+            for (InstructorAttributes instructor : instructorsLogic.getInstructorsForCourse(fs.getCourseId())) {
+                assertEquals(fsLogic.isFeedbackSessionCompletedByInstructor(fs, instructor.email),
+                        completionEvaluator.isCompletedByInstructor(instructor.email));
+            }
+        }
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSessionCompletionEvaluator completionEvaluator = fsLogic.getFeedbackSessionCompletionEvaluator(fs);
+        assertTrue(completionEvaluator.isFullyCompletedByStudent(dataBundle.students.get("student1InCourse1").email));
+        assertFalse(completionEvaluator.isFullyCompletedByStudent(dataBundle.students.get("student3InCourse1").email));
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.tmt")
                 .withCreatedTime(Instant.now())
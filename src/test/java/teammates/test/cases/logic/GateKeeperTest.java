@@ -6,8 +6,10 @@ import teammates.common.datatransfer.UserType;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.CacheStats;
 import teammates.logic.api.GateKeeper;
 import teammates.logic.api.Logic;
+import teammates.logic.core.UserRoleCache;
 
 /**
  * SUT: {@link GateKeeper}.
@@ -71,4 +73,42 @@ public class GateKeeperTest extends BaseLogicTest {
         assertNull(gateKeeper.getCurrentUser());
     }
 
+    @Test
+    public void testGetCurrentUser_rolesCached() {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        CacheStats cacheStats = UserRoleCache.getCacheStats();
+        gaeSimulation.loginUser(student.googleId);
+
+        ______TS("roles are looked up once and then served from the cache");
+
+        long misses = cacheStats.getMissCount();
+        long hits = cacheStats.getHitCount();
+
+        assertTrue(gateKeeper.getCurrentUser().isStudent);
+        assertTrue(gateKeeper.getCurrentUser().isStudent);
+        assertEquals(misses + 1, cacheStats.getMissCount());
+        assertEquals(hits + 1, cacheStats.getHitCount());
+
+        ______TS("roles are memoized within a request scope");
+
+        GateKeeper.startRequestScope();
+        try {
+            gateKeeper.getCurrentUser();
+            gateKeeper.getCurrentUser();
+        } finally {
+            GateKeeper.endRequestScope();
+        }
+        assertEquals(misses + 1, cacheStats.getMissCount());
+        assertEquals(hits + 3, cacheStats.getHitCount());
+
+        ______TS("deleting the student invalidates the cached roles");
+
+        new Logic().deleteStudent(student.course, student.email);
+
+        UserType user = gateKeeper.getCurrentUser();
+        assertFalse(user.isStudent);
+        assertFalse(user.isInstructor);
+        assertEquals(misses + 2, cacheStats.getMissCount());
+    }
+
 }
@@ -0,0 +1,58 @@
+package teammates.test.cases.logic;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.SevereLogsWatermarkAttributes;
+import teammates.logic.core.SevereLogsLogic;
+import teammates.storage.api.SevereLogsWatermarkDb;
+
+/**
+ * SUT: {@link SevereLogsLogic}.
+ */
+public class SevereLogsLogicTest extends BaseLogicTest {
+
+    private static final Instant END_TIME = Instant.parse("2018-01-01T12:00:00Z");
+
+    private final SevereLogsLogic severeLogsLogic = SevereLogsLogic.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is not needed
+    }
+
+    @Test
+    public void testGetSevereLogsCompilationStartTime() {
+        new SevereLogsWatermarkDb().deleteEntity(new SevereLogsWatermarkAttributes(END_TIME));
+
+        ______TS("never compiled: the default period before the end time is compiled");
+
+        assertNull(severeLogsLogic.getSevereLogsCompiledUntil());
+        assertEquals(END_TIME.minus(Duration.ofMinutes(5)), severeLogsLogic.getSevereLogsCompilationStartTime(END_TIME));
+
+        ______TS("compiled recently: compiled from where the previous compilation ended");
+
+        Instant compiledUntil = END_TIME.minus(Duration.ofMinutes(10));
+        severeLogsLogic.updateSevereLogsCompiledUntil(compiledUntil);
+        assertEquals(compiledUntil, severeLogsLogic.getSevereLogsCompiledUntil());
+        assertEquals(compiledUntil, severeLogsLogic.getSevereLogsCompilationStartTime(END_TIME));
+
+        compiledUntil = END_TIME.minus(Duration.ofHours(1));
+        severeLogsLogic.updateSevereLogsCompiledUntil(compiledUntil);
+        assertEquals(compiledUntil, severeLogsLogic.getSevereLogsCompilationStartTime(END_TIME));
+
+        ______TS("not compiled for a long time: at most an hour before the end time is compiled");
+
+        severeLogsLogic.updateSevereLogsCompiledUntil(END_TIME.minus(Duration.ofHours(3)));
+        assertEquals(END_TIME.minus(Duration.ofHours(1)), severeLogsLogic.getSevereLogsCompilationStartTime(END_TIME));
+
+        ______TS("compiled beyond the end time: nothing to compile");
+
+        compiledUntil = END_TIME.plus(Duration.ofMinutes(1));
+        severeLogsLogic.updateSevereLogsCompiledUntil(compiledUntil);
+        assertEquals(compiledUntil, severeLogsLogic.getSevereLogsCompilationStartTime(END_TIME));
+    }
+
+}
@@ -0,0 +1,118 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.taskqueue.dev.LocalTaskQueue;
+import com.google.appengine.tools.development.testing.LocalTaskQueueTestConfig;
+
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.TaskQueuesLogic;
+import teammates.test.driver.StringHelperExtension;
+
+/**
+ * SUT: {@link TaskQueuesLogic}.
+ */
+public class TaskQueuesLogicTest extends BaseLogicTest {
+
+    private final TaskQueuesLogic taskQueuesLogic = new TaskQueuesLogic();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is not needed
+    }
+
+    @AfterMethod
+    public void flushQueues() {
+        LocalTaskQueue localTaskQueue = LocalTaskQueueTestConfig.getLocalTaskQueue();
+        localTaskQueue.flushQueue(TaskQueue.SEND_EMAIL_QUEUE_NAME);
+        localTaskQueue.flushQueue(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME);
+    }
+
+    @Test
+    public void testAddTasks() {
+
+        ______TS("tasks for several queues, more than can be added to a queue at once");
+
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            tasks.add(getEmailTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                    "receiver" + i + "@email.tmt", "content", i * 1000L));
+        }
+        for (int i = 0; i < 30; i++) {
+            tasks.add(getEmailTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL,
+                    "receiver" + i + "@email.tmt", "content", 0));
+        }
+
+        List<TaskWrapper> rejectedTasks = taskQueuesLogic.addTasks(tasks);
+
+        assertTrue(rejectedTasks.isEmpty());
+        assertEquals(250, getNumberOfTasksInQueue(TaskQueue.SEND_EMAIL_QUEUE_NAME));
+        assertEquals(30, getNumberOfTasksInQueue(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME));
+
+        flushQueues();
+
+        ______TS("task too large: only that task is left out");
+
+        tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(getEmailTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                    "receiver" + i + "@email.tmt", "content", 0));
+        }
+        TaskWrapper largeTask = getEmailTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                "large.receiver@email.tmt", StringHelperExtension.generateStringOfLength(200 * 1024), 0);
+        tasks.add(5, largeTask);
+
+        rejectedTasks = taskQueuesLogic.addTasks(tasks);
+
+        assertEquals(1, rejectedTasks.size());
+        assertEquals(largeTask, rejectedTasks.get(0));
+        assertEquals(10, getNumberOfTasksInQueue(TaskQueue.SEND_EMAIL_QUEUE_NAME));
+
+        flushQueues();
+
+        ______TS("task too large in one of several bulk adds: the other bulk adds are not affected");
+
+        tasks = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            tasks.add(getEmailTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                    "receiver" + i + "@email.tmt", "content", 0));
+        }
+        for (int i = 0; i < 5; i++) {
+            tasks.add(getEmailTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL,
+                    "receiver" + i + "@email.tmt", "content", 0));
+        }
+        tasks.add(120, largeTask);
+
+        rejectedTasks = taskQueuesLogic.addTasks(tasks);
+
+        assertEquals(1, rejectedTasks.size());
+        assertEquals(largeTask, rejectedTasks.get(0));
+        assertEquals(150, getNumberOfTasksInQueue(TaskQueue.SEND_EMAIL_QUEUE_NAME));
+        assertEquals(5, getNumberOfTasksInQueue(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME));
+
+        ______TS("no task");
+
+        assertTrue(taskQueuesLogic.addTasks(new ArrayList<>()).isEmpty());
+    }
+
+    private static TaskWrapper getEmailTask(String queueName, String workerUrl, String receiver, String content,
+                                            long countdownTime) {
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_RECEIVER, new String[] { receiver });
+        paramMap.put(ParamsNames.EMAIL_CONTENT, new String[] { content });
+        return new TaskWrapper(queueName, workerUrl, paramMap, countdownTime);
+    }
+
+    private static int getNumberOfTasksInQueue(String queueName) {
+        return LocalTaskQueueTestConfig.getLocalTaskQueue().getQueueStateInfo().get(queueName).getCountTasks();
+    }
+
+}
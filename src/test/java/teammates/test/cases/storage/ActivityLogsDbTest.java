@@ -0,0 +1,204 @@
+package teammates.test.cases.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.ActivityLogsBundle;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.ActivityLogQuery;
+import teammates.common.util.Const;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link ActivityLogsDb}.
+ */
+public class ActivityLogsDbTest extends BaseComponentTestCase {
+
+    private static final long BASE_TIME = 1_500_000_000_000L;
+
+    private ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    @BeforeClass
+    public void createActivityLogs() {
+        List<ActivityLogAttributes> logs = new ArrayList<>();
+        logs.add(createLog("id0", 0, "instructorHomePage", "Instructor", "Name1", "googleId1", "email1@email.com"));
+        logs.add(createLog("id1", 1, "studentHomePage", "Student", "Name2", "googleId2", "email2@email.com"));
+        logs.add(createLog("id2", 2, "instructorHomePage", "Instructor", "Name2", "googleId2", "email2@email.com"));
+        logs.add(createLog("id3", 3, "adminHomePage", "Admin", "Name3", "googleId3", "email3@email.com"));
+        logs.add(createLog("id4", 4, "instructorHomePage", "Instructor", "Name1", "googleId1", "email1@email.com"));
+        activityLogsDb.createActivityLogs(logs);
+    }
+
+    @Test
+    public void testGetActivityLogs() {
+
+        ______TS("time period only: latest entries first");
+
+        ActivityLogsBundle result = activityLogsDb.getActivityLogs(new ActivityLogQuery(null, null), null, 10);
+        verifyLogIds(result, "id4", "id3", "id2", "id1", "id0");
+        assertNull(result.getNextCursor());
+
+        ______TS("time period is inclusive at both ends");
+
+        result = activityLogsDb.getActivityLogs(
+                new ActivityLogQuery(BASE_TIME + 1000, BASE_TIME + 3000), null, 10);
+        verifyLogIds(result, "id3", "id2", "id1");
+
+        ______TS("user: matched against name, Google ID and email, ignoring case");
+
+        result = activityLogsDb.getActivityLogs(new ActivityLogQuery(null, null).withUserIdentifier("name1"), null, 10);
+        verifyLogIds(result, "id4", "id0");
+
+        result = activityLogsDb.getActivityLogs(
+                new ActivityLogQuery(null, null).withUserIdentifier(" GoogleId2"), null, 10);
+        verifyLogIds(result, "id2", "id1");
+
+        result = activityLogsDb.getActivityLogs(
+                new ActivityLogQuery(BASE_TIME + 2000, null).withUserIdentifier("email2@email.com"), null, 10);
+        verifyLogIds(result, "id2");
+
+        ______TS("action and role");
+
+        result = activityLogsDb.getActivityLogs(
+                new ActivityLogQuery(null, BASE_TIME + 3000).withActionName("instructorHomePage"), null, 10);
+        verifyLogIds(result, "id2", "id0");
+
+        result = activityLogsDb.getActivityLogs(new ActivityLogQuery(null, null).withUserRole("admin"), null, 10);
+        verifyLogIds(result, "id3");
+
+        ______TS("no matching entries");
+
+        result = activityLogsDb.getActivityLogs(
+                new ActivityLogQuery(null, null).withUserIdentifier("non-existent"), null, 10);
+        verifyLogIds(result);
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    public void testGetActivityLogs_withCursor() {
+
+        ______TS("pages of entries continue from the previous page");
+
+        ActivityLogQuery query = new ActivityLogQuery(null, null);
+        ActivityLogsBundle result = activityLogsDb.getActivityLogs(query, null, 2);
+        verifyLogIds(result, "id4", "id3");
+        assertNotNull(result.getNextCursor());
+
+        result = activityLogsDb.getActivityLogs(query, result.getNextCursor(), 2);
+        verifyLogIds(result, "id2", "id1");
+        assertNotNull(result.getNextCursor());
+
+        ______TS("last page: no cursor to continue from");
+
+        result = activityLogsDb.getActivityLogs(query, result.getNextCursor(), 2);
+        verifyLogIds(result, "id0");
+        assertNull(result.getNextCursor());
+
+        ______TS("filtered pages");
+
+        query = new ActivityLogQuery(null, null).withActionName("instructorHomePage");
+        result = activityLogsDb.getActivityLogs(query, null, 2);
+        verifyLogIds(result, "id4", "id2");
+
+        result = activityLogsDb.getActivityLogs(query, result.getNextCursor(), 2);
+        verifyLogIds(result, "id0");
+        assertNull(result.getNextCursor());
+
+        ______TS("invalid cursor: start from the latest entry");
+
+        result = activityLogsDb.getActivityLogs(query, "invalid-cursor", 2);
+        verifyLogIds(result, "id4", "id2");
+    }
+
+    @Test
+    public void testHasActivityLogs() {
+        assertTrue(activityLogsDb.hasActivityLogs(new ActivityLogQuery(null, null).withUserIdentifier("GOOGLEID3")));
+        assertTrue(activityLogsDb.hasActivityLogs(
+                new ActivityLogQuery(BASE_TIME + 4000, null).withUserIdentifier("email1@email.com")));
+        assertFalse(activityLogsDb.hasActivityLogs(
+                new ActivityLogQuery(BASE_TIME + 1000, BASE_TIME + 3000).withUserIdentifier("email1@email.com")));
+        assertFalse(activityLogsDb.hasActivityLogs(new ActivityLogQuery(null, null).withUserIdentifier("googleId")));
+    }
+
+    @Test
+    public void testGetActivityLogs_storedFields() {
+        ActivityLogsBundle result = activityLogsDb.getActivityLogs(
+                new ActivityLogQuery(BASE_TIME + 3000, BASE_TIME + 3000), null, 10);
+
+        assertEquals(1, result.getLogs().size());
+        ActivityLogAttributes log = result.getLogs().get(0);
+        assertEquals("1.0.0", log.getAppVersion());
+
+        ActivityLogEntry expected = createLog("id3", 3, "adminHomePage", "Admin", "Name3", "googleId3",
+                "email3@email.com").getLogEntry();
+        assertEquals(expected.generateLogMessage(), log.getLogEntry().generateLogMessage());
+        assertEquals(expected.getLogTime(), log.getLogEntry().getLogTime());
+    }
+
+    @Test
+    public void testCreateActivityLogs_storedAgain_notDuplicated() {
+        List<ActivityLogAttributes> logs = new ArrayList<>();
+        logs.add(createLog("id1", 1, "studentHomePage", "Student", "Name2", "googleId2", "email2@email.com"));
+        logs.add(createLog("id3", 3, "adminHomePage", "Admin", "Name3", "googleId3", "email3@email.com"));
+        activityLogsDb.createActivityLogs(logs);
+
+        ActivityLogsBundle result = activityLogsDb.getActivityLogs(new ActivityLogQuery(null, null), null, 10);
+        verifyLogIds(result, "id4", "id3", "id2", "id1", "id0");
+    }
+
+    @Test
+    public void testNullInputs() {
+        try {
+            activityLogsDb.createActivityLogs(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        try {
+            activityLogsDb.getActivityLogs(null, null, 10);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        try {
+            activityLogsDb.hasActivityLogs(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
+    private static ActivityLogAttributes createLog(String logId, int secondsAfterBaseTime, String actionName,
+                                                   String userRole, String userName, String userGoogleId,
+                                                   String userEmail) {
+        ActivityLogEntry logEntry = new ActivityLogEntry.Builder(actionName, "/page/" + actionName,
+                        BASE_TIME + secondsAfterBaseTime * 1000L)
+                .withLogId(logId)
+                .withUserRole(userRole)
+                .withUserName(userName)
+                .withUserGoogleId(userGoogleId)
+                .withUserEmail(userEmail)
+                .withLogMessage("Message of " + logId)
+                .withActionTimeTaken(10)
+                .build();
+        ActivityLogAttributes log = new ActivityLogAttributes(logEntry, "1.0.0");
+        log.setId("task-" + logId);
+        return log;
+    }
+
+    private static void verifyLogIds(ActivityLogsBundle result, String... expectedLogIds) {
+        List<String> actualLogIds = new ArrayList<>();
+        for (ActivityLogAttributes log : result.getLogs()) {
+            actualLogIds.add(log.getLogEntry().getLogId());
+        }
+        assertEquals(String.join(",", expectedLogIds), String.join(",", actualLogIds));
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.test.cases.storage;
 
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -10,6 +11,7 @@ import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.CacheStats;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.storage.api.CoursesDb;
@@ -197,6 +199,57 @@ public class CoursesDbTest extends BaseComponentTestCase {
         assertEquals(c.deletedAt, retrieved.deletedAt);
     }
 
+    @Test
+    public void testGetCourse_entityCache() throws Exception {
+        CourseAttributes c = CourseAttributes
+                .builder("CDbT.tGC.cachedCourse", "Basic Computing", ZoneId.of("UTC"))
+                .build();
+        coursesDb.createEntity(c);
+        CacheStats cacheStats = EntitiesDb.getEntityCacheStats("Course");
+
+        ______TS("repeated reads are served from the entity cache");
+
+        coursesDb.getCourse(c.getId());
+        long hits = cacheStats.getHitCount();
+        long misses = cacheStats.getMissCount();
+
+        CourseAttributes retrieved = coursesDb.getCourse(c.getId());
+        assertEquals(c.getName(), retrieved.getName());
+        assertEquals(hits + 1, cacheStats.getHitCount());
+        assertEquals(misses, cacheStats.getMissCount());
+
+        ______TS("updating the course invalidates the cached entity");
+
+        c.setName("Basic Computing cached");
+        coursesDb.updateCourse(c);
+
+        retrieved = coursesDb.getCourse(c.getId());
+        assertEquals("Basic Computing cached", retrieved.getName());
+        assertEquals(misses + 1, cacheStats.getMissCount());
+
+        ______TS("deferred saves bypass the entity cache until flushed");
+
+        c.setName("Basic Computing deferred");
+        coursesDb.createEntitiesDeferred(Collections.singletonList(c));
+
+        retrieved = coursesDb.getCourse(c.getId());
+        assertEquals("Basic Computing deferred", retrieved.getName());
+        assertEquals(misses + 1, cacheStats.getMissCount());
+
+        EntitiesDb.flush();
+
+        retrieved = coursesDb.getCourse(c.getId());
+        assertEquals("Basic Computing deferred", retrieved.getName());
+        assertEquals(misses + 2, cacheStats.getMissCount());
+
+        ______TS("deleting the course invalidates the cached entity");
+
+        coursesDb.deleteCourse(c.getId());
+
+        assertNull(coursesDb.getCourse(c.getId()));
+        assertEquals(misses + 3, cacheStats.getMissCount());
+    }
+
     @Test
     public void testDeleteCourse() throws InvalidParametersException {
         CourseAttributes c = createNewCourse();
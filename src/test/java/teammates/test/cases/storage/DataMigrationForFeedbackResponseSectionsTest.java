@@ -0,0 +1,106 @@
+package teammates.test.cases.storage;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.Key;
+import com.google.appengine.api.datastore.Text;
+
+import teammates.client.scripts.DataMigrationForFeedbackResponseSections;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.storage.api.FeedbackResponsesDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link DataMigrationForFeedbackResponseSections}.
+ */
+public class DataMigrationForFeedbackResponseSectionsTest extends BaseComponentTestCase {
+
+    private static final String COURSE_ID = "migrationTestCourse";
+    private static final String SESSION_NAME = "fsMigrationTest";
+    private static final Instant LAST_UPDATE = Instant.parse("2018-01-01T00:00:00Z");
+
+    private final DatastoreService datastore = DatastoreServiceFactory.getDatastoreService();
+
+    private final FeedbackResponsesDb sectionsListDb = new FeedbackResponsesDb() {
+        @Override
+        protected boolean isSectionsListQueryable() {
+            return true;
+        }
+    };
+
+    @Test
+    public void testMigration_responsesWithoutSectionsList_sectionsListPopulatedAndLastUpdateKept() throws Exception {
+        Key differentSectionsKey = datastore.put(
+                getResponseEntityWithoutSectionsList("giver@email.tmt", "Section A", "recipient1@email.tmt", "Section B"));
+        Key sameSectionKey = datastore.put(
+                getResponseEntityWithoutSectionsList("giver@email.tmt", "Section A", "recipient2@email.tmt", "Section A"));
+
+        ______TS("before migration: responses are not found by their sections list");
+
+        assertTrue(sectionsListDb.getFeedbackResponsesForSessionInSection(SESSION_NAME, COURSE_ID, "Section A").isEmpty());
+
+        ______TS("after migration: sections list populated with the distinct sections, last update kept");
+
+        new MigrationScript().migrateAll();
+
+        Entity differentSectionsResponse = datastore.get(differentSectionsKey);
+        assertEquals(Arrays.asList("Section A", "Section B"), differentSectionsResponse.getProperty("sections"));
+        assertEquals(Date.from(LAST_UPDATE), differentSectionsResponse.getProperty("updatedAt"));
+
+        Entity sameSectionResponse = datastore.get(sameSectionKey);
+        assertEquals(Arrays.asList("Section A"), sameSectionResponse.getProperty("sections"));
+        assertEquals(Date.from(LAST_UPDATE), sameSectionResponse.getProperty("updatedAt"));
+
+        assertEquals(2,
+                sectionsListDb.getFeedbackResponsesForSessionInSection(SESSION_NAME, COURSE_ID, "Section A").size());
+        assertEquals(1,
+                sectionsListDb.getFeedbackResponsesForSessionInSection(SESSION_NAME, COURSE_ID, "Section B").size());
+
+        datastore.delete(differentSectionsKey, sameSectionKey);
+    }
+
+    /**
+     * Returns a response entity as saved before the sections list was added to {@code FeedbackResponse}.
+     */
+    private Entity getResponseEntityWithoutSectionsList(String giver, String giverSection,
+                                                        String recipient, String recipientSection) {
+        String questionId = "migrationTestQuestionId";
+        Entity response = new Entity("FeedbackResponse", questionId + "%" + giver + "%" + recipient);
+        response.setProperty("feedbackSessionName", SESSION_NAME);
+        response.setProperty("courseId", COURSE_ID);
+        response.setProperty("feedbackQuestionId", questionId);
+        response.setProperty("feedbackQuestionType", FeedbackQuestionType.TEXT.name());
+        response.setProperty("giverEmail", giver);
+        response.setProperty("giverSection", giverSection);
+        response.setProperty("receiver", recipient);
+        response.setProperty("receiverSection", recipientSection);
+        response.setProperty("answer", new Text("Text response"));
+        response.setProperty("createdAt", Date.from(LAST_UPDATE));
+        response.setProperty("updatedAt", Date.from(LAST_UPDATE));
+        return response;
+    }
+
+    /**
+     * Runs the migration on the Datastore of the test environment, instead of previewing it remotely.
+     */
+    private static class MigrationScript extends DataMigrationForFeedbackResponseSections {
+
+        @Override
+        protected boolean isPreview() {
+            return false;
+        }
+
+        void migrateAll() {
+            doOperation();
+        }
+
+    }
+
+}
@@ -1,5 +1,8 @@
 package teammates.test.cases.storage;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -503,6 +506,45 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 questionId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testCountAndExistenceOfFeedbackResponses() {
+
+        ______TS("standard success case");
+
+        FeedbackResponseAttributes response = fras.get("response1ForQ1S1C1");
+        String questionId = response.feedbackQuestionId;
+
+        assertEquals(frDb.getFeedbackResponsesFromGiverForQuestion(questionId, response.giver).size(),
+                frDb.getNumFeedbackResponsesFromGiverForQuestion(questionId, response.giver));
+        assertTrue(frDb.hasFeedbackResponsesForQuestion(questionId));
+        assertTrue(frDb.hasFeedbackResponsesFromGiverForSession(
+                response.giver, response.feedbackSessionName, response.courseId));
+
+        ______TS("no matching responses");
+
+        assertEquals(0, frDb.getNumFeedbackResponsesFromGiverForQuestion(
+                questionId, "non-existentStudentInCourse1@gmail.tmt"));
+        assertFalse(frDb.hasFeedbackResponsesForQuestion("non-existent fq id"));
+        assertFalse(frDb.hasFeedbackResponsesFromGiverForSession(
+                "non-existentStudentInCourse1@gmail.tmt", response.feedbackSessionName, response.courseId));
+
+        ______TS("null params");
+
+        try {
+            frDb.getNumFeedbackResponsesFromGiverForQuestion(questionId, null);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        try {
+            frDb.hasFeedbackResponsesFromGiverForSession(response.giver, null, response.courseId);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+    }
+
     @Test
     public void testGetFeedbackResponsesFromGiverForQuestionInSection() {
 
@@ -653,6 +695,10 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
 
         assertEquals(5, responses.size());
 
+        ______TS("response with both giver and recipient in the section is returned once");
+
+        assertEquals(responses.size(), responses.stream().map(response -> response.getId()).distinct().count());
+
         ______TS("null params");
 
         try {
@@ -680,6 +726,76 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 feedbackSessionName, "non-existent courseId", "Section 1").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesInSection_giverOnlyRecipientOnlyOrBothInSection() throws Exception {
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                getResponseInSections("giverA@email.tmt", "Section A", "recipientB@email.tmt", "Section B"),
+                getResponseInSections("giverB@email.tmt", "Section B", "recipientA@email.tmt", "Section A"),
+                getResponseInSections("giverA@email.tmt", "Section A", "recipientA@email.tmt", "Section A"),
+                getResponseInSections("giverB@email.tmt", "Section B", "recipientB@email.tmt", "Section B"));
+        for (FeedbackResponseAttributes response : responses) {
+            frDb.createEntity(response);
+        }
+        String sessionName = responses.get(0).feedbackSessionName;
+        String courseId = responses.get(0).courseId;
+        String questionId = responses.get(0).feedbackQuestionId;
+
+        FeedbackResponsesDb sectionsListDb = new FeedbackResponsesDb() {
+            @Override
+            protected boolean isSectionsListQueryable() {
+                return true;
+            }
+        };
+        FeedbackResponsesDb giverAndRecipientSectionDb = new FeedbackResponsesDb() {
+            @Override
+            protected boolean isSectionsListQueryable() {
+                return false;
+            }
+        };
+
+        for (FeedbackResponsesDb db : Arrays.asList(sectionsListDb, giverAndRecipientSectionDb)) {
+            String queryType = db == sectionsListDb ? "by sections list" : "by giver and recipient section";
+
+            ______TS("session in section, " + queryType + ": responses with giver only, recipient only "
+                     + "or both in the section, each returned once");
+
+            verifyGiversAndRecipients(Arrays.asList("giverA@email.tmt>recipientA@email.tmt",
+                    "giverA@email.tmt>recipientB@email.tmt", "giverB@email.tmt>recipientA@email.tmt"),
+                    db.getFeedbackResponsesForSessionInSection(sessionName, courseId, "Section A"));
+            assertTrue(db.getFeedbackResponsesForSessionInSection(sessionName, courseId, "Section C").isEmpty());
+
+            ______TS("receiver in section, " + queryType);
+
+            verifyGiversAndRecipients(Arrays.asList("giverA@email.tmt>recipientA@email.tmt",
+                    "giverB@email.tmt>recipientA@email.tmt"),
+                    db.getFeedbackResponsesForReceiverForQuestionInSection(questionId, "recipientA@email.tmt", "Section A"));
+            verifyGiversAndRecipients(Arrays.asList("giverA@email.tmt>recipientB@email.tmt"),
+                    db.getFeedbackResponsesForReceiverForQuestionInSection(questionId, "recipientB@email.tmt", "Section A"));
+
+            ______TS("giver in section, " + queryType);
+
+            verifyGiversAndRecipients(Arrays.asList("giverA@email.tmt>recipientA@email.tmt",
+                    "giverA@email.tmt>recipientB@email.tmt"),
+                    db.getFeedbackResponsesFromGiverForQuestionInSection(questionId, "giverA@email.tmt", "Section A"));
+            verifyGiversAndRecipients(Arrays.asList("giverB@email.tmt>recipientA@email.tmt"),
+                    db.getFeedbackResponsesFromGiverForQuestionInSection(questionId, "giverB@email.tmt", "Section A"));
+        }
+
+        for (FeedbackResponseAttributes response : responses) {
+            frDb.deleteEntity(response);
+        }
+    }
+
+    private void verifyGiversAndRecipients(List<String> expectedGiversAndRecipients,
+                                           List<FeedbackResponseAttributes> responses) {
+        List<String> giversAndRecipients = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            giversAndRecipients.add(response.giver + ">" + response.recipient);
+        }
+        Collections.sort(giversAndRecipients);
+        assertEquals(expectedGiversAndRecipients, giversAndRecipients);
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionFromSection() {
 
@@ -856,6 +972,19 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         return fra;
     }
 
+    private FeedbackResponseAttributes getResponseInSections(String giver, String giverSection,
+                                                             String recipient, String recipientSection) {
+        FeedbackResponseAttributes fra = getNewFeedbackResponseAttributes();
+        fra.feedbackSessionName = "fsSectionsTest";
+        fra.courseId = "sectionsTestCourse";
+        fra.feedbackQuestionId = "sectionsTestQuestionId";
+        fra.giver = giver;
+        fra.giverSection = giverSection;
+        fra.recipient = recipient;
+        fra.recipientSection = recipientSection;
+        return fra;
+    }
+
     private FeedbackResponseAttributes getResponseAttributes(String id) {
         FeedbackResponseAttributes result = fras.get(id);
         return new FeedbackResponseAttributes(result.feedbackSessionName,
@@ -6,6 +6,9 @@ import static teammates.common.util.FieldValidator.TIME_FRAME_ERROR_MESSAGE;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -20,8 +23,11 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.CacheStats;
 import teammates.common.util.Const;
+import teammates.storage.api.EntitiesDb;
 import teammates.storage.api.FeedbackSessionsDb;
+import teammates.storage.api.LocalEntityCache;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -281,6 +287,48 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         verifyPresentInDatastore(modifiedSession);
     }
 
+    @Test
+    public void testAddInstructorRespondent_staleCachedSession_transactionReadsDatastore() throws Exception {
+        FeedbackSessionAttributes fs = getNewFeedbackSession();
+        fs.setFeedbackSessionName("fsTransactionTest");
+        fsDb.deleteEntity(fs);
+        fsDb.createEntity(fs);
+        CacheStats cacheStats = EntitiesDb.getEntityCacheStats("FeedbackSession");
+
+        try {
+            // a concurrent request re-caching the session read before each commit keeps the cached copy stale
+            EntitiesDb.setEntityCache(new NonInvalidatingEntityCache());
+            fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName());
+
+            ______TS("updates in transactions do not read the stale cached session");
+
+            long hits = cacheStats.getHitCount();
+            fsDb.addInstructorRespondent("instructor1@email.tmt", fs);
+            fsDb.addInstructorRespondent("instructor2@email.tmt", fs);
+            assertEquals(hits, cacheStats.getHitCount());
+        } finally {
+            EntitiesDb.setEntityCache(new LocalEntityCache());
+        }
+
+        FeedbackSessionAttributes retrieved = fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName());
+        assertEquals(new HashSet<>(Arrays.asList("instructor1@email.tmt", "instructor2@email.tmt")),
+                retrieved.getRespondingInstructorList());
+
+        fsDb.deleteEntity(fs);
+    }
+
+    /**
+     * Entity cache that keeps values after they are invalidated.
+     */
+    private static class NonInvalidatingEntityCache extends LocalEntityCache {
+
+        @Override
+        public void invalidate(Collection<String> keys) {
+            // keep the values
+        }
+
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.com")
                 .withCreatedTime(Instant.now())
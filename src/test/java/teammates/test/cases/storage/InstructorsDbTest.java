@@ -14,12 +14,14 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.CacheStats;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.StringHelper;
 import teammates.logic.core.InstructorsLogic;
 import teammates.storage.api.EntitiesDb;
 import teammates.storage.api.InstructorsDb;
+import teammates.storage.api.LocalEntityCache;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -173,6 +175,27 @@ public class InstructorsDbTest extends BaseComponentTestCase {
         }
     }
 
+    @Test
+    public void testGetInstructorForGoogleId_entityCache() {
+        InstructorAttributes i = dataBundle.instructors.get("instructor1OfCourse1");
+        EntitiesDb.setEntityCache(new LocalEntityCache());
+        CacheStats cacheStats = EntitiesDb.getEntityCacheStats("Instructor");
+        long hits = cacheStats.getHitCount();
+        long misses = cacheStats.getMissCount();
+
+        ______TS("the instructor returned by the lookup query is cached without being read again");
+
+        instructorsDb.getInstructorForGoogleId(i.courseId, i.googleId);
+        assertEquals(misses + 1, cacheStats.getMissCount());
+
+        InstructorAttributes retrieved = instructorsDb.getInstructorForGoogleId(i.courseId, i.googleId);
+        assertEquals(i.email, retrieved.email);
+        retrieved = instructorsDb.getInstructorById(i.courseId, i.email);
+        assertEquals(i.googleId, retrieved.googleId);
+        assertEquals(hits + 2, cacheStats.getHitCount());
+        assertEquals(misses + 1, cacheStats.getMissCount());
+    }
+
     @Test
     public void testGetInstructorForRegistrationKey() {
 
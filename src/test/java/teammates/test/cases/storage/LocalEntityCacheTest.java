@@ -0,0 +1,66 @@
+package teammates.test.cases.storage;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import teammates.storage.api.LocalEntityCache;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link LocalEntityCache}.
+ */
+public class LocalEntityCacheTest extends BaseTestCase {
+
+    @Test
+    public void testPutIfAbsent() {
+        LocalEntityCache cache = new LocalEntityCache();
+
+        ______TS("missing key");
+
+        assertNull(cache.get("key1"));
+
+        ______TS("first value is kept until invalidated");
+
+        cache.putIfAbsent("key1", "value1", Duration.ofMinutes(1));
+        cache.putIfAbsent("key1", "value2", Duration.ofMinutes(1));
+        assertEquals("value1", cache.get("key1"));
+
+        ______TS("expired value is dropped and can be replaced");
+
+        cache.putIfAbsent("key2", "value1", Duration.ofMinutes(-1));
+        assertNull(cache.get("key2"));
+
+        cache.putIfAbsent("key2", "value1", Duration.ofMinutes(-1));
+        cache.putIfAbsent("key2", "value2", Duration.ofMinutes(1));
+        assertEquals("value2", cache.get("key2"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        LocalEntityCache cache = new LocalEntityCache();
+        cache.putIfAbsent("key1", "value1", Duration.ofMinutes(1));
+        cache.putIfAbsent("key2", "value2", Duration.ofMinutes(1));
+        cache.putIfAbsent("key3", "value3", Duration.ofMinutes(1));
+
+        ______TS("only the given keys are removed");
+
+        cache.invalidate(Arrays.asList("key1", "key2", "nonExistentKey"));
+        assertNull(cache.get("key1"));
+        assertNull(cache.get("key2"));
+        assertEquals("value3", cache.get("key3"));
+        assertEquals(1, cache.size());
+
+        ______TS("invalidated key can be cached again");
+
+        cache.putIfAbsent("key1", "value4", Duration.ofMinutes(1));
+        assertEquals("value4", cache.get("key1"));
+
+        ______TS("clear removes everything");
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+}
@@ -0,0 +1,54 @@
+package teammates.test.cases.storage;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.SevereLogsWatermarkAttributes;
+import teammates.common.util.Const;
+import teammates.storage.api.SevereLogsWatermarkDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link SevereLogsWatermarkDb}.
+ */
+public class SevereLogsWatermarkDbTest extends BaseComponentTestCase {
+
+    private static final Instant COMPILED_UNTIL = Instant.parse("2018-01-01T00:00:00Z");
+
+    private final SevereLogsWatermarkDb severeLogsWatermarkDb = new SevereLogsWatermarkDb();
+
+    @Test
+    public void testGetAndPutWatermark() {
+        severeLogsWatermarkDb.deleteEntity(new SevereLogsWatermarkAttributes(COMPILED_UNTIL));
+
+        ______TS("no watermark before the first put");
+
+        assertNull(severeLogsWatermarkDb.getWatermark());
+
+        ______TS("put then get");
+
+        severeLogsWatermarkDb.putWatermark(new SevereLogsWatermarkAttributes(COMPILED_UNTIL));
+        assertEquals(COMPILED_UNTIL, severeLogsWatermarkDb.getWatermark().getCompiledUntil());
+
+        ______TS("second put overwrites the first");
+
+        Instant laterCompiledUntil = COMPILED_UNTIL.plus(Duration.ofMinutes(5));
+        severeLogsWatermarkDb.putWatermark(new SevereLogsWatermarkAttributes(laterCompiledUntil));
+        assertEquals(laterCompiledUntil, severeLogsWatermarkDb.getWatermark().getCompiledUntil());
+
+        severeLogsWatermarkDb.deleteEntity(new SevereLogsWatermarkAttributes(laterCompiledUntil));
+    }
+
+    @Test
+    public void testPutWatermark_nullInput_assertionError() {
+        try {
+            severeLogsWatermarkDb.putWatermark(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
+}
@@ -3,6 +3,9 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -121,6 +124,83 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testCreateAndUpdateStudents() throws Exception {
+        StudentAttributes existingStudent = StudentAttributes
+                .builder("valid-course-batch", "existing student", "existing@email.com")
+                .withComments("")
+                .withTeam("Team 1")
+                .withSection("Section 1")
+                .withGoogleId("existingGoogleId")
+                .build();
+        studentsDb.createEntity(existingStudent);
+        StudentAttributes existingRecord = studentsDb.getStudentForEmail(existingStudent.course, existingStudent.email);
+
+        ______TS("success: new students created and existing students updated together");
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder("valid-course-batch", "new student", "new@email.com")
+                .withComments("new comment")
+                .withTeam("Team 1")
+                .withSection("Section 1")
+                .build();
+        StudentAttributes modifiedStudent = StudentAttributes
+                .builder("valid-course-batch", "existing student Lastname", "existing@email.com")
+                .withComments("modified comment")
+                .withTeam("Team 2")
+                .withSection("Section 2")
+                .withGoogleId("existingGoogleId")
+                .withKey(existingRecord.key)
+                .withCreatedAt(existingRecord.getCreatedAt())
+                .build();
+
+        studentsDb.createAndUpdateStudents(Arrays.asList(newStudent), Arrays.asList(modifiedStudent), false);
+
+        StudentAttributes created = studentsDb.getStudentForEmail(newStudent.course, newStudent.email);
+        assertTrue(created.isEnrollInfoSameAs(newStudent));
+        assertNotNull(created.key);
+
+        StudentAttributes updated = studentsDb.getStudentForEmail(modifiedStudent.course, modifiedStudent.email);
+        assertTrue(updated.isEnrollInfoSameAs(modifiedStudent));
+        assertEquals("Lastname", updated.lastName);
+        assertEquals("existingGoogleId", updated.googleId);
+        assertEquals(existingRecord.key, updated.key);
+        assertEquals(existingRecord.getCreatedAt(), updated.getCreatedAt());
+
+        ______TS("failure: student to update is not a record read from the Datastore");
+
+        StudentAttributes unreadStudent = StudentAttributes
+                .builder("valid-course-batch", "unread student", "unread@email.com")
+                .withComments("")
+                .withTeam("Team 1")
+                .withSection("Section 1")
+                .build();
+        try {
+            studentsDb.createAndUpdateStudents(new ArrayList<>(), Arrays.asList(unreadStudent), false);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(unreadStudent.getIdentificationString(), e.getMessage());
+        }
+        assertNull(studentsDb.getStudentForEmail(unreadStudent.course, unreadStudent.email));
+
+        ______TS("failure: invalid new student");
+
+        StudentAttributes invalidStudent = StudentAttributes
+                .builder("valid-course-batch", "invalid student", "invalid-email")
+                .withComments("")
+                .withTeam("Team 1")
+                .withSection("Section 1")
+                .build();
+        try {
+            studentsDb.createAndUpdateStudents(Arrays.asList(invalidStudent), new ArrayList<>(), false);
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            AssertHelper.assertContains("invalid-email", e.getMessage());
+        }
+
+        studentsDb.deleteStudentsForCourseWithoutDocument("valid-course-batch");
+    }
+
     @Test
     public void testGetStudent() throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -157,7 +237,19 @@ public class StudentsDbTest extends BaseComponentTestCase {
                 || studentsDb.getStudentsForCourse(s.course).get(0).isEnrollInfoSameAs(s2));
         assertTrue(studentsDb.getStudentsForTeam(s.team, s.course).get(0).isEnrollInfoSameAs(s));
 
+        ______TS("hasStudentsForGoogleId: googleId with students, with deleted students and without students");
+
+        assertTrue(studentsDb.hasStudentsForGoogleId(s.googleId));
+        assertFalse(studentsDb.hasStudentsForGoogleId("validGoogleId2"));
+        assertFalse(studentsDb.hasStudentsForGoogleId("non-existent-googleId"));
+
         ______TS("null params case");
+        try {
+            studentsDb.hasStudentsForGoogleId(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
         try {
             studentsDb.getStudentForEmail(null, "valid@email.com");
             signalFailureToDetectException();
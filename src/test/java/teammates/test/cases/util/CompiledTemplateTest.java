@@ -0,0 +1,99 @@
+package teammates.test.cases.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.CompiledTemplate;
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CompiledTemplate}.
+ */
+public class CompiledTemplateTest extends BaseTestCase {
+
+    @Test
+    public void testPopulate() {
+
+        ______TS("typical case: every occurrence of the placeholders is populated");
+
+        CompiledTemplate template = CompiledTemplate.compile("Dear ${userName}, ${courseName} (${userName})");
+        assertEquals("Dear Alice, CS101 (Alice)",
+                template.populate("${userName}", "Alice", "${courseName}", "CS101"));
+
+        ______TS("placeholders without value are kept as they are");
+
+        assertEquals("Dear Alice, ${courseName} (Alice)", template.populate("${userName}", "Alice"));
+        assertEquals("Dear ${userName}, ${courseName} (${userName})", template.populate());
+
+        ______TS("placeholders in the values are not populated");
+
+        assertEquals("Dear ${courseName}, CS101 (${courseName})",
+                template.populate("${userName}", "${courseName}", "${courseName}", "CS101"));
+
+        ______TS("placeholders at the boundaries and next to each other");
+
+        template = CompiledTemplate.compile("${a}${b}-${a}");
+        assertEquals("12-1", template.populate("${a}", "1", "${b}", "2"));
+
+        ______TS("unclosed placeholders are literals");
+
+        template = CompiledTemplate.compile("${a ${b} ${c");
+        assertEquals("${a 2 ${c", template.populate("${a}", "1", "${b}", "2", "${c}", "3"));
+
+        ______TS("template without placeholder");
+
+        template = CompiledTemplate.compile("no placeholder");
+        assertEquals("no placeholder", template.populate("${a}", "1"));
+        assertEquals("", CompiledTemplate.compile("").populate("${a}", "1"));
+
+        ______TS("values from a map");
+
+        template = CompiledTemplate.compile("Dear ${userName}, ${courseName}");
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("${userName}", "Alice");
+        values.put("${unused}", "unused");
+        assertEquals("Dear Alice, ${courseName}", template.populate(values));
+
+        ______TS("odd number of key-value pairs");
+
+        try {
+            template.populate("${userName}");
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            ignoreExpectedException();
+        }
+    }
+
+    @Test
+    public void testPopulate_emailTemplates_sameAsSequentialReplacement() {
+        String[] keyValuePairs = {
+                "${userName}", "Alice",
+                "${courseName}", "Software Engineering",
+                "${courseId}", "CS2103",
+                "${feedbackSessionName}", "First Session",
+                "${deadline}", "Sun, 01 Apr 2018, 11:59 PM SGT",
+                "${status}", "is now open",
+                "${feedbackAction}", "submit",
+                "${submitUrl}", "http://submit.url",
+                "${reportUrl}", "http://report.url",
+                "${instructorFragment}", "",
+                "${sessionInstructions}", "Please answer all questions",
+                "${additionalContactInformation}", "Contact us",
+        };
+        CompiledTemplate[] templates = {
+                EmailTemplates.USER_FEEDBACK_SESSION,
+                EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED,
+                EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED,
+                EmailTemplates.USER_FEEDBACK_SUBMISSION_CONFIRMATION,
+        };
+        for (CompiledTemplate template : templates) {
+            assertEquals(Templates.populateTemplate(template.getTemplate(), keyValuePairs),
+                    template.populate(keyValuePairs));
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package teammates.test.cases.util;
+
+import java.util.HashMap;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.EmailContentReference;
+import teammates.common.util.EmailType;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link EmailContentReference}.
+ */
+public class EmailContentReferenceTest extends BaseTestCase {
+
+    @Test
+    public void testGetSharedContentKey() {
+
+        ______TS("same shared content: same key");
+
+        assertEquals(createReference("Session instructions").getSharedContentKey(),
+                createReference("Session instructions").getSharedContentKey());
+
+        ______TS("different shared contents with the same hash code: different keys");
+
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertFalse(createReference("Aa").getSharedContentKey().equals(createReference("BB").getSharedContentKey()));
+
+        ______TS("no shared content given: key of the email type and the session only");
+
+        assertEquals("FEEDBACK_OPENING|course|session|null",
+                new EmailContentReference(EmailType.FEEDBACK_OPENING, "course", "session", new HashMap<>())
+                        .getSharedContentKey());
+    }
+
+    private static EmailContentReference createReference(String sharedContent) {
+        return new EmailContentReference(EmailType.FEEDBACK_OPENING, "course", "session", new HashMap<>(), sharedContent);
+    }
+
+}
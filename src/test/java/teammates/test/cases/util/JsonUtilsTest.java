@@ -0,0 +1,58 @@
+package teammates.test.cases.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.util.JsonUtils;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link JsonUtils}.
+ */
+public class JsonUtilsTest extends BaseTestCase {
+
+    @Test
+    public void testToJsonAndToPrettyJson() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", "<b>Alice</b>");
+        data.put("count", 3);
+
+        ______TS("compact output has no whitespace between tokens");
+
+        assertEquals("{\"name\":\"<b>Alice</b>\",\"count\":3}", JsonUtils.toJson(data));
+
+        ______TS("pretty output is indented");
+
+        assertEquals("{\n  \"name\": \"<b>Alice</b>\",\n  \"count\": 3\n}", JsonUtils.toPrettyJson(data));
+    }
+
+    @Test
+    public void testFromJson_compactAndPrettyInput_sameResult() {
+        Map<String, Instant> data = new LinkedHashMap<>();
+        data.put("createdAt", Instant.parse("2018-01-02T03:04:05Z"));
+
+        ______TS("custom adapters are applied on both instances");
+
+        assertEquals("{\"createdAt\":\"2018-01-02T03:04:05Z\"}", JsonUtils.toJson(data));
+        assertEquals("\"Asia/Singapore\"", JsonUtils.toJson(ZoneId.of("Asia/Singapore"), ZoneId.class));
+        assertEquals("15", JsonUtils.toJson(Duration.ofMinutes(15), Duration.class));
+
+        ______TS("both formats parse back to the original object");
+
+        Map<String, Instant> fromCompact = JsonUtils.fromJson(JsonUtils.toJson(data),
+                new TypeToken<Map<String, Instant>>(){}.getType());
+        Map<String, Instant> fromPretty = JsonUtils.fromJson(JsonUtils.toPrettyJson(data),
+                new TypeToken<Map<String, Instant>>(){}.getType());
+
+        assertEquals(data, fromCompact);
+        assertEquals(data, fromPretty);
+    }
+
+}
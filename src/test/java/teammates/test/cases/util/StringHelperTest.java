@@ -155,6 +155,52 @@ public class StringHelperTest extends BaseTestCase {
 
         decrptedMsg = StringHelper.decrypt(StringHelper.encrypt(msg));
         assertEquals(msg, decrptedMsg);
+
+        ______TS("cipher of the thread is still usable after an invalid ciphertext");
+
+        try {
+            StringHelper.decrypt(StringHelper.encrypt(msg).substring(2));
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            ignoreExpectedException();
+        }
+        assertEquals(msg, StringHelper.decrypt(StringHelper.encrypt(msg)));
+
+        ______TS("batch encryption gives the same ciphertexts as encrypting one by one");
+
+        List<String> msgs = Arrays.asList("key1", "key2", "key1", "", StringHelper.generateStringOfLength(40, 'A'));
+        List<String> encryptedMsgs = StringHelper.encrypt(msgs);
+        assertEquals(msgs.size(), encryptedMsgs.size());
+        for (int i = 0; i < msgs.size(); i++) {
+            assertEquals(StringHelper.encrypt(msgs.get(i)), encryptedMsgs.get(i));
+            assertEquals(msgs.get(i), StringHelper.decrypt(encryptedMsgs.get(i)));
+        }
+        assertTrue(StringHelper.encrypt(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void testKeyEncryption_concurrentThreads() throws Exception {
+        String expectedCiphertext = StringHelper.encrypt("Test concurrency");
+        List<String> ciphertexts = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    ciphertexts.add(StringHelper.encrypt("Test concurrency"));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(400, ciphertexts.size());
+        for (String ciphertext : ciphertexts) {
+            assertEquals(expectedCiphertext, ciphertext);
+        }
     }
 
     @Test
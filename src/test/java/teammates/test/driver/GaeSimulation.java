@@ -16,6 +16,7 @@ import com.google.appengine.api.log.dev.LocalLogService;
 import com.google.appengine.tools.development.testing.LocalDatastoreServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalLogServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalMailServiceTestConfig;
+import com.google.appengine.tools.development.testing.LocalMemcacheServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalModulesServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalSearchServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalServiceTestHelper;
@@ -30,6 +31,8 @@ import com.meterware.servletunit.ServletUnitClient;
 import teammates.common.util.Const;
 import teammates.common.util.CryptoHelper;
 import teammates.logic.api.GateKeeper;
+import teammates.storage.api.EntitiesDb;
+import teammates.storage.api.LocalEntityCache;
 import teammates.ui.automated.AutomatedAction;
 import teammates.ui.automated.AutomatedActionFactory;
 import teammates.ui.controller.Action;
@@ -79,12 +82,16 @@ public class GaeSimulation {
         localSearch.setPersistent(false);
         LocalModulesServiceTestConfig localModules = new LocalModulesServiceTestConfig();
         LocalLogServiceTestConfig localLog = new LocalLogServiceTestConfig();
+        LocalMemcacheServiceTestConfig localMemcache = new LocalMemcacheServiceTestConfig();
         helper = new LocalServiceTestHelper(localDatastore, localMail, localUserServices,
-                                            localTasks, localSearch, localModules, localLog);
+                                            localTasks, localSearch, localModules, localLog, localMemcache);
 
         helper.setEnvAttributes(getEnvironmentAttributesWithApplicationHostname());
         helper.setUp();
 
+        // the simulated Datastore starts empty, so must the entity cache
+        EntitiesDb.setEntityCache(new LocalEntityCache());
+
         sc = new ServletRunner().newClient();
         localLogService = LocalLogServiceTestConfig.getLocalLogService();
     }
@@ -2,6 +2,7 @@ package teammates.test.driver;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import teammates.common.util.EmailWrapper;
 import teammates.logic.api.EmailSender;
@@ -15,15 +16,34 @@ import teammates.logic.api.EmailSender;
 public class MockEmailSender extends EmailSender {
 
     private List<EmailWrapper> sentEmails = new ArrayList<>();
+    private List<Integer> emailBatchSizes = new ArrayList<>();
 
     @Override
     public void sendEmail(EmailWrapper email) {
         sentEmails.add(email);
     }
 
+    @Override
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> emails) {
+        return sendEmails(emails, sentEmails -> { });
+    }
+
+    @Override
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> emails, Consumer<List<EmailWrapper>> sentEmailsConsumer) {
+        sentEmails.addAll(emails);
+        emailBatchSizes.add(emails.size());
+        sentEmailsConsumer.accept(emails);
+        return new ArrayList<>();
+    }
+
     @Override
     public List<EmailWrapper> getEmailsSent() {
         return sentEmails;
     }
 
+    @Override
+    public List<Integer> getEmailBatchSizes() {
+        return emailBatchSizes;
+    }
+
 }
@@ -16,6 +16,11 @@ import teammates.logic.api.TaskQueuer;
  */
 public class MockTaskQueuer extends TaskQueuer {
 
+    /**
+     * Name of the parameter holding the payload of the pull tasks added.
+     */
+    public static final String PULL_TASK_PAYLOAD = "payload";
+
     private List<TaskWrapper> tasksAdded = new ArrayList<>();
 
     @Override
@@ -26,19 +31,26 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
-    @Override
-    protected void addDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap,
-                                   long countdownTime) {
-        // countdown time not tested, thus fallback to another method
-        addTask(queueName, workerUrl, paramMap);
-    }
-
     @Override
     protected void addTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap) {
         TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap);
         tasksAdded.add(task);
     }
 
+    @Override
+    protected List<TaskWrapper> addTasks(List<TaskWrapper> tasks) {
+        tasksAdded.addAll(tasks);
+        return new ArrayList<>();
+    }
+
+    @Override
+    protected void addPullTask(String queueName, String payload) {
+        // pull tasks have no worker URL; the payload is tracked as the only parameter of the task
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(PULL_TASK_PAYLOAD, new String[] { payload });
+        tasksAdded.add(new TaskWrapper(queueName, null, paramMap));
+    }
+
     @Override
     public List<TaskWrapper> getTasksAdded() {
         return tasksAdded;